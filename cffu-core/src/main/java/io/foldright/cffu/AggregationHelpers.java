@@ -0,0 +1,2316 @@
+package io.foldright.cffu;
+
+////////////////////////////////////////////////////////////////////////////////
+//# aggregation helper classes
+//
+//  counter-based engines backing the multi-input methods of CompletableFutureUtils,
+//  register ONE completion callback per input instead of chains of intermediate stages
+////////////////////////////////////////////////////////////////////////////////
+
+import edu.umd.cs.findbugs.annotations.Nullable;
+import io.foldright.cffu.function.Function2;
+import io.foldright.cffu.function.Function3;
+import io.foldright.cffu.function.Function4;
+import io.foldright.cffu.function.Function5;
+import io.foldright.cffu.tuple.Tuple2;
+import io.foldright.cffu.tuple.Tuple3;
+import io.foldright.cffu.tuple.Tuple4;
+import io.foldright.cffu.tuple.Tuple5;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
+import java.util.function.BiFunction;
+import java.util.function.BinaryOperator;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+import java.util.function.IntToLongFunction;
+import java.util.function.Supplier;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+
+import static io.foldright.cffu.AllResultsAggregator.wrapCfException;
+import static io.foldright.cffu.LLCF.f_toCf0;
+import static io.foldright.cffu.LLCF.isMinStageCf;
+import static io.foldright.cffu.LLCF.screenExecutor;
+import static java.util.Objects.requireNonNull;
+
+
+/**
+ * Counter-based aggregation engine for the {@code allResultsOf*} / {@code allSettledOf} methods.
+ * <p>
+ * Registers exactly one completion callback on each input, writes the results into a plain slot array,
+ * and completes the output when the single atomic countdown reaches zero. The slot array is handed to the assembler
+ * as is, so the assembler can wrap it WITHOUT copying, e.g. {@link ResultList}; the failures are recorded aside
+ * instead of in the slots, so the slot array can be a typed array({@code T[]}) provided by the caller.
+ * <p>
+ * Each callback writes its slot BEFORE the volatile decrement of the countdown, and the callback that decrements
+ * the countdown to zero reads the slots AFTER it; so all slot writes are visible when assembling the output.
+ *
+ * @param <R> the type of the assembled output, e.g. List or TupleX
+ */
+final class AllResultsAggregator<R> {
+    private static final int MODE_ALL_COMPLETE = 0;
+    private static final int MODE_FAIL_FAST = 1;
+    private static final int MODE_ALL_SUCCESS = 2;
+    private static final int MODE_SETTLED = 3;
+
+    private final CompletableFuture<R> output = new CompletableFuture<>();
+    private final AtomicInteger countdown;
+    private final int mode;
+    @Nullable
+    private final Object valueIfFailed;
+    private final Function<Object[], ? extends R> assembler;
+    /**
+     * The exception of the leftmost failed input in not-fail-fast mode.
+     */
+    private final AtomicReference<IndexedEx> leftmostEx = new AtomicReference<>();
+    /**
+     * The result slots; set to {@code null} when the output is completed by a failure in fail-fast mode,
+     * so the results that will never be used are not retained by the callbacks of incomplete inputs.
+     */
+    @Nullable
+    private volatile Object[] slots;
+
+    /**
+     * Aggregates the results of the given stages into the output assembled by the given assembler.
+     * If any of the given stages completes exceptionally, the output also does so; in fail-fast mode
+     * WITHOUT waiting other incomplete stages, otherwise with the exception of the leftmost failed stage
+     * after all stages complete (same as {@link CompletableFuture#allOf}).
+     */
+    static <R> CompletableFuture<R> allResultsOf(boolean failFast, Collection<? extends CompletionStage<?>> stages,
+                                                 Function<Object[], ? extends R> assembler) {
+        return allResultsOf(failFast, stages, new Object[stages.size()], assembler);
+    }
+
+    /**
+     * Same as {@link #allResultsOf(boolean, Collection, Function)}, writes the results into the given slot array
+     * whose length must be the same as the count of the given stages.
+     */
+    static <R> CompletableFuture<R> allResultsOf(boolean failFast, Collection<? extends CompletionStage<?>> stages,
+                                                 Object[] slots, Function<Object[], ? extends R> assembler) {
+        return new AllResultsAggregator<R>(failFast ? MODE_FAIL_FAST : MODE_ALL_COMPLETE, null, slots, assembler)
+                .subscribe(stages);
+    }
+
+    /**
+     * Aggregates the successful results of the given stages into the output assembled by the given assembler,
+     * using the given valueIfFailed as the result of the stage that completes exceptionally.
+     */
+    static <R> CompletableFuture<R> allSuccessResultsOf(@Nullable Object valueIfFailed,
+                                                        Collection<? extends CompletionStage<?>> stages,
+                                                        Function<Object[], ? extends R> assembler) {
+        return new AllResultsAggregator<R>(MODE_ALL_SUCCESS, valueIfFailed, new Object[stages.size()], assembler)
+                .subscribe(stages);
+    }
+
+    /**
+     * Aggregates the outcomes of the given stages into the output assembled by the given assembler;
+     * the outcome of each stage is recorded in its slot as {@link Try}, so the output never fails.
+     */
+    static <R> CompletableFuture<R> allSettledOf(Collection<? extends CompletionStage<?>> stages,
+                                                 Function<Object[], ? extends R> assembler) {
+        return new AllResultsAggregator<R>(MODE_SETTLED, null, new Object[stages.size()], assembler)
+                .subscribe(stages);
+    }
+
+    private AllResultsAggregator(int mode, @Nullable Object valueIfFailed, Object[] slots,
+                                 Function<Object[], ? extends R> assembler) {
+        this.countdown = new AtomicInteger(slots.length);
+        this.mode = mode;
+        this.valueIfFailed = valueIfFailed;
+        this.assembler = assembler;
+        this.slots = slots;
+    }
+
+    private CompletableFuture<R> subscribe(Collection<? extends CompletionStage<?>> stages) {
+        if (completeIfDone(stages)) return output;
+
+        final DetachableRelay<AllResultsAggregator<R>> relay = DetachableRelay.of(output, this);
+        int i = 0;
+        for (CompletionStage<?> stage : stages) {
+            // the output is already decided in fail-fast mode, no need to register callbacks to remaining inputs
+            if (slots == null) break;
+            final int index = i++;
+            relay.subscribe(stage, (a, v, ex) -> a.onComplete(index, v, ex));
+        }
+        return output;
+    }
+
+    /**
+     * Completes the output on the calling thread if all the given stages are complete,
+     * or a failed one is complete in fail-fast mode.
+     */
+    private boolean completeIfDone(Collection<? extends CompletionStage<?>> stages) {
+        final CompletableFuture<?> decided = DoneInputs.scan(stages,
+                mode == MODE_FAIL_FAST ? DoneInputs.DECIDED_BY_FAILURE : DoneInputs.DECIDED_BY_NONE);
+        if (decided == null) return false;
+        if (decided != DoneInputs.ALL_DONE) {
+            slots = null;
+            output.completeExceptionally(DoneInputs.exceptionOf(decided));
+            return true;
+        }
+
+        final Object[] s = slots;
+        int i = 0;
+        for (CompletionStage<?> stage : stages) {
+            final CompletableFuture<?> cf = f_toCf0(stage);
+            if (mode == MODE_SETTLED) s[i++] = tryOf(cf);
+            else if (!cf.isCompletedExceptionally()) s[i++] = cf.getNow(null);
+            else if (mode == MODE_ALL_SUCCESS) s[i++] = valueIfFailed;
+            else {
+                // the leftmost failed input
+                output.completeExceptionally(DoneInputs.exceptionOf(cf));
+                return true;
+            }
+        }
+        assemble(s);
+        return true;
+    }
+
+    /**
+     * Returns the outcome of the given complete cf as {@link Try}, the same as recorded by the callback.
+     */
+    static Try<?> tryOf(CompletableFuture<?> doneCf) {
+        final Throwable ex = DoneInputs.exceptionOf(doneCf);
+        return Try.of(ex == null ? doneCf.getNow(null) : null, ex);
+    }
+
+    private void onComplete(int index, @Nullable Object value, @Nullable Throwable ex) {
+        final Object[] s = slots;
+        if (s == null) return;
+
+        if (mode == MODE_SETTLED) s[index] = Try.of(value, ex);
+        else if (ex == null) s[index] = value;
+        else if (mode == MODE_ALL_SUCCESS) s[index] = valueIfFailed;
+        else if (mode == MODE_FAIL_FAST) {
+            slots = null;
+            output.completeExceptionally(wrapCfException(ex));
+            return;
+        } else IndexedEx.recordLeftmost(leftmostEx, index, ex);
+
+        if (countdown.decrementAndGet() == 0) assemble(s);
+    }
+
+    private void assemble(Object[] s) {
+        final IndexedEx failed = leftmostEx.get();
+        if (failed != null) {
+            output.completeExceptionally(wrapCfException(failed.ex));
+            return;
+        }
+        try {
+            output.complete(assembler.apply(s));
+        } catch (Throwable e) {
+            output.completeExceptionally(e);
+        }
+    }
+
+    /**
+     * Wraps the exception with {@link CompletionException} as the dependent stage of CompletableFuture does,
+     * so the exception of output is the same as the implementation of composing CompletableFutures.
+     */
+    static Throwable wrapCfException(Throwable ex) {
+        return ex instanceof CompletionException ? ex : new CompletionException(ex);
+    }
+}
+
+/**
+ * Fail-fast aggregator for the {@code allResultsFailFastSalvageOf} / {@code retryFailedAsync} methods:
+ * same as the fail-fast mode of {@link AllResultsAggregator}, except that the fail-fast failure carries
+ * the results that completed so far and the indexes of the failed/unfinished inputs as
+ * {@link PartialResultsException}, instead of dropping the results.
+ * <p>
+ * The state of each input is published by a volatile write AFTER its slot is written, so the slots of
+ * the inputs in success state are visible when taking the snapshot at the fail-fast failure. The failure is
+ * not decided until the callbacks are registered to all inputs, so the inputs that are already complete
+ * are all salvaged.
+ */
+final class SalvageAggregator {
+    private static final int PENDING = 0;
+    private static final int SUCCESS = 1;
+    private static final int FAILED = 2;
+
+    private final CompletableFuture<List<Object>> output = new CompletableFuture<>();
+    private final DetachableRelay<SalvageAggregator> relay = DetachableRelay.of(output, this);
+    private final Object[] slots;
+    private final AtomicIntegerArray states;
+    private final AtomicInteger countdown;
+    private final AtomicReference<Throwable> firstEx = new AtomicReference<>();
+    private final AtomicBoolean failed = new AtomicBoolean();
+    private volatile boolean subscribing = true;
+
+    /**
+     * Aggregates the results of the given stages with fail-fast support, salvaging the completed results on failure.
+     */
+    static CompletableFuture<List<Object>> allResultsOf(Collection<? extends CompletionStage<?>> stages) {
+        final int len = stages.size();
+        final SalvageAggregator aggregator = new SalvageAggregator(new Object[len], new AtomicIntegerArray(len), len);
+        int i = 0;
+        for (CompletionStage<?> stage : stages) aggregator.subscribe(i++, stage);
+        return aggregator.subscribed();
+    }
+
+    /**
+     * Aggregates the salvaged results of the given partial results with the results of the given stages
+     * of the missing indexes; the retried stages that fail again produce a new {@link PartialResultsException}.
+     */
+    static CompletableFuture<List<Object>> retryOf(
+            PartialResultsException partial, int[] missingIndexes, CompletionStage<?>[] retried) {
+        final Object[] slots = partial.results0().clone();
+        final boolean[] succeeded = partial.succeeded0();
+        final AtomicIntegerArray states = new AtomicIntegerArray(slots.length);
+        for (int i = 0; i < slots.length; i++) if (succeeded[i]) states.set(i, SUCCESS);
+
+        final SalvageAggregator aggregator = new SalvageAggregator(slots, states, missingIndexes.length);
+        for (int i = 0; i < missingIndexes.length; i++) aggregator.subscribe(missingIndexes[i], retried[i]);
+        return aggregator.subscribed();
+    }
+
+    private SalvageAggregator(Object[] slots, AtomicIntegerArray states, int incomplete) {
+        this.slots = slots;
+        this.states = states;
+        this.countdown = new AtomicInteger(incomplete);
+        if (incomplete == 0) output.complete(ResultList.of(slots));
+    }
+
+    private void subscribe(int index, CompletionStage<?> stage) {
+        relay.subscribe(stage, (a, v, ex) -> a.onComplete(index, v, ex));
+    }
+
+    private CompletableFuture<List<Object>> subscribed() {
+        subscribing = false;
+        // decide the failure recorded by the callbacks that ran during the subscription
+        if (firstEx.get() != null) fail();
+        return output;
+    }
+
+    private void onComplete(int index, @Nullable Object value, @Nullable Throwable ex) {
+        if (ex == null) {
+            slots[index] = value;
+            states.set(index, SUCCESS);
+            if (countdown.decrementAndGet() == 0) output.complete(ResultList.of(slots));
+            return;
+        }
+
+        states.set(index, FAILED);
+        firstEx.compareAndSet(null, ex);
+        if (!subscribing) fail();
+    }
+
+    private void fail() {
+        if (!failed.compareAndSet(false, true)) return;
+        output.completeExceptionally(new CompletionException(snapshot(firstEx.get())));
+    }
+
+    private PartialResultsException snapshot(Throwable ex) {
+        final int len = slots.length;
+        final Object[] results = new Object[len];
+        final boolean[] succeeded = new boolean[len];
+        final int[] failedIndexes = new int[len];
+        final int[] unfinishedIndexes = new int[len];
+        int failedCount = 0, unfinishedCount = 0;
+        for (int i = 0; i < len; i++) {
+            final int state = states.get(i);
+            if (state == SUCCESS) {
+                results[i] = slots[i];
+                succeeded[i] = true;
+            } else if (state == FAILED) failedIndexes[failedCount++] = i;
+            else unfinishedIndexes[unfinishedCount++] = i;
+        }
+        return new PartialResultsException(CompletableFutureUtils.unwrapCfException(ex), results, succeeded,
+                Arrays.copyOf(failedIndexes, failedCount), Arrays.copyOf(unfinishedIndexes, unfinishedCount));
+    }
+}
+
+/**
+ * Single-winner state machine for the fail-fast({@code allFailFastOf}) / any-success({@code anySuccessOf}) /
+ * any-complete({@code anyOf}) methods.
+ * <p>
+ * The output itself is the CAS-guarded winner slot: the first failure wins in fail-fast mode, the first success
+ * wins in any-success mode, or the first complete input wins in any-complete mode. When all inputs complete
+ * without a winner, the single remaining counter completes the output with the other outcome. Each input needs
+ * only one callback, no placeholder never-completing futures; and the callbacks are registered through
+ * {@link DetachableRelay}, so the losers that never complete do not keep the output reachable
+ * (unlike the relay nodes of {@link CompletableFuture#anyOf}).
+ */
+final class SingleWinnerAggregator<T> {
+    private static final int MODE_FAILURE_WINS = 0;
+    private static final int MODE_SUCCESS_WINS = 1;
+    private static final int MODE_ANY_WINS = 2;
+
+    private final CompletableFuture<T> output = new CompletableFuture<>();
+    private final AtomicInteger remaining;
+    private final int mode;
+    /**
+     * The exception of the leftmost failed input, used to complete the output when all inputs fail
+     * in any-success mode (same as {@link CompletableFuture#allOf}).
+     */
+    private final AtomicReference<IndexedEx> leftmostEx = new AtomicReference<>();
+
+    /**
+     * Returns a new CompletableFuture that is completed normally with {@code null} when all the given stages
+     * complete normally; Otherwise, completed exceptionally by the first failed stage WITHOUT waiting other stages.
+     */
+    static CompletableFuture<Void> allFailFastOf(Collection<? extends CompletionStage<?>> stages) {
+        return new SingleWinnerAggregator<Void>(MODE_FAILURE_WINS, stages.size()).subscribe(stages);
+    }
+
+    /**
+     * Returns a new CompletableFuture that is completed normally by the first successful stage;
+     * Otherwise, when all the given stages complete exceptionally, completed exceptionally
+     * with the exception of the leftmost failed stage.
+     */
+    static <T> CompletableFuture<T> anySuccessOf(Collection<? extends CompletionStage<? extends T>> stages) {
+        return new SingleWinnerAggregator<T>(MODE_SUCCESS_WINS, stages.size()).subscribe(stages);
+    }
+
+    /**
+     * Returns a new CompletableFuture that is completed with the same result or exception as the first complete
+     * stage of the given stages (same as {@link CompletableFuture#anyOf}); if no stages are provided,
+     * returns an incomplete CompletableFuture.
+     */
+    static <T> CompletableFuture<T> anyOf(Collection<? extends CompletionStage<? extends T>> stages) {
+        if (stages.isEmpty()) return new CompletableFuture<>();
+        return new SingleWinnerAggregator<T>(MODE_ANY_WINS, stages.size()).subscribe(stages);
+    }
+
+    private SingleWinnerAggregator(int mode, int count) {
+        this.mode = mode;
+        this.remaining = new AtomicInteger(count);
+    }
+
+    private CompletableFuture<T> subscribe(Collection<? extends CompletionStage<?>> stages) {
+        if (completeIfDone(stages)) return output;
+
+        final DetachableRelay<SingleWinnerAggregator<T>> relay = DetachableRelay.of(output, this);
+        int i = 0;
+        for (CompletionStage<?> stage : stages) {
+            // the winner is already decided, no need to register callbacks to remaining inputs
+            if (output.isDone()) break;
+            final int index = i++;
+            relay.subscribe(stage, (a, v, ex) -> a.onComplete(index, v, ex));
+        }
+        return output;
+    }
+
+    /**
+     * Completes the output on the calling thread if the winner is complete, or all the given stages are complete.
+     */
+    @SuppressWarnings("unchecked")
+    private boolean completeIfDone(Collection<? extends CompletionStage<?>> stages) {
+        final CompletableFuture<?> winner = DoneInputs.scan(stages, mode == MODE_ANY_WINS ? DoneInputs.DECIDED_BY_ANY
+                : mode == MODE_SUCCESS_WINS ? DoneInputs.DECIDED_BY_SUCCESS : DoneInputs.DECIDED_BY_FAILURE);
+        if (winner == null) return false;
+        if (winner != DoneInputs.ALL_DONE) {
+            final Throwable ex = DoneInputs.exceptionOf(winner);
+            if (ex == null) output.complete((T) winner.getNow(null));
+            else output.completeExceptionally(ex);
+        } else if (mode == MODE_SUCCESS_WINS) {
+            // all failed, the leftmost failed input
+            output.completeExceptionally(DoneInputs.exceptionOf(f_toCf0(stages.iterator().next())));
+        } else {
+            output.complete(null);
+        }
+        return true;
+    }
+
+    @SuppressWarnings("unchecked")
+    private void onComplete(int index, @Nullable Object value, @Nullable Throwable ex) {
+        if (output.isDone()) return;
+
+        if (mode == MODE_ANY_WINS) {
+            if (ex == null) output.complete((T) value);
+            else output.completeExceptionally(wrapCfException(ex));
+        } else if (mode == MODE_SUCCESS_WINS) {
+            if (ex == null) {
+                output.complete((T) value);
+                return;
+            }
+            IndexedEx.recordLeftmost(leftmostEx, index, ex);
+            if (remaining.decrementAndGet() == 0)
+                output.completeExceptionally(wrapCfException(leftmostEx.get().ex));
+        } else {
+            if (ex != null) {
+                output.completeExceptionally(wrapCfException(ex));
+                return;
+            }
+            if (remaining.decrementAndGet() == 0) output.complete(null);
+        }
+    }
+
+}
+
+/**
+ * Synchronous pre-scan of the inputs, so the aggregation engines build the output on the calling thread
+ * WITHOUT registering any callbacks, when all the inputs are already complete(e.g. cache hits)
+ * or the output is already decided by a complete input(a failure in fail-fast mode, a success in any-success mode).
+ * <p>
+ * Only reads the {@link CompletableFuture}/{@link Cffu} inputs that are not minimal-stage; meeting other inputs,
+ * the scan gives up and the inputs go through the callbacks as before, so the winner is still the same as
+ * registering the callbacks in the input order.
+ */
+final class DoneInputs {
+    static final int DECIDED_BY_NONE = 0;
+    static final int DECIDED_BY_FAILURE = 1;
+    static final int DECIDED_BY_SUCCESS = 2;
+    static final int DECIDED_BY_ANY = 3;
+
+    /**
+     * The marker returned by {@link #scan} when all the inputs are complete.
+     */
+    static final CompletableFuture<?> ALL_DONE = new CompletableFuture<>();
+
+    /**
+     * Returns the first complete input whose outcome decides the output, if any; otherwise {@link #ALL_DONE}
+     * if all the given stages are complete; otherwise {@code null}.
+     *
+     * @param decidedBy the outcome of one input that decides the output, {@link #DECIDED_BY_FAILURE} in fail-fast mode,
+     *                  {@link #DECIDED_BY_SUCCESS} in any-success mode, {@link #DECIDED_BY_ANY} in any-complete mode,
+     *                  otherwise {@link #DECIDED_BY_NONE}
+     */
+    @Nullable
+    static CompletableFuture<?> scan(Iterable<? extends CompletionStage<?>> stages, int decidedBy) {
+        boolean allDone = true;
+        for (CompletionStage<?> stage : stages) {
+            final CompletableFuture<?> cf = readableCf(stage);
+            if (cf == null) return null;
+            if (!cf.isDone()) {
+                // no need to scan the remaining inputs, since none of them can decide the output
+                if (decidedBy == DECIDED_BY_NONE) return null;
+                allDone = false;
+            } else if (decidedBy == DECIDED_BY_ANY || decidedBy != DECIDED_BY_NONE
+                    && cf.isCompletedExceptionally() == (decidedBy == DECIDED_BY_FAILURE)) {
+                return cf;
+            }
+        }
+        return allDone ? ALL_DONE : null;
+    }
+
+    /**
+     * Returns the cf of the given stage if its state can be read without side effects, otherwise {@code null}.
+     */
+    @Nullable
+    private static CompletableFuture<?> readableCf(CompletionStage<?> stage) {
+        final CompletableFuture<?> cf;
+        if (stage instanceof CompletableFuture) cf = (CompletableFuture<?>) stage;
+        else if (stage instanceof Cffu) cf = ((Cffu<?>) stage).cffuUnwrap();
+        else return null;
+        // minimal-stage can not be read explicitly (UnsupportedOperationException)
+        return isMinStageCf(cf) ? null : cf;
+    }
+
+    /**
+     * Returns the exception of the given complete cf wrapped as the dependent stage does,
+     * or {@code null} if the cf completed normally.
+     */
+    @Nullable
+    static Throwable exceptionOf(CompletableFuture<?> doneCf) {
+        if (!doneCf.isCompletedExceptionally()) return null;
+        try {
+            doneCf.join();
+        } catch (CompletionException | CancellationException e) {
+            return wrapCfException(e);
+        }
+        throw new IllegalStateException("cf completed exceptionally without exception: " + doneCf);
+    }
+
+    private DoneInputs() {}
+}
+
+/**
+ * The exception of the input at the index; only allocated on the failure path.
+ */
+final class IndexedEx {
+    final int index;
+    final Throwable ex;
+
+    IndexedEx(int index, Throwable ex) {
+        this.index = index;
+        this.ex = ex;
+    }
+
+    /**
+     * Records the exception into the given reference if the index is less than the recorded one,
+     * so the exception of the leftmost failed input is reported (same as {@link CompletableFuture#allOf}).
+     */
+    static void recordLeftmost(AtomicReference<IndexedEx> leftmost, int index, Throwable ex) {
+        IndexedEx current;
+        IndexedEx update = null;
+        while ((current = leftmost.get()) == null || index < current.index) {
+            if (update == null) update = new IndexedEx(index, ex);
+            if (leftmost.compareAndSet(current, update)) return;
+        }
+    }
+}
+
+/**
+ * The timer task of the timeout-based engines: submits the timeout action to the executorWhenTimeout
+ * instead of running it on the delayer thread. If the executor rejects the action(e.g. it is shut down),
+ * completes the output exceptionally with the rejection, same as the async dependent stage of CompletableFuture;
+ * otherwise the output would never complete.
+ */
+final class TimeoutSubmitter implements Runnable {
+    private final Executor executor;
+    private final Runnable action;
+    private final CompletableFuture<?> output;
+
+    TimeoutSubmitter(Executor executor, Runnable action, CompletableFuture<?> output) {
+        this.executor = executor;
+        this.action = action;
+        this.output = output;
+    }
+
+    @Override
+    public void run() {
+        try {
+            executor.execute(action);
+        } catch (Throwable ex) {
+            output.completeExceptionally(wrapCfException(ex));
+        }
+    }
+}
+
+/**
+ * The timeout timer of an engine: schedules the timeout action on the delayer thread, which submits it
+ * to the executorWhenTimeout({@link TimeoutSubmitter}); and cancels the timer when the output completes first.
+ */
+final class TimeoutTimer {
+    @Nullable
+    private volatile ScheduledFuture<?> timer;
+
+    /**
+     * Schedules the given timeout action if the output is not completed yet.
+     */
+    void schedule(Executor executorWhenTimeout, long delay, TimeUnit unit, Runnable onTimeout,
+                  CompletableFuture<?> output) {
+        if (output.isDone()) return;
+        // complete the output via the executorWhenTimeout instead of the delayer thread at timeout
+        final Runnable submitter = new TimeoutSubmitter(screenExecutor(executorWhenTimeout), onTimeout, output);
+        timer = Delayer.delay(submitter, delay, unit);
+        // cancel the timer if the output completed before the timer was recorded
+        if (output.isDone()) cancel();
+    }
+
+    void cancel() {
+        final ScheduledFuture<?> t = timer;
+        if (t != null) t.cancel(false);
+    }
+}
+
+/**
+ * Detachable relay from the inputs to an aggregation engine, so the inputs that are still incomplete after
+ * the output is decided(the losers of a race, the inputs incomplete at timeout, the inputs after a fail-fast
+ * failure) do NOT keep the engine, the output, its result and the captured state reachable.
+ * <p>
+ * The callback registered on each input references only this relay instead of the engine, and the link to
+ * the engine is cleared once the output completes, by the engine itself or by the caller(e.g. {@code cancel}
+ * or {@code orTimeout} of the output); then an input that never completes retains only the relay node.
+ * The engines create the relay only when subscribing to the inputs, after their fast path of the done inputs;
+ * so an output decided on the calling thread has no relay dependent.
+ *
+ * @param <A> the type of the engine
+ */
+final class DetachableRelay<A> {
+    /**
+     * The callback of an input, receives the engine as argument instead of capturing it.
+     */
+    @FunctionalInterface
+    interface Callback<A> {
+        void onComplete(A target, @Nullable Object value, @Nullable Throwable ex);
+    }
+
+    /**
+     * The engine; set to {@code null} when the output completes.
+     */
+    @Nullable
+    private volatile A target;
+
+    /**
+     * Returns a new relay to the given engine, detached when the given output completes.
+     */
+    static <A> DetachableRelay<A> of(CompletableFuture<?> output, A target) {
+        final DetachableRelay<A> relay = new DetachableRelay<>(target);
+        output.whenComplete((v, ex) -> relay.target = null);
+        return relay;
+    }
+
+    private DetachableRelay(A target) {
+        this.target = target;
+    }
+
+    /**
+     * Registers the given callback to the given stage, through this relay.
+     */
+    void subscribe(CompletionStage<?> stage, Callback<? super A> callback) {
+        f_toCf0(stage).whenComplete((v, ex) -> {
+            final A t = target;
+            if (t != null) callback.onComplete(t, v, ex);
+        });
+    }
+}
+
+/**
+ * Fused two-input race for the {@code *EitherSuccess} methods: one callback per side and a single CAS
+ * (the completion of output) for the winner.
+ * <p>
+ * The first success wins; if both sides fail, the output fails with the exception of {@code cfThis}
+ * (same as {@link CompletableFuture#thenCombine} reports the exception of the both failed stages).
+ */
+final class EitherSuccessRace<T> {
+    private final CompletableFuture<T> output;
+    /**
+     * The exception of the first failed side; the second failed side completes the output exceptionally.
+     */
+    private final AtomicReference<Throwable> firstEx = new AtomicReference<>();
+
+    /**
+     * Keeps the runtime type(including {@code minimal-stage}) of return cf same as input {@code cfThis} argument.
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    static <T> CompletableFuture<T> eitherSuccessOf(
+            CompletableFuture<? extends T> cfThis, CompletionStage<? extends T> other) {
+        final boolean isMinStage = isMinStageCf(cfThis);
+        // minimal-stage can not be completed explicitly, complete a normal cf and convert to minimal-stage
+        final CompletableFuture<T> output = isMinStage ? new CompletableFuture<>()
+                : CompletableFutureUtils.newIncompleteFuture(cfThis);
+
+        final DetachableRelay<EitherSuccessRace<T>> relay = DetachableRelay.of(output, new EitherSuccessRace<>(output));
+        relay.subscribe(cfThis, (r, v, ex) -> r.onComplete(true, (T) v, ex));
+        if (!output.isDone()) relay.subscribe(other, (r, v, ex) -> r.onComplete(false, (T) v, ex));
+
+        return isMinStage ? (CompletableFuture) output.minimalCompletionStage() : output;
+    }
+
+    private EitherSuccessRace(CompletableFuture<T> output) {
+        this.output = output;
+    }
+
+    private void onComplete(boolean isThis, @Nullable T value, @Nullable Throwable ex) {
+        if (ex == null) output.complete(value);
+        else if (!firstEx.compareAndSet(null, ex))
+            output.completeExceptionally(wrapCfException(isThis ? ex : firstEx.get()));
+    }
+}
+
+/**
+ * Most-success collector for the {@code mostSuccessResultsOf} / {@code mostSuccessTupleOf} methods.
+ * <p>
+ * Keeps one result slot per input, registers one callback per input, and uses exactly one timer registration
+ * for the whole batch; The output is assembled only once from the slots, at timeout or when all inputs complete.
+ * <p>
+ * The slots are {@link AtomicReferenceArray} instead of plain array, because the slots are read at timeout
+ * while the callbacks of the incomplete inputs may be writing concurrently.
+ *
+ * @param <R> the type of the assembled output, e.g. List or TupleX
+ */
+final class MostSuccessCollector<R> {
+    private final CompletableFuture<R> output = new CompletableFuture<>();
+    /**
+     * The count of the incomplete inputs; set to a negative value at timeout, so exactly one of
+     * the last callback and the timer assembles the output.
+     */
+    private final AtomicInteger remaining;
+    private final Function<Object[], ? extends R> assembler;
+    /**
+     * The result slots; set to {@code null} when the output is assembled,
+     * so the results are not retained by the callbacks of incomplete inputs.
+     */
+    @Nullable
+    private volatile AtomicReferenceArray<Object> slots;
+    private final TimeoutTimer timer = new TimeoutTimer();
+
+    /**
+     * Collects the successful results of the given stages that complete normally within the given time,
+     * using the given valueIfNotSuccess as the result of the stage that is not completed normally.
+     */
+    static <R> CompletableFuture<R> mostSuccessResultsOf(
+            Executor executorWhenTimeout, @Nullable Object valueIfNotSuccess, long timeout, TimeUnit unit,
+            Collection<? extends CompletionStage<?>> stages, Function<Object[], ? extends R> assembler) {
+        final MostSuccessCollector<R> collector = new MostSuccessCollector<>(valueIfNotSuccess, stages.size(), assembler);
+        final DetachableRelay<MostSuccessCollector<R>> relay = DetachableRelay.of(collector.output, collector);
+        int i = 0;
+        for (CompletionStage<?> stage : stages) {
+            final int index = i++;
+            relay.subscribe(stage, (c, v, ex) -> c.onComplete(index, v, ex));
+        }
+        collector.timer.schedule(executorWhenTimeout, timeout, unit, collector::onTimeout, collector.output);
+        return collector.output;
+    }
+
+    private MostSuccessCollector(@Nullable Object valueIfNotSuccess, int count,
+                                 Function<Object[], ? extends R> assembler) {
+        this.remaining = new AtomicInteger(count);
+        this.assembler = assembler;
+        final AtomicReferenceArray<Object> s = new AtomicReferenceArray<>(count);
+        if (valueIfNotSuccess != null) for (int i = 0; i < count; i++) s.lazySet(i, valueIfNotSuccess);
+        this.slots = s;
+    }
+
+    private void onComplete(int index, @Nullable Object value, @Nullable Throwable ex) {
+        final AtomicReferenceArray<Object> s = slots;
+        if (s == null) return;
+
+        if (ex == null) s.set(index, value);
+        if (remaining.decrementAndGet() == 0) {
+            timer.cancel();
+            assemble(s);
+        }
+    }
+
+    private void onTimeout() {
+        final AtomicReferenceArray<Object> s = slots;
+        if (s == null || remaining.getAndSet(-1) <= 0) return;
+        assemble(s);
+    }
+
+    private void assemble(AtomicReferenceArray<Object> s) {
+        slots = null;
+        // the snapshot copy is necessary: the callbacks of the inputs completed concurrently may still write the slots
+        final Object[] results = new Object[s.length()];
+        for (int i = 0; i < results.length; i++) results[i] = s.get(i);
+        try {
+            output.complete(assembler.apply(results));
+        } catch (Throwable e) {
+            output.completeExceptionally(e);
+        }
+    }
+}
+
+/**
+ * Per-input timeout collector for the {@code mostSuccessResultsPerInputOf} / {@code mostSuccessTuplePerInputOf}
+ * methods: each input has its own timeout and its own value if not success.
+ * <p>
+ * All timeouts are served by ONE timer chain instead of a timer per input: the inputs are sorted by timeout once,
+ * and at most one delayer task is scheduled at any time, for the earliest timeout of the unsettled inputs;
+ * when it fires, all the inputs whose timeouts are reached are settled with their values if not success,
+ * then the task for the next timeout is scheduled.
+ * <p>
+ * Each input is settled exactly once by a CAS of its state, either by its completion callback or by the timer;
+ * its slot is written BEFORE the atomic countdown, so the slots are visible to the assembling thread.
+ *
+ * @param <R> the type of the assembled output, e.g. List or TupleX
+ */
+final class PerInputTimeoutCollector<R> {
+    /**
+     * Clamps the timeouts, so the elapsed time comparisons never overflow.
+     */
+    private static final long MAX_TIMEOUT_NANOS = Long.MAX_VALUE >> 1;
+
+    private final CompletableFuture<R> output = new CompletableFuture<>();
+    private final Executor executorWhenTimeout;
+    private final IntFunction<?> valueIfNotSuccessOfInput;
+    private final Function<Object[], ? extends R> assembler;
+    private final long startNanos = System.nanoTime();
+    private final long[] timeoutNanos;
+    /**
+     * The input indexes in the ascending order of timeouts; the entries before the cursor are settled.
+     * The cursor is only accessed by the timer chain, one task after another.
+     */
+    private final Integer[] order;
+    private int cursor;
+    private final AtomicIntegerArray settled;
+    private final AtomicInteger remaining;
+    /**
+     * The result slots; set to {@code null} when the output is completed.
+     */
+    @Nullable
+    private volatile Object[] slots;
+    private final TimeoutTimer timer = new TimeoutTimer();
+
+    /**
+     * Collects the successful results of the given stages that complete normally within their own timeouts,
+     * using the value if not success of each input as the result of the stage that is not completed normally.
+     */
+    static <R> CompletableFuture<R> mostSuccessResultsOf(
+            Executor executorWhenTimeout, IntToLongFunction timeoutOfInput, TimeUnit unit,
+            IntFunction<?> valueIfNotSuccessOfInput, Collection<? extends CompletionStage<?>> stages,
+            Function<Object[], ? extends R> assembler) {
+        final PerInputTimeoutCollector<R> collector = new PerInputTimeoutCollector<>(
+                executorWhenTimeout, timeoutOfInput, unit, valueIfNotSuccessOfInput, stages.size(), assembler);
+        final DetachableRelay<PerInputTimeoutCollector<R>> relay = DetachableRelay.of(collector.output, collector);
+        int i = 0;
+        for (CompletionStage<?> stage : stages) {
+            final int index = i++;
+            relay.subscribe(stage, (c, v, ex) -> c.settle(index, ex == null, v));
+        }
+        collector.scheduleNext();
+        return collector.output;
+    }
+
+    private PerInputTimeoutCollector(Executor executorWhenTimeout, IntToLongFunction timeoutOfInput, TimeUnit unit,
+                                     IntFunction<?> valueIfNotSuccessOfInput, int count,
+                                     Function<Object[], ? extends R> assembler) {
+        this.executorWhenTimeout = screenExecutor(executorWhenTimeout);
+        this.valueIfNotSuccessOfInput = valueIfNotSuccessOfInput;
+        this.assembler = assembler;
+        final long[] timeouts = new long[count];
+        final Integer[] indexes = new Integer[count];
+        for (int i = 0; i < count; i++) {
+            timeouts[i] = Math.max(0, Math.min(MAX_TIMEOUT_NANOS, unit.toNanos(timeoutOfInput.applyAsLong(i))));
+            indexes[i] = i;
+        }
+        Arrays.sort(indexes, (a, b) -> Long.compare(timeouts[a], timeouts[b]));
+        this.timeoutNanos = timeouts;
+        this.order = indexes;
+        this.settled = new AtomicIntegerArray(count);
+        this.remaining = new AtomicInteger(count);
+        this.slots = new Object[count];
+    }
+
+    private void settle(int index, boolean success, @Nullable Object value) {
+        final Object[] s = slots;
+        if (s == null || !settled.compareAndSet(index, 0, 1)) return;
+
+        try {
+            s[index] = success ? value : valueIfNotSuccessOfInput.apply(index);
+        } catch (Throwable e) {
+            slots = null;
+            timer.cancel();
+            output.completeExceptionally(wrapCfException(e));
+            return;
+        }
+        if (remaining.decrementAndGet() == 0) {
+            slots = null;
+            timer.cancel();
+            try {
+                output.complete(assembler.apply(s));
+            } catch (Throwable e) {
+                output.completeExceptionally(e);
+            }
+        }
+    }
+
+    private void onTimer() {
+        final long elapsed = System.nanoTime() - startNanos;
+        while (cursor < order.length && slots != null) {
+            final int index = order[cursor];
+            if (timeoutNanos[index] > elapsed) break;
+            cursor++;
+            settle(index, false, null);
+        }
+        scheduleNext();
+    }
+
+    private void scheduleNext() {
+        // skip the inputs settled by their completion callbacks
+        while (cursor < order.length && settled.get(order[cursor]) != 0) cursor++;
+        if (cursor == order.length || output.isDone()) return;
+
+        final long delay = timeoutNanos[order[cursor]] - (System.nanoTime() - startNanos);
+        timer.schedule(executorWhenTimeout, delay, TimeUnit.NANOSECONDS, this::onTimer, output);
+    }
+}
+
+/**
+ * Arity-specialized aggregator for the {@code Tuple2}..{@code Tuple5} methods
+ * ({@code allTupleOf*}, {@code allSuccessTupleOf}, {@code mostSuccessTupleOf}, {@code allSettledTupleOf})
+ * and the combiner methods ({@code allCombineFailFastOf}, {@code allSuccessCombineOf}, {@code mostSuccessCombineOf}).
+ * <p>
+ * Writes the results directly into the typed fields and constructs the Tuple (or applies the combiner {@code FunctionX})
+ * once, WITHOUT the slot array, the {@link AtomicReferenceArray} or the list of the general aggregators.
+ * The result of not successful input is always {@code null} for these methods, so the fields need no initialization.
+ *
+ * @param <R> the TupleX type, or the result type of the combiner
+ */
+final class TupleAggregator<R> {
+    private static final int MODE_ALL_COMPLETE = 0;
+    private static final int MODE_FAIL_FAST = 1;
+    private static final int MODE_ALL_SUCCESS = 2;
+    private static final int MODE_MOST_SUCCESS = 3;
+    private static final int MODE_SETTLED = 4;
+
+    private final CompletableFuture<R> output = new CompletableFuture<>();
+    private final int arity;
+    private final int mode;
+    /**
+     * The count of the incomplete inputs; in most-success mode, set to a negative value at timeout,
+     * so exactly one of the last callback and the timer assembles the output.
+     */
+    private final AtomicInteger remaining;
+    @Nullable
+    private final AtomicReference<IndexedEx> leftmostEx;
+    /**
+     * The combiner {@code Function2}..{@code Function5} matching the arity; {@code null} to construct TupleX.
+     */
+    @Nullable
+    private final Object combiner;
+
+    @Nullable
+    private volatile Object v1, v2, v3, v4, v5;
+    private final TimeoutTimer timer = new TimeoutTimer();
+
+    /**
+     * @see AllResultsAggregator#allResultsOf
+     */
+    static <R> CompletableFuture<R> allTupleOf(
+            boolean failFast, CompletionStage<?>[] stages, @Nullable Object combiner) {
+        final int mode = failFast ? MODE_FAIL_FAST : MODE_ALL_COMPLETE;
+        return new TupleAggregator<R>(mode, stages.length, combiner).subscribe(stages);
+    }
+
+    /**
+     * @see AllResultsAggregator#allSuccessResultsOf
+     */
+    static <R> CompletableFuture<R> allSuccessTupleOf(CompletionStage<?>[] stages, @Nullable Object combiner) {
+        return new TupleAggregator<R>(MODE_ALL_SUCCESS, stages.length, combiner).subscribe(stages);
+    }
+
+    /**
+     * @see AllResultsAggregator#allSettledOf
+     */
+    static <R> CompletableFuture<R> allSettledTupleOf(CompletionStage<?>[] stages) {
+        return new TupleAggregator<R>(MODE_SETTLED, stages.length, null).subscribe(stages);
+    }
+
+    /**
+     * @see MostSuccessCollector#mostSuccessResultsOf
+     */
+    static <R> CompletableFuture<R> mostSuccessTupleOf(Executor executorWhenTimeout, long timeout, TimeUnit unit,
+                                                       CompletionStage<?>[] stages, @Nullable Object combiner) {
+        final TupleAggregator<R> aggregator = new TupleAggregator<>(MODE_MOST_SUCCESS, stages.length, combiner);
+        aggregator.subscribe(stages);
+        aggregator.timer.schedule(executorWhenTimeout, timeout, unit, aggregator::onTimeout, aggregator.output);
+        return aggregator.output;
+    }
+
+    private TupleAggregator(int mode, int arity, @Nullable Object combiner) {
+        this.mode = mode;
+        this.arity = arity;
+        this.remaining = new AtomicInteger(arity);
+        this.leftmostEx = mode == MODE_ALL_COMPLETE ? new AtomicReference<>() : null;
+        this.combiner = combiner;
+    }
+
+    private CompletableFuture<R> subscribe(CompletionStage<?>[] stages) {
+        if (completeIfDone(stages)) return output;
+
+        final DetachableRelay<TupleAggregator<R>> relay = DetachableRelay.of(output, this);
+        for (int i = 0; i < arity; i++) {
+            // the output is already decided in fail-fast mode, no need to register callbacks to remaining inputs
+            if (output.isDone()) break;
+            final int index = i;
+            relay.subscribe(stages[i], (a, v, ex) -> a.onComplete(index, v, ex));
+        }
+        return output;
+    }
+
+    /**
+     * Completes the output on the calling thread if all the given stages are complete,
+     * or a failed one is complete in fail-fast mode.
+     */
+    private boolean completeIfDone(CompletionStage<?>[] stages) {
+        final CompletableFuture<?> decided = DoneInputs.scan(Arrays.asList(stages),
+                mode == MODE_FAIL_FAST ? DoneInputs.DECIDED_BY_FAILURE : DoneInputs.DECIDED_BY_NONE);
+        if (decided == null) return false;
+        if (decided != DoneInputs.ALL_DONE) {
+            output.completeExceptionally(DoneInputs.exceptionOf(decided));
+            return true;
+        }
+
+        for (int i = 0; i < arity; i++) {
+            final CompletableFuture<?> cf = f_toCf0(stages[i]);
+            if (mode == MODE_SETTLED) set(i, AllResultsAggregator.tryOf(cf));
+            else if (!cf.isCompletedExceptionally()) set(i, cf.getNow(null));
+            else if (mode == MODE_ALL_COMPLETE) {
+                // the leftmost failed input
+                output.completeExceptionally(DoneInputs.exceptionOf(cf));
+                v1 = v2 = v3 = v4 = v5 = null;
+                return true;
+            }
+        }
+        assemble();
+        return true;
+    }
+
+    private void onComplete(int index, @Nullable Object value, @Nullable Throwable ex) {
+        if (output.isDone()) return;
+
+        if (ex == null || mode == MODE_SETTLED) {
+            set(index, mode == MODE_SETTLED ? Try.of(value, ex) : value);
+            // the output may be completed by a failure in fail-fast mode or by timer concurrently,
+            // clear the written value so that it is not retained by the aggregator
+            if (output.isDone()) {
+                set(index, null);
+                return;
+            }
+        } else if (mode == MODE_FAIL_FAST) {
+            output.completeExceptionally(wrapCfException(ex));
+            v1 = v2 = v3 = v4 = v5 = null;
+            return;
+        } else if (mode == MODE_ALL_COMPLETE) {
+            IndexedEx.recordLeftmost(leftmostEx, index, ex);
+        }
+
+        if (remaining.decrementAndGet() == 0) {
+            timer.cancel();
+            if (mode == MODE_ALL_COMPLETE && leftmostEx.get() != null)
+                output.completeExceptionally(wrapCfException(leftmostEx.get().ex));
+            else assemble();
+        }
+    }
+
+    private void onTimeout() {
+        if (remaining.getAndSet(-1) <= 0) return;
+        assemble();
+    }
+
+    private void assemble() {
+        try {
+            output.complete(combiner == null ? tupleOf() : combine());
+        } catch (Throwable e) {
+            output.completeExceptionally(wrapCfException(e));
+        } finally {
+            v1 = v2 = v3 = v4 = v5 = null;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private R tupleOf() {
+        final Object ret;
+        if (arity == 2) ret = Tuple2.of(v1, v2);
+        else if (arity == 3) ret = Tuple3.of(v1, v2, v3);
+        else if (arity == 4) ret = Tuple4.of(v1, v2, v3, v4);
+        else ret = Tuple5.of(v1, v2, v3, v4, v5);
+        return (R) ret;
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private R combine() {
+        final Object ret;
+        if (arity == 2) ret = ((Function2) combiner).apply(v1, v2);
+        else if (arity == 3) ret = ((Function3) combiner).apply(v1, v2, v3);
+        else if (arity == 4) ret = ((Function4) combiner).apply(v1, v2, v3, v4);
+        else ret = ((Function5) combiner).apply(v1, v2, v3, v4, v5);
+        return (R) ret;
+    }
+
+    private void set(int index, @Nullable Object value) {
+        if (index == 0) v1 = value;
+        else if (index == 1) v2 = value;
+        else if (index == 2) v3 = value;
+        else if (index == 3) v4 = value;
+        else v5 = value;
+    }
+}
+
+/**
+ * Primitive-specialized aggregator for the {@code all*ResultsOf*} / {@code mostSuccess*ResultsOf} methods
+ * of {@code int}/{@code long}/{@code double} results.
+ * <p>
+ * The results are extracted by the given extractor in the callback of each input and stored into
+ * a primitive slot array, WITHOUT boxing the results or growing a list; the slot array is the output itself
+ * in the all-complete and fail-fast modes. An exception thrown by the extractor is treated as the failure
+ * of the input.
+ *
+ * @param <A> the primitive array type, e.g. {@code long[]}
+ */
+final class PrimitiveResultsAggregator<A> {
+    private static final int MODE_ALL_COMPLETE = 0;
+    private static final int MODE_FAIL_FAST = 1;
+    private static final int MODE_MOST_SUCCESS = 2;
+
+    private final CompletableFuture<A> output = new CompletableFuture<>();
+    private final int mode;
+    /**
+     * The count of the incomplete inputs; in most-success mode, set to a negative value at timeout,
+     * so exactly one of the last callback and the timer assembles the output.
+     */
+    private final AtomicInteger remaining;
+    @Nullable
+    private final AtomicReference<IndexedEx> leftmostEx;
+    /**
+     * The result slots; set to {@code null} when the output is completed,
+     * so the results are not retained by the callbacks of incomplete inputs.
+     */
+    @Nullable
+    private volatile Slots<A> slots;
+    private final TimeoutTimer timer = new TimeoutTimer();
+
+    /**
+     * @see AllResultsAggregator#allResultsOf
+     */
+    static <A> CompletableFuture<A> allResultsOf(boolean failFast, CompletionStage<?>[] stages, Slots<A> slots) {
+        final int mode = failFast ? MODE_FAIL_FAST : MODE_ALL_COMPLETE;
+        return new PrimitiveResultsAggregator<>(mode, stages.length, slots).subscribe(stages);
+    }
+
+    /**
+     * @see MostSuccessCollector#mostSuccessResultsOf
+     */
+    static <A> CompletableFuture<A> mostSuccessResultsOf(
+            Executor executorWhenTimeout, long timeout, TimeUnit unit, CompletionStage<?>[] stages, Slots<A> slots) {
+        final PrimitiveResultsAggregator<A> aggregator =
+                new PrimitiveResultsAggregator<>(MODE_MOST_SUCCESS, stages.length, slots);
+        aggregator.subscribe(stages);
+        aggregator.timer.schedule(executorWhenTimeout, timeout, unit, aggregator::onTimeout, aggregator.output);
+        return aggregator.output;
+    }
+
+    private PrimitiveResultsAggregator(int mode, int count, Slots<A> slots) {
+        this.mode = mode;
+        this.remaining = new AtomicInteger(count);
+        this.leftmostEx = mode == MODE_ALL_COMPLETE ? new AtomicReference<>() : null;
+        this.slots = slots;
+    }
+
+    private CompletableFuture<A> subscribe(CompletionStage<?>[] stages) {
+        final DetachableRelay<PrimitiveResultsAggregator<A>> relay = DetachableRelay.of(output, this);
+        for (int i = 0; i < stages.length; i++) {
+            // the output is already decided in fail-fast mode, no need to register callbacks to remaining inputs
+            if (slots == null) break;
+            final int index = i;
+            relay.subscribe(stages[i], (a, v, ex) -> a.onComplete(index, v, ex));
+        }
+        return output;
+    }
+
+    private void onComplete(int index, @Nullable Object value, @Nullable Throwable ex) {
+        final Slots<A> s = slots;
+        if (s == null) return;
+
+        if (ex == null) {
+            try {
+                s.set(index, value);
+            } catch (Throwable e) {
+                ex = e;
+            }
+        }
+        if (ex != null) {
+            if (mode == MODE_FAIL_FAST) {
+                slots = null;
+                output.completeExceptionally(wrapCfException(ex));
+                return;
+            }
+            // the slot of the failed input keeps valueIfNotSuccess in most-success mode
+            if (mode == MODE_ALL_COMPLETE) IndexedEx.recordLeftmost(leftmostEx, index, ex);
+        }
+
+        if (remaining.decrementAndGet() == 0) {
+            timer.cancel();
+            if (mode == MODE_ALL_COMPLETE && leftmostEx.get() != null) {
+                slots = null;
+                output.completeExceptionally(wrapCfException(leftmostEx.get().ex));
+            } else assemble(s);
+        }
+    }
+
+    private void onTimeout() {
+        final Slots<A> s = slots;
+        if (s == null || remaining.getAndSet(-1) <= 0) return;
+        assemble(s);
+    }
+
+    private void assemble(Slots<A> s) {
+        slots = null;
+        output.complete(s.toArray());
+    }
+
+    ////////////////////////////////////////////////////////////
+    // primitive slots
+    //
+    // the plain array slots are used in the all-complete and fail-fast modes, the output is read
+    // after the last write is published by the countdown; the atomic array slots are used in most-success mode,
+    // because the slots are read at timeout while the callbacks of the incomplete inputs may be writing concurrently.
+    ////////////////////////////////////////////////////////////
+
+    /**
+     * The result slots of the primitive type.
+     *
+     * @param <A> the primitive array type
+     */
+    abstract static class Slots<A> {
+        /**
+         * Extracts the primitive result from the value of input and stores it into the slot;
+         * the extractor may throw an exception.
+         */
+        abstract void set(int index, @Nullable Object value);
+
+        /**
+         * Returns the primitive array of results; no copy for the plain array slots.
+         */
+        abstract A toArray();
+    }
+
+    @SuppressWarnings("unchecked")
+    static Slots<int[]> intSlots(ToIntFunction<?> extractor, int count) {
+        final ToIntFunction<Object> fn = (ToIntFunction<Object>) extractor;
+        final int[] array = new int[count];
+        return new Slots<int[]>() {
+            @Override
+            void set(int index, @Nullable Object value) {
+                array[index] = fn.applyAsInt(value);
+            }
+
+            @Override
+            int[] toArray() {
+                return array;
+            }
+        };
+    }
+
+    @SuppressWarnings("unchecked")
+    static Slots<int[]> atomicIntSlots(ToIntFunction<?> extractor, int valueIfNotSuccess, int count) {
+        final ToIntFunction<Object> fn = (ToIntFunction<Object>) extractor;
+        final AtomicIntegerArray array = new AtomicIntegerArray(count);
+        if (valueIfNotSuccess != 0) for (int i = 0; i < count; i++) array.lazySet(i, valueIfNotSuccess);
+        return new Slots<int[]>() {
+            @Override
+            void set(int index, @Nullable Object value) {
+                array.set(index, fn.applyAsInt(value));
+            }
+
+            @Override
+            int[] toArray() {
+                final int[] ret = new int[array.length()];
+                for (int i = 0; i < ret.length; i++) ret[i] = array.get(i);
+                return ret;
+            }
+        };
+    }
+
+    @SuppressWarnings("unchecked")
+    static Slots<long[]> longSlots(ToLongFunction<?> extractor, int count) {
+        final ToLongFunction<Object> fn = (ToLongFunction<Object>) extractor;
+        final long[] array = new long[count];
+        return new Slots<long[]>() {
+            @Override
+            void set(int index, @Nullable Object value) {
+                array[index] = fn.applyAsLong(value);
+            }
+
+            @Override
+            long[] toArray() {
+                return array;
+            }
+        };
+    }
+
+    @SuppressWarnings("unchecked")
+    static Slots<long[]> atomicLongSlots(ToLongFunction<?> extractor, long valueIfNotSuccess, int count) {
+        final ToLongFunction<Object> fn = (ToLongFunction<Object>) extractor;
+        final AtomicLongArray array = new AtomicLongArray(count);
+        if (valueIfNotSuccess != 0) for (int i = 0; i < count; i++) array.lazySet(i, valueIfNotSuccess);
+        return new Slots<long[]>() {
+            @Override
+            void set(int index, @Nullable Object value) {
+                array.set(index, fn.applyAsLong(value));
+            }
+
+            @Override
+            long[] toArray() {
+                final long[] ret = new long[array.length()];
+                for (int i = 0; i < ret.length; i++) ret[i] = array.get(i);
+                return ret;
+            }
+        };
+    }
+
+    @SuppressWarnings("unchecked")
+    static Slots<double[]> doubleSlots(ToDoubleFunction<?> extractor, int count) {
+        final ToDoubleFunction<Object> fn = (ToDoubleFunction<Object>) extractor;
+        final double[] array = new double[count];
+        return new Slots<double[]>() {
+            @Override
+            void set(int index, @Nullable Object value) {
+                array[index] = fn.applyAsDouble(value);
+            }
+
+            @Override
+            double[] toArray() {
+                return array;
+            }
+        };
+    }
+
+    /**
+     * The double results are stored as the raw long bits in {@link AtomicLongArray}.
+     */
+    @SuppressWarnings("unchecked")
+    static Slots<double[]> atomicDoubleSlots(ToDoubleFunction<?> extractor, double valueIfNotSuccess, int count) {
+        final ToDoubleFunction<Object> fn = (ToDoubleFunction<Object>) extractor;
+        final AtomicLongArray array = new AtomicLongArray(count);
+        final long bitsIfNotSuccess = Double.doubleToRawLongBits(valueIfNotSuccess);
+        if (bitsIfNotSuccess != 0) for (int i = 0; i < count; i++) array.lazySet(i, bitsIfNotSuccess);
+        return new Slots<double[]>() {
+            @Override
+            void set(int index, @Nullable Object value) {
+                array.set(index, Double.doubleToRawLongBits(fn.applyAsDouble(value)));
+            }
+
+            @Override
+            double[] toArray() {
+                final double[] ret = new double[array.length()];
+                for (int i = 0; i < ret.length; i++) ret[i] = Double.longBitsToDouble(array.get(i));
+                return ret;
+            }
+        };
+    }
+}
+
+/**
+ * Reduce aggregator for the {@code allReduceFailFastOf} / {@code allSuccessReduceOf} / {@code mostSuccessReduceOf}
+ * methods: folds each successful result into a partial accumulation as soon as it arrives, so the results
+ * are not retained, and the memory is proportional to the accumulation instead of the count of inputs.
+ * <p>
+ * The partial accumulations are striped by the input index to reduce the contention of concurrent completions;
+ * each stripe has its own accumulation container created by the supplier at its first result, and is folded
+ * under the lock of the stripe, same as the mutable reduction of {@link java.util.stream.Collector}; so each result
+ * is accumulated exactly once, and a mutable container(e.g. a {@code HashMap}) is written by one thread at a time.
+ * The stripes are sealed under their locks when the output is assembled, then combined by the combiner;
+ * so the callbacks of the inputs completed later(after timeout) never write the assembled accumulation.
+ *
+ * @param <T> the result type of the inputs
+ * @param <U> the type of the accumulation
+ */
+final class ReduceAggregator<T, U> {
+    private static final int MODE_FAIL_FAST = 0;
+    private static final int MODE_ALL_SUCCESS = 1;
+    private static final int MODE_MOST_SUCCESS = 2;
+
+    private static final int MAX_STRIPES = Integer.highestOneBit(Runtime.getRuntime().availableProcessors() * 2 - 1) * 2;
+
+    private final CompletableFuture<U> output = new CompletableFuture<>();
+    private final int mode;
+    private final Supplier<? extends U> supplier;
+    private final BiFunction<U, ? super T, U> accumulator;
+    private final BinaryOperator<U> combiner;
+    private final int stripeMask;
+    /**
+     * The count of the incomplete inputs; in most-success mode, set to a negative value at timeout,
+     * so exactly one of the last callback and the timer assembles the output.
+     */
+    private final AtomicInteger remaining;
+    /**
+     * The striped partial accumulations; set to {@code null} when the output is completed.
+     */
+    @Nullable
+    private volatile Stripe<U>[] stripes;
+    private final TimeoutTimer timer = new TimeoutTimer();
+
+    /**
+     * A partial accumulation, guarded by the lock of itself.
+     */
+    private static final class Stripe<U> {
+        @Nullable
+        U accumulation;
+        boolean started;
+        boolean sealed;
+    }
+
+    static <T, U> CompletableFuture<U> allReduceOf(
+            boolean failFast, Supplier<? extends U> supplier, BiFunction<U, ? super T, U> accumulator,
+            BinaryOperator<U> combiner, CompletionStage<? extends T>[] stages) {
+        final int mode = failFast ? MODE_FAIL_FAST : MODE_ALL_SUCCESS;
+        return new ReduceAggregator<>(mode, supplier, accumulator, combiner, stages.length).subscribe(stages);
+    }
+
+    static <T, U> CompletableFuture<U> mostSuccessReduceOf(
+            Executor executorWhenTimeout, long timeout, TimeUnit unit,
+            Supplier<? extends U> supplier, BiFunction<U, ? super T, U> accumulator, BinaryOperator<U> combiner,
+            CompletionStage<? extends T>[] stages) {
+        final ReduceAggregator<T, U> aggregator =
+                new ReduceAggregator<>(MODE_MOST_SUCCESS, supplier, accumulator, combiner, stages.length);
+        aggregator.subscribe(stages);
+        aggregator.timer.schedule(executorWhenTimeout, timeout, unit, aggregator::onTimeout, aggregator.output);
+        return aggregator.output;
+    }
+
+    @SuppressWarnings("unchecked")
+    private ReduceAggregator(int mode, Supplier<? extends U> supplier, BiFunction<U, ? super T, U> accumulator,
+                             BinaryOperator<U> combiner, int count) {
+        this.mode = mode;
+        this.supplier = supplier;
+        this.accumulator = accumulator;
+        this.combiner = combiner;
+        this.remaining = new AtomicInteger(count);
+
+        // the power of 2 not less than min(count, MAX_STRIPES)
+        final int len = Integer.highestOneBit(Math.max(Math.min(count, MAX_STRIPES), 1) * 2 - 1);
+        this.stripeMask = len - 1;
+        final Stripe<U>[] s = new Stripe[len];
+        for (int i = 0; i < len; i++) s[i] = new Stripe<>();
+        this.stripes = s;
+    }
+
+    @SuppressWarnings("unchecked")
+    private CompletableFuture<U> subscribe(CompletionStage<? extends T>[] stages) {
+        final DetachableRelay<ReduceAggregator<T, U>> relay = DetachableRelay.of(output, this);
+        for (int i = 0; i < stages.length; i++) {
+            // the output is already decided in fail-fast mode, no need to register callbacks to remaining inputs
+            if (stripes == null) break;
+            final int index = i;
+            relay.subscribe(stages[i], (a, v, ex) -> a.onComplete(index, (T) v, ex));
+        }
+        return output;
+    }
+
+    private void onComplete(int index, @Nullable T value, @Nullable Throwable ex) {
+        final Stripe<U>[] s = stripes;
+        if (s == null) return;
+
+        if (ex == null) {
+            final Stripe<U> stripe = s[index & stripeMask];
+            try {
+                synchronized (stripe) {
+                    // sealed at timeout, the late result is skipped
+                    if (stripe.sealed) return;
+                    final U acc = stripe.started ? stripe.accumulation : supplier.get();
+                    stripe.started = true;
+                    stripe.accumulation = accumulator.apply(acc, value);
+                }
+            } catch (Throwable e) {
+                fail(e);
+                return;
+            }
+        } else if (mode == MODE_FAIL_FAST) {
+            fail(ex);
+            return;
+        }
+
+        if (remaining.decrementAndGet() == 0) {
+            timer.cancel();
+            assemble(s);
+        }
+    }
+
+    private void onTimeout() {
+        final Stripe<U>[] s = stripes;
+        if (s == null || remaining.getAndSet(-1) <= 0) return;
+        assemble(s);
+    }
+
+    private void assemble(Stripe<U>[] s) {
+        stripes = null;
+        try {
+            boolean started = false;
+            U ret = null;
+            for (Stripe<U> stripe : s) {
+                final U partial;
+                synchronized (stripe) {
+                    stripe.sealed = true;
+                    // skip the untouched stripes
+                    if (!stripe.started) continue;
+                    partial = stripe.accumulation;
+                }
+                ret = started ? combiner.apply(ret, partial) : partial;
+                started = true;
+            }
+            output.complete(started ? ret : supplier.get());
+        } catch (Throwable e) {
+            output.completeExceptionally(wrapCfException(e));
+        }
+    }
+
+    private void fail(Throwable ex) {
+        stripes = null;
+        timer.cancel();
+        output.completeExceptionally(wrapCfException(ex));
+    }
+}
+
+/**
+ * Spilling collector for the {@code all*ResultsSpilledOf} methods: records each successful result into
+ * a {@link SpilledResultList} as the input completes, which serializes the results and spills them to file beyond
+ * the heap budget; so the results are not retained as objects until the last input completes.
+ * <p>
+ * The completion semantics are the same as the in-heap counterparts: the all-complete mode of
+ * {@link AllResultsAggregator} (the exception of the leftmost failed input), the all-success mode and
+ * the most-success mode of {@link MostSuccessCollector}. The result list is sealed when the output is assembled,
+ * so the callbacks of the inputs completed later never write it; and is closed(the spill file deleted) if
+ * the output is not completed with it(failed, or completed by the caller, e.g. {@code cancel} or {@code orTimeout}),
+ * since it is never handed to the caller.
+ *
+ * @param <T> the result type of the inputs
+ */
+final class SpillingCollector<T> {
+    private static final int MODE_ALL_COMPLETE = 0;
+    private static final int MODE_ALL_SUCCESS = 1;
+    private static final int MODE_MOST_SUCCESS = 2;
+
+    private final CompletableFuture<SpilledResultList<T>> output = new CompletableFuture<>();
+    private final int mode;
+    private final SpilledResultList<T> results;
+    /**
+     * The count of the incomplete inputs; in most-success mode, set to a negative value at timeout,
+     * so exactly one of the last callback and the timer assembles the output.
+     */
+    private final AtomicInteger remaining;
+    /**
+     * The exception of the leftmost failed input in all-complete mode.
+     */
+    private final AtomicReference<IndexedEx> leftmostEx = new AtomicReference<>();
+    private final TimeoutTimer timer = new TimeoutTimer();
+
+    static <T> CompletableFuture<SpilledResultList<T>> allResultsOf(
+            SpillOptions<T> options, Collection<? extends CompletionStage<? extends T>> stages) {
+        return new SpillingCollector<>(MODE_ALL_COMPLETE, options, null, stages.size()).subscribe(stages);
+    }
+
+    static <T> CompletableFuture<SpilledResultList<T>> allSuccessResultsOf(
+            SpillOptions<T> options, @Nullable T valueIfFailed, Collection<? extends CompletionStage<? extends T>> stages) {
+        return new SpillingCollector<>(MODE_ALL_SUCCESS, options, valueIfFailed, stages.size()).subscribe(stages);
+    }
+
+    static <T> CompletableFuture<SpilledResultList<T>> mostSuccessResultsOf(
+            Executor executorWhenTimeout, SpillOptions<T> options, @Nullable T valueIfNotSuccess,
+            long timeout, TimeUnit unit, Collection<? extends CompletionStage<? extends T>> stages) {
+        final SpillingCollector<T> collector =
+                new SpillingCollector<>(MODE_MOST_SUCCESS, options, valueIfNotSuccess, stages.size());
+        collector.subscribe(stages);
+        collector.timer.schedule(executorWhenTimeout, timeout, unit, collector::onTimeout, collector.output);
+        return collector.output;
+    }
+
+    private SpillingCollector(int mode, SpillOptions<T> options, @Nullable T valueIfNotSuccess, int count) {
+        this.mode = mode;
+        this.results = new SpilledResultList<>(options, count, valueIfNotSuccess);
+        this.remaining = new AtomicInteger(count);
+        // release the heap buffer and the spill file of the list that is never handed to the caller
+        output.whenComplete((v, ex) -> {
+            if (v != results) results.discard();
+        });
+    }
+
+    @SuppressWarnings("unchecked")
+    private CompletableFuture<SpilledResultList<T>> subscribe(Collection<? extends CompletionStage<? extends T>> stages) {
+        if (stages.isEmpty()) assemble();
+
+        final DetachableRelay<SpillingCollector<T>> relay = DetachableRelay.of(output, this);
+        int i = 0;
+        for (CompletionStage<? extends T> stage : stages) {
+            // the output is already failed by the codec or the spill file, no need to register remaining inputs
+            if (output.isDone()) break;
+            final int index = i++;
+            relay.subscribe(stage, (a, v, ex) -> a.onComplete(index, (T) v, ex));
+        }
+        return output;
+    }
+
+    private void onComplete(int index, @Nullable T value, @Nullable Throwable ex) {
+        if (output.isDone()) return;
+
+        if (ex == null) {
+            // the results are useless after a failure in all-complete mode, skip serializing them
+            if (leftmostEx.get() == null) {
+                try {
+                    results.append(index, value);
+                } catch (Throwable e) {
+                    fail(e);
+                    return;
+                }
+            }
+        } else if (mode == MODE_ALL_COMPLETE) {
+            IndexedEx.recordLeftmost(leftmostEx, index, ex);
+            // release the heap buffer and the spill file early, the output will fail anyway
+            results.discard();
+        }
+
+        if (remaining.decrementAndGet() == 0) {
+            timer.cancel();
+            assemble();
+        }
+    }
+
+    private void onTimeout() {
+        if (remaining.getAndSet(-1) <= 0) return;
+        assemble();
+    }
+
+    private void assemble() {
+        final IndexedEx failed = leftmostEx.get();
+        if (failed != null) {
+            output.completeExceptionally(wrapCfException(failed.ex));
+            return;
+        }
+        results.seal();
+        output.complete(results);
+    }
+
+    private void fail(Throwable ex) {
+        timer.cancel();
+        output.completeExceptionally(wrapCfException(ex));
+    }
+}
+
+/**
+ * Keyed aggregator for the {@code *OfMap} methods: writes the result of each input straight into a pre-sized
+ * {@link HashMap} by its key as the input completes, WITHOUT the parallel key/stage arrays or the result list.
+ * <p>
+ * The writes are guarded by the lock of the aggregator, and the map is detached when the output is decided
+ * (all inputs complete, a failure in fail-fast mode, or the timeout); so the callbacks of the inputs
+ * completed later never write the map handed to the output.
+ *
+ * @param <K> the type of keys
+ * @param <V> the result type of the inputs
+ */
+final class KeyedResultsAggregator<K, V> {
+    private static final int MODE_ALL_COMPLETE = 0;
+    private static final int MODE_FAIL_FAST = 1;
+    private static final int MODE_ALL_SUCCESS = 2;
+    private static final int MODE_MOST_SUCCESS = 3;
+    private static final int MODE_SETTLED = 4;
+
+    private final CompletableFuture<Object> output = new CompletableFuture<>();
+    private final int mode;
+    /**
+     * The keys of inputs by index, snapshot when subscribing; so the map of inputs is not retained,
+     * and its later modifications by the caller do not affect the missing keys.
+     */
+    private Object[] keys;
+
+    // below fields are guarded by the lock of this aggregator
+    /**
+     * The results(or the {@link Try}s in settled mode) by key; set to {@code null} when the output is decided.
+     */
+    @Nullable
+    private HashMap<K, Object> results;
+    private int remaining;
+    /**
+     * The exception of the leftmost(in the iteration order of inputs) failed input in all-complete mode.
+     */
+    @Nullable
+    private IndexedEx leftmostEx;
+
+    private final TimeoutTimer timer = new TimeoutTimer();
+
+    /**
+     * @see AllResultsAggregator#allResultsOf
+     */
+    @SuppressWarnings("unchecked")
+    static <K, V> CompletableFuture<Map<K, V>> allResultsOf(
+            boolean failFast, Map<K, ? extends CompletionStage<? extends V>> inputs) {
+        final int mode = failFast ? MODE_FAIL_FAST : MODE_ALL_COMPLETE;
+        return (CompletableFuture<Map<K, V>>) (CompletableFuture<?>) new KeyedResultsAggregator<K, V>(mode).subscribe(inputs);
+    }
+
+    /**
+     * Collects the outcomes of the given stages as {@link Try} by key when all the given stages complete.
+     */
+    @SuppressWarnings("unchecked")
+    static <K, V> CompletableFuture<Map<K, Try<V>>> allSettledOf(Map<K, ? extends CompletionStage<? extends V>> inputs) {
+        return (CompletableFuture<Map<K, Try<V>>>) (CompletableFuture<?>)
+                new KeyedResultsAggregator<K, V>(MODE_SETTLED).subscribe(inputs);
+    }
+
+    /**
+     * Collects the successful results of the given stages when all the given stages complete,
+     * with the keys of the failed stages.
+     */
+    @SuppressWarnings("unchecked")
+    static <K, V> CompletableFuture<KeyedResults<K, V>> allSuccessResultsOf(
+            Map<K, ? extends CompletionStage<? extends V>> inputs) {
+        return (CompletableFuture<KeyedResults<K, V>>) (CompletableFuture<?>)
+                new KeyedResultsAggregator<K, V>(MODE_ALL_SUCCESS).subscribe(inputs);
+    }
+
+    /**
+     * Collects the successful results of the given stages that complete normally within the given time,
+     * with the keys of the stages that are not completed normally.
+     */
+    @SuppressWarnings("unchecked")
+    static <K, V> CompletableFuture<KeyedResults<K, V>> mostSuccessResultsOf(
+            Executor executorWhenTimeout, long timeout, TimeUnit unit,
+            Map<K, ? extends CompletionStage<? extends V>> inputs) {
+        final KeyedResultsAggregator<K, V> aggregator = new KeyedResultsAggregator<>(MODE_MOST_SUCCESS);
+        aggregator.subscribe(inputs);
+        aggregator.timer.schedule(executorWhenTimeout, timeout, unit, aggregator::onTimeout, aggregator.output);
+        return (CompletableFuture<KeyedResults<K, V>>) (CompletableFuture<?>) aggregator.output;
+    }
+
+    private KeyedResultsAggregator(int mode) {
+        this.mode = mode;
+    }
+
+    @SuppressWarnings("unchecked")
+    private CompletableFuture<Object> subscribe(Map<K, ? extends CompletionStage<? extends V>> inputs) {
+        // snapshot the inputs before registering any callback, so the callbacks see the complete snapshot
+        final int n = inputs.size();
+        final Object[] ks = new Object[n];
+        final CompletionStage<?>[] stages = new CompletionStage<?>[n];
+        int i = 0;
+        for (Map.Entry<K, ? extends CompletionStage<? extends V>> e : inputs.entrySet()) {
+            ks[i] = e.getKey();
+            stages[i++] = e.getValue();
+        }
+        keys = ks;
+        remaining = n;
+        // pre-sized to hold all results without rehashing
+        results = new HashMap<>((int) Math.min(Integer.MAX_VALUE, n / 0.75f + 1));
+
+        final DetachableRelay<KeyedResultsAggregator<K, V>> relay = DetachableRelay.of(output, this);
+        for (int j = 0; j < n; j++) {
+            // the output is already decided in fail-fast mode, no need to register callbacks to remaining inputs
+            if (output.isDone()) break;
+            final K key = (K) ks[j];
+            final int index = j;
+            relay.subscribe(stages[j], (a, v, ex) -> a.onComplete(key, index, (V) v, ex));
+        }
+        return output;
+    }
+
+    private void onComplete(K key, int index, @Nullable V value, @Nullable Throwable ex) {
+        final HashMap<K, Object> r;
+        @Nullable Throwable failure = null;
+        synchronized (this) {
+            r = results;
+            if (r == null) return;
+
+            if (mode == MODE_SETTLED) r.put(key, Try.of(value, ex));
+            else if (ex == null) r.put(key, value);
+            else if (mode == MODE_FAIL_FAST) failure = ex;
+            else if (mode == MODE_ALL_COMPLETE && (leftmostEx == null || index < leftmostEx.index))
+                leftmostEx = new IndexedEx(index, ex);
+
+            if (failure == null && --remaining != 0) return;
+            results = null;
+            if (failure == null && leftmostEx != null) failure = leftmostEx.ex;
+        }
+        // complete the output outside the lock, since the dependents of output may run synchronously
+        timer.cancel();
+        if (failure != null) output.completeExceptionally(wrapCfException(failure));
+        else assemble(r);
+    }
+
+    private void onTimeout() {
+        final HashMap<K, Object> r;
+        synchronized (this) {
+            r = results;
+            if (r == null) return;
+            results = null;
+        }
+        assemble(r);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void assemble(HashMap<K, Object> r) {
+        if (mode == MODE_ALL_SUCCESS || mode == MODE_MOST_SUCCESS)
+            output.complete(new KeyedResults<>((Map<K, V>) (Map<K, ?>) r, missingKeys(r)));
+        else output.complete(r);
+    }
+
+    @SuppressWarnings("unchecked")
+    private Set<K> missingKeys(HashMap<K, Object> r) {
+        if (r.size() == keys.length) return Collections.emptySet();
+        final Set<K> missing = new HashSet<>();
+        for (Object key : keys) if (!r.containsKey(key)) missing.add((K) key);
+        return missing;
+    }
+}
+
+/**
+ * Quorum aggregator for the {@code kSuccessOf} methods: completes with the first K successful results
+ * (in the order of success) of N inputs.
+ * <p>
+ * Without deadline, the output fails fast with the exception that makes the quorum unreachable,
+ * aka when more than N-K inputs failed. With deadline, the output never fails, and is completed with
+ * the successful results so far at the earliest of the K-th success, all inputs completed, or the timeout.
+ *
+ * @param <T> the result type of the inputs
+ */
+final class KSuccessAggregator<T> {
+    private final CompletableFuture<List<IndexedResult<T>>> output = new CompletableFuture<>();
+    private final int k;
+    private final boolean withDeadline;
+    /**
+     * The allowed count of failures before the quorum is unreachable.
+     */
+    private final int tolerance;
+    private final AtomicInteger claimed = new AtomicInteger();
+    private final AtomicInteger filled = new AtomicInteger();
+    private final AtomicInteger failures = new AtomicInteger();
+    /**
+     * The count of the incomplete inputs; set to a negative value at timeout,
+     * so exactly one of the last callback and the timer assembles the output in the deadline mode.
+     */
+    private final AtomicInteger remaining;
+    /**
+     * The winner slots, in the order of success; set to {@code null} when the output is completed.
+     */
+    @Nullable
+    private volatile AtomicReferenceArray<IndexedResult<T>> winners;
+    private final TimeoutTimer timer = new TimeoutTimer();
+
+    static <T> CompletableFuture<List<IndexedResult<T>>> kSuccessOf(int k, CompletionStage<? extends T>[] stages) {
+        return new KSuccessAggregator<T>(k, stages.length, false).subscribe(stages);
+    }
+
+    static <T> CompletableFuture<List<IndexedResult<T>>> kSuccessOf(
+            Executor executorWhenTimeout, int k, long timeout, TimeUnit unit, CompletionStage<? extends T>[] stages) {
+        final KSuccessAggregator<T> aggregator = new KSuccessAggregator<>(k, stages.length, true);
+        aggregator.subscribe(stages);
+        aggregator.timer.schedule(executorWhenTimeout, timeout, unit, aggregator::onTimeout, aggregator.output);
+        return aggregator.output;
+    }
+
+    private KSuccessAggregator(int k, int count, boolean withDeadline) {
+        this.k = k;
+        this.withDeadline = withDeadline;
+        this.tolerance = count - k;
+        this.remaining = new AtomicInteger(count);
+        this.winners = new AtomicReferenceArray<>(k);
+    }
+
+    @SuppressWarnings("unchecked")
+    private CompletableFuture<List<IndexedResult<T>>> subscribe(CompletionStage<? extends T>[] stages) {
+        if (k == 0) assemble();
+        final DetachableRelay<KSuccessAggregator<T>> relay = DetachableRelay.of(output, this);
+        for (int i = 0; i < stages.length; i++) {
+            // the output is already decided, no need to register callbacks to remaining inputs
+            if (output.isDone()) break;
+            final int index = i;
+            relay.subscribe(stages[i], (a, v, ex) -> a.onComplete(index, (T) v, ex));
+        }
+        return output;
+    }
+
+    private void onComplete(int index, @Nullable T value, @Nullable Throwable ex) {
+        final AtomicReferenceArray<IndexedResult<T>> w = winners;
+        if (w == null) return;
+
+        if (ex == null) {
+            final int pos = claimed.getAndIncrement();
+            if (pos < k) {
+                w.set(pos, new IndexedResult<>(index, value, null));
+                if (filled.incrementAndGet() == k) {
+                    timer.cancel();
+                    assemble();
+                    return;
+                }
+            }
+        } else if (!withDeadline && failures.incrementAndGet() == tolerance + 1) {
+            winners = null;
+            output.completeExceptionally(wrapCfException(ex));
+            return;
+        }
+        if (withDeadline && remaining.decrementAndGet() == 0) {
+            timer.cancel();
+            assemble();
+        }
+    }
+
+    private void onTimeout() {
+        if (remaining.getAndSet(-1) <= 0) return;
+        assemble();
+    }
+
+    private void assemble() {
+        final AtomicReferenceArray<IndexedResult<T>> w = winners;
+        if (w == null) return;
+        winners = null;
+        final Object[] results = new Object[k];
+        int count = 0;
+        for (int i = 0; i < k; i++) {
+            final IndexedResult<T> r = w.get(i);
+            // the slot claimed by a concurrent callback may be not written at timeout
+            if (r != null) results[count++] = r;
+        }
+        output.complete(ResultList.of(count == k ? results : Arrays.copyOf(results, count)));
+    }
+}
+
+/**
+ * Streaming engine for the {@code streamResults*} / {@code iterateResults*} methods and {@link ResultPublishers}:
+ * emits the {@link IndexedResult} of each input as soon as it completes (completion-order mode),
+ * or as soon as each contiguous prefix of inputs completes (input-order mode).
+ * <p>
+ * Registers one completion callback per input. The emissions to the downstream are serialized by a drain loop
+ * (at most one thread emits at a time, the others just leave their results for it), and bounded by the demand
+ * requested by the downstream.
+ *
+ * @param <T> the result type of the input stages
+ */
+final class ResultStreamer<T> {
+    /**
+     * The receiver of the emissions; the methods are never called concurrently.
+     */
+    interface Downstream<T> {
+        void onNext(IndexedResult<T> result);
+
+        void onComplete();
+
+        /**
+         * Receives the error given to {@link ResultStreamer#fail}, instead of {@link #onComplete()}.
+         */
+        default void onError(Throwable ex) {}
+    }
+
+    private final Downstream<T> downstream;
+    private final int count;
+    /**
+     * The completed results in completion order, used in the completion-order mode.
+     */
+    @Nullable
+    private final ConcurrentLinkedQueue<IndexedResult<T>> queue;
+    /**
+     * The completed results in input order, used in the input-order mode.
+     */
+    @Nullable
+    private final AtomicReferenceArray<IndexedResult<T>> slots;
+    private final AtomicInteger wip = new AtomicInteger();
+    private final AtomicLong requested = new AtomicLong();
+    private volatile boolean cancelled;
+    /**
+     * The error signaled by the drain loop, if no terminal signal is sent yet.
+     */
+    @Nullable
+    private volatile Throwable error;
+
+    // accessed only in the drain loop
+    private int emitted;
+    private long emittedOfDemand;
+    private boolean done;
+
+    /**
+     * Delivers the results of the given stages to the given sink; the returned future is completed
+     * after all results are delivered, exceptionally with the first exception thrown by the sink if any.
+     */
+    static <T> CompletableFuture<Void> streamTo(
+            boolean inputOrder, Consumer<? super IndexedResult<T>> sink, CompletionStage<? extends T>[] stages) {
+        final CompletableFuture<Void> ret = new CompletableFuture<>();
+        final ResultStreamer<T> streamer = new ResultStreamer<>(inputOrder, stages.length, new Downstream<T>() {
+            @Nullable
+            private Throwable sinkEx;
+
+            @Override
+            public void onNext(IndexedResult<T> result) {
+                try {
+                    sink.accept(result);
+                } catch (Throwable e) {
+                    if (sinkEx == null) sinkEx = e;
+                }
+            }
+
+            @Override
+            public void onComplete() {
+                if (sinkEx == null) ret.complete(null);
+                else ret.completeExceptionally(wrapCfException(sinkEx));
+            }
+        });
+        streamer.request(Long.MAX_VALUE);
+        streamer.subscribe(stages);
+        return ret;
+    }
+
+    /**
+     * Returns the blocking iterator of the results of the given stages.
+     */
+    static <T> Iterator<IndexedResult<T>> iterator(boolean inputOrder, CompletionStage<? extends T>[] stages) {
+        final BlockingResultIterator<T> iterator = new BlockingResultIterator<>(stages.length);
+        final ResultStreamer<T> streamer = new ResultStreamer<>(inputOrder, stages.length, iterator);
+        streamer.request(Long.MAX_VALUE);
+        streamer.subscribe(stages);
+        return iterator;
+    }
+
+    ResultStreamer(boolean inputOrder, int count, Downstream<T> downstream) {
+        this.downstream = downstream;
+        this.count = count;
+        this.queue = inputOrder ? null : new ConcurrentLinkedQueue<>();
+        this.slots = inputOrder ? new AtomicReferenceArray<>(count) : null;
+    }
+
+    /**
+     * Registers the completion callback to each input; the emissions start when the demand is requested.
+     */
+    @SuppressWarnings("unchecked")
+    void subscribe(CompletionStage<? extends T>[] stages) {
+        for (int i = 0; i < stages.length; i++) {
+            if (cancelled) break;
+            final int index = i;
+            f_toCf0(stages[i]).whenComplete((v, ex) -> onComplete(index, (T) v, ex));
+        }
+        drain();
+    }
+
+    /**
+     * Adds the demand of emissions; {@link Long#MAX_VALUE} means unbounded.
+     */
+    void request(long n) {
+        long r, u;
+        do {
+            r = requested.get();
+            if (r == Long.MAX_VALUE) return;
+            u = r + n;
+            if (u < 0) u = Long.MAX_VALUE;
+        } while (!requested.compareAndSet(r, u));
+        drain();
+    }
+
+    /**
+     * Stops the emissions and drops the completed results which are not emitted.
+     */
+    void cancel() {
+        cancelled = true;
+        drain();
+    }
+
+    /**
+     * Same as {@link #cancel()}, then signals the given error to the downstream if no terminal signal is sent yet;
+     * the error is signaled by the drain loop, so it never overlaps or follows the other signals.
+     */
+    void fail(Throwable ex) {
+        if (!cancelled && error == null) error = ex;
+        cancel();
+    }
+
+    private void onComplete(int index, @Nullable T value, @Nullable Throwable ex) {
+        if (cancelled) return;
+        final IndexedResult<T> result = ex == null
+                ? new IndexedResult<>(index, value, null)
+                : new IndexedResult<>(index, null, CompletableFutureUtils.unwrapCfException(ex));
+        if (queue != null) queue.offer(result);
+        else slots.set(index, result);
+        drain();
+    }
+
+    private void drain() {
+        if (wip.getAndIncrement() != 0) return;
+
+        int missed = 1;
+        do {
+            if (cancelled) {
+                final Throwable ex = error;
+                if (ex != null && !done) {
+                    done = true;
+                    downstream.onError(ex);
+                }
+                clear();
+            } else if (!done) {
+                final long r = requested.get();
+                IndexedResult<T> result;
+                while (emittedOfDemand != r && !cancelled && (result = poll()) != null) {
+                    emittedOfDemand++;
+                    emitted++;
+                    downstream.onNext(result);
+                }
+                if (emitted == count && !cancelled) {
+                    done = true;
+                    downstream.onComplete();
+                }
+            }
+            missed = wip.addAndGet(-missed);
+        } while (missed != 0);
+    }
+
+    @Nullable
+    private IndexedResult<T> poll() {
+        if (queue != null) return queue.poll();
+        if (emitted == count) return null;
+        final IndexedResult<T> result = slots.get(emitted);
+        if (result != null) slots.lazySet(emitted, null);
+        return result;
+    }
+
+    private void clear() {
+        if (queue != null) queue.clear();
+        else for (int i = emitted; i < count; i++) slots.lazySet(i, null);
+    }
+}
+
+/**
+ * The blocking iterator of {@link ResultStreamer}, like {@link CompletionService#take()};
+ * {@link #next()} waits if the next result is not emitted yet.
+ */
+final class BlockingResultIterator<T> implements Iterator<IndexedResult<T>>, ResultStreamer.Downstream<T> {
+    private final LinkedBlockingQueue<IndexedResult<T>> queue = new LinkedBlockingQueue<>();
+    private final int count;
+    private int taken;
+
+    BlockingResultIterator(int count) {
+        this.count = count;
+    }
+
+    @Override
+    public boolean hasNext() {
+        return taken < count;
+    }
+
+    /**
+     * Waits if necessary for the next result.
+     *
+     * @throws NoSuchElementException if all results are returned
+     * @throws CompletionException    if the current thread was interrupted while waiting,
+     *                                with the InterruptedException as its cause and the interrupt status restored
+     */
+    @Override
+    public IndexedResult<T> next() {
+        if (taken >= count) throw new NoSuchElementException();
+        try {
+            final IndexedResult<T> result = queue.take();
+            taken++;
+            return result;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CompletionException(e);
+        }
+    }
+
+    @Override
+    public void onNext(IndexedResult<T> result) {
+        queue.offer(result);
+    }
+
+    @Override
+    public void onComplete() {}
+}
+
+/**
+ * Sliding-window engine for the {@code pipeline*Of} methods: pulls the items from the source lazily,
+ * maps each item to a stage by the async function, keeps at most {@code window} stages in flight,
+ * and delivers the outcome of each stage to the sink in completion order or in source order.
+ * <p>
+ * A stage is in flight from its item is pulled until its outcome is delivered; so in source order mode,
+ * a slow head stage stops the pulling until it completes, and the memory stays O(window) either way.
+ * The pulling, mapping and delivering are serialized by a drain loop (at most one thread runs them at a time,
+ * the others just leave their outcomes for it), so the source iterator needs not be thread-safe.
+ *
+ * @param <T> the type of source items
+ * @param <R> the result type of the mapped stages
+ */
+final class WindowedPipeline<T, R> {
+    private final Iterator<? extends T> source;
+    private final int window;
+    private final Function<? super T, ? extends CompletionStage<? extends R>> fn;
+    private final Consumer<? super IndexedResult<R>> sink;
+    private final CompletableFuture<Void> output = new CompletableFuture<>();
+    /**
+     * The completed outcomes in completion order, used in the completion-order mode.
+     */
+    @Nullable
+    private final ConcurrentLinkedQueue<IndexedResult<R>> queue;
+    /**
+     * The ring of the in-flight outcomes in source order, slot {@code index % window}; used in the source-order mode.
+     */
+    @Nullable
+    private final AtomicReferenceArray<IndexedResult<R>> slots;
+    private final AtomicInteger wip = new AtomicInteger();
+
+    // accessed only in the drain loop
+    private int started;
+    private int delivered;
+    private boolean sourceDone;
+    @Nullable
+    private Throwable sourceEx;
+    @Nullable
+    private Throwable sinkEx;
+
+    static <T, R> CompletableFuture<Void> pipeline(
+            boolean inputOrder, Iterator<? extends T> source, int window,
+            Function<? super T, ? extends CompletionStage<? extends R>> fn, Consumer<? super IndexedResult<R>> sink) {
+        final WindowedPipeline<T, R> pipeline = new WindowedPipeline<>(inputOrder, source, window, fn, sink);
+        pipeline.drain();
+        return pipeline.output;
+    }
+
+    private WindowedPipeline(boolean inputOrder, Iterator<? extends T> source, int window,
+                             Function<? super T, ? extends CompletionStage<? extends R>> fn,
+                             Consumer<? super IndexedResult<R>> sink) {
+        this.source = source;
+        this.window = window;
+        this.fn = fn;
+        this.sink = sink;
+        this.queue = inputOrder ? null : new ConcurrentLinkedQueue<>();
+        this.slots = inputOrder ? new AtomicReferenceArray<>(window) : null;
+    }
+
+    @SuppressWarnings("unchecked")
+    private void onComplete(int index, @Nullable Object value, @Nullable Throwable ex) {
+        final IndexedResult<R> result = ex == null
+                ? new IndexedResult<>(index, (R) value, null)
+                : new IndexedResult<>(index, null, CompletableFutureUtils.unwrapCfException(ex));
+        if (queue != null) queue.offer(result);
+        else slots.set(index % window, result);
+        drain();
+    }
+
+    private void drain() {
+        if (wip.getAndIncrement() != 0) return;
+
+        int missed = 1;
+        do {
+            deliver();
+            pull();
+            if (sourceDone && delivered == started) {
+                if (sourceEx != null) output.completeExceptionally(wrapCfException(sourceEx));
+                else if (sinkEx != null) output.completeExceptionally(wrapCfException(sinkEx));
+                else output.complete(null);
+            }
+            missed = wip.addAndGet(-missed);
+        } while (missed != 0);
+    }
+
+    private void deliver() {
+        IndexedResult<R> result;
+        while ((result = poll()) != null) {
+            delivered++;
+            try {
+                sink.accept(result);
+            } catch (Throwable e) {
+                // same as the cancellation, stop pulling the remaining items;
+                // the output fails after the in-flight stages are delivered
+                if (sinkEx == null) sinkEx = e;
+                sourceDone = true;
+            }
+        }
+    }
+
+    @Nullable
+    private IndexedResult<R> poll() {
+        if (queue != null) return queue.poll();
+        if (delivered == started) return null;
+        final int pos = delivered % window;
+        final IndexedResult<R> result = slots.get(pos);
+        if (result != null) slots.lazySet(pos, null);
+        return result;
+    }
+
+    /**
+     * Pulls the items and starts their stages until the window is full; the stages completed immediately
+     * leave their outcomes for the next round of the drain loop instead of recursing.
+     */
+    private void pull() {
+        while (!sourceDone && started - delivered < window) {
+            // the output is completed by the caller(e.g. cancelled), stop pulling the remaining items
+            if (output.isDone()) {
+                sourceDone = true;
+                return;
+            }
+            final T item;
+            try {
+                if (!source.hasNext()) {
+                    sourceDone = true;
+                    return;
+                }
+                // the index of IndexedResult is an int; checked after hasNext, so exactly MAX_VALUE items are fine
+                if (started == Integer.MAX_VALUE)
+                    throw new IllegalStateException("source has more than Integer.MAX_VALUE items");
+                item = source.next();
+            } catch (Throwable e) {
+                sourceEx = e;
+                sourceDone = true;
+                return;
+            }
+
+            final int index = started++;
+            CompletionStage<? extends R> stage;
+            try {
+                stage = requireNonNull(fn.apply(item), "fn returned null");
+            } catch (Throwable e) {
+                stage = CompletableFutureUtils.failedFuture(e);
+            }
+            f_toCf0(stage).whenComplete((v, ex) -> onComplete(index, v, ex));
+        }
+    }
+}
@@ -0,0 +1,139 @@
+package io.foldright.cffu;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static io.foldright.cffu.AllResultsAggregator.wrapCfException;
+import static io.foldright.cffu.LLCF.screenExecutor;
+
+
+/**
+ * Runs the suppliers of a multi-actions fan-out ({@code mSupply*}/{@code mRun*}/{@code thenMApply*} methods with
+ * the {@code maxConcurrency} param) with at most {@code maxConcurrency} suppliers in flight.
+ * <p>
+ * Instead of submitting every supplier to the executor at once, this class submits one task per lane;
+ * a lane task runs the next not-started supplier, then re-submits itself to the executor, until all
+ * the suppliers are started. So a big fan-out occupies at most {@code maxConcurrency} entries of the executor
+ * queue, and the tasks of other callers interleave with it; no thread blocks, and no permits are parked on.
+ * <p>
+ * A lane task that starts while its re-submission is still in progress (e.g. a same-thread executor)
+ * hands the lane back to the submitting frame, so the stack does not grow with the count of suppliers.
+ * <p>
+ * In the caller-participating mode ({@link CompletableFutureUtils#callerParticipating(Executor)}), the calling thread
+ * takes one of the lanes: it submits the other lanes, then keeps running the not-started suppliers inline
+ * until none are left; so a small fan-out saves the executor hop and the context switch of one supplier.
+ */
+final class BoundedFanOut<T> {
+    private static final int IDLE = 0;
+    private static final int SUBMITTING = 1;
+    private static final int HANDED_BACK = 2;
+
+    private final Executor executor;
+    private final Supplier<? extends T>[] suppliers;
+    private final CompletableFuture<T>[] outputs;
+    private final AtomicInteger next = new AtomicInteger();
+
+    /**
+     * Returns the CompletableFutures of the given suppliers, in the same order; each one is completed with
+     * the result of its supplier, same as {@link CompletableFuture#supplyAsync(Supplier, Executor)}.
+     *
+     * @param callerRuns whether the calling thread takes one of the lanes, and runs suppliers inline before returning
+     * @throws java.util.concurrent.RejectedExecutionException if the executor rejects the first tasks of lanes
+     */
+    static <T> CompletableFuture<T>[] supplyAsync(
+            Executor executor, int maxConcurrency, boolean callerRuns, Supplier<? extends T>[] suppliers) {
+        final BoundedFanOut<T> fanOut = new BoundedFanOut<>(screenExecutor(executor), suppliers);
+        final int lanes = Math.min(maxConcurrency, suppliers.length);
+        final int submitted = callerRuns ? lanes - 1 : lanes;
+        for (int i = 0; i < submitted; i++) fanOut.executor.execute(fanOut.new Lane());
+        if (callerRuns) {
+            for (int i; (i = fanOut.next.getAndIncrement()) < suppliers.length; ) fanOut.runSupplier(i);
+        }
+        return fanOut.outputs;
+    }
+
+    @SuppressWarnings("unchecked")
+    private BoundedFanOut(Executor executor, Supplier<? extends T>[] suppliers) {
+        this.executor = executor;
+        this.suppliers = suppliers;
+        this.outputs = new CompletableFuture[suppliers.length];
+        for (int i = 0; i < outputs.length; i++) outputs[i] = new CompletableFuture<>();
+    }
+
+    private void runSupplier(int index) {
+        final CompletableFuture<T> output = outputs[index];
+        // the output cancelled by the caller, no need to run its supplier
+        if (output.isDone()) return;
+        try {
+            output.complete(suppliers[index].get());
+        } catch (Throwable ex) {
+            output.completeExceptionally(wrapCfException(ex));
+        }
+    }
+
+    /**
+     * Completes the not-started outputs with the exception, when the executor rejects the re-submitted lane.
+     */
+    private void failRemaining(Throwable ex) {
+        for (int i; (i = next.getAndIncrement()) < outputs.length; ) {
+            outputs[i].completeExceptionally(wrapCfException(ex));
+        }
+    }
+
+    private final class Lane implements Runnable {
+        private final AtomicInteger state = new AtomicInteger(IDLE);
+
+        @Override
+        public void run() {
+            if (state.compareAndSet(SUBMITTING, HANDED_BACK)) return;
+            do {
+                final int index = next.getAndIncrement();
+                if (index >= outputs.length) return;
+                runSupplier(index);
+                if (next.get() >= outputs.length) return;
+
+                state.set(SUBMITTING);
+                try {
+                    executor.execute(this);
+                } catch (Throwable ex) {
+                    state.set(IDLE);
+                    failRemaining(ex);
+                    return;
+                }
+            } while (!state.compareAndSet(SUBMITTING, IDLE));
+        }
+    }
+
+    /**
+     * Returns {@code true} if the given executor is in the caller-participating mode, looking through the wrappers
+     * made by cffu; so the marker executor given to the methods or the builder of {@link CffuFactory} also works.
+     */
+    static boolean isCallerParticipating(Executor executor) {
+        return CffuFactoryBuilder.cffuOriginal(executor) instanceof CallerParticipatingExecutor;
+    }
+
+    /**
+     * The marker executor of the caller-participating mode, delegates the execution to the given executor.
+     *
+     * @see CompletableFutureUtils#callerParticipating(Executor)
+     */
+    static final class CallerParticipatingExecutor implements Executor {
+        private final Executor delegate;
+
+        CallerParticipatingExecutor(Executor delegate) {
+            this.delegate = screenExecutor(delegate);
+        }
+
+        @Override
+        public void execute(Runnable command) {
+            delegate.execute(command);
+        }
+
+        @Override
+        public String toString() {
+            return "CallerParticipatingExecutor, delegate: " + delegate;
+        }
+    }
+}
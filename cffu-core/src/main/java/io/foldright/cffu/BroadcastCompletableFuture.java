@@ -0,0 +1,276 @@
+package io.foldright.cffu;
+
+import edu.umd.cs.findbugs.annotations.Nullable;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+
+/**
+ * The CompletableFuture of the broadcast methods, for a shared stage with thousands of dependents.
+ * <p>
+ * When a plain CompletableFuture completes, {@code postComplete} runs all its synchronous dependents one after
+ * another on the completing thread. This class registers the dependents round-robin to a fixed number of
+ * internal chunk futures instead of itself; when this future completes, the completing thread only submits
+ * one task per chunk to the executor, and each task completes its chunk future, which runs the dependents
+ * of the chunk. So the completing thread returns quickly, and the dependents run on many threads.
+ * <p>
+ * The dependents of the same chunk still run sequentially in the registration order, while there is NO order
+ * between the dependents of different chunks. The dependents registered after this future completes
+ * are registered to this future itself, and run as usual(on the registering thread) without waiting
+ * the dispatch of the chunk futures. The methods added after Java 8
+ * (e.g. {@code exceptionallyAsync}) are not routed, and their dependents run on the completing thread.
+ *
+ * @param <T> the result type
+ * @see CompletableFutureUtils#broadcastOf(Executor, CompletionStage)
+ */
+final class BroadcastCompletableFuture<T> extends CompletableFuture<T> {
+    static final int DEFAULT_CHUNKS = Math.max(2, Runtime.getRuntime().availableProcessors());
+
+    private final Executor executor;
+    private final CompletableFuture<T>[] chunks;
+    private final AtomicInteger next = new AtomicInteger();
+
+    @SuppressWarnings("unchecked")
+    BroadcastCompletableFuture(Executor executor, int chunks) {
+        this.executor = executor;
+        this.chunks = new CompletableFuture[chunks];
+        for (int i = 0; i < chunks; i++) this.chunks[i] = new CompletableFuture<>();
+        // the only dependent registered to this future itself
+        super.whenComplete(this::dispatch);
+    }
+
+    private void dispatch(@Nullable T value, @Nullable Throwable ex) {
+        for (CompletableFuture<T> chunk : chunks) {
+            final Runnable task = () -> {
+                if (ex == null) chunk.complete(value);
+                else chunk.completeExceptionally(ex);
+            };
+            try {
+                executor.execute(task);
+            } catch (Throwable e) {
+                // e.g. RejectedExecutionException, run the dependents of the chunk on the completing thread
+                task.run();
+            }
+        }
+    }
+
+    private CompletableFuture<T> shard() {
+        return chunks[(next.getAndIncrement() & Integer.MAX_VALUE) % chunks.length];
+    }
+
+    /**
+     * Returns the estimated number of the dependents of this future and all its chunk futures.
+     */
+    @Override
+    public int getNumberOfDependents() {
+        int count = super.getNumberOfDependents() - (isDone() ? 0 : 1);
+        for (CompletableFuture<T> chunk : chunks) count += chunk.getNumberOfDependents();
+        return count;
+    }
+
+    @Override
+    public <U> CompletableFuture<U> thenApply(Function<? super T, ? extends U> fn) {
+        return isDone() ? super.thenApply(fn) : shard().thenApply(fn);
+    }
+
+    @Override
+    public <U> CompletableFuture<U> thenApplyAsync(Function<? super T, ? extends U> fn) {
+        return isDone() ? super.thenApplyAsync(fn) : shard().thenApplyAsync(fn);
+    }
+
+    @Override
+    public <U> CompletableFuture<U> thenApplyAsync(Function<? super T, ? extends U> fn, Executor executor) {
+        return isDone() ? super.thenApplyAsync(fn, executor) : shard().thenApplyAsync(fn, executor);
+    }
+
+    @Override
+    public CompletableFuture<Void> thenAccept(Consumer<? super T> action) {
+        return isDone() ? super.thenAccept(action) : shard().thenAccept(action);
+    }
+
+    @Override
+    public CompletableFuture<Void> thenAcceptAsync(Consumer<? super T> action) {
+        return isDone() ? super.thenAcceptAsync(action) : shard().thenAcceptAsync(action);
+    }
+
+    @Override
+    public CompletableFuture<Void> thenAcceptAsync(Consumer<? super T> action, Executor executor) {
+        return isDone() ? super.thenAcceptAsync(action, executor) : shard().thenAcceptAsync(action, executor);
+    }
+
+    @Override
+    public CompletableFuture<Void> thenRun(Runnable action) {
+        return isDone() ? super.thenRun(action) : shard().thenRun(action);
+    }
+
+    @Override
+    public CompletableFuture<Void> thenRunAsync(Runnable action) {
+        return isDone() ? super.thenRunAsync(action) : shard().thenRunAsync(action);
+    }
+
+    @Override
+    public CompletableFuture<Void> thenRunAsync(Runnable action, Executor executor) {
+        return isDone() ? super.thenRunAsync(action, executor) : shard().thenRunAsync(action, executor);
+    }
+
+    @Override
+    public <U, V> CompletableFuture<V> thenCombine(
+            CompletionStage<? extends U> other, BiFunction<? super T, ? super U, ? extends V> fn) {
+        return isDone() ? super.thenCombine(other, fn) : shard().thenCombine(other, fn);
+    }
+
+    @Override
+    public <U, V> CompletableFuture<V> thenCombineAsync(
+            CompletionStage<? extends U> other, BiFunction<? super T, ? super U, ? extends V> fn) {
+        return isDone() ? super.thenCombineAsync(other, fn) : shard().thenCombineAsync(other, fn);
+    }
+
+    @Override
+    public <U, V> CompletableFuture<V> thenCombineAsync(
+            CompletionStage<? extends U> other, BiFunction<? super T, ? super U, ? extends V> fn, Executor executor) {
+        return isDone() ? super.thenCombineAsync(other, fn, executor) : shard().thenCombineAsync(other, fn, executor);
+    }
+
+    @Override
+    public <U> CompletableFuture<Void> thenAcceptBoth(
+            CompletionStage<? extends U> other, BiConsumer<? super T, ? super U> action) {
+        return isDone() ? super.thenAcceptBoth(other, action) : shard().thenAcceptBoth(other, action);
+    }
+
+    @Override
+    public <U> CompletableFuture<Void> thenAcceptBothAsync(
+            CompletionStage<? extends U> other, BiConsumer<? super T, ? super U> action) {
+        return isDone() ? super.thenAcceptBothAsync(other, action) : shard().thenAcceptBothAsync(other, action);
+    }
+
+    @Override
+    public <U> CompletableFuture<Void> thenAcceptBothAsync(
+            CompletionStage<? extends U> other, BiConsumer<? super T, ? super U> action, Executor executor) {
+        return isDone() ? super.thenAcceptBothAsync(other, action, executor)
+                : shard().thenAcceptBothAsync(other, action, executor);
+    }
+
+    @Override
+    public CompletableFuture<Void> runAfterBoth(CompletionStage<?> other, Runnable action) {
+        return isDone() ? super.runAfterBoth(other, action) : shard().runAfterBoth(other, action);
+    }
+
+    @Override
+    public CompletableFuture<Void> runAfterBothAsync(CompletionStage<?> other, Runnable action) {
+        return isDone() ? super.runAfterBothAsync(other, action) : shard().runAfterBothAsync(other, action);
+    }
+
+    @Override
+    public CompletableFuture<Void> runAfterBothAsync(CompletionStage<?> other, Runnable action, Executor executor) {
+        return isDone() ? super.runAfterBothAsync(other, action, executor)
+                : shard().runAfterBothAsync(other, action, executor);
+    }
+
+    @Override
+    public <U> CompletableFuture<U> applyToEither(CompletionStage<? extends T> other, Function<? super T, U> fn) {
+        return isDone() ? super.applyToEither(other, fn) : shard().applyToEither(other, fn);
+    }
+
+    @Override
+    public <U> CompletableFuture<U> applyToEitherAsync(CompletionStage<? extends T> other, Function<? super T, U> fn) {
+        return isDone() ? super.applyToEitherAsync(other, fn) : shard().applyToEitherAsync(other, fn);
+    }
+
+    @Override
+    public <U> CompletableFuture<U> applyToEitherAsync(
+            CompletionStage<? extends T> other, Function<? super T, U> fn, Executor executor) {
+        return isDone() ? super.applyToEitherAsync(other, fn, executor)
+                : shard().applyToEitherAsync(other, fn, executor);
+    }
+
+    @Override
+    public CompletableFuture<Void> acceptEither(CompletionStage<? extends T> other, Consumer<? super T> action) {
+        return isDone() ? super.acceptEither(other, action) : shard().acceptEither(other, action);
+    }
+
+    @Override
+    public CompletableFuture<Void> acceptEitherAsync(CompletionStage<? extends T> other, Consumer<? super T> action) {
+        return isDone() ? super.acceptEitherAsync(other, action) : shard().acceptEitherAsync(other, action);
+    }
+
+    @Override
+    public CompletableFuture<Void> acceptEitherAsync(
+            CompletionStage<? extends T> other, Consumer<? super T> action, Executor executor) {
+        return isDone() ? super.acceptEitherAsync(other, action, executor)
+                : shard().acceptEitherAsync(other, action, executor);
+    }
+
+    @Override
+    public CompletableFuture<Void> runAfterEither(CompletionStage<?> other, Runnable action) {
+        return isDone() ? super.runAfterEither(other, action) : shard().runAfterEither(other, action);
+    }
+
+    @Override
+    public CompletableFuture<Void> runAfterEitherAsync(CompletionStage<?> other, Runnable action) {
+        return isDone() ? super.runAfterEitherAsync(other, action) : shard().runAfterEitherAsync(other, action);
+    }
+
+    @Override
+    public CompletableFuture<Void> runAfterEitherAsync(CompletionStage<?> other, Runnable action, Executor executor) {
+        return isDone() ? super.runAfterEitherAsync(other, action, executor)
+                : shard().runAfterEitherAsync(other, action, executor);
+    }
+
+    @Override
+    public <U> CompletableFuture<U> thenCompose(Function<? super T, ? extends CompletionStage<U>> fn) {
+        return isDone() ? super.thenCompose(fn) : shard().thenCompose(fn);
+    }
+
+    @Override
+    public <U> CompletableFuture<U> thenComposeAsync(Function<? super T, ? extends CompletionStage<U>> fn) {
+        return isDone() ? super.thenComposeAsync(fn) : shard().thenComposeAsync(fn);
+    }
+
+    @Override
+    public <U> CompletableFuture<U> thenComposeAsync(
+            Function<? super T, ? extends CompletionStage<U>> fn, Executor executor) {
+        return isDone() ? super.thenComposeAsync(fn, executor) : shard().thenComposeAsync(fn, executor);
+    }
+
+    @Override
+    public CompletableFuture<T> whenComplete(BiConsumer<? super T, ? super Throwable> action) {
+        return isDone() ? super.whenComplete(action) : shard().whenComplete(action);
+    }
+
+    @Override
+    public CompletableFuture<T> whenCompleteAsync(BiConsumer<? super T, ? super Throwable> action) {
+        return isDone() ? super.whenCompleteAsync(action) : shard().whenCompleteAsync(action);
+    }
+
+    @Override
+    public CompletableFuture<T> whenCompleteAsync(BiConsumer<? super T, ? super Throwable> action, Executor executor) {
+        return isDone() ? super.whenCompleteAsync(action, executor) : shard().whenCompleteAsync(action, executor);
+    }
+
+    @Override
+    public <U> CompletableFuture<U> handle(BiFunction<? super T, Throwable, ? extends U> fn) {
+        return isDone() ? super.handle(fn) : shard().handle(fn);
+    }
+
+    @Override
+    public <U> CompletableFuture<U> handleAsync(BiFunction<? super T, Throwable, ? extends U> fn) {
+        return isDone() ? super.handleAsync(fn) : shard().handleAsync(fn);
+    }
+
+    @Override
+    public <U> CompletableFuture<U> handleAsync(BiFunction<? super T, Throwable, ? extends U> fn, Executor executor) {
+        return isDone() ? super.handleAsync(fn, executor) : shard().handleAsync(fn, executor);
+    }
+
+    @Override
+    public CompletableFuture<T> exceptionally(Function<Throwable, ? extends T> fn) {
+        return isDone() ? super.exceptionally(fn) : shard().exceptionally(fn);
+    }
+}
@@ -245,7 +245,8 @@ public final class Cffu<T> implements Future<T>, CompletionStage<T> {
     @CheckReturnValue(explanation = "should use the returned Cffu; otherwise, prefer simple method `thenMAcceptAsync`")
     @SafeVarargs
     public final <U> Cffu<List<U>> thenMApplyFailFastAsync(Executor executor, Function<? super T, ? extends U>... fns) {
-        return resetCf(CompletableFutureUtils.thenMApplyFailFastAsync(cf, cffuScreened(executor), fns));
+        return resetCf(fac.toResults(CompletableFutureUtils.thenMApplyFailFastAsync(
+                cf, cffuScreened(executor), fac.maxConcurrency(), fns)));
     }
 
     /**
@@ -278,7 +279,8 @@ public final class Cffu<T> implements Future<T>, CompletionStage<T> {
     @SafeVarargs
     public final <U> Cffu<List<U>> thenMApplyAllSuccessAsync(
             Executor executor, @Nullable U valueIfFailed, Function<? super T, ? extends U>... fns) {
-        return resetCf(CompletableFutureUtils.thenMApplyAllSuccessAsync(cf, cffuScreened(executor), valueIfFailed, fns));
+        return resetCf(fac.toResults(CompletableFutureUtils.thenMApplyAllSuccessAsync(
+                cf, cffuScreened(executor), valueIfFailed, fac.maxConcurrency(), fns)));
     }
 
     /**
@@ -307,8 +309,8 @@ public final class Cffu<T> implements Future<T>, CompletionStage<T> {
     public final <U> Cffu<List<U>> thenMApplyMostSuccessAsync(
             Executor executor, @Nullable U valueIfNotSuccess, long timeout, TimeUnit unit,
             Function<? super T, ? extends U>... fns) {
-        return resetCf(CompletableFutureUtils.thenMApplyMostSuccessAsync(
-                cf, cffuScreened(executor), valueIfNotSuccess, timeout, unit, fns));
+        return resetCf(fac.toResults(CompletableFutureUtils.thenMApplyMostSuccessAsync(
+                cf, cffuScreened(executor), valueIfNotSuccess, timeout, unit, fac.maxConcurrency(), fns)));
     }
 
     /**
@@ -337,7 +339,8 @@ public final class Cffu<T> implements Future<T>, CompletionStage<T> {
     @CheckReturnValue(explanation = "should use the returned Cffu; otherwise, prefer simple method `thenMAcceptAsync`")
     @SafeVarargs
     public final <U> Cffu<List<U>> thenMApplyAsync(Executor executor, Function<? super T, ? extends U>... fns) {
-        return resetCf(CompletableFutureUtils.thenMApplyAsync(cf, cffuScreened(executor), fns));
+        return resetCf(fac.toResults(CompletableFutureUtils.thenMApplyAsync(
+                cf, cffuScreened(executor), fac.maxConcurrency(), fns)));
     }
 
     /**
@@ -366,7 +369,8 @@ public final class Cffu<T> implements Future<T>, CompletionStage<T> {
     @CheckReturnValue(explanation = "should use the returned Cffu; otherwise, prefer simple method `thenMAcceptAsync`")
     @SafeVarargs
     public final <U> Cffu<U> thenMApplyAnySuccessAsync(Executor executor, Function<? super T, ? extends U>... fns) {
-        return resetCf(CompletableFutureUtils.thenMApplyAnySuccessAsync(cf, cffuScreened(executor), fns));
+        return resetCf(CompletableFutureUtils.thenMApplyAnySuccessAsync(
+                cf, cffuScreened(executor), fac.maxConcurrency(), fns));
     }
 
     /**
@@ -395,7 +399,8 @@ public final class Cffu<T> implements Future<T>, CompletionStage<T> {
     @CheckReturnValue(explanation = "should use the returned Cffu; otherwise, prefer simple method `thenMAcceptAsync`")
     @SafeVarargs
     public final <U> Cffu<U> thenMApplyAnyAsync(Executor executor, Function<? super T, ? extends U>... fns) {
-        return resetCf(CompletableFutureUtils.thenMApplyAnyAsync(cf, cffuScreened(executor), fns));
+        return resetCf(CompletableFutureUtils.thenMApplyAnyAsync(
+                cf, cffuScreened(executor), fac.maxConcurrency(), fns));
     }
 
     /**
@@ -2343,6 +2348,9 @@ public final class Cffu<T> implements Future<T>, CompletionStage<T> {
      *     .orTimeout(timeout, unit)
      *     .join();
      * }</pre>
+     * <p>
+     * On a virtual thread, this method parks the virtual thread with the timeout directly,
+     * see {@link CompletableFutureUtils#join(CompletableFuture, long, TimeUnit)}.
      *
      * @param timeout the maximum time to wait
      * @param unit    the time unit of the timeout argument
@@ -0,0 +1,118 @@
+package io.foldright.cffu;
+
+import edu.umd.cs.findbugs.annotations.Nullable;
+import org.jetbrains.annotations.Contract;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collector;
+
+import static java.util.Objects.requireNonNull;
+
+
+/**
+ * This class contains the {@link Collector}s that aggregate a {@link java.util.stream.Stream} of stages,
+ * the stream counterparts of the {@code allOf*} methods of {@link CompletableFutureUtils}.
+ * <p>
+ * The stages are accumulated into a single list that is fed to the aggregation directly,
+ * WITHOUT being copied into an array, e.g.:
+ *
+ * <pre>{@code CompletableFuture<List<String>> cf = ids.stream()
+ *     .map(id -> CompletableFuture.supplyAsync(() -> fetch(id)))
+ *     .collect(CffuCollectors.allResultsFailFast());
+ * }</pre>
+ *
+ * @see CompletableFutureUtils#allResultsOf(java.util.Collection)
+ */
+public final class CffuCollectors {
+    /**
+     * Returns a {@link Collector} that aggregates the input stages, same as
+     * {@link CompletableFutureUtils#allResultsFailFastOf(java.util.Collection)}.
+     */
+    @Contract(pure = true)
+    public static <T> Collector<CompletionStage<? extends T>, ?, CompletableFuture<List<T>>> allResultsFailFast() {
+        return stagesCollector(CompletableFutureUtils::allResultsFailFastOf);
+    }
+
+    /**
+     * Returns a {@link Collector} that aggregates the input stages, same as
+     * {@link CompletableFutureUtils#allResultsOf(java.util.Collection)}.
+     */
+    @Contract(pure = true)
+    public static <T> Collector<CompletionStage<? extends T>, ?, CompletableFuture<List<T>>> allResults() {
+        return stagesCollector(CompletableFutureUtils::allResultsOf);
+    }
+
+    /**
+     * Returns a {@link Collector} that aggregates the input stages, same as
+     * {@link CompletableFutureUtils#allSuccessResultsOf(Object, java.util.Collection)}.
+     *
+     * @param valueIfFailed the value used as result if the input stage completed exceptionally
+     */
+    @Contract(pure = true)
+    public static <T> Collector<CompletionStage<? extends T>, ?, CompletableFuture<List<T>>> allSuccessResults(
+            @Nullable T valueIfFailed) {
+        return stagesCollector(cfs -> CompletableFutureUtils.allSuccessResultsOf(valueIfFailed, cfs));
+    }
+
+    /**
+     * Returns a {@link Collector} that aggregates the input stages, same as
+     * {@link CompletableFutureUtils#mostSuccessResultsOf(Object, long, TimeUnit, java.util.Collection)}.
+     * <p>
+     * <strong>CAUTION:</strong> the timeout starts when the stream is finished collecting, not when this method is called.
+     *
+     * @param valueIfNotSuccess the value used as result if the input stage not completed normally
+     * @param timeout           how long to wait in units of {@code unit}
+     * @param unit              a {@code TimeUnit} determining how to interpret the {@code timeout} parameter
+     */
+    @Contract(pure = true)
+    public static <T> Collector<CompletionStage<? extends T>, ?, CompletableFuture<List<T>>> mostSuccessResults(
+            @Nullable T valueIfNotSuccess, long timeout, TimeUnit unit) {
+        requireNonNull(unit, "unit is null");
+        return stagesCollector(cfs -> CompletableFutureUtils.mostSuccessResultsOf(valueIfNotSuccess, timeout, unit, cfs));
+    }
+
+    /**
+     * Returns a {@link Collector} that aggregates the input stages, same as
+     * {@link CompletableFutureUtils#mostSuccessResultsOf(Executor, Object, long, TimeUnit, java.util.Collection)}.
+     * <p>
+     * <strong>CAUTION:</strong> the timeout starts when the stream is finished collecting, not when this method is called.
+     *
+     * @param executorWhenTimeout the executor to use for asynchronous execution when timeout
+     * @param valueIfNotSuccess   the value used as result if the input stage not completed normally
+     * @param timeout             how long to wait in units of {@code unit}
+     * @param unit                a {@code TimeUnit} determining how to interpret the {@code timeout} parameter
+     */
+    @Contract(pure = true)
+    public static <T> Collector<CompletionStage<? extends T>, ?, CompletableFuture<List<T>>> mostSuccessResults(
+            Executor executorWhenTimeout, @Nullable T valueIfNotSuccess, long timeout, TimeUnit unit) {
+        requireNonNull(executorWhenTimeout, "executorWhenTimeout is null");
+        requireNonNull(unit, "unit is null");
+        return stagesCollector(cfs -> CompletableFutureUtils.mostSuccessResultsOf(
+                executorWhenTimeout, valueIfNotSuccess, timeout, unit, cfs));
+    }
+
+    /**
+     * Returns a {@link Collector} that aggregates the input stages, same as
+     * {@link CompletableFutureUtils#anySuccessOf(java.util.Collection)}.
+     */
+    @Contract(pure = true)
+    public static <T> Collector<CompletionStage<? extends T>, ?, CompletableFuture<T>> anySuccess() {
+        return stagesCollector(CompletableFutureUtils::anySuccessOf);
+    }
+
+    private static <T, R> Collector<CompletionStage<? extends T>, ?, R> stagesCollector(
+            Function<List<CompletionStage<? extends T>>, R> aggregation) {
+        return Collector.of(ArrayList::new, List::add, (left, right) -> {
+            left.addAll(right);
+            return left;
+        }, aggregation);
+    }
+
+    private CffuCollectors() {}
+}
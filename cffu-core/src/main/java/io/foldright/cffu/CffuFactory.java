@@ -4,6 +4,10 @@ import com.google.common.util.concurrent.Futures;
 import edu.umd.cs.findbugs.annotations.CheckReturnValue;
 import edu.umd.cs.findbugs.annotations.Nullable;
 import io.foldright.cffu.CffuFactoryBuilder.CffuDefaultExecutor;
+import io.foldright.cffu.function.Function2;
+import io.foldright.cffu.function.Function3;
+import io.foldright.cffu.function.Function4;
+import io.foldright.cffu.function.Function5;
 import io.foldright.cffu.tuple.Tuple2;
 import io.foldright.cffu.tuple.Tuple3;
 import io.foldright.cffu.tuple.Tuple4;
@@ -11,9 +15,22 @@ import io.foldright.cffu.tuple.Tuple5;
 import org.jetbrains.annotations.Contract;
 
 import javax.annotation.concurrent.ThreadSafe;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.*;
+import java.util.function.BiFunction;
+import java.util.function.BinaryOperator;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+import java.util.function.IntToLongFunction;
 import java.util.function.Supplier;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
 
 import static io.foldright.cffu.CffuFactoryBuilder.cffuScreened;
 import static io.foldright.cffu.CffuFactoryBuilder.cffuUnscreened;
@@ -51,9 +68,19 @@ public final class CffuFactory {
 
     private final boolean forbidObtrudeMethods;
 
-    CffuFactory(CffuDefaultExecutor defaultExecutor, boolean forbidObtrudeMethods) {
+    private final int maxConcurrency;
+
+    private final boolean callerParticipates;
+
+    private final boolean mutableResults;
+
+    CffuFactory(CffuDefaultExecutor defaultExecutor, boolean forbidObtrudeMethods,
+                int maxConcurrency, boolean callerParticipates, boolean mutableResults) {
         this.defaultExecutor = defaultExecutor;
         this.forbidObtrudeMethods = forbidObtrudeMethods;
+        this.maxConcurrency = maxConcurrency;
+        this.callerParticipates = callerParticipates;
+        this.mutableResults = mutableResults;
     }
 
     /**
@@ -67,6 +94,32 @@ public final class CffuFactory {
         return new CffuFactoryBuilder(defaultExecutor);
     }
 
+    /**
+     * Returns a {@link CffuFactoryBuilder} with the virtual-thread-per-task {@code defaultExecutor}
+     * ({@link CompletableFutureUtils#virtualThreadPerTaskExecutor()}), the preset for blocking actions
+     * (e.g. JDBC or HTTP I/O); needs Java 21+.
+     *
+     * @throws UnsupportedOperationException if virtual threads are not supported(before Java 21)
+     * @see #virtualThreadBuilder(int)
+     */
+    @Contract(pure = true)
+    public static CffuFactoryBuilder virtualThreadBuilder() {
+        return builder(CompletableFutureUtils.virtualThreadPerTaskExecutor());
+    }
+
+    /**
+     * Returns a {@link CffuFactoryBuilder} with the virtual-thread-per-task {@code defaultExecutor}
+     * running at most {@code maxConcurrentTasks} tasks concurrently
+     * ({@link CompletableFutureUtils#virtualThreadPerTaskExecutor(int)}); needs Java 21+.
+     *
+     * @throws IllegalArgumentException      if the maxConcurrentTasks is not positive
+     * @throws UnsupportedOperationException if virtual threads are not supported(before Java 21)
+     */
+    @Contract(pure = true)
+    public static CffuFactoryBuilder virtualThreadBuilder(int maxConcurrentTasks) {
+        return builder(CompletableFutureUtils.virtualThreadPerTaskExecutor(maxConcurrentTasks));
+    }
+
     /**
      * Returns a new CffuFactory from this CffuFactory with the defaultExecutor.
      */
@@ -75,11 +128,42 @@ public final class CffuFactory {
         return CffuFactoryBuilder.withDefaultExecutor(this, defaultExecutor);
     }
 
+    /**
+     * Returns a new CffuFactory from this CffuFactory with the maxConcurrency.
+     *
+     * @see CffuFactoryBuilder#maxConcurrency(int)
+     */
+    @Contract(pure = true)
+    public CffuFactory withMaxConcurrency(int maxConcurrency) {
+        return CffuFactoryBuilder.withMaxConcurrency(this, maxConcurrency);
+    }
+
+    /**
+     * Returns the executor of the multi-actions({@code mSupply*}/{@code mRun*}) methods.
+     */
+    private Executor fanOutExecutor(Executor executor) {
+        final Executor screened = cffuScreened(executor);
+        return callerParticipates ? CompletableFutureUtils.callerParticipating(screened) : screened;
+    }
+
     @Contract(pure = true)
     private <T> Cffu<T> create(CompletableFuture<T> cf) {
         return new Cffu<>(this, false, cf);
     }
 
+    @Contract(pure = true)
+    private <T> Cffu<List<T>> createResults(CompletableFuture<List<T>> cf) {
+        return create(toResults(cf));
+    }
+
+    /**
+     * Returns the cf of the results list, copied to an {@link ArrayList} if {@code mutableResults} is set.
+     */
+    @Contract(pure = true)
+    <T> CompletableFuture<List<T>> toResults(CompletableFuture<List<T>> cf) {
+        return mutableResults ? cf.thenApply(ArrayList::new) : cf;
+    }
+
     @Contract(pure = true)
     private <T> CompletionStage<T> createMin(CompletableFuture<T> cf) {
         return new Cffu<>(this, true, cf);
@@ -97,6 +181,41 @@ public final class CffuFactory {
         return create(new CompletableFuture<>());
     }
 
+    /**
+     * Returns a new incomplete broadcast Cffu, for a shared stage with thousands of dependents;
+     * when it completes, its dependents are dispatched in chunks to the default executor of this CffuFactory,
+     * instead of running one after another on the completing thread. See
+     * {@link CompletableFutureUtils#newIncompleteBroadcastFuture(Executor, int)} for the dispatching.
+     *
+     * @see #broadcastOf(CompletionStage)
+     */
+    @Contract(pure = true)
+    public <T> Cffu<T> newIncompleteBroadcastCffu() {
+        return create(CompletableFutureUtils.newIncompleteBroadcastFuture(
+                defaultExecutor, BroadcastCompletableFuture.DEFAULT_CHUNKS));
+    }
+
+    /**
+     * Returns a new broadcast Cffu that is completed with the same result or exception as the given stage;
+     * its dependents are dispatched in chunks to the default executor of this CffuFactory.
+     * See {@link CompletableFutureUtils#newIncompleteBroadcastFuture(Executor, int)} for the dispatching.
+     */
+    @Contract(pure = true)
+    public <T> Cffu<T> broadcastOf(CompletionStage<? extends T> source) {
+        return create(CompletableFutureUtils.broadcastOf(defaultExecutor, source));
+    }
+
+    /**
+     * Returns a new broadcast Cffu that is completed with the same result or exception as the given stage,
+     * with the given count of chunks; see {@link #broadcastOf(CompletionStage)}.
+     *
+     * @throws IllegalArgumentException if the chunks is not positive
+     */
+    @Contract(pure = true)
+    public <T> Cffu<T> broadcastOf(int chunks, CompletionStage<? extends T> source) {
+        return create(CompletableFutureUtils.broadcastOf(defaultExecutor, chunks, source));
+    }
+
     // endregion
     ////////////////////////////////////////////////////////////////////////////////
     // region# Factory Methods
@@ -184,7 +303,59 @@ public final class CffuFactory {
     @CheckReturnValue(explanation = "should use the returned Cffu; otherwise, prefer simple method `mRunAsync`")
     @SafeVarargs
     public final <T> Cffu<List<T>> mSupplyFailFastAsync(Executor executor, Supplier<? extends T>... suppliers) {
-        return create(CompletableFutureUtils.mSupplyFailFastAsync(cffuScreened(executor), suppliers));
+        return createResults(CompletableFutureUtils.mSupplyFailFastAsync(
+                fanOutExecutor(executor), maxConcurrency, suppliers));
+    }
+
+    /**
+     * Shortcut to method {@link #allResultsFailFastSalvageOf(CompletionStage[]) allResultsFailFastSalvageOf},
+     * wraps input suppliers to Cffu by {@link #supplyAsync(Supplier)}.
+     * <p>
+     * See the {@link CompletableFutureUtils#allResultsFailFastSalvageOf(CompletionStage[]) allResultsFailFastSalvageOf}
+     * documentation for the rules of result computation.
+     */
+    @CheckReturnValue(explanation = "should use the returned Cffu; otherwise, prefer simple method `mRunAsync`")
+    @SafeVarargs
+    public final <T> Cffu<List<T>> mSupplyFailFastSalvageAsync(Supplier<? extends T>... suppliers) {
+        return mSupplyFailFastSalvageAsync(defaultExecutor, suppliers);
+    }
+
+    /**
+     * Shortcut to method {@link #allResultsFailFastSalvageOf(CompletionStage[]) allResultsFailFastSalvageOf},
+     * wraps input suppliers to Cffu by {@link #supplyAsync(Supplier, Executor)}.
+     * <p>
+     * See the {@link CompletableFutureUtils#allResultsFailFastSalvageOf(CompletionStage[]) allResultsFailFastSalvageOf}
+     * documentation for the rules of result computation.
+     */
+    @CheckReturnValue(explanation = "should use the returned Cffu; otherwise, prefer simple method `mRunAsync`")
+    @SafeVarargs
+    public final <T> Cffu<List<T>> mSupplyFailFastSalvageAsync(Executor executor, Supplier<? extends T>... suppliers) {
+        return createResults(CompletableFutureUtils.mSupplyFailFastSalvageAsync(
+                fanOutExecutor(executor), maxConcurrency, suppliers));
+    }
+
+    /**
+     * Re-runs ONLY the failed and unfinished inputs of the given {@link PartialResultsException} by the suppliers
+     * of the same indexes, and merges their results with the salvaged results;
+     * see {@link CompletableFutureUtils#retryFailedAsync(PartialResultsException, Supplier[])}.
+     */
+    @CheckReturnValue(explanation = "should use the returned Cffu; otherwise, prefer simple method `mRunAsync`")
+    @SafeVarargs
+    public final <T> Cffu<List<T>> retryFailedAsync(PartialResultsException partial, Supplier<? extends T>... suppliers) {
+        return retryFailedAsync(defaultExecutor, partial, suppliers);
+    }
+
+    /**
+     * Re-runs ONLY the failed and unfinished inputs of the given {@link PartialResultsException} by the suppliers
+     * of the same indexes using the given executor, and merges their results with the salvaged results;
+     * see {@link CompletableFutureUtils#retryFailedAsync(Executor, PartialResultsException, Supplier[])}.
+     */
+    @CheckReturnValue(explanation = "should use the returned Cffu; otherwise, prefer simple method `mRunAsync`")
+    @SafeVarargs
+    public final <T> Cffu<List<T>> retryFailedAsync(
+            Executor executor, PartialResultsException partial, Supplier<? extends T>... suppliers) {
+        return createResults(CompletableFutureUtils.retryFailedAsync(
+                fanOutExecutor(executor), partial, maxConcurrency, suppliers));
     }
 
     /**
@@ -210,7 +381,8 @@ public final class CffuFactory {
     @SafeVarargs
     public final <T> Cffu<List<T>> mSupplyAllSuccessAsync(
             Executor executor, @Nullable T valueIfFailed, Supplier<? extends T>... suppliers) {
-        return create(CompletableFutureUtils.mSupplyAllSuccessAsync(cffuScreened(executor), valueIfFailed, suppliers));
+        return createResults(CompletableFutureUtils.mSupplyAllSuccessAsync(
+                fanOutExecutor(executor), valueIfFailed, maxConcurrency, suppliers));
     }
 
     /**
@@ -239,8 +411,68 @@ public final class CffuFactory {
     public final <T> Cffu<List<T>> mSupplyMostSuccessAsync(
             Executor executor, @Nullable T valueIfNotSuccess, long timeout, TimeUnit unit,
             Supplier<? extends T>... suppliers) {
-        return create(CompletableFutureUtils.mSupplyMostSuccessAsync(
-                cffuScreened(executor), valueIfNotSuccess, timeout, unit, suppliers));
+        return createResults(CompletableFutureUtils.mSupplyMostSuccessAsync(
+                fanOutExecutor(executor), valueIfNotSuccess, timeout, unit, maxConcurrency, suppliers));
+    }
+
+    /**
+     * Shortcut to method {@link #allSuccessResultsSpilledOf(SpillOptions, Object, CompletionStage[])
+     * allSuccessResultsSpilledOf}, wraps input suppliers to Cffu by {@link #supplyAsync(Supplier)}.
+     * <p>
+     * See the {@link CompletableFutureUtils#allSuccessResultsSpilledOf(SpillOptions, Object, CompletionStage[])
+     * allSuccessResultsSpilledOf} documentation for the rules of result computation.
+     */
+    @CheckReturnValue(explanation = "should use the returned Cffu; otherwise, prefer simple method `mRunAsync`")
+    @SafeVarargs
+    public final <T> Cffu<SpilledResultList<T>> mSupplyAllSuccessSpilledAsync(
+            SpillOptions<T> spill, @Nullable T valueIfFailed, Supplier<? extends T>... suppliers) {
+        return mSupplyAllSuccessSpilledAsync(defaultExecutor, spill, valueIfFailed, suppliers);
+    }
+
+    /**
+     * Shortcut to method {@link #allSuccessResultsSpilledOf(SpillOptions, Object, CompletionStage[])
+     * allSuccessResultsSpilledOf}, wraps input suppliers to Cffu by {@link #supplyAsync(Supplier, Executor)}.
+     * <p>
+     * See the {@link CompletableFutureUtils#allSuccessResultsSpilledOf(SpillOptions, Object, CompletionStage[])
+     * allSuccessResultsSpilledOf} documentation for the rules of result computation.
+     */
+    @CheckReturnValue(explanation = "should use the returned Cffu; otherwise, prefer simple method `mRunAsync`")
+    @SafeVarargs
+    public final <T> Cffu<SpilledResultList<T>> mSupplyAllSuccessSpilledAsync(
+            Executor executor, SpillOptions<T> spill, @Nullable T valueIfFailed, Supplier<? extends T>... suppliers) {
+        return create(CompletableFutureUtils.mSupplyAllSuccessSpilledAsync(
+                fanOutExecutor(executor), spill, valueIfFailed, maxConcurrency, suppliers));
+    }
+
+    /**
+     * Shortcut to method {@link #mostSuccessResultsSpilledOf(SpillOptions, Object, long, TimeUnit, CompletionStage[])
+     * mostSuccessResultsSpilledOf}, wraps input suppliers to Cffu by {@link #supplyAsync(Supplier)}.
+     * <p>
+     * See the {@link CompletableFutureUtils#mostSuccessResultsSpilledOf(SpillOptions, Object, long, TimeUnit,
+     * CompletionStage[]) mostSuccessResultsSpilledOf} documentation for the rules of result computation.
+     */
+    @CheckReturnValue(explanation = "should use the returned Cffu; otherwise, prefer simple method `mRunAsync`")
+    @SafeVarargs
+    public final <T> Cffu<SpilledResultList<T>> mSupplyMostSuccessSpilledAsync(
+            SpillOptions<T> spill, @Nullable T valueIfNotSuccess, long timeout, TimeUnit unit,
+            Supplier<? extends T>... suppliers) {
+        return mSupplyMostSuccessSpilledAsync(defaultExecutor, spill, valueIfNotSuccess, timeout, unit, suppliers);
+    }
+
+    /**
+     * Shortcut to method {@link #mostSuccessResultsSpilledOf(SpillOptions, Object, long, TimeUnit, CompletionStage[])
+     * mostSuccessResultsSpilledOf}, wraps input suppliers to Cffu by {@link #supplyAsync(Supplier, Executor)}.
+     * <p>
+     * See the {@link CompletableFutureUtils#mostSuccessResultsSpilledOf(SpillOptions, Object, long, TimeUnit,
+     * CompletionStage[]) mostSuccessResultsSpilledOf} documentation for the rules of result computation.
+     */
+    @CheckReturnValue(explanation = "should use the returned Cffu; otherwise, prefer simple method `mRunAsync`")
+    @SafeVarargs
+    public final <T> Cffu<SpilledResultList<T>> mSupplyMostSuccessSpilledAsync(
+            Executor executor, SpillOptions<T> spill, @Nullable T valueIfNotSuccess, long timeout, TimeUnit unit,
+            Supplier<? extends T>... suppliers) {
+        return create(CompletableFutureUtils.mSupplyMostSuccessSpilledAsync(
+                fanOutExecutor(executor), spill, valueIfNotSuccess, timeout, unit, maxConcurrency, suppliers));
     }
 
     /**
@@ -264,7 +496,34 @@ public final class CffuFactory {
     @SafeVarargs
     public final <T> Cffu<List<T>> mSupplyAsync(
             Executor executor, Supplier<? extends T>... suppliers) {
-        return create(CompletableFutureUtils.mSupplyAsync(cffuScreened(executor), suppliers));
+        return createResults(CompletableFutureUtils.mSupplyAsync(
+                fanOutExecutor(executor), maxConcurrency, suppliers));
+    }
+
+    /**
+     * Shortcut to method {@link #allSettledOf(CompletionStage[]) allSettledOf},
+     * wraps input suppliers to Cffu by {@link #supplyAsync(Supplier)}.
+     * <p>
+     * See the {@link #allSettledOf(CompletionStage[]) allSettledOf} documentation for the rules of result computation.
+     */
+    @CheckReturnValue(explanation = "should use the returned Cffu; otherwise, prefer simple method `mRunAsync`")
+    @SafeVarargs
+    public final <T> Cffu<List<Try<T>>> mSupplySettledAsync(Supplier<? extends T>... suppliers) {
+        return mSupplySettledAsync(defaultExecutor, suppliers);
+    }
+
+    /**
+     * Shortcut to method {@link #allSettledOf(CompletionStage[]) allSettledOf},
+     * wraps input suppliers to Cffu by {@link #supplyAsync(Supplier, Executor)}.
+     * <p>
+     * See the {@link #allSettledOf(CompletionStage[]) allSettledOf} documentation for the rules of result computation.
+     */
+    @CheckReturnValue(explanation = "should use the returned Cffu; otherwise, prefer simple method `mRunAsync`")
+    @SafeVarargs
+    public final <T> Cffu<List<Try<T>>> mSupplySettledAsync(
+            Executor executor, Supplier<? extends T>... suppliers) {
+        return createResults(CompletableFutureUtils.mSupplySettledAsync(
+                fanOutExecutor(executor), maxConcurrency, suppliers));
     }
 
     /**
@@ -287,7 +546,34 @@ public final class CffuFactory {
     @CheckReturnValue(explanation = "should use the returned Cffu; otherwise, prefer simple method `mRunAsync`")
     @SafeVarargs
     public final <T> Cffu<T> mSupplyAnySuccessAsync(Executor executor, Supplier<? extends T>... suppliers) {
-        return create(CompletableFutureUtils.mSupplyAnySuccessAsync(cffuScreened(executor), suppliers));
+        return create(CompletableFutureUtils.mSupplyAnySuccessAsync(
+                fanOutExecutor(executor), maxConcurrency, suppliers));
+    }
+
+    /**
+     * Shortcut to method {@link #kSuccessOf(int, CompletionStage[]) kSuccessOf},
+     * wraps input suppliers to Cffu by {@link #supplyAsync(Supplier)}.
+     * <p>
+     * See the {@link #kSuccessOf(int, CompletionStage[]) kSuccessOf} documentation for the rules of result computation.
+     */
+    @CheckReturnValue(explanation = "should use the returned Cffu; otherwise, prefer simple method `mRunAsync`")
+    @SafeVarargs
+    public final <T> Cffu<List<IndexedResult<T>>> mSupplyKSuccessAsync(int k, Supplier<? extends T>... suppliers) {
+        return mSupplyKSuccessAsync(defaultExecutor, k, suppliers);
+    }
+
+    /**
+     * Shortcut to method {@link #kSuccessOf(int, CompletionStage[]) kSuccessOf},
+     * wraps input suppliers to Cffu by {@link #supplyAsync(Supplier, Executor)}.
+     * <p>
+     * See the {@link #kSuccessOf(int, CompletionStage[]) kSuccessOf} documentation for the rules of result computation.
+     */
+    @CheckReturnValue(explanation = "should use the returned Cffu; otherwise, prefer simple method `mRunAsync`")
+    @SafeVarargs
+    public final <T> Cffu<List<IndexedResult<T>>> mSupplyKSuccessAsync(
+            Executor executor, int k, Supplier<? extends T>... suppliers) {
+        return createResults(CompletableFutureUtils.mSupplyKSuccessAsync(
+                fanOutExecutor(executor), k, maxConcurrency, suppliers));
     }
 
     /**
@@ -310,7 +596,7 @@ public final class CffuFactory {
     @CheckReturnValue(explanation = "should use the returned Cffu; otherwise, prefer simple method `mRunAsync`")
     @SafeVarargs
     public final <T> Cffu<T> mSupplyAnyAsync(Executor executor, Supplier<? extends T>... suppliers) {
-        return create(CompletableFutureUtils.mSupplyAnyAsync(cffuScreened(executor), suppliers));
+        return create(CompletableFutureUtils.mSupplyAnyAsync(fanOutExecutor(executor), maxConcurrency, suppliers));
     }
 
     /**
@@ -331,7 +617,7 @@ public final class CffuFactory {
      */
     @CheckReturnValue(explanation = "should use the returned Cffu; otherwise, prefer simple method `mRunAsync`")
     public Cffu<Void> mRunFailFastAsync(Executor executor, Runnable... actions) {
-        return create(CompletableFutureUtils.mRunFailFastAsync(cffuScreened(executor), actions));
+        return create(CompletableFutureUtils.mRunFailFastAsync(fanOutExecutor(executor), maxConcurrency, actions));
     }
 
     /**
@@ -349,7 +635,7 @@ public final class CffuFactory {
      * See the {@link #allOf allOf} documentation for the rules of result computation.
      */
     public Cffu<Void> mRunAsync(Executor executor, Runnable... actions) {
-        return create(CompletableFutureUtils.mRunAsync(cffuScreened(executor), actions));
+        return create(CompletableFutureUtils.mRunAsync(fanOutExecutor(executor), maxConcurrency, actions));
     }
 
     /**
@@ -370,7 +656,7 @@ public final class CffuFactory {
      */
     @CheckReturnValue(explanation = "should use the returned Cffu; otherwise, prefer simple method `mRunAsync`")
     public Cffu<Void> mRunAnySuccessAsync(Executor executor, Runnable... actions) {
-        return create(CompletableFutureUtils.mRunAnySuccessAsync(cffuScreened(executor), actions));
+        return create(CompletableFutureUtils.mRunAnySuccessAsync(fanOutExecutor(executor), maxConcurrency, actions));
     }
 
     /**
@@ -390,7 +676,7 @@ public final class CffuFactory {
      */
     @CheckReturnValue(explanation = "should use the returned Cffu; otherwise, prefer simple method `mRunAsync`")
     public Cffu<Void> mRunAnyAsync(Executor executor, Runnable... actions) {
-        return create(CompletableFutureUtils.mRunAnyAsync(cffuScreened(executor), actions));
+        return create(CompletableFutureUtils.mRunAnyAsync(fanOutExecutor(executor), maxConcurrency, actions));
     }
 
     // endregion
@@ -413,7 +699,7 @@ public final class CffuFactory {
     @CheckReturnValue(explanation = "should use the returned Cffu; otherwise, prefer simple method `mRunAsync`")
     public <T1, T2> Cffu<Tuple2<T1, T2>> mSupplyTupleFailFastAsync(
             Executor executor, Supplier<? extends T1> supplier1, Supplier<? extends T2> supplier2) {
-        return create(CompletableFutureUtils.mSupplyTupleFailFastAsync(cffuScreened(executor), supplier1, supplier2));
+        return create(CompletableFutureUtils.mSupplyTupleFailFastAsync(fanOutExecutor(executor), supplier1, supplier2));
     }
 
     /**
@@ -432,7 +718,8 @@ public final class CffuFactory {
     public <T1, T2, T3> Cffu<Tuple3<T1, T2, T3>> mSupplyTupleFailFastAsync(
             Executor executor, Supplier<? extends T1> supplier1,
             Supplier<? extends T2> supplier2, Supplier<? extends T3> supplier3) {
-        return create(CompletableFutureUtils.mSupplyTupleFailFastAsync(cffuScreened(executor), supplier1, supplier2, supplier3));
+        return create(CompletableFutureUtils.mSupplyTupleFailFastAsync(
+                fanOutExecutor(executor), supplier1, supplier2, supplier3));
     }
 
     /**
@@ -453,7 +740,7 @@ public final class CffuFactory {
             Executor executor, Supplier<? extends T1> supplier1, Supplier<? extends T2> supplier2,
             Supplier<? extends T3> supplier3, Supplier<? extends T4> supplier4) {
         return create(CompletableFutureUtils.mSupplyTupleFailFastAsync(
-                cffuScreened(executor), supplier1, supplier2, supplier3, supplier4));
+                fanOutExecutor(executor), supplier1, supplier2, supplier3, supplier4));
     }
 
     /**
@@ -474,7 +761,7 @@ public final class CffuFactory {
             Executor executor, Supplier<? extends T1> supplier1, Supplier<? extends T2> supplier2,
             Supplier<? extends T3> supplier3, Supplier<? extends T4> supplier4, Supplier<? extends T5> supplier5) {
         return create(CompletableFutureUtils.mSupplyTupleFailFastAsync(
-                cffuScreened(executor), supplier1, supplier2, supplier3, supplier4, supplier5));
+                fanOutExecutor(executor), supplier1, supplier2, supplier3, supplier4, supplier5));
     }
 
     /**
@@ -498,7 +785,8 @@ public final class CffuFactory {
     @CheckReturnValue(explanation = "should use the returned Cffu; otherwise, prefer simple method `mRunAsync`")
     public <T1, T2> Cffu<Tuple2<T1, T2>> mSupplyAllSuccessTupleAsync(
             Executor executor, Supplier<? extends T1> supplier1, Supplier<? extends T2> supplier2) {
-        return create(CompletableFutureUtils.mSupplyAllSuccessTupleAsync(cffuScreened(executor), supplier1, supplier2));
+        return create(CompletableFutureUtils.mSupplyAllSuccessTupleAsync(
+                fanOutExecutor(executor), supplier1, supplier2));
     }
 
     /**
@@ -523,7 +811,8 @@ public final class CffuFactory {
     public <T1, T2, T3> Cffu<Tuple3<T1, T2, T3>> mSupplyAllSuccessTupleAsync(
             Executor executor, Supplier<? extends T1> supplier1,
             Supplier<? extends T2> supplier2, Supplier<? extends T3> supplier3) {
-        return create(CompletableFutureUtils.mSupplyAllSuccessTupleAsync(cffuScreened(executor), supplier1, supplier2, supplier3));
+        return create(CompletableFutureUtils.mSupplyAllSuccessTupleAsync(
+                fanOutExecutor(executor), supplier1, supplier2, supplier3));
     }
 
     /**
@@ -550,7 +839,7 @@ public final class CffuFactory {
             Executor executor, Supplier<? extends T1> supplier1, Supplier<? extends T2> supplier2,
             Supplier<? extends T3> supplier3, Supplier<? extends T4> supplier4) {
         return create(CompletableFutureUtils.mSupplyAllSuccessTupleAsync(
-                cffuScreened(executor), supplier1, supplier2, supplier3, supplier4));
+                fanOutExecutor(executor), supplier1, supplier2, supplier3, supplier4));
     }
 
     /**
@@ -577,7 +866,7 @@ public final class CffuFactory {
             Executor executor, Supplier<? extends T1> supplier1, Supplier<? extends T2> supplier2,
             Supplier<? extends T3> supplier3, Supplier<? extends T4> supplier4, Supplier<? extends T5> supplier5) {
         return create(CompletableFutureUtils.mSupplyAllSuccessTupleAsync(
-                cffuScreened(executor), supplier1, supplier2, supplier3, supplier4, supplier5));
+                fanOutExecutor(executor), supplier1, supplier2, supplier3, supplier4, supplier5));
     }
 
     /**
@@ -604,7 +893,7 @@ public final class CffuFactory {
             Executor executor, long timeout, TimeUnit unit,
             Supplier<? extends T1> supplier1, Supplier<? extends T2> supplier2) {
         return create(CompletableFutureUtils.mSupplyMostSuccessTupleAsync(
-                cffuScreened(executor), timeout, unit, supplier1, supplier2));
+                fanOutExecutor(executor), timeout, unit, supplier1, supplier2));
     }
 
     /**
@@ -632,7 +921,7 @@ public final class CffuFactory {
             Executor executor, long timeout, TimeUnit unit,
             Supplier<? extends T1> supplier1, Supplier<? extends T2> supplier2, Supplier<? extends T3> supplier3) {
         return create(CompletableFutureUtils.mSupplyMostSuccessTupleAsync(
-                cffuScreened(executor), timeout, unit, supplier1, supplier2, supplier3));
+                fanOutExecutor(executor), timeout, unit, supplier1, supplier2, supplier3));
     }
 
     /**
@@ -660,7 +949,7 @@ public final class CffuFactory {
             Executor executor, long timeout, TimeUnit unit, Supplier<? extends T1> supplier1,
             Supplier<? extends T2> supplier2, Supplier<? extends T3> supplier3, Supplier<? extends T4> supplier4) {
         return create(CompletableFutureUtils.mSupplyMostSuccessTupleAsync(
-                cffuScreened(executor), timeout, unit, supplier1, supplier2, supplier3, supplier4));
+                fanOutExecutor(executor), timeout, unit, supplier1, supplier2, supplier3, supplier4));
     }
 
     /**
@@ -690,7 +979,7 @@ public final class CffuFactory {
             Supplier<? extends T2> supplier2, Supplier<? extends T3> supplier3,
             Supplier<? extends T4> supplier4, Supplier<? extends T5> supplier5) {
         return create(CompletableFutureUtils.mSupplyMostSuccessTupleAsync(
-                cffuScreened(executor), timeout, unit, supplier1, supplier2, supplier3, supplier4, supplier5));
+                fanOutExecutor(executor), timeout, unit, supplier1, supplier2, supplier3, supplier4, supplier5));
     }
 
     /**
@@ -708,7 +997,7 @@ public final class CffuFactory {
     @CheckReturnValue(explanation = "should use the returned Cffu; otherwise, prefer simple method `mRunAsync`")
     public <T1, T2> Cffu<Tuple2<T1, T2>> mSupplyTupleAsync(
             Executor executor, Supplier<? extends T1> supplier1, Supplier<? extends T2> supplier2) {
-        return create(CompletableFutureUtils.mSupplyTupleAsync(cffuScreened(executor), supplier1, supplier2));
+        return create(CompletableFutureUtils.mSupplyTupleAsync(fanOutExecutor(executor), supplier1, supplier2));
     }
 
     /**
@@ -727,7 +1016,8 @@ public final class CffuFactory {
     public <T1, T2, T3> Cffu<Tuple3<T1, T2, T3>> mSupplyTupleAsync(
             Executor executor, Supplier<? extends T1> supplier1,
             Supplier<? extends T2> supplier2, Supplier<? extends T3> supplier3) {
-        return create(CompletableFutureUtils.mSupplyTupleAsync(cffuScreened(executor), supplier1, supplier2, supplier3));
+        return create(CompletableFutureUtils.mSupplyTupleAsync(
+                fanOutExecutor(executor), supplier1, supplier2, supplier3));
     }
 
     /**
@@ -748,7 +1038,7 @@ public final class CffuFactory {
             Executor executor, Supplier<? extends T1> supplier1, Supplier<? extends T2> supplier2,
             Supplier<? extends T3> supplier3, Supplier<? extends T4> supplier4) {
         return create(CompletableFutureUtils.mSupplyTupleAsync(
-                cffuScreened(executor), supplier1, supplier2, supplier3, supplier4));
+                fanOutExecutor(executor), supplier1, supplier2, supplier3, supplier4));
     }
 
     /**
@@ -769,7 +1059,87 @@ public final class CffuFactory {
             Executor executor, Supplier<? extends T1> supplier1, Supplier<? extends T2> supplier2,
             Supplier<? extends T3> supplier3, Supplier<? extends T4> supplier4, Supplier<? extends T5> supplier5) {
         return create(CompletableFutureUtils.mSupplyTupleAsync(
-                cffuScreened(executor), supplier1, supplier2, supplier3, supplier4, supplier5));
+                fanOutExecutor(executor), supplier1, supplier2, supplier3, supplier4, supplier5));
+    }
+
+    /**
+     * Tuple variant of {@link #mSupplySettledAsync(Supplier[])}.
+     */
+    @CheckReturnValue(explanation = "should use the returned Cffu; otherwise, prefer simple method `mRunAsync`")
+    public <T1, T2> Cffu<Tuple2<Try<T1>, Try<T2>>> mSupplySettledTupleAsync(
+            Supplier<? extends T1> supplier1, Supplier<? extends T2> supplier2) {
+        return mSupplySettledTupleAsync(defaultExecutor, supplier1, supplier2);
+    }
+
+    /**
+     * Tuple variant of {@link #mSupplySettledAsync(Executor, Supplier[])}.
+     */
+    @CheckReturnValue(explanation = "should use the returned Cffu; otherwise, prefer simple method `mRunAsync`")
+    public <T1, T2> Cffu<Tuple2<Try<T1>, Try<T2>>> mSupplySettledTupleAsync(
+            Executor executor, Supplier<? extends T1> supplier1, Supplier<? extends T2> supplier2) {
+        return create(CompletableFutureUtils.mSupplySettledTupleAsync(fanOutExecutor(executor), supplier1, supplier2));
+    }
+
+    /**
+     * Tuple variant of {@link #mSupplySettledAsync(Supplier[])}.
+     */
+    @CheckReturnValue(explanation = "should use the returned Cffu; otherwise, prefer simple method `mRunAsync`")
+    public <T1, T2, T3> Cffu<Tuple3<Try<T1>, Try<T2>, Try<T3>>> mSupplySettledTupleAsync(
+            Supplier<? extends T1> supplier1, Supplier<? extends T2> supplier2, Supplier<? extends T3> supplier3) {
+        return mSupplySettledTupleAsync(defaultExecutor, supplier1, supplier2, supplier3);
+    }
+
+    /**
+     * Tuple variant of {@link #mSupplySettledAsync(Executor, Supplier[])}.
+     */
+    @CheckReturnValue(explanation = "should use the returned Cffu; otherwise, prefer simple method `mRunAsync`")
+    public <T1, T2, T3> Cffu<Tuple3<Try<T1>, Try<T2>, Try<T3>>> mSupplySettledTupleAsync(
+            Executor executor, Supplier<? extends T1> supplier1,
+            Supplier<? extends T2> supplier2, Supplier<? extends T3> supplier3) {
+        return create(CompletableFutureUtils.mSupplySettledTupleAsync(
+                fanOutExecutor(executor), supplier1, supplier2, supplier3));
+    }
+
+    /**
+     * Tuple variant of {@link #mSupplySettledAsync(Supplier[])}.
+     */
+    @CheckReturnValue(explanation = "should use the returned Cffu; otherwise, prefer simple method `mRunAsync`")
+    public <T1, T2, T3, T4> Cffu<Tuple4<Try<T1>, Try<T2>, Try<T3>, Try<T4>>> mSupplySettledTupleAsync(
+            Supplier<? extends T1> supplier1, Supplier<? extends T2> supplier2,
+            Supplier<? extends T3> supplier3, Supplier<? extends T4> supplier4) {
+        return mSupplySettledTupleAsync(defaultExecutor, supplier1, supplier2, supplier3, supplier4);
+    }
+
+    /**
+     * Tuple variant of {@link #mSupplySettledAsync(Executor, Supplier[])}.
+     */
+    @CheckReturnValue(explanation = "should use the returned Cffu; otherwise, prefer simple method `mRunAsync`")
+    public <T1, T2, T3, T4> Cffu<Tuple4<Try<T1>, Try<T2>, Try<T3>, Try<T4>>> mSupplySettledTupleAsync(
+            Executor executor, Supplier<? extends T1> supplier1, Supplier<? extends T2> supplier2,
+            Supplier<? extends T3> supplier3, Supplier<? extends T4> supplier4) {
+        return create(CompletableFutureUtils.mSupplySettledTupleAsync(
+                fanOutExecutor(executor), supplier1, supplier2, supplier3, supplier4));
+    }
+
+    /**
+     * Tuple variant of {@link #mSupplySettledAsync(Supplier[])}.
+     */
+    @CheckReturnValue(explanation = "should use the returned Cffu; otherwise, prefer simple method `mRunAsync`")
+    public <T1, T2, T3, T4, T5> Cffu<Tuple5<Try<T1>, Try<T2>, Try<T3>, Try<T4>, Try<T5>>> mSupplySettledTupleAsync(
+            Supplier<? extends T1> supplier1, Supplier<? extends T2> supplier2, Supplier<? extends T3> supplier3,
+            Supplier<? extends T4> supplier4, Supplier<? extends T5> supplier5) {
+        return mSupplySettledTupleAsync(defaultExecutor, supplier1, supplier2, supplier3, supplier4, supplier5);
+    }
+
+    /**
+     * Tuple variant of {@link #mSupplySettledAsync(Executor, Supplier[])}.
+     */
+    @CheckReturnValue(explanation = "should use the returned Cffu; otherwise, prefer simple method `mRunAsync`")
+    public <T1, T2, T3, T4, T5> Cffu<Tuple5<Try<T1>, Try<T2>, Try<T3>, Try<T4>, Try<T5>>> mSupplySettledTupleAsync(
+            Executor executor, Supplier<? extends T1> supplier1, Supplier<? extends T2> supplier2,
+            Supplier<? extends T3> supplier3, Supplier<? extends T4> supplier4, Supplier<? extends T5> supplier5) {
+        return create(CompletableFutureUtils.mSupplySettledTupleAsync(
+                fanOutExecutor(executor), supplier1, supplier2, supplier3, supplier4, supplier5));
     }
 
     // endregion
@@ -786,7 +1156,8 @@ public final class CffuFactory {
      * WITHOUT waiting other incomplete given stages, with a CompletionException holding this exception as its cause.
      * If no stages are provided, returns a Cffu completed with the value empty list.
      * <p>
-     * The list of results is in the <strong>same order</strong> as the input list.
+     * The list of results is in the <strong>same order</strong> as the input list, and is unmodifiable
+     * (opt in to the mutable list by {@link CffuFactoryBuilder#mutableResults(boolean)}).
      * <p>
      * This method is the same as {@link #allResultsOf allResultsOf} method except for the fail-fast behavior.
      *
@@ -796,7 +1167,36 @@ public final class CffuFactory {
     @Contract(pure = true)
     @SafeVarargs
     public final <T> Cffu<List<T>> allResultsFailFastOf(CompletionStage<? extends T>... cfs) {
-        return create(CompletableFutureUtils.allResultsFailFastOf(cfs));
+        return createResults(CompletableFutureUtils.allResultsFailFastOf(cfs));
+    }
+
+    /**
+     * Collection variant of {@link #allResultsFailFastOf(CompletionStage[])}, WITHOUT copying the given stages
+     * into an array; see {@link CompletableFutureUtils#allResultsFailFastOf(Collection)}.
+     */
+    @Contract(pure = true)
+    public final <T> Cffu<List<T>> allResultsFailFastOf(Collection<? extends CompletionStage<? extends T>> cfs) {
+        return createResults(CompletableFutureUtils.allResultsFailFastOf(cfs));
+    }
+
+    /**
+     * Same as {@link #allResultsFailFastOf(CompletionStage[])} except that the results completed so far are salvaged
+     * as {@link PartialResultsException} on the fail-fast failure;
+     * see {@link CompletableFutureUtils#allResultsFailFastSalvageOf(CompletionStage[])}.
+     */
+    @Contract(pure = true)
+    @SafeVarargs
+    public final <T> Cffu<List<T>> allResultsFailFastSalvageOf(CompletionStage<? extends T>... cfs) {
+        return createResults(CompletableFutureUtils.allResultsFailFastSalvageOf(cfs));
+    }
+
+    /**
+     * Collection variant of {@link #allResultsFailFastSalvageOf(CompletionStage[])};
+     * see {@link CompletableFutureUtils#allResultsFailFastSalvageOf(Collection)}.
+     */
+    @Contract(pure = true)
+    public final <T> Cffu<List<T>> allResultsFailFastSalvageOf(Collection<? extends CompletionStage<? extends T>> cfs) {
+        return createResults(CompletableFutureUtils.allResultsFailFastSalvageOf(cfs));
     }
 
     /**
@@ -806,7 +1206,8 @@ public final class CffuFactory {
      * {@code valueIfFailed} (which is indistinguishable from the stage having a successful value of {@code valueIfFailed}).
      * If no stages are provided, returns a Cffu completed with the value empty list.
      * <p>
-     * The list of results is in the <strong>same order</strong> as the input list.
+     * The list of results is in the <strong>same order</strong> as the input list, and is unmodifiable
+     * (opt in to the mutable list by {@link CffuFactoryBuilder#mutableResults(boolean)}).
      * <p>
      * This method differs from {@link #allResultsFailFastOf allResultsFailFastOf} method in that it's tolerant
      * of failed stages for any of the items, representing them as {@code valueIfFailed} in the result list.
@@ -820,7 +1221,17 @@ public final class CffuFactory {
     @SafeVarargs
     public final <T> Cffu<List<T>> allSuccessResultsOf(
             @Nullable T valueIfFailed, CompletionStage<? extends T>... cfs) {
-        return create(CompletableFutureUtils.allSuccessResultsOf(valueIfFailed, cfs));
+        return createResults(CompletableFutureUtils.allSuccessResultsOf(valueIfFailed, cfs));
+    }
+
+    /**
+     * Collection variant of {@link #allSuccessResultsOf(Object, CompletionStage[])}, WITHOUT copying the given stages
+     * into an array; see {@link CompletableFutureUtils#allSuccessResultsOf(Object, Collection)}.
+     */
+    @Contract(pure = true)
+    public final <T> Cffu<List<T>> allSuccessResultsOf(
+            @Nullable T valueIfFailed, Collection<? extends CompletionStage<? extends T>> cfs) {
+        return createResults(CompletableFutureUtils.allSuccessResultsOf(valueIfFailed, cfs));
     }
 
     /**
@@ -831,7 +1242,8 @@ public final class CffuFactory {
      * (which is indistinguishable from the stage having a successful value of {@code valueIfNotSuccess}).
      * If no stages are provided, returns a Cffu completed with the value empty list.
      * <p>
-     * The list of results is in the <strong>same order</strong> as the input list.
+     * The list of results is in the <strong>same order</strong> as the input list, and is unmodifiable
+     * (opt in to the mutable list by {@link CffuFactoryBuilder#mutableResults(boolean)}).
      * <p>
      * This method differs from {@link #allResultsFailFastOf allResultsFailFastOf} method in that it's tolerant of
      * failed or incomplete stages for any of the items, representing them as {@code valueIfNotSuccess} in the result list.
@@ -846,10 +1258,44 @@ public final class CffuFactory {
     @SafeVarargs
     public final <T> Cffu<List<T>> mostSuccessResultsOf(
             @Nullable T valueIfNotSuccess, long timeout, TimeUnit unit, CompletionStage<? extends T>... cfs) {
-        return create(CompletableFutureUtils.mostSuccessResultsOf(
+        return createResults(CompletableFutureUtils.mostSuccessResultsOf(
+                defaultExecutor, valueIfNotSuccess, timeout, unit, cfs));
+    }
+
+    /**
+     * Collection variant of {@link #mostSuccessResultsOf(Object, long, TimeUnit, CompletionStage[])}, WITHOUT copying
+     * the given stages into an array; see
+     * {@link CompletableFutureUtils#mostSuccessResultsOf(Executor, Object, long, TimeUnit, Collection)}.
+     */
+    @Contract(pure = true)
+    public final <T> Cffu<List<T>> mostSuccessResultsOf(
+            @Nullable T valueIfNotSuccess, long timeout, TimeUnit unit,
+            Collection<? extends CompletionStage<? extends T>> cfs) {
+        return createResults(CompletableFutureUtils.mostSuccessResultsOf(
                 defaultExecutor, valueIfNotSuccess, timeout, unit, cfs));
     }
 
+    /**
+     * Returns a new Cffu that is completed normally with a list containing the successful results of
+     * the given stages, each stage within its own timeout; all the timeouts are served by one shared timer chain.
+     * See {@link CompletableFutureUtils#mostSuccessResultsPerInputOf(IntToLongFunction, TimeUnit, IntFunction,
+     * CompletionStage[])} for the rules of result computation.
+     *
+     * @param timeoutOfInput           the timeout of the input of the given index, in units of {@code unit}
+     * @param unit                     a {@code TimeUnit} determining how to interpret the timeouts
+     * @param valueIfNotSuccessOfInput the value used as result of the input of the given index
+     *                                 if the input stage not completed normally
+     * @throws NullPointerException if any of the function params, the cfs param or any of its elements are {@code null}
+     */
+    @Contract(pure = true)
+    @SafeVarargs
+    public final <T> Cffu<List<T>> mostSuccessResultsPerInputOf(
+            IntToLongFunction timeoutOfInput, TimeUnit unit, IntFunction<? extends T> valueIfNotSuccessOfInput,
+            CompletionStage<? extends T>... cfs) {
+        return createResults(CompletableFutureUtils.mostSuccessResultsPerInputOf(
+                defaultExecutor, timeoutOfInput, unit, valueIfNotSuccessOfInput, cfs));
+    }
+
     /**
      * Returns a new Cffu that is completed normally with a list containing
      * the successful results of all given stages when all the given stages complete;
@@ -857,7 +1303,8 @@ public final class CffuFactory {
      * also does so, with a CompletionException holding this exception as its cause.
      * If no stages are provided, returns a Cffu completed with the value empty list.
      * <p>
-     * The list of results is in the <strong>same order</strong> as the input list.
+     * The list of results is in the <strong>same order</strong> as the input list, and is unmodifiable
+     * (opt in to the mutable list by {@link CffuFactoryBuilder#mutableResults(boolean)}).
      * <p>
      * Comparing the waiting-all-<strong>complete</strong> behavior of this method, the fail-fast behavior
      * of {@link #allResultsFailFastOf allResultsFailFastOf} method is more responsive to user
@@ -871,7 +1318,36 @@ public final class CffuFactory {
     @Contract(pure = true)
     @SafeVarargs
     public final <T> Cffu<List<T>> allResultsOf(CompletionStage<? extends T>... cfs) {
-        return create(CompletableFutureUtils.allResultsOf(cfs));
+        return createResults(CompletableFutureUtils.allResultsOf(cfs));
+    }
+
+    /**
+     * Collection variant of {@link #allResultsOf(CompletionStage[])}, WITHOUT copying the given stages
+     * into an array; see {@link CompletableFutureUtils#allResultsOf(Collection)}.
+     */
+    @Contract(pure = true)
+    public final <T> Cffu<List<T>> allResultsOf(Collection<? extends CompletionStage<? extends T>> cfs) {
+        return createResults(CompletableFutureUtils.allResultsOf(cfs));
+    }
+
+    /**
+     * Array variant of {@link #allResultsFailFastOf(CompletionStage[])}, WITHOUT the result list;
+     * see {@link CompletableFutureUtils#allResultsFailFastOfArray(IntFunction, CompletionStage[])}.
+     */
+    @Contract(pure = true)
+    @SafeVarargs
+    public final <T> Cffu<T[]> allResultsFailFastOfArray(IntFunction<T[]> generator, CompletionStage<? extends T>... cfs) {
+        return create(CompletableFutureUtils.allResultsFailFastOfArray(generator, cfs));
+    }
+
+    /**
+     * Array variant of {@link #allResultsOf(CompletionStage[])}, WITHOUT the result list;
+     * see {@link CompletableFutureUtils#allResultsOfArray(IntFunction, CompletionStage[])}.
+     */
+    @Contract(pure = true)
+    @SafeVarargs
+    public final <T> Cffu<T[]> allResultsOfArray(IntFunction<T[]> generator, CompletionStage<? extends T>... cfs) {
+        return create(CompletableFutureUtils.allResultsOfArray(generator, cfs));
     }
 
     /**
@@ -901,9 +1377,18 @@ public final class CffuFactory {
     }
 
     /**
-     * Returns a new Cffu that is completed when all the given stages complete;
-     * If any of the given stages complete exceptionally, then the returned Cffu
-     * also does so, with a CompletionException holding this exception as its cause.
+     * Collection variant of {@link #allFailFastOf(CompletionStage[])}, WITHOUT copying the given stages
+     * into an array; see {@link CompletableFutureUtils#allFailFastOf(Collection)}.
+     */
+    @Contract(pure = true)
+    public Cffu<Void> allFailFastOf(Collection<? extends CompletionStage<?>> cfs) {
+        return create(CompletableFutureUtils.allFailFastOf(cfs));
+    }
+
+    /**
+     * Returns a new Cffu that is completed when all the given stages complete;
+     * If any of the given stages complete exceptionally, then the returned Cffu
+     * also does so, with a CompletionException holding this exception as its cause.
      * If no stages are provided, returns a Cffu completed with the value {@code null}.
      * <p>
      * The successful results, if any, of the given stages are not reflected in the returned Cffu
@@ -928,6 +1413,357 @@ public final class CffuFactory {
         return create(CompletableFutureUtils.allOf(cfs));
     }
 
+    // endregion
+    ////////////////////////////////////////////////////////////////////////////////
+    // region## Primitive allOf* Methods(int/long/double results without boxing)
+    //
+    //    CompletionStage<T>[] -> Cffu<long[]>
+    ////////////////////////////////////////////////////////////////////////////////
+
+    /**
+     * Returns a new Cffu that is completed normally with a {@code long[]} containing the extracted results of
+     * all given stages, with fail-fast support;
+     * see {@link CompletableFutureUtils#allLongResultsFailFastOf(ToLongFunction, CompletionStage[])}.
+     */
+    @Contract(pure = true)
+    @SafeVarargs
+    public final <T> Cffu<long[]> allLongResultsFailFastOf(
+            ToLongFunction<? super T> extractor, CompletionStage<? extends T>... cfs) {
+        return create(CompletableFutureUtils.allLongResultsFailFastOf(extractor, cfs));
+    }
+
+    /**
+     * Returns a new Cffu that is completed normally with a {@code long[]} containing the extracted results of
+     * all given stages when all the given stages complete;
+     * see {@link CompletableFutureUtils#allLongResultsOf(ToLongFunction, CompletionStage[])}.
+     */
+    @Contract(pure = true)
+    @SafeVarargs
+    public final <T> Cffu<long[]> allLongResultsOf(
+            ToLongFunction<? super T> extractor, CompletionStage<? extends T>... cfs) {
+        return create(CompletableFutureUtils.allLongResultsOf(extractor, cfs));
+    }
+
+    /**
+     * Returns a new Cffu that is completed normally with a {@code long[]} containing the extracted results of
+     * the given stages before the given timeout; see
+     * {@link CompletableFutureUtils#mostSuccessLongResultsOf(long, long, TimeUnit, ToLongFunction, CompletionStage[])}.
+     */
+    @Contract(pure = true)
+    @SafeVarargs
+    public final <T> Cffu<long[]> mostSuccessLongResultsOf(
+            long valueIfNotSuccess, long timeout, TimeUnit unit,
+            ToLongFunction<? super T> extractor, CompletionStage<? extends T>... cfs) {
+        return create(CompletableFutureUtils.mostSuccessLongResultsOf(
+                defaultExecutor, valueIfNotSuccess, timeout, unit, extractor, cfs));
+    }
+
+    /**
+     * Returns a new Cffu that is completed normally with a {@code int[]} containing the extracted results of
+     * all given stages, with fail-fast support;
+     * see {@link CompletableFutureUtils#allIntResultsFailFastOf(ToIntFunction, CompletionStage[])}.
+     */
+    @Contract(pure = true)
+    @SafeVarargs
+    public final <T> Cffu<int[]> allIntResultsFailFastOf(
+            ToIntFunction<? super T> extractor, CompletionStage<? extends T>... cfs) {
+        return create(CompletableFutureUtils.allIntResultsFailFastOf(extractor, cfs));
+    }
+
+    /**
+     * Returns a new Cffu that is completed normally with a {@code int[]} containing the extracted results of
+     * all given stages when all the given stages complete;
+     * see {@link CompletableFutureUtils#allIntResultsOf(ToIntFunction, CompletionStage[])}.
+     */
+    @Contract(pure = true)
+    @SafeVarargs
+    public final <T> Cffu<int[]> allIntResultsOf(
+            ToIntFunction<? super T> extractor, CompletionStage<? extends T>... cfs) {
+        return create(CompletableFutureUtils.allIntResultsOf(extractor, cfs));
+    }
+
+    /**
+     * Returns a new Cffu that is completed normally with a {@code int[]} containing the extracted results of
+     * the given stages before the given timeout; see
+     * {@link CompletableFutureUtils#mostSuccessIntResultsOf(int, long, TimeUnit, ToIntFunction, CompletionStage[])}.
+     */
+    @Contract(pure = true)
+    @SafeVarargs
+    public final <T> Cffu<int[]> mostSuccessIntResultsOf(
+            int valueIfNotSuccess, long timeout, TimeUnit unit,
+            ToIntFunction<? super T> extractor, CompletionStage<? extends T>... cfs) {
+        return create(CompletableFutureUtils.mostSuccessIntResultsOf(
+                defaultExecutor, valueIfNotSuccess, timeout, unit, extractor, cfs));
+    }
+
+    /**
+     * Returns a new Cffu that is completed normally with a {@code double[]} containing the extracted results of
+     * all given stages, with fail-fast support;
+     * see {@link CompletableFutureUtils#allDoubleResultsFailFastOf(ToDoubleFunction, CompletionStage[])}.
+     */
+    @Contract(pure = true)
+    @SafeVarargs
+    public final <T> Cffu<double[]> allDoubleResultsFailFastOf(
+            ToDoubleFunction<? super T> extractor, CompletionStage<? extends T>... cfs) {
+        return create(CompletableFutureUtils.allDoubleResultsFailFastOf(extractor, cfs));
+    }
+
+    /**
+     * Returns a new Cffu that is completed normally with a {@code double[]} containing the extracted results of
+     * all given stages when all the given stages complete;
+     * see {@link CompletableFutureUtils#allDoubleResultsOf(ToDoubleFunction, CompletionStage[])}.
+     */
+    @Contract(pure = true)
+    @SafeVarargs
+    public final <T> Cffu<double[]> allDoubleResultsOf(
+            ToDoubleFunction<? super T> extractor, CompletionStage<? extends T>... cfs) {
+        return create(CompletableFutureUtils.allDoubleResultsOf(extractor, cfs));
+    }
+
+    /**
+     * Returns a new Cffu that is completed normally with a {@code double[]} containing the extracted results of
+     * the given stages before the given timeout; see
+     * {@link CompletableFutureUtils#mostSuccessDoubleResultsOf(double, long, TimeUnit, ToDoubleFunction, CompletionStage[])}.
+     */
+    @Contract(pure = true)
+    @SafeVarargs
+    public final <T> Cffu<double[]> mostSuccessDoubleResultsOf(
+            double valueIfNotSuccess, long timeout, TimeUnit unit,
+            ToDoubleFunction<? super T> extractor, CompletionStage<? extends T>... cfs) {
+        return create(CompletableFutureUtils.mostSuccessDoubleResultsOf(
+                defaultExecutor, valueIfNotSuccess, timeout, unit, extractor, cfs));
+    }
+
+    // endregion
+    ////////////////////////////////////////////////////////////////////////////////
+    // region## Reduce allOf* Methods(fold the results as they arrive, without retaining them)
+    ////////////////////////////////////////////////////////////////////////////////
+
+    /**
+     * Returns a new Cffu that is completed normally with the reduction of the successful results of all given stages,
+     * with fail-fast support; see
+     * {@link CompletableFutureUtils#allReduceFailFastOf(Supplier, BiFunction, BinaryOperator, CompletionStage[])}.
+     */
+    @Contract(pure = true)
+    @SafeVarargs
+    public final <T, U> Cffu<U> allReduceFailFastOf(
+            Supplier<? extends U> supplier, BiFunction<U, ? super T, U> accumulator, BinaryOperator<U> combiner,
+            CompletionStage<? extends T>... cfs) {
+        return create(CompletableFutureUtils.allReduceFailFastOf(supplier, accumulator, combiner, cfs));
+    }
+
+    /**
+     * Returns a new Cffu that is completed normally with the reduction of the successful results of the given stages
+     * when all the given stages complete; see
+     * {@link CompletableFutureUtils#allSuccessReduceOf(Supplier, BiFunction, BinaryOperator, CompletionStage[])}.
+     */
+    @Contract(pure = true)
+    @SafeVarargs
+    public final <T, U> Cffu<U> allSuccessReduceOf(
+            Supplier<? extends U> supplier, BiFunction<U, ? super T, U> accumulator, BinaryOperator<U> combiner,
+            CompletionStage<? extends T>... cfs) {
+        return create(CompletableFutureUtils.allSuccessReduceOf(supplier, accumulator, combiner, cfs));
+    }
+
+    /**
+     * Returns a new Cffu that is completed normally with the reduction of the successful results of the given stages
+     * before the given timeout; see {@link CompletableFutureUtils#mostSuccessReduceOf(long, TimeUnit, Supplier,
+     * BiFunction, BinaryOperator, CompletionStage[])}.
+     */
+    @Contract(pure = true)
+    @SafeVarargs
+    public final <T, U> Cffu<U> mostSuccessReduceOf(
+            long timeout, TimeUnit unit, Supplier<? extends U> supplier, BiFunction<U, ? super T, U> accumulator,
+            BinaryOperator<U> combiner, CompletionStage<? extends T>... cfs) {
+        return create(CompletableFutureUtils.mostSuccessReduceOf(
+                defaultExecutor, timeout, unit, supplier, accumulator, combiner, cfs));
+    }
+
+    // endregion
+    ////////////////////////////////////////////////////////////////////////////////
+    // region## Spilled allOf* Methods(bounded-memory results, spilled to file beyond the heap budget)
+    ////////////////////////////////////////////////////////////////////////////////
+
+    /**
+     * Returns a new Cffu that is completed normally with a {@link SpilledResultList} containing the successful results
+     * of all given stages when all the given stages complete; see
+     * {@link CompletableFutureUtils#allResultsSpilledOf(SpillOptions, CompletionStage[])}.
+     */
+    @Contract(pure = true)
+    @SafeVarargs
+    public final <T> Cffu<SpilledResultList<T>> allResultsSpilledOf(
+            SpillOptions<T> spill, CompletionStage<? extends T>... cfs) {
+        return create(CompletableFutureUtils.allResultsSpilledOf(spill, cfs));
+    }
+
+    /**
+     * Collection variant of {@link #allResultsSpilledOf(SpillOptions, CompletionStage[])}.
+     */
+    @Contract(pure = true)
+    public final <T> Cffu<SpilledResultList<T>> allResultsSpilledOf(
+            SpillOptions<T> spill, Collection<? extends CompletionStage<? extends T>> cfs) {
+        return create(CompletableFutureUtils.allResultsSpilledOf(spill, cfs));
+    }
+
+    /**
+     * Returns a new Cffu that is completed normally with a {@link SpilledResultList} containing the successful results
+     * of all given stages when all the given stages complete; see
+     * {@link CompletableFutureUtils#allSuccessResultsSpilledOf(SpillOptions, Object, CompletionStage[])}.
+     */
+    @Contract(pure = true)
+    @SafeVarargs
+    public final <T> Cffu<SpilledResultList<T>> allSuccessResultsSpilledOf(
+            SpillOptions<T> spill, @Nullable T valueIfFailed, CompletionStage<? extends T>... cfs) {
+        return create(CompletableFutureUtils.allSuccessResultsSpilledOf(spill, valueIfFailed, cfs));
+    }
+
+    /**
+     * Collection variant of {@link #allSuccessResultsSpilledOf(SpillOptions, Object, CompletionStage[])}.
+     */
+    @Contract(pure = true)
+    public final <T> Cffu<SpilledResultList<T>> allSuccessResultsSpilledOf(
+            SpillOptions<T> spill, @Nullable T valueIfFailed, Collection<? extends CompletionStage<? extends T>> cfs) {
+        return create(CompletableFutureUtils.allSuccessResultsSpilledOf(spill, valueIfFailed, cfs));
+    }
+
+    /**
+     * Returns a new Cffu that is completed normally with a {@link SpilledResultList} containing the successful results
+     * of the given stages before the given timeout; see
+     * {@link CompletableFutureUtils#mostSuccessResultsSpilledOf(SpillOptions, Object, long, TimeUnit, CompletionStage[])}.
+     */
+    @Contract(pure = true)
+    @SafeVarargs
+    public final <T> Cffu<SpilledResultList<T>> mostSuccessResultsSpilledOf(
+            SpillOptions<T> spill, @Nullable T valueIfNotSuccess, long timeout, TimeUnit unit,
+            CompletionStage<? extends T>... cfs) {
+        return create(CompletableFutureUtils.mostSuccessResultsSpilledOf(
+                defaultExecutor, spill, valueIfNotSuccess, timeout, unit, cfs));
+    }
+
+    /**
+     * Collection variant of {@link #mostSuccessResultsSpilledOf(SpillOptions, Object, long, TimeUnit, CompletionStage[])}.
+     */
+    @Contract(pure = true)
+    public final <T> Cffu<SpilledResultList<T>> mostSuccessResultsSpilledOf(
+            SpillOptions<T> spill, @Nullable T valueIfNotSuccess, long timeout, TimeUnit unit,
+            Collection<? extends CompletionStage<? extends T>> cfs) {
+        return create(CompletableFutureUtils.mostSuccessResultsSpilledOf(
+                defaultExecutor, spill, valueIfNotSuccess, timeout, unit, cfs));
+    }
+
+    // endregion
+    ////////////////////////////////////////////////////////////////////////////////
+    // region## Keyed allOf* Methods(Map of stages -> Map of results)
+    ////////////////////////////////////////////////////////////////////////////////
+
+    /**
+     * Returns a new Cffu that is completed normally with a map containing the successful results of all given stages
+     * by the same keys, with fail-fast support; see {@link CompletableFutureUtils#allResultsFailFastOfMap(Map)}.
+     */
+    @Contract(pure = true)
+    public final <K, V> Cffu<Map<K, V>> allResultsFailFastOfMap(Map<K, ? extends CompletionStage<? extends V>> cfs) {
+        return create(CompletableFutureUtils.allResultsFailFastOfMap(cfs));
+    }
+
+    /**
+     * Returns a new Cffu that is completed normally with a map containing the successful results of all given stages
+     * by the same keys when all the given stages complete; see {@link CompletableFutureUtils#allResultsOfMap(Map)}.
+     */
+    @Contract(pure = true)
+    public final <K, V> Cffu<Map<K, V>> allResultsOfMap(Map<K, ? extends CompletionStage<? extends V>> cfs) {
+        return create(CompletableFutureUtils.allResultsOfMap(cfs));
+    }
+
+    /**
+     * Returns a new Cffu that is completed normally with the {@link KeyedResults} when all the given stages complete;
+     * see {@link CompletableFutureUtils#allSuccessResultsOfMap(Map)}.
+     */
+    @Contract(pure = true)
+    public final <K, V> Cffu<KeyedResults<K, V>> allSuccessResultsOfMap(
+            Map<K, ? extends CompletionStage<? extends V>> cfs) {
+        return create(CompletableFutureUtils.allSuccessResultsOfMap(cfs));
+    }
+
+    /**
+     * Returns a new Cffu that is completed normally with the {@link KeyedResults} of the given stages
+     * before the given timeout; see {@link CompletableFutureUtils#mostSuccessResultsOfMap(long, TimeUnit, Map)}.
+     */
+    @Contract(pure = true)
+    public final <K, V> Cffu<KeyedResults<K, V>> mostSuccessResultsOfMap(
+            long timeout, TimeUnit unit, Map<K, ? extends CompletionStage<? extends V>> cfs) {
+        return create(CompletableFutureUtils.mostSuccessResultsOfMap(defaultExecutor, timeout, unit, cfs));
+    }
+
+    // endregion
+    ////////////////////////////////////////////////////////////////////////////////
+    // region## Settled allOf* Methods(materialize the outcome of each stage as Try)
+    ////////////////////////////////////////////////////////////////////////////////
+
+    /**
+     * Returns a new Cffu that is completed normally with a list containing the settled outcomes of all given stages
+     * as {@link Try} when all the given stages complete; see {@link CompletableFutureUtils#allSettledOf(CompletionStage[])}.
+     */
+    @Contract(pure = true)
+    @SafeVarargs
+    public final <T> Cffu<List<Try<T>>> allSettledOf(CompletionStage<? extends T>... cfs) {
+        return createResults(CompletableFutureUtils.allSettledOf(cfs));
+    }
+
+    /**
+     * Collection variant of {@link #allSettledOf(CompletionStage[])}.
+     */
+    @Contract(pure = true)
+    public final <T> Cffu<List<Try<T>>> allSettledOf(Collection<? extends CompletionStage<? extends T>> cfs) {
+        return createResults(CompletableFutureUtils.allSettledOf(cfs));
+    }
+
+    /**
+     * Tuple variant of {@link #allSettledOf(CompletionStage[])}.
+     */
+    @Contract(pure = true)
+    public <T1, T2> Cffu<Tuple2<Try<T1>, Try<T2>>> allSettledTupleOf(
+            CompletionStage<? extends T1> cf1, CompletionStage<? extends T2> cf2) {
+        return create(CompletableFutureUtils.allSettledTupleOf(cf1, cf2));
+    }
+
+    /**
+     * Tuple variant of {@link #allSettledOf(CompletionStage[])}.
+     */
+    @Contract(pure = true)
+    public <T1, T2, T3> Cffu<Tuple3<Try<T1>, Try<T2>, Try<T3>>> allSettledTupleOf(
+            CompletionStage<? extends T1> cf1, CompletionStage<? extends T2> cf2, CompletionStage<? extends T3> cf3) {
+        return create(CompletableFutureUtils.allSettledTupleOf(cf1, cf2, cf3));
+    }
+
+    /**
+     * Tuple variant of {@link #allSettledOf(CompletionStage[])}.
+     */
+    @Contract(pure = true)
+    public <T1, T2, T3, T4> Cffu<Tuple4<Try<T1>, Try<T2>, Try<T3>, Try<T4>>> allSettledTupleOf(
+            CompletionStage<? extends T1> cf1, CompletionStage<? extends T2> cf2,
+            CompletionStage<? extends T3> cf3, CompletionStage<? extends T4> cf4) {
+        return create(CompletableFutureUtils.allSettledTupleOf(cf1, cf2, cf3, cf4));
+    }
+
+    /**
+     * Tuple variant of {@link #allSettledOf(CompletionStage[])}.
+     */
+    @Contract(pure = true)
+    public <T1, T2, T3, T4, T5> Cffu<Tuple5<Try<T1>, Try<T2>, Try<T3>, Try<T4>, Try<T5>>> allSettledTupleOf(
+            CompletionStage<? extends T1> cf1, CompletionStage<? extends T2> cf2, CompletionStage<? extends T3> cf3,
+            CompletionStage<? extends T4> cf4, CompletionStage<? extends T5> cf5) {
+        return create(CompletableFutureUtils.allSettledTupleOf(cf1, cf2, cf3, cf4, cf5));
+    }
+
+    /**
+     * Returns a new Cffu that is completed normally with the settled outcomes of the given stages as {@link Try}
+     * by the same keys; see {@link CompletableFutureUtils#allSettledOfMap(Map)}.
+     */
+    @Contract(pure = true)
+    public final <K, V> Cffu<Map<K, Try<V>>> allSettledOfMap(Map<K, ? extends CompletionStage<? extends V>> cfs) {
+        return create(CompletableFutureUtils.allSettledOfMap(cfs));
+    }
+
     // endregion
     ////////////////////////////////////////////////////////////////////////////////
     // region## anyOf* Methods
@@ -952,6 +1788,14 @@ public final class CffuFactory {
         return create(CompletableFutureUtils.anySuccessOf(cfs));
     }
 
+    /**
+     * Collection variant of {@link #anySuccessOf(CompletionStage[])}, WITHOUT copying the given stages
+     * into an array; see {@link CompletableFutureUtils#anySuccessOf(Collection)}.
+     */
+    public final <T> Cffu<T> anySuccessOf(Collection<? extends CompletionStage<? extends T>> cfs) {
+        return create(CompletableFutureUtils.anySuccessOf(cfs));
+    }
+
     /**
      * Returns a new Cffu that is completed with the same successful result or exception of any of
      * the given stages when one stage completes. If no stages are provided, returns an incomplete Cffu.
@@ -967,6 +1811,81 @@ public final class CffuFactory {
         return create(CompletableFutureUtils.anyOf(cfs));
     }
 
+    // endregion
+    ////////////////////////////////////////////////////////////////////////////////
+    // region## kSuccessOf Methods(quorum, the first K successes of N inputs)
+    ////////////////////////////////////////////////////////////////////////////////
+
+    /**
+     * Returns a new Cffu that is completed normally with the first {@code k} successful results of the given stages,
+     * or fails fast once the quorum can no longer be reached;
+     * see {@link CompletableFutureUtils#kSuccessOf(int, CompletionStage[])}.
+     */
+    @Contract(pure = true)
+    @SafeVarargs
+    public final <T> Cffu<List<IndexedResult<T>>> kSuccessOf(int k, CompletionStage<? extends T>... cfs) {
+        return createResults(CompletableFutureUtils.kSuccessOf(k, cfs));
+    }
+
+    /**
+     * Returns a new Cffu that is completed normally with the successful results of the given stages at the earliest
+     * of: the {@code k}-th success, all given stages complete, or the given timeout;
+     * see {@link CompletableFutureUtils#kSuccessOf(int, long, TimeUnit, CompletionStage[])}.
+     */
+    @Contract(pure = true)
+    @SafeVarargs
+    public final <T> Cffu<List<IndexedResult<T>>> kSuccessOf(
+            int k, long timeout, TimeUnit unit, CompletionStage<? extends T>... cfs) {
+        return createResults(CompletableFutureUtils.kSuccessOf(defaultExecutor, k, timeout, unit, cfs));
+    }
+
+    // endregion
+    ////////////////////////////////////////////////////////////////////////////////
+    // region## Streaming Results Methods(emit the result of each input as soon as it completes)
+    ////////////////////////////////////////////////////////////////////////////////
+
+    /**
+     * Delivers the outcome of each given stage to the given sink as soon as that stage completes,
+     * see {@link CompletableFutureUtils#streamResultsOf(Consumer, CompletionStage[])}.
+     */
+    @SafeVarargs
+    public final <T> Cffu<Void> streamResultsOf(
+            Consumer<? super IndexedResult<T>> sink, CompletionStage<? extends T>... cfs) {
+        return create(CompletableFutureUtils.streamResultsOf(sink, cfs));
+    }
+
+    /**
+     * Delivers the outcomes of the given stages to the given sink in input order as soon as each contiguous prefix
+     * of the given stages completes, see {@link CompletableFutureUtils#streamResultsInOrderOf(Consumer, CompletionStage[])}.
+     */
+    @SafeVarargs
+    public final <T> Cffu<Void> streamResultsInOrderOf(
+            Consumer<? super IndexedResult<T>> sink, CompletionStage<? extends T>... cfs) {
+        return create(CompletableFutureUtils.streamResultsInOrderOf(sink, cfs));
+    }
+
+    /**
+     * Maps the items of the given source to stages by the given async function with at most {@code window} stages
+     * in flight, and delivers the outcome of each stage to the given sink as soon as that stage completes,
+     * see {@link CompletableFutureUtils#pipelineOf(Iterator, int, Function, Consumer)}.
+     */
+    public <T, R> Cffu<Void> pipelineOf(
+            Iterator<? extends T> source, int window,
+            Function<? super T, ? extends CompletionStage<? extends R>> fn, Consumer<? super IndexedResult<R>> sink) {
+        return create(CompletableFutureUtils.pipelineOf(source, window, fn, sink));
+    }
+
+    /**
+     * Maps the items of the given source to stages by the given async function with at most {@code window} stages
+     * in flight, and delivers the outcomes of the stages to the given sink in the same order as the items,
+     * see {@link CompletableFutureUtils#pipelineInOrderOf(Iterator, int, Function, Consumer)}.
+     */
+    public <T, R> Cffu<Void> pipelineInOrderOf(
+            Iterator<? extends T> source, int window,
+            Function<? super T, ? extends CompletionStage<? extends R>> fn, Consumer<? super IndexedResult<R>> sink) {
+        return create(CompletableFutureUtils.pipelineInOrderOf(source, window, fn, sink));
+    }
+
     // endregion
     ////////////////////////////////////////////////////////////////////////////////
     // region## allTupleOf*/mostSuccessTupleOf Methods
@@ -1117,6 +2036,56 @@ public final class CffuFactory {
         return create(CompletableFutureUtils.mostSuccessTupleOf(defaultExecutor, timeout, unit, cf1, cf2, cf3, cf4, cf5));
     }
 
+    /**
+     * Tuple variant of {@link #mostSuccessResultsPerInputOf(IntToLongFunction, TimeUnit, IntFunction, CompletionStage[])}
+     * with {@code null} valueIfNotSuccess; the input of index 0 is {@code cf1}.
+     */
+    @Contract(pure = true)
+    public <T1, T2> Cffu<Tuple2<T1, T2>> mostSuccessTuplePerInputOf(
+            IntToLongFunction timeoutOfInput, TimeUnit unit,
+            CompletionStage<? extends T1> cf1, CompletionStage<? extends T2> cf2) {
+        return create(CompletableFutureUtils.mostSuccessTuplePerInputOf(
+                defaultExecutor, timeoutOfInput, unit, cf1, cf2));
+    }
+
+    /**
+     * Tuple variant of {@link #mostSuccessResultsPerInputOf(IntToLongFunction, TimeUnit, IntFunction, CompletionStage[])}
+     * with {@code null} valueIfNotSuccess; the input of index 0 is {@code cf1}.
+     */
+    @Contract(pure = true)
+    public <T1, T2, T3> Cffu<Tuple3<T1, T2, T3>> mostSuccessTuplePerInputOf(
+            IntToLongFunction timeoutOfInput, TimeUnit unit,
+            CompletionStage<? extends T1> cf1, CompletionStage<? extends T2> cf2, CompletionStage<? extends T3> cf3) {
+        return create(CompletableFutureUtils.mostSuccessTuplePerInputOf(
+                defaultExecutor, timeoutOfInput, unit, cf1, cf2, cf3));
+    }
+
+    /**
+     * Tuple variant of {@link #mostSuccessResultsPerInputOf(IntToLongFunction, TimeUnit, IntFunction, CompletionStage[])}
+     * with {@code null} valueIfNotSuccess; the input of index 0 is {@code cf1}.
+     */
+    @Contract(pure = true)
+    public <T1, T2, T3, T4> Cffu<Tuple4<T1, T2, T3, T4>> mostSuccessTuplePerInputOf(
+            IntToLongFunction timeoutOfInput, TimeUnit unit,
+            CompletionStage<? extends T1> cf1, CompletionStage<? extends T2> cf2,
+            CompletionStage<? extends T3> cf3, CompletionStage<? extends T4> cf4) {
+        return create(CompletableFutureUtils.mostSuccessTuplePerInputOf(
+                defaultExecutor, timeoutOfInput, unit, cf1, cf2, cf3, cf4));
+    }
+
+    /**
+     * Tuple variant of {@link #mostSuccessResultsPerInputOf(IntToLongFunction, TimeUnit, IntFunction, CompletionStage[])}
+     * with {@code null} valueIfNotSuccess; the input of index 0 is {@code cf1}.
+     */
+    @Contract(pure = true)
+    public <T1, T2, T3, T4, T5> Cffu<Tuple5<T1, T2, T3, T4, T5>> mostSuccessTuplePerInputOf(
+            IntToLongFunction timeoutOfInput, TimeUnit unit,
+            CompletionStage<? extends T1> cf1, CompletionStage<? extends T2> cf2, CompletionStage<? extends T3> cf3,
+            CompletionStage<? extends T4> cf4, CompletionStage<? extends T5> cf5) {
+        return create(CompletableFutureUtils.mostSuccessTuplePerInputOf(
+                defaultExecutor, timeoutOfInput, unit, cf1, cf2, cf3, cf4, cf5));
+    }
+
     /**
      * Tuple variant of {@link #allResultsOf(CompletionStage[])}.
      */
@@ -1155,6 +2124,144 @@ public final class CffuFactory {
         return create(CompletableFutureUtils.allTupleOf(cf1, cf2, cf3, cf4, cf5));
     }
 
+    // endregion
+    ////////////////////////////////////////////////////////////////////////////////
+    // region## allCombine*/mostSuccessCombineOf Methods(combine results by FunctionX, without TupleX)
+    ////////////////////////////////////////////////////////////////////////////////
+
+    /**
+     * Returns a new Cffu that is completed with the result of the given function applied to the results
+     * of the given stages, see {@link CompletableFutureUtils#allCombineFailFastOf(CompletionStage, CompletionStage, Function2)}.
+     */
+    @Contract(pure = true)
+    public <T1, T2, R> Cffu<R> allCombineFailFastOf(
+            CompletionStage<? extends T1> cf1, CompletionStage<? extends T2> cf2,
+            Function2<? super T1, ? super T2, ? extends R> fn) {
+        return create(CompletableFutureUtils.allCombineFailFastOf(cf1, cf2, fn));
+    }
+
+    /**
+     * Variant of {@link #allCombineFailFastOf(CompletionStage, CompletionStage, Function2)} for 3 stages.
+     */
+    @Contract(pure = true)
+    public <T1, T2, T3, R> Cffu<R> allCombineFailFastOf(
+            CompletionStage<? extends T1> cf1, CompletionStage<? extends T2> cf2, CompletionStage<? extends T3> cf3,
+            Function3<? super T1, ? super T2, ? super T3, ? extends R> fn) {
+        return create(CompletableFutureUtils.allCombineFailFastOf(cf1, cf2, cf3, fn));
+    }
+
+    /**
+     * Variant of {@link #allCombineFailFastOf(CompletionStage, CompletionStage, Function2)} for 4 stages.
+     */
+    @Contract(pure = true)
+    public <T1, T2, T3, T4, R> Cffu<R> allCombineFailFastOf(
+            CompletionStage<? extends T1> cf1, CompletionStage<? extends T2> cf2,
+            CompletionStage<? extends T3> cf3, CompletionStage<? extends T4> cf4,
+            Function4<? super T1, ? super T2, ? super T3, ? super T4, ? extends R> fn) {
+        return create(CompletableFutureUtils.allCombineFailFastOf(cf1, cf2, cf3, cf4, fn));
+    }
+
+    /**
+     * Variant of {@link #allCombineFailFastOf(CompletionStage, CompletionStage, Function2)} for 5 stages.
+     */
+    @Contract(pure = true)
+    public <T1, T2, T3, T4, T5, R> Cffu<R> allCombineFailFastOf(
+            CompletionStage<? extends T1> cf1, CompletionStage<? extends T2> cf2, CompletionStage<? extends T3> cf3,
+            CompletionStage<? extends T4> cf4, CompletionStage<? extends T5> cf5,
+            Function5<? super T1, ? super T2, ? super T3, ? super T4, ? super T5, ? extends R> fn) {
+        return create(CompletableFutureUtils.allCombineFailFastOf(cf1, cf2, cf3, cf4, cf5, fn));
+    }
+
+    /**
+     * Returns a new Cffu that is completed with the result of the given function applied to the results
+     * of the given stages, see {@link CompletableFutureUtils#allSuccessCombineOf(CompletionStage, CompletionStage, Function2)}.
+     */
+    @Contract(pure = true)
+    public <T1, T2, R> Cffu<R> allSuccessCombineOf(
+            CompletionStage<? extends T1> cf1, CompletionStage<? extends T2> cf2,
+            Function2<? super T1, ? super T2, ? extends R> fn) {
+        return create(CompletableFutureUtils.allSuccessCombineOf(cf1, cf2, fn));
+    }
+
+    /**
+     * Variant of {@link #allSuccessCombineOf(CompletionStage, CompletionStage, Function2)} for 3 stages.
+     */
+    @Contract(pure = true)
+    public <T1, T2, T3, R> Cffu<R> allSuccessCombineOf(
+            CompletionStage<? extends T1> cf1, CompletionStage<? extends T2> cf2, CompletionStage<? extends T3> cf3,
+            Function3<? super T1, ? super T2, ? super T3, ? extends R> fn) {
+        return create(CompletableFutureUtils.allSuccessCombineOf(cf1, cf2, cf3, fn));
+    }
+
+    /**
+     * Variant of {@link #allSuccessCombineOf(CompletionStage, CompletionStage, Function2)} for 4 stages.
+     */
+    @Contract(pure = true)
+    public <T1, T2, T3, T4, R> Cffu<R> allSuccessCombineOf(
+            CompletionStage<? extends T1> cf1, CompletionStage<? extends T2> cf2,
+            CompletionStage<? extends T3> cf3, CompletionStage<? extends T4> cf4,
+            Function4<? super T1, ? super T2, ? super T3, ? super T4, ? extends R> fn) {
+        return create(CompletableFutureUtils.allSuccessCombineOf(cf1, cf2, cf3, cf4, fn));
+    }
+
+    /**
+     * Variant of {@link #allSuccessCombineOf(CompletionStage, CompletionStage, Function2)} for 5 stages.
+     */
+    @Contract(pure = true)
+    public <T1, T2, T3, T4, T5, R> Cffu<R> allSuccessCombineOf(
+            CompletionStage<? extends T1> cf1, CompletionStage<? extends T2> cf2, CompletionStage<? extends T3> cf3,
+            CompletionStage<? extends T4> cf4, CompletionStage<? extends T5> cf5,
+            Function5<? super T1, ? super T2, ? super T3, ? super T4, ? super T5, ? extends R> fn) {
+        return create(CompletableFutureUtils.allSuccessCombineOf(cf1, cf2, cf3, cf4, cf5, fn));
+    }
+
+    /**
+     * Returns a new Cffu that is completed with the result of the given function applied to the results
+     * of the given stages, see {@link CompletableFutureUtils#mostSuccessCombineOf(long, TimeUnit, CompletionStage, CompletionStage, Function2)}.
+     */
+    @Contract(pure = true)
+    public <T1, T2, R> Cffu<R> mostSuccessCombineOf(
+            long timeout, TimeUnit unit,
+            CompletionStage<? extends T1> cf1, CompletionStage<? extends T2> cf2,
+            Function2<? super T1, ? super T2, ? extends R> fn) {
+        return create(CompletableFutureUtils.mostSuccessCombineOf(defaultExecutor, timeout, unit, cf1, cf2, fn));
+    }
+
+    /**
+     * Variant of {@link #mostSuccessCombineOf(long, TimeUnit, CompletionStage, CompletionStage, Function2)} for 3 stages.
+     */
+    @Contract(pure = true)
+    public <T1, T2, T3, R> Cffu<R> mostSuccessCombineOf(
+            long timeout, TimeUnit unit,
+            CompletionStage<? extends T1> cf1, CompletionStage<? extends T2> cf2, CompletionStage<? extends T3> cf3,
+            Function3<? super T1, ? super T2, ? super T3, ? extends R> fn) {
+        return create(CompletableFutureUtils.mostSuccessCombineOf(defaultExecutor, timeout, unit, cf1, cf2, cf3, fn));
+    }
+
+    /**
+     * Variant of {@link #mostSuccessCombineOf(long, TimeUnit, CompletionStage, CompletionStage, Function2)} for 4 stages.
+     */
+    @Contract(pure = true)
+    public <T1, T2, T3, T4, R> Cffu<R> mostSuccessCombineOf(
+            long timeout, TimeUnit unit,
+            CompletionStage<? extends T1> cf1, CompletionStage<? extends T2> cf2,
+            CompletionStage<? extends T3> cf3, CompletionStage<? extends T4> cf4,
+            Function4<? super T1, ? super T2, ? super T3, ? super T4, ? extends R> fn) {
+        return create(CompletableFutureUtils.mostSuccessCombineOf(defaultExecutor, timeout, unit, cf1, cf2, cf3, cf4, fn));
+    }
+
+    /**
+     * Variant of {@link #mostSuccessCombineOf(long, TimeUnit, CompletionStage, CompletionStage, Function2)} for 5 stages.
+     */
+    @Contract(pure = true)
+    public <T1, T2, T3, T4, T5, R> Cffu<R> mostSuccessCombineOf(
+            long timeout, TimeUnit unit,
+            CompletionStage<? extends T1> cf1, CompletionStage<? extends T2> cf2, CompletionStage<? extends T3> cf3,
+            CompletionStage<? extends T4> cf4, CompletionStage<? extends T5> cf5,
+            Function5<? super T1, ? super T2, ? super T3, ? super T4, ? super T5, ? extends R> fn) {
+        return create(CompletableFutureUtils.mostSuccessCombineOf(defaultExecutor, timeout, unit, cf1, cf2, cf3, cf4, cf5, fn));
+    }
+
     // endregion
     ////////////////////////////////////////////////////////////////////////////////
     // region## Immediate Value Argument Factory Methods
@@ -1360,4 +2467,36 @@ public final class CffuFactory {
     public boolean forbidObtrudeMethods() {
         return forbidObtrudeMethods;
     }
+
+    /**
+     * Returns the max count of actions running concurrently in one multi-actions fan-out
+     * ({@code mSupply*}/{@code mRun*} methods of this CffuFactory and {@code thenMApply*} methods of its Cffu);
+     * {@link Integer#MAX_VALUE} means no limit.
+     *
+     * @see CffuFactoryBuilder#maxConcurrency(int)
+     */
+    @Contract(pure = true)
+    public int maxConcurrency() {
+        return maxConcurrency;
+    }
+
+    /**
+     * Returns {@code callerParticipates} or not.
+     *
+     * @see CffuFactoryBuilder#callerParticipates(boolean)
+     */
+    @Contract(pure = true)
+    public boolean callerParticipates() {
+        return callerParticipates;
+    }
+
+    /**
+     * Returns {@code mutableResults} or not.
+     *
+     * @see CffuFactoryBuilder#mutableResults(boolean)
+     */
+    @Contract(pure = true)
+    public boolean mutableResults() {
+        return mutableResults;
+    }
 }
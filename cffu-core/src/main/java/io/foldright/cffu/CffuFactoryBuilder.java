@@ -33,6 +33,12 @@ public final class CffuFactoryBuilder {
 
     private volatile boolean forbidObtrudeMethods = false;
 
+    private volatile int maxConcurrency = Integer.MAX_VALUE;
+
+    private volatile boolean callerParticipates = false;
+
+    private volatile boolean mutableResults = false;
+
     CffuFactoryBuilder(Executor defaultExecutor) {
         this.defaultExecutor = new CffuDefaultExecutor(defaultExecutor);
     }
@@ -55,6 +61,52 @@ public final class CffuFactoryBuilder {
         return this;
     }
 
+    /**
+     * Sets the max count of actions running concurrently in one multi-actions fan-out, default is no limit.
+     * <p>
+     * The fan-outs are the {@code mSupply*}/{@code mRun*} methods of the built CffuFactory and the {@code thenMApply*}
+     * methods of its Cffu; at most {@code maxConcurrency} actions of one fan-out are submitted to the executor,
+     * and the next action is submitted when a running one completes. So a big fan-out does not flood
+     * the executor queue and starve other tasks.
+     *
+     * @throws IllegalArgumentException if the maxConcurrency is not positive
+     * @see CffuFactory#maxConcurrency()
+     * @see CompletableFutureUtils#mSupplyAsync(Executor, int, Supplier[])
+     */
+    public CffuFactoryBuilder maxConcurrency(int maxConcurrency) {
+        this.maxConcurrency = requireMaxConcurrency(maxConcurrency);
+        return this;
+    }
+
+    /**
+     * Sets {@code callerParticipates} or not, default is {@code false}.
+     * <p>
+     * If set, the calling thread of the multi-actions({@code mSupply*}/{@code mRun*}) methods of the built
+     * CffuFactory participates in running the actions, instead of submitting all actions to the executor;
+     * see {@link CompletableFutureUtils#callerParticipating(Executor)} for the trade-off.
+     *
+     * @see CffuFactory#callerParticipates()
+     */
+    public CffuFactoryBuilder callerParticipates(boolean participates) {
+        this.callerParticipates = participates;
+        return this;
+    }
+
+    /**
+     * Sets {@code mutableResults} or not, default is {@code false}.
+     * <p>
+     * The results lists of the {@code all*ResultsOf}/{@code mostSuccessResultsOf}/{@code allSettledOf}/{@code kSuccessOf}
+     * methods and the multi-actions({@code mSupply*}/{@code thenMApply*}) methods are unmodifiable views of the result
+     * arrays, WITHOUT copying; if set, the lists of the built CffuFactory and its Cffu are copied
+     * to {@link java.util.ArrayList}s instead, for the callers that modify the results.
+     *
+     * @see CffuFactory#mutableResults()
+     */
+    public CffuFactoryBuilder mutableResults(boolean mutable) {
+        this.mutableResults = mutable;
+        return this;
+    }
+
     /**
      * Builds the cffu factory.
      *
@@ -62,7 +114,8 @@ public final class CffuFactoryBuilder {
      */
     @Contract(pure = true)
     public CffuFactory build() {
-        return new CffuFactory(defaultExecutor, forbidObtrudeMethods);
+        return new CffuFactory(
+                defaultExecutor, forbidObtrudeMethods, maxConcurrency, callerParticipates, mutableResults);
     }
 
     /**
@@ -74,7 +127,7 @@ public final class CffuFactoryBuilder {
     @SuppressFBWarnings(value = "NP_NONNULL_PARAM_VIOLATION", justification = "null executor param is intentional for poison")
     @SuppressWarnings("DataFlowIssue")
     private static CffuFactory _poisonObject() {
-        return new CffuFactory(null, false);
+        return new CffuFactory(null, false, Integer.MAX_VALUE, false, false);
     }
 
     // endregion
@@ -85,7 +138,21 @@ public final class CffuFactoryBuilder {
     @Contract(pure = true)
     static CffuFactory withDefaultExecutor(CffuFactory fac, Executor defaultExecutor) {
         if (fac.defaultExecutor.original == defaultExecutor) return fac;
-        return new CffuFactory(new CffuDefaultExecutor(defaultExecutor), fac.forbidObtrudeMethods());
+        return new CffuFactory(new CffuDefaultExecutor(defaultExecutor),
+                fac.forbidObtrudeMethods(), fac.maxConcurrency(), fac.callerParticipates(), fac.mutableResults());
+    }
+
+    @Contract(pure = true)
+    static CffuFactory withMaxConcurrency(CffuFactory fac, int maxConcurrency) {
+        if (fac.maxConcurrency() == requireMaxConcurrency(maxConcurrency)) return fac;
+        return new CffuFactory(fac.defaultExecutor, fac.forbidObtrudeMethods(), maxConcurrency,
+                fac.callerParticipates(), fac.mutableResults());
+    }
+
+    private static int requireMaxConcurrency(int maxConcurrency) {
+        if (maxConcurrency <= 0)
+            throw new IllegalArgumentException("maxConcurrency is not positive: " + maxConcurrency);
+        return maxConcurrency;
     }
 
     /**
@@ -138,6 +205,16 @@ public final class CffuFactoryBuilder {
         return wrapExecutorWithProviders(executor, executor);
     }
 
+    /**
+     * Returns the executor given by the user, unwrapping the wrapper made by cffu if any.
+     */
+    @SuppressWarnings("ConstantValue")
+    static Executor cffuOriginal(Executor executor) {
+        if (executor instanceof CffuDefaultExecutor) return ((CffuDefaultExecutor) executor).original;
+        if (executor instanceof CffuMadeExecutor) return ((CffuMadeExecutor) executor).original;
+        return executor;
+    }
+
     private static CffuMadeExecutor wrapExecutorWithProviders(Executor executor, Executor original) {
         if (executor instanceof CffuMadeExecutor)
             throw new IllegalArgumentException("input executor should never be a CffuMadeExecutor");
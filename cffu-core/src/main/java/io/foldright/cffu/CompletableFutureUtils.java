@@ -3,7 +3,11 @@ package io.foldright.cffu;
 import com.google.common.util.concurrent.Futures;
 import edu.umd.cs.findbugs.annotations.CheckReturnValue;
 import edu.umd.cs.findbugs.annotations.Nullable;
-import io.foldright.cffu.internal.CommonUtils;
+import io.foldright.cffu.BoundedFanOut.CallerParticipatingExecutor;
+import io.foldright.cffu.function.Function2;
+import io.foldright.cffu.function.Function3;
+import io.foldright.cffu.function.Function4;
+import io.foldright.cffu.function.Function5;
 import io.foldright.cffu.tuple.Tuple2;
 import io.foldright.cffu.tuple.Tuple3;
 import io.foldright.cffu.tuple.Tuple4;
@@ -11,11 +15,17 @@ import io.foldright.cffu.tuple.Tuple5;
 import org.jetbrains.annotations.Blocking;
 import org.jetbrains.annotations.Contract;
 
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.*;
-import java.util.concurrent.atomic.AtomicReferenceArray;
 import java.util.function.*;
 
+import static io.foldright.cffu.BoundedFanOut.isCallerParticipating;
 import static io.foldright.cffu.Delayer.atCfDelayerThread;
 import static io.foldright.cffu.LLCF.*;
 import static io.foldright.cffu.eh.SwallowedExceptionHandleUtils.handleAllSwallowedExceptions;
@@ -89,6 +99,151 @@ public final class CompletableFutureUtils {
         return ret;
     }
 
+    /**
+     * Same as {@link #mSupplyFailFastAsync(Executor, Supplier[])}, except that at most {@code maxConcurrency} suppliers
+     * are in flight: the suppliers are submitted to the executor one by one as the running ones complete, instead of
+     * all at once; so a big fan-out does not flood the executor queue and starve other tasks. No thread blocks to wait
+     * for a free slot.
+     *
+     * @param maxConcurrency the max count of suppliers running concurrently
+     * @throws IllegalArgumentException if the maxConcurrency is not positive
+     */
+    @CheckReturnValue(explanation = "should use the returned CompletableFuture; otherwise, prefer simple method `mRunAsync`")
+    @SafeVarargs
+    public static <T> CompletableFuture<List<T>> mSupplyFailFastAsync(
+            Executor executor, int maxConcurrency, Supplier<? extends T>... suppliers) {
+        requireNonNull(executor, "executor is null");
+        requireMaxConcurrency(maxConcurrency);
+        requireArrayAndEleNonNull("supplier", suppliers);
+
+        CompletableFuture<? extends T>[] inputs = wrapSuppliers0(executor, maxConcurrency, suppliers);
+        CompletableFuture<List<T>> ret = allResultsOf0(true, inputs);
+        handleSwallowedExceptions("mSupplyFailFastAsync", ret, inputs);
+        return ret;
+    }
+
+    /**
+     * Shortcut to method {@link #allResultsFailFastSalvageOf(CompletionStage[]) allResultsFailFastSalvageOf},
+     * wraps input suppliers to CompletableFuture by {@link CompletableFuture#supplyAsync(Supplier)}.
+     * <p>
+     * See the {@link #allResultsFailFastSalvageOf(CompletionStage[]) allResultsFailFastSalvageOf} documentation
+     * for the rules of result computation; the missing inputs can be re-run by
+     * {@link #retryFailedAsync(PartialResultsException, Supplier[]) retryFailedAsync} with the same suppliers.
+     */
+    @CheckReturnValue(explanation = "should use the returned CompletableFuture; otherwise, prefer simple method `mRunAsync`")
+    @SafeVarargs
+    public static <T> CompletableFuture<List<T>> mSupplyFailFastSalvageAsync(Supplier<? extends T>... suppliers) {
+        return mSupplyFailFastSalvageAsync(ASYNC_POOL, suppliers);
+    }
+
+    /**
+     * Shortcut to method {@link #allResultsFailFastSalvageOf(CompletionStage[]) allResultsFailFastSalvageOf},
+     * wraps input suppliers to CompletableFuture by {@link CompletableFuture#supplyAsync(Supplier, Executor)}.
+     * <p>
+     * See the {@link #allResultsFailFastSalvageOf(CompletionStage[]) allResultsFailFastSalvageOf} documentation
+     * for the rules of result computation; the missing inputs can be re-run by
+     * {@link #retryFailedAsync(Executor, PartialResultsException, Supplier[]) retryFailedAsync} with the same suppliers.
+     */
+    @CheckReturnValue(explanation = "should use the returned CompletableFuture; otherwise, prefer simple method `mRunAsync`")
+    @SafeVarargs
+    public static <T> CompletableFuture<List<T>> mSupplyFailFastSalvageAsync(
+            Executor executor, Supplier<? extends T>... suppliers) {
+        return mSupplyFailFastSalvageAsync(executor, Integer.MAX_VALUE, suppliers);
+    }
+
+    /**
+     * Same as {@link #mSupplyFailFastSalvageAsync(Executor, Supplier[])},
+     * except at most {@code maxConcurrency} actions run at a time.
+     *
+     * @param maxConcurrency the max count of suppliers running concurrently
+     * @throws IllegalArgumentException if the maxConcurrency is not positive
+     */
+    @CheckReturnValue(explanation = "should use the returned CompletableFuture; otherwise, prefer simple method `mRunAsync`")
+    @SafeVarargs
+    public static <T> CompletableFuture<List<T>> mSupplyFailFastSalvageAsync(
+            Executor executor, int maxConcurrency, Supplier<? extends T>... suppliers) {
+        requireNonNull(executor, "executor is null");
+        requireMaxConcurrency(maxConcurrency);
+        requireArrayAndEleNonNull("supplier", suppliers);
+
+        CompletableFuture<? extends T>[] inputs = wrapSuppliers0(executor, maxConcurrency, suppliers);
+        CompletableFuture<List<T>> ret = allResultsFailFastSalvageOf0(Arrays.asList(inputs));
+        handleSwallowedExceptions("mSupplyFailFastSalvageAsync", ret, inputs);
+        return ret;
+    }
+
+    /**
+     * Re-runs ONLY the failed and unfinished inputs of the given {@link PartialResultsException} by the suppliers
+     * of the same indexes(aka the suppliers of the salvaged call), and merges their results with the salvaged
+     * results; the suppliers of the successful inputs are not called again.
+     * <p>
+     * The returned CompletableFuture has the same fail-fast salvage behavior as
+     * {@link #mSupplyFailFastSalvageAsync(Supplier[]) mSupplyFailFastSalvageAsync}: if any retried supplier fails,
+     * it completes exceptionally with a new {@link PartialResultsException} holding the merged results so far,
+     * which can be retried again.
+     * <p>
+     * <strong>CAUTION:</strong> the unfinished inputs of the salvaged call are NOT cancelled, and are re-run
+     * by this method; the suppliers should be idempotent.
+     *
+     * @param partial   the exception of the salvaged call
+     * @param suppliers the suppliers of the salvaged call; the count must be the same as {@link PartialResultsException#size()}
+     * @throws IllegalArgumentException if the count of suppliers is not the same as the count of inputs of the partial results
+     */
+    @CheckReturnValue(explanation = "should use the returned CompletableFuture; otherwise, prefer simple method `mRunAsync`")
+    @SafeVarargs
+    public static <T> CompletableFuture<List<T>> retryFailedAsync(
+            PartialResultsException partial, Supplier<? extends T>... suppliers) {
+        return retryFailedAsync(ASYNC_POOL, partial, suppliers);
+    }
+
+    /**
+     * Re-runs ONLY the failed and unfinished inputs of the given {@link PartialResultsException} by the suppliers
+     * of the same indexes using the given executor, and merges their results with the salvaged results;
+     * see {@link #retryFailedAsync(PartialResultsException, Supplier[])}.
+     *
+     * @param executor  the executor to use for asynchronous execution
+     * @param partial   the exception of the salvaged call
+     * @param suppliers the suppliers of the salvaged call; the count must be the same as {@link PartialResultsException#size()}
+     * @throws IllegalArgumentException if the count of suppliers is not the same as the count of inputs of the partial results
+     */
+    @CheckReturnValue(explanation = "should use the returned CompletableFuture; otherwise, prefer simple method `mRunAsync`")
+    @SafeVarargs
+    public static <T> CompletableFuture<List<T>> retryFailedAsync(
+            Executor executor, PartialResultsException partial, Supplier<? extends T>... suppliers) {
+        return retryFailedAsync(executor, partial, Integer.MAX_VALUE, suppliers);
+    }
+
+    /**
+     * Same as {@link #retryFailedAsync(Executor, PartialResultsException, Supplier[])},
+     * except at most {@code maxConcurrency} retried actions run at a time.
+     *
+     * @param maxConcurrency the max count of suppliers running concurrently
+     * @throws IllegalArgumentException if the maxConcurrency is not positive, or the count of suppliers
+     *                                  is not the same as the count of inputs of the partial results
+     */
+    @CheckReturnValue(explanation = "should use the returned CompletableFuture; otherwise, prefer simple method `mRunAsync`")
+    @SafeVarargs
+    public static <T> CompletableFuture<List<T>> retryFailedAsync(
+            Executor executor, PartialResultsException partial, int maxConcurrency,
+            Supplier<? extends T>... suppliers) {
+        requireNonNull(executor, "executor is null");
+        requireNonNull(partial, "partial is null");
+        requireMaxConcurrency(maxConcurrency);
+        requireArrayAndEleNonNull("supplier", suppliers);
+        if (suppliers.length != partial.size()) throw new IllegalArgumentException(
+                "count of suppliers(" + suppliers.length + ") is not the same as count of inputs(" + partial.size() + ")");
+
+        final int[] missingIndexes = partial.missingIndexes();
+        @SuppressWarnings("unchecked")
+        final Supplier<? extends T>[] missingSuppliers = new Supplier[missingIndexes.length];
+        for (int i = 0; i < missingIndexes.length; i++) missingSuppliers[i] = suppliers[missingIndexes[i]];
+        final CompletableFuture<? extends T>[] retried = wrapSuppliers0(executor, maxConcurrency, missingSuppliers);
+
+        CompletableFuture<List<T>> ret = f_cast(SalvageAggregator.retryOf(partial, missingIndexes, retried));
+        handleSwallowedExceptions("retryFailedAsync", ret, retried);
+        return ret;
+    }
+
     /**
      * Shortcut to method {@link #allSuccessResultsOf allSuccessResultsOf}, wraps input suppliers to
      * CompletableFuture by {@link CompletableFuture#supplyAsync(Supplier)}.
@@ -120,6 +275,26 @@ public final class CompletableFutureUtils {
         return allSuccessResultsOf0(valueIfFailed, inputs);
     }
 
+    /**
+     * Same as {@link #mSupplyAllSuccessAsync(Executor, Object, Supplier[])},
+     * except at most {@code maxConcurrency} actions run at a time.
+     *
+     * @param maxConcurrency the max count of suppliers running concurrently
+     * @throws IllegalArgumentException if the maxConcurrency is not positive
+     */
+    @CheckReturnValue(explanation = "should use the returned CompletableFuture; otherwise, prefer simple method `mRunAsync`")
+    @SafeVarargs
+    public static <T> CompletableFuture<List<T>> mSupplyAllSuccessAsync(
+            Executor executor, @Nullable T valueIfFailed, int maxConcurrency, Supplier<? extends T>... suppliers) {
+        requireNonNull(executor, "executor is null");
+        requireMaxConcurrency(maxConcurrency);
+        requireArrayAndEleNonNull("supplier", suppliers);
+
+        CompletableFuture<? extends T>[] inputs = wrapSuppliers0(executor, maxConcurrency, suppliers);
+        handleAllSwallowedExceptions("mSupplyAllSuccessAsync", inputs);
+        return allSuccessResultsOf0(valueIfFailed, inputs);
+    }
+
     /**
      * Shortcut to method {@link #mostSuccessResultsOf(Object, long, TimeUnit, CompletionStage[]) mostSuccessResultsOf},
      * wraps input suppliers to CompletableFuture by {@link CompletableFuture#supplyAsync(Supplier)}.
@@ -155,6 +330,137 @@ public final class CompletableFutureUtils {
         return mostSuccessResultsOf0(executor, valueIfNotSuccess, timeout, unit, inputs);
     }
 
+    /**
+     * Same as {@link #mSupplyMostSuccessAsync(Executor, Object, long, TimeUnit, Supplier[])},
+     * except at most {@code maxConcurrency} actions run at a time.
+     *
+     * @param maxConcurrency the max count of suppliers running concurrently
+     * @throws IllegalArgumentException if the maxConcurrency is not positive
+     */
+    @CheckReturnValue(explanation = "should use the returned CompletableFuture; otherwise, prefer simple method `mRunAsync`")
+    @SafeVarargs
+    public static <T> CompletableFuture<List<T>> mSupplyMostSuccessAsync(
+            Executor executor, @Nullable T valueIfNotSuccess, long timeout, TimeUnit unit,
+            int maxConcurrency, Supplier<? extends T>... suppliers) {
+        requireNonNull(executor, "executor is null");
+        requireMaxConcurrency(maxConcurrency);
+        requireNonNull(unit, "unit is null");
+        requireArrayAndEleNonNull("supplier", suppliers);
+
+        CompletableFuture<? extends T>[] inputs = wrapSuppliers0(executor, maxConcurrency, suppliers);
+        handleAllSwallowedExceptions("mSupplyMostSuccessAsync", inputs);
+        return mostSuccessResultsOf0(executor, valueIfNotSuccess, timeout, unit, inputs);
+    }
+
+    /**
+     * Shortcut to method {@link #allSuccessResultsSpilledOf(SpillOptions, Object, CompletionStage[])
+     * allSuccessResultsSpilledOf}, wraps input suppliers to CompletableFuture by
+     * {@link CompletableFuture#supplyAsync(Supplier)}.
+     * <p>
+     * See the {@link #allSuccessResultsSpilledOf(SpillOptions, Object, CompletionStage[]) allSuccessResultsSpilledOf}
+     * documentation for the rules of result computation.
+     */
+    @CheckReturnValue(explanation = "should use the returned CompletableFuture; otherwise, prefer simple method `mRunAsync`")
+    @SafeVarargs
+    public static <T> CompletableFuture<SpilledResultList<T>> mSupplyAllSuccessSpilledAsync(
+            SpillOptions<T> spill, @Nullable T valueIfFailed, Supplier<? extends T>... suppliers) {
+        return mSupplyAllSuccessSpilledAsync(ASYNC_POOL, spill, valueIfFailed, suppliers);
+    }
+
+    /**
+     * Shortcut to method {@link #allSuccessResultsSpilledOf(SpillOptions, Object, CompletionStage[])
+     * allSuccessResultsSpilledOf}, wraps input suppliers to CompletableFuture by
+     * {@link CompletableFuture#supplyAsync(Supplier, Executor)}.
+     * <p>
+     * See the {@link #allSuccessResultsSpilledOf(SpillOptions, Object, CompletionStage[]) allSuccessResultsSpilledOf}
+     * documentation for the rules of result computation.
+     */
+    @CheckReturnValue(explanation = "should use the returned CompletableFuture; otherwise, prefer simple method `mRunAsync`")
+    @SafeVarargs
+    public static <T> CompletableFuture<SpilledResultList<T>> mSupplyAllSuccessSpilledAsync(
+            Executor executor, SpillOptions<T> spill, @Nullable T valueIfFailed, Supplier<? extends T>... suppliers) {
+        return mSupplyAllSuccessSpilledAsync(executor, spill, valueIfFailed, Integer.MAX_VALUE, suppliers);
+    }
+
+    /**
+     * Same as {@link #mSupplyAllSuccessSpilledAsync(Executor, SpillOptions, Object, Supplier[])},
+     * except at most {@code maxConcurrency} actions run at a time.
+     *
+     * @param maxConcurrency the max count of suppliers running concurrently
+     * @throws IllegalArgumentException if the maxConcurrency is not positive
+     */
+    @CheckReturnValue(explanation = "should use the returned CompletableFuture; otherwise, prefer simple method `mRunAsync`")
+    @SafeVarargs
+    public static <T> CompletableFuture<SpilledResultList<T>> mSupplyAllSuccessSpilledAsync(
+            Executor executor, SpillOptions<T> spill, @Nullable T valueIfFailed, int maxConcurrency,
+            Supplier<? extends T>... suppliers) {
+        requireNonNull(executor, "executor is null");
+        requireNonNull(spill, "spill is null");
+        requireMaxConcurrency(maxConcurrency);
+        requireArrayAndEleNonNull("supplier", suppliers);
+
+        CompletableFuture<? extends T>[] inputs = wrapSuppliers0(executor, maxConcurrency, suppliers);
+        handleAllSwallowedExceptions("mSupplyAllSuccessSpilledAsync", inputs);
+        return SpillingCollector.allSuccessResultsOf(spill, valueIfFailed, Arrays.asList(inputs));
+    }
+
+    /**
+     * Shortcut to method {@link #mostSuccessResultsSpilledOf(SpillOptions, Object, long, TimeUnit, CompletionStage[])
+     * mostSuccessResultsSpilledOf}, wraps input suppliers to CompletableFuture by
+     * {@link CompletableFuture#supplyAsync(Supplier)}.
+     * <p>
+     * See the {@link #mostSuccessResultsSpilledOf(SpillOptions, Object, long, TimeUnit, CompletionStage[])
+     * mostSuccessResultsSpilledOf} documentation for the rules of result computation.
+     */
+    @CheckReturnValue(explanation = "should use the returned CompletableFuture; otherwise, prefer simple method `mRunAsync`")
+    @SafeVarargs
+    public static <T> CompletableFuture<SpilledResultList<T>> mSupplyMostSuccessSpilledAsync(
+            SpillOptions<T> spill, @Nullable T valueIfNotSuccess, long timeout, TimeUnit unit,
+            Supplier<? extends T>... suppliers) {
+        return mSupplyMostSuccessSpilledAsync(ASYNC_POOL, spill, valueIfNotSuccess, timeout, unit, suppliers);
+    }
+
+    /**
+     * Shortcut to method {@link #mostSuccessResultsSpilledOf(Executor, SpillOptions, Object, long, TimeUnit, CompletionStage[])
+     * mostSuccessResultsSpilledOf}, wraps input suppliers to CompletableFuture by
+     * {@link CompletableFuture#supplyAsync(Supplier, Executor)}.
+     * <p>
+     * See the {@link #mostSuccessResultsSpilledOf(SpillOptions, Object, long, TimeUnit, CompletionStage[])
+     * mostSuccessResultsSpilledOf} documentation for the rules of result computation.
+     */
+    @CheckReturnValue(explanation = "should use the returned CompletableFuture; otherwise, prefer simple method `mRunAsync`")
+    @SafeVarargs
+    public static <T> CompletableFuture<SpilledResultList<T>> mSupplyMostSuccessSpilledAsync(
+            Executor executor, SpillOptions<T> spill, @Nullable T valueIfNotSuccess, long timeout, TimeUnit unit,
+            Supplier<? extends T>... suppliers) {
+        return mSupplyMostSuccessSpilledAsync(
+                executor, spill, valueIfNotSuccess, timeout, unit, Integer.MAX_VALUE, suppliers);
+    }
+
+    /**
+     * Same as {@link #mSupplyMostSuccessSpilledAsync(Executor, SpillOptions, Object, long, TimeUnit, Supplier[])},
+     * except at most {@code maxConcurrency} actions run at a time.
+     *
+     * @param maxConcurrency the max count of suppliers running concurrently
+     * @throws IllegalArgumentException if the maxConcurrency is not positive
+     */
+    @CheckReturnValue(explanation = "should use the returned CompletableFuture; otherwise, prefer simple method `mRunAsync`")
+    @SafeVarargs
+    public static <T> CompletableFuture<SpilledResultList<T>> mSupplyMostSuccessSpilledAsync(
+            Executor executor, SpillOptions<T> spill, @Nullable T valueIfNotSuccess, long timeout, TimeUnit unit,
+            int maxConcurrency, Supplier<? extends T>... suppliers) {
+        requireNonNull(executor, "executor is null");
+        requireNonNull(spill, "spill is null");
+        requireNonNull(unit, "unit is null");
+        requireMaxConcurrency(maxConcurrency);
+        requireArrayAndEleNonNull("supplier", suppliers);
+
+        CompletableFuture<? extends T>[] inputs = wrapSuppliers0(executor, maxConcurrency, suppliers);
+        handleAllSwallowedExceptions("mSupplyMostSuccessSpilledAsync", inputs);
+        return SpillingCollector.mostSuccessResultsOf(
+                executor, spill, valueIfNotSuccess, timeout, unit, Arrays.asList(inputs));
+    }
+
     /**
      * Shortcut to method {@link #allResultsOf allResultsOf}, wraps input suppliers to
      * CompletableFuture by {@link CompletableFuture#supplyAsync(Supplier)}.
@@ -185,6 +491,70 @@ public final class CompletableFutureUtils {
         return ret;
     }
 
+    /**
+     * Same as {@link #mSupplyAsync(Executor, Supplier[])}, except at most {@code maxConcurrency} actions run at a time.
+     *
+     * @param maxConcurrency the max count of suppliers running concurrently
+     * @throws IllegalArgumentException if the maxConcurrency is not positive
+     */
+    @CheckReturnValue(explanation = "should use the returned CompletableFuture; otherwise, prefer simple method `mRunAsync`")
+    @SafeVarargs
+    public static <T> CompletableFuture<List<T>> mSupplyAsync(
+            Executor executor, int maxConcurrency, Supplier<? extends T>... suppliers) {
+        requireNonNull(executor, "executor is null");
+        requireMaxConcurrency(maxConcurrency);
+        requireArrayAndEleNonNull("supplier", suppliers);
+
+        CompletableFuture<? extends T>[] inputs = wrapSuppliers0(executor, maxConcurrency, suppliers);
+        CompletableFuture<List<T>> ret = allResultsOf0(false, inputs);
+        handleSwallowedExceptions("mSupplyAsync", ret, inputs);
+        return ret;
+    }
+
+    /**
+     * Shortcut to method {@link #allSettledOf(CompletionStage[]) allSettledOf}, wraps input suppliers to
+     * CompletableFuture by {@link CompletableFuture#supplyAsync(Supplier)}.
+     * <p>
+     * See the {@link #allSettledOf(CompletionStage[]) allSettledOf} documentation for the rules of result computation.
+     */
+    @CheckReturnValue(explanation = "should use the returned CompletableFuture; otherwise, prefer simple method `mRunAsync`")
+    @SafeVarargs
+    public static <T> CompletableFuture<List<Try<T>>> mSupplySettledAsync(Supplier<? extends T>... suppliers) {
+        return mSupplySettledAsync(ASYNC_POOL, suppliers);
+    }
+
+    /**
+     * Shortcut to method {@link #allSettledOf(CompletionStage[]) allSettledOf}, wraps input suppliers to
+     * CompletableFuture by {@link CompletableFuture#supplyAsync(Supplier, Executor)}.
+     * <p>
+     * See the {@link #allSettledOf(CompletionStage[]) allSettledOf} documentation for the rules of result computation.
+     */
+    @CheckReturnValue(explanation = "should use the returned CompletableFuture; otherwise, prefer simple method `mRunAsync`")
+    @SafeVarargs
+    public static <T> CompletableFuture<List<Try<T>>> mSupplySettledAsync(
+            Executor executor, Supplier<? extends T>... suppliers) {
+        return mSupplySettledAsync(executor, Integer.MAX_VALUE, suppliers);
+    }
+
+    /**
+     * Same as {@link #mSupplySettledAsync(Executor, Supplier[])},
+     * except at most {@code maxConcurrency} actions run at a time.
+     *
+     * @param maxConcurrency the max count of suppliers running concurrently
+     * @throws IllegalArgumentException if the maxConcurrency is not positive
+     */
+    @CheckReturnValue(explanation = "should use the returned CompletableFuture; otherwise, prefer simple method `mRunAsync`")
+    @SafeVarargs
+    public static <T> CompletableFuture<List<Try<T>>> mSupplySettledAsync(
+            Executor executor, int maxConcurrency, Supplier<? extends T>... suppliers) {
+        requireNonNull(executor, "executor is null");
+        requireMaxConcurrency(maxConcurrency);
+        requireArrayAndEleNonNull("supplier", suppliers);
+
+        // no swallowed exceptions to report: the exception of each supplier is recorded in the returned results
+        return allSettledOf0(Arrays.asList(wrapSuppliers0(executor, maxConcurrency, suppliers)));
+    }
+
     /**
      * Shortcut to method {@link #anySuccessOf anySuccessOf}, wraps input suppliers to
      * CompletableFuture by {@link CompletableFuture#supplyAsync(Supplier)}.
@@ -216,6 +586,75 @@ public final class CompletableFutureUtils {
         return ret;
     }
 
+    /**
+     * Same as {@link #mSupplyAnySuccessAsync(Executor, Supplier[])},
+     * except at most {@code maxConcurrency} actions run at a time.
+     *
+     * @param maxConcurrency the max count of suppliers running concurrently
+     * @throws IllegalArgumentException if the maxConcurrency is not positive
+     */
+    @CheckReturnValue(explanation = "should use the returned CompletableFuture; otherwise, prefer simple method `mRunAsync`")
+    @SafeVarargs
+    public static <T> CompletableFuture<T> mSupplyAnySuccessAsync(
+            Executor executor, int maxConcurrency, Supplier<? extends T>... suppliers) {
+        requireNonNull(executor, "executor is null");
+        requireMaxConcurrency(maxConcurrency);
+        requireArrayAndEleNonNull("supplier", suppliers);
+
+        CompletableFuture<? extends T>[] inputs = wrapSuppliers0(executor, maxConcurrency, suppliers);
+        CompletableFuture<T> ret = anySuccessOf0(inputs);
+        handleSwallowedExceptions("mSupplyAnySuccessAsync", ret, inputs);
+        return ret;
+    }
+
+    /**
+     * Shortcut to method {@link #kSuccessOf(int, CompletionStage[]) kSuccessOf}, wraps input suppliers to
+     * CompletableFuture by {@link CompletableFuture#supplyAsync(Supplier)}.
+     * <p>
+     * See the {@link #kSuccessOf(int, CompletionStage[]) kSuccessOf} documentation for the rules of result computation.
+     */
+    @CheckReturnValue(explanation = "should use the returned CompletableFuture; otherwise, prefer simple method `mRunAsync`")
+    @SafeVarargs
+    public static <T> CompletableFuture<List<IndexedResult<T>>> mSupplyKSuccessAsync(
+            int k, Supplier<? extends T>... suppliers) {
+        return mSupplyKSuccessAsync(ASYNC_POOL, k, suppliers);
+    }
+
+    /**
+     * Shortcut to method {@link #kSuccessOf(int, CompletionStage[]) kSuccessOf}, wraps input suppliers to
+     * CompletableFuture by {@link CompletableFuture#supplyAsync(Supplier, Executor)}.
+     * <p>
+     * See the {@link #kSuccessOf(int, CompletionStage[]) kSuccessOf} documentation for the rules of result computation.
+     */
+    @CheckReturnValue(explanation = "should use the returned CompletableFuture; otherwise, prefer simple method `mRunAsync`")
+    @SafeVarargs
+    public static <T> CompletableFuture<List<IndexedResult<T>>> mSupplyKSuccessAsync(
+            Executor executor, int k, Supplier<? extends T>... suppliers) {
+        return mSupplyKSuccessAsync(executor, k, Integer.MAX_VALUE, suppliers);
+    }
+
+    /**
+     * Same as {@link #mSupplyKSuccessAsync(Executor, int, Supplier[])},
+     * except at most {@code maxConcurrency} actions run at a time.
+     *
+     * @param maxConcurrency the max count of suppliers running concurrently
+     * @throws IllegalArgumentException if the maxConcurrency is not positive
+     */
+    @CheckReturnValue(explanation = "should use the returned CompletableFuture; otherwise, prefer simple method `mRunAsync`")
+    @SafeVarargs
+    public static <T> CompletableFuture<List<IndexedResult<T>>> mSupplyKSuccessAsync(
+            Executor executor, int k, int maxConcurrency, Supplier<? extends T>... suppliers) {
+        requireNonNull(executor, "executor is null");
+        requireMaxConcurrency(maxConcurrency);
+        requireArrayAndEleNonNull("supplier", suppliers);
+        requireKInRange(k, suppliers.length);
+
+        CompletableFuture<? extends T>[] inputs = wrapSuppliers0(executor, maxConcurrency, suppliers);
+        CompletableFuture<List<IndexedResult<T>>> ret = KSuccessAggregator.kSuccessOf(k, inputs);
+        handleSwallowedExceptions("mSupplyKSuccessAsync", ret, inputs);
+        return ret;
+    }
+
     /**
      * Shortcut to method {@link #anyOf anyOf}, wraps input suppliers to
      * CompletableFuture by {@link CompletableFuture#supplyAsync(Supplier)}.
@@ -241,15 +680,50 @@ public final class CompletableFutureUtils {
         requireArrayAndEleNonNull("supplier", suppliers);
 
         CompletableFuture<? extends T>[] inputs = wrapSuppliers0(executor, suppliers);
-        CompletableFuture<T> ret = f_cast(CompletableFuture.anyOf(inputs));
+        CompletableFuture<T> ret = SingleWinnerAggregator.anyOf(Arrays.asList(inputs));
+        handleSwallowedExceptions("mSupplyAnyAsync", ret, inputs);
+        return ret;
+    }
+
+    /**
+     * Same as {@link #mSupplyAnyAsync(Executor, Supplier[])},
+     * except at most {@code maxConcurrency} actions run at a time.
+     *
+     * @param maxConcurrency the max count of suppliers running concurrently
+     * @throws IllegalArgumentException if the maxConcurrency is not positive
+     */
+    @CheckReturnValue(explanation = "should use the returned CompletableFuture; otherwise, prefer simple method `mRunAsync`")
+    @SafeVarargs
+    public static <T> CompletableFuture<T> mSupplyAnyAsync(
+            Executor executor, int maxConcurrency, Supplier<? extends T>... suppliers) {
+        requireNonNull(executor, "executor is null");
+        requireMaxConcurrency(maxConcurrency);
+        requireArrayAndEleNonNull("supplier", suppliers);
+
+        CompletableFuture<? extends T>[] inputs = wrapSuppliers0(executor, maxConcurrency, suppliers);
+        CompletableFuture<T> ret = SingleWinnerAggregator.anyOf(Arrays.asList(inputs));
         handleSwallowedExceptions("mSupplyAnyAsync", ret, inputs);
         return ret;
     }
 
     private static <T> CompletableFuture<? extends T>[] wrapSuppliers0(Executor executor, Supplier<? extends T>[] suppliers) {
+        if (isCallerParticipating(executor))
+            return BoundedFanOut.supplyAsync(executor, Integer.MAX_VALUE, true, suppliers);
         return mapArray(suppliers, CompletableFuture[]::new, s -> CompletableFuture.supplyAsync(s, executor));
     }
 
+    private static <T> CompletableFuture<? extends T>[] wrapSuppliers0(
+            Executor executor, int maxConcurrency, Supplier<? extends T>[] suppliers) {
+        if (maxConcurrency >= suppliers.length) return wrapSuppliers0(executor, suppliers);
+        return BoundedFanOut.supplyAsync(
+                executor, maxConcurrency, isCallerParticipating(executor), suppliers);
+    }
+
+    private static void requireMaxConcurrency(int maxConcurrency) {
+        if (maxConcurrency <= 0)
+            throw new IllegalArgumentException("maxConcurrency is not positive: " + maxConcurrency);
+    }
+
     /**
      * Shortcut to method {@link #allFailFastOf allFailFastOf}, wraps input actions to
      * CompletableFuture by {@link CompletableFuture#runAsync(Runnable)}.
@@ -279,10 +753,30 @@ public final class CompletableFutureUtils {
     }
 
     /**
-     * Shortcut to method {@link #allOf allOf}, wraps input actions to
-     * CompletableFuture by {@link CompletableFuture#runAsync(Runnable)}.
-     * <p>
-     * See the {@link #allOf allOf} documentation for the rules of result computation.
+     * Same as {@link #mRunFailFastAsync(Executor, Runnable[])},
+     * except at most {@code maxConcurrency} actions run at a time.
+     *
+     * @param maxConcurrency the max count of actions running concurrently
+     * @throws IllegalArgumentException if the maxConcurrency is not positive
+     */
+    @CheckReturnValue(explanation = "should use the returned CompletableFuture; otherwise, prefer simple method `mRunAsync`")
+    public static CompletableFuture<Void> mRunFailFastAsync(
+            Executor executor, int maxConcurrency, Runnable... actions) {
+        requireNonNull(executor, "executor is null");
+        requireMaxConcurrency(maxConcurrency);
+        requireArrayAndEleNonNull("action", actions);
+
+        CompletableFuture<Void>[] inputs = wrapRunnables0(executor, maxConcurrency, actions);
+        CompletableFuture<Void> ret = allFailFastOf0(inputs);
+        handleSwallowedExceptions("mRunFailFastAsync", ret, inputs);
+        return ret;
+    }
+
+    /**
+     * Shortcut to method {@link #allOf allOf}, wraps input actions to
+     * CompletableFuture by {@link CompletableFuture#runAsync(Runnable)}.
+     * <p>
+     * See the {@link #allOf allOf} documentation for the rules of result computation.
      */
     public static CompletableFuture<Void> mRunAsync(Runnable... actions) {
         return mRunAsync(ASYNC_POOL, actions);
@@ -304,6 +798,23 @@ public final class CompletableFutureUtils {
         return ret;
     }
 
+    /**
+     * Same as {@link #mRunAsync(Executor, Runnable[])}, except at most {@code maxConcurrency} actions run at a time.
+     *
+     * @param maxConcurrency the max count of actions running concurrently
+     * @throws IllegalArgumentException if the maxConcurrency is not positive
+     */
+    public static CompletableFuture<Void> mRunAsync(Executor executor, int maxConcurrency, Runnable... actions) {
+        requireNonNull(executor, "executor is null");
+        requireMaxConcurrency(maxConcurrency);
+        requireArrayAndEleNonNull("action", actions);
+
+        CompletableFuture<Void>[] inputs = wrapRunnables0(executor, maxConcurrency, actions);
+        CompletableFuture<Void> ret = CompletableFuture.allOf(inputs);
+        handleSwallowedExceptions("mRunAsync", ret, inputs);
+        return ret;
+    }
+
     /**
      * Shortcut to method {@link #anySuccessOf anySuccessOf}, wraps input actions to
      * CompletableFuture by {@link CompletableFuture#runAsync(Runnable)}.
@@ -332,6 +843,26 @@ public final class CompletableFutureUtils {
         return ret;
     }
 
+    /**
+     * Same as {@link #mRunAnySuccessAsync(Executor, Runnable[])},
+     * except at most {@code maxConcurrency} actions run at a time.
+     *
+     * @param maxConcurrency the max count of actions running concurrently
+     * @throws IllegalArgumentException if the maxConcurrency is not positive
+     */
+    @CheckReturnValue(explanation = "should use the returned CompletableFuture; otherwise, prefer simple method `mRunAsync`")
+    public static CompletableFuture<Void> mRunAnySuccessAsync(
+            Executor executor, int maxConcurrency, Runnable... actions) {
+        requireNonNull(executor, "executor is null");
+        requireMaxConcurrency(maxConcurrency);
+        requireArrayAndEleNonNull("action", actions);
+
+        CompletableFuture<Void>[] inputs = wrapRunnables0(executor, maxConcurrency, actions);
+        CompletableFuture<Void> ret = anySuccessOf0(inputs);
+        handleSwallowedExceptions("mRunAnySuccessAsync", ret, inputs);
+        return ret;
+    }
+
     /**
      * Shortcut to method {@link #anyOf anyOf}, wraps input actions to
      * CompletableFuture by {@link CompletableFuture#runAsync(Runnable)}.
@@ -355,15 +886,74 @@ public final class CompletableFutureUtils {
         requireArrayAndEleNonNull("action", actions);
 
         CompletableFuture<Void>[] inputs = wrapRunnables0(executor, actions);
-        CompletableFuture<Void> ret = f_cast(CompletableFuture.anyOf(inputs));
+        CompletableFuture<Void> ret = SingleWinnerAggregator.anyOf(Arrays.asList(inputs));
+        handleSwallowedExceptions("mRunAnyAsync", ret, inputs);
+        return ret;
+    }
+
+    /**
+     * Same as {@link #mRunAnyAsync(Executor, Runnable[])}, except at most {@code maxConcurrency} actions run at a time.
+     *
+     * @param maxConcurrency the max count of actions running concurrently
+     * @throws IllegalArgumentException if the maxConcurrency is not positive
+     */
+    @CheckReturnValue(explanation = "should use the returned CompletableFuture; otherwise, prefer simple method `mRunAsync`")
+    public static CompletableFuture<Void> mRunAnyAsync(Executor executor, int maxConcurrency, Runnable... actions) {
+        requireNonNull(executor, "executor is null");
+        requireMaxConcurrency(maxConcurrency);
+        requireArrayAndEleNonNull("action", actions);
+
+        CompletableFuture<Void>[] inputs = wrapRunnables0(executor, maxConcurrency, actions);
+        CompletableFuture<Void> ret = SingleWinnerAggregator.anyOf(Arrays.asList(inputs));
         handleSwallowedExceptions("mRunAnyAsync", ret, inputs);
         return ret;
     }
 
     private static CompletableFuture<Void>[] wrapRunnables0(Executor executor, Runnable[] actions) {
+        if (isCallerParticipating(executor))
+            return BoundedFanOut.supplyAsync(executor, Integer.MAX_VALUE, true, toSuppliers0(actions));
         return mapArray(actions, CompletableFuture[]::new, a -> CompletableFuture.runAsync(a, executor));
     }
 
+    private static CompletableFuture<Void>[] wrapRunnables0(Executor executor, int maxConcurrency, Runnable[] actions) {
+        if (maxConcurrency >= actions.length) return wrapRunnables0(executor, actions);
+        return BoundedFanOut.supplyAsync(
+                executor, maxConcurrency, isCallerParticipating(executor), toSuppliers0(actions));
+    }
+
+    private static Supplier<Void>[] toSuppliers0(Runnable[] actions) {
+        return mapArray(actions, Supplier[]::new, a -> () -> {
+            a.run();
+            return null;
+        });
+    }
+
+    /**
+     * Returns an executor that delegates to the given executor, and makes the calling thread participate in running
+     * the actions of the multi-actions methods({@code mSupply*}/{@code mRun*}, including the tuple variants)
+     * that are given the returned executor: the calling thread submits all actions except one to the executor,
+     * then runs the not-started actions inline until none are left, before the method returns.
+     * <p>
+     * When the caller would block on the returned CompletableFuture anyway, this saves one executor hop
+     * and one context switch per call, and reduces the pressure of the executor; e.g. for the common calls
+     * with 2~3 actions. As a trade-off, the multi-actions methods return only after the calling thread finishes
+     * its part, so the calling thread should not be an event loop or other thread that must not block; and
+     * the timeout of {@code mSupplyMostSuccess*} methods starts after that. The other methods treat the returned
+     * executor as the given executor.
+     * <p>
+     * The returned executor also works when given to the methods or the builder of {@link CffuFactory};
+     * or use {@link CffuFactoryBuilder#callerParticipates(boolean)} for all multi-actions methods of a CffuFactory.
+     *
+     * @param executor the executor to run the other actions
+     * @throws NullPointerException if the executor is {@code null}
+     */
+    @Contract(pure = true)
+    public static Executor callerParticipating(Executor executor) {
+        requireNonNull(executor, "executor is null");
+        if (executor instanceof CallerParticipatingExecutor) return executor;
+        return new CallerParticipatingExecutor(executor);
+    }
+
     // endregion
     ////////////////////////////////////////////////////////////
     // region## Multi-Actions-Tuple(MTuple*) Methods(create by actions)
@@ -469,28 +1059,7 @@ public final class CompletableFutureUtils {
      * Returns {@code CompletableFuture<T>} with generic type {@code T} but constrained to type TupleX.
      */
     private static <T> CompletableFuture<T> f_allTupleOf0(boolean failFast, CompletionStage<?>[] stages) {
-        final AtomicReferenceArray<Object> results = new AtomicReferenceArray<>(stages.length);
-        final CompletableFuture<Void>[] resultsSetterCfs = createAllResultsSetterCfs(stages, results);
-
-        final CompletableFuture<Void> resultsSetter;
-        if (failFast) resultsSetter = allFailFastOf0(resultsSetterCfs);
-        else resultsSetter = CompletableFuture.allOf(resultsSetterCfs);
-
-        return resultsSetter.thenApply(unused -> f_tupleOf0(toArray(results)));
-    }
-
-    /**
-     * Returns generic type {@code T} but constrained to type TupleX.
-     */
-    @SuppressWarnings("unchecked")
-    private static <T> T f_tupleOf0(Object[] xs) {
-        final int len = xs.length;
-        final Object ret;
-        if (len == 2) ret = Tuple2.of(xs[0], xs[1]);
-        else if (len == 3) ret = Tuple3.of(xs[0], xs[1], xs[2]);
-        else if (len == 4) ret = Tuple4.of(xs[0], xs[1], xs[2], xs[3]);
-        else ret = Tuple5.of(xs[0], xs[1], xs[2], xs[3], xs[4]);
-        return (T) ret;
+        return TupleAggregator.allTupleOf(failFast, stages, null);
     }
 
     /**
@@ -612,14 +1181,7 @@ public final class CompletableFutureUtils {
     }
 
     private static <T> CompletableFuture<T> f_allSuccessTupleOf0(CompletionStage<?>[] stages) {
-        return f_allTupleOf0(false, f_convertStageArray0(stages, s -> s.exceptionally(ex -> null)));
-    }
-
-    private static <T, U> CompletionStage<U>[] f_convertStageArray0(
-            CompletionStage<? extends T>[] stages, Function<CompletionStage<T>, CompletionStage<U>> converter) {
-        @SuppressWarnings({"unchecked", "rawtypes"})
-        CompletionStage<T>[] ss = (CompletionStage[]) stages;
-        return mapArray(ss, CompletionStage[]::new, converter);
+        return TupleAggregator.allSuccessTupleOf(stages, null);
     }
 
     /**
@@ -759,25 +1321,7 @@ public final class CompletableFutureUtils {
 
     private static <T> CompletableFuture<T> f_mostSuccessTupleOf0(
             Executor executorWhenTimeout, long timeout, TimeUnit unit, CompletionStage<?>[] stages) {
-        // 1. MUST be non-minimal-stage CF instances in order to read results(`getSuccessNow`), otherwise UnsupportedOpException.
-        // 2. SHOULD copy input cfs(by calling `exceptionally` method) to avoid memory leaks,
-        //    otherwise all input cfs would be retained until output cf completes.
-        CompletableFuture<?>[] cfArray = mapArray(stages, CompletableFuture[]::new,
-                s -> toNonMinCf0(s).exceptionally(v -> null));
-        return cffuCompleteOnTimeout(CompletableFuture.allOf(cfArray), null, timeout, unit, executorWhenTimeout)
-                .handle((unused, ex) -> f_tupleOf0(f_mGetSuccessNow0(null, cfArray)));
-    }
-
-    /**
-     * Multi-Gets(MGet) the results in the <strong>same order</strong> of the given cfs arguments,
-     * use the result value if the given stage is completed normally, else use the given valueIfNotSuccess
-     *
-     * @param cfs MUST be *Non-Minimal* CF instances in order to read results(`getSuccessNow`),
-     *            otherwise UnsupportedOperationException
-     */
-    @SuppressWarnings("unchecked")
-    private static <T> T[] f_mGetSuccessNow0(@Nullable T valueIfNotSuccess, CompletableFuture<? extends T>[] cfs) {
-        return (T[]) fillArray(new Object[cfs.length], i -> getSuccessNow(cfs[i], valueIfNotSuccess));
+        return TupleAggregator.mostSuccessTupleOf(executorWhenTimeout, timeout, unit, stages, null);
     }
 
     /**
@@ -869,6 +1413,95 @@ public final class CompletableFutureUtils {
         return f_allTupleWithEhOf0(false, wrapSuppliers0(executor, suppliers), "mSupplyTupleAsync");
     }
 
+    /**
+     * Tuple variant of {@link #mSupplySettledAsync(Supplier[])}.
+     */
+    @CheckReturnValue(explanation = "should use the returned CompletableFuture; otherwise, prefer simple method `mRunAsync`")
+    public static <T1, T2> CompletableFuture<Tuple2<Try<T1>, Try<T2>>> mSupplySettledTupleAsync(
+            Supplier<? extends T1> supplier1, Supplier<? extends T2> supplier2) {
+        return mSupplySettledTupleAsync(ASYNC_POOL, supplier1, supplier2);
+    }
+
+    /**
+     * Tuple variant of {@link #mSupplySettledAsync(Executor, Supplier[])}.
+     */
+    @CheckReturnValue(explanation = "should use the returned CompletableFuture; otherwise, prefer simple method `mRunAsync`")
+    public static <T1, T2> CompletableFuture<Tuple2<Try<T1>, Try<T2>>> mSupplySettledTupleAsync(
+            Executor executor, Supplier<? extends T1> supplier1, Supplier<? extends T2> supplier2) {
+        requireNonNull(executor, "executor is null");
+        Supplier<?>[] suppliers = requireArrayAndEleNonNull("supplier", supplier1, supplier2);
+
+        return TupleAggregator.allSettledTupleOf(wrapSuppliers0(executor, suppliers));
+    }
+
+    /**
+     * Tuple variant of {@link #mSupplySettledAsync(Supplier[])}.
+     */
+    @CheckReturnValue(explanation = "should use the returned CompletableFuture; otherwise, prefer simple method `mRunAsync`")
+    public static <T1, T2, T3> CompletableFuture<Tuple3<Try<T1>, Try<T2>, Try<T3>>> mSupplySettledTupleAsync(
+            Supplier<? extends T1> supplier1, Supplier<? extends T2> supplier2, Supplier<? extends T3> supplier3) {
+        return mSupplySettledTupleAsync(ASYNC_POOL, supplier1, supplier2, supplier3);
+    }
+
+    /**
+     * Tuple variant of {@link #mSupplySettledAsync(Executor, Supplier[])}.
+     */
+    @CheckReturnValue(explanation = "should use the returned CompletableFuture; otherwise, prefer simple method `mRunAsync`")
+    public static <T1, T2, T3> CompletableFuture<Tuple3<Try<T1>, Try<T2>, Try<T3>>> mSupplySettledTupleAsync(
+            Executor executor, Supplier<? extends T1> supplier1,
+            Supplier<? extends T2> supplier2, Supplier<? extends T3> supplier3) {
+        requireNonNull(executor, "executor is null");
+        Supplier<?>[] suppliers = requireArrayAndEleNonNull("supplier", supplier1, supplier2, supplier3);
+
+        return TupleAggregator.allSettledTupleOf(wrapSuppliers0(executor, suppliers));
+    }
+
+    /**
+     * Tuple variant of {@link #mSupplySettledAsync(Supplier[])}.
+     */
+    @CheckReturnValue(explanation = "should use the returned CompletableFuture; otherwise, prefer simple method `mRunAsync`")
+    public static <T1, T2, T3, T4> CompletableFuture<Tuple4<Try<T1>, Try<T2>, Try<T3>, Try<T4>>> mSupplySettledTupleAsync(
+            Supplier<? extends T1> supplier1, Supplier<? extends T2> supplier2,
+            Supplier<? extends T3> supplier3, Supplier<? extends T4> supplier4) {
+        return mSupplySettledTupleAsync(ASYNC_POOL, supplier1, supplier2, supplier3, supplier4);
+    }
+
+    /**
+     * Tuple variant of {@link #mSupplySettledAsync(Executor, Supplier[])}.
+     */
+    @CheckReturnValue(explanation = "should use the returned CompletableFuture; otherwise, prefer simple method `mRunAsync`")
+    public static <T1, T2, T3, T4> CompletableFuture<Tuple4<Try<T1>, Try<T2>, Try<T3>, Try<T4>>> mSupplySettledTupleAsync(
+            Executor executor, Supplier<? extends T1> supplier1, Supplier<? extends T2> supplier2,
+            Supplier<? extends T3> supplier3, Supplier<? extends T4> supplier4) {
+        requireNonNull(executor, "executor is null");
+        Supplier<?>[] suppliers = requireArrayAndEleNonNull("supplier", supplier1, supplier2, supplier3, supplier4);
+
+        return TupleAggregator.allSettledTupleOf(wrapSuppliers0(executor, suppliers));
+    }
+
+    /**
+     * Tuple variant of {@link #mSupplySettledAsync(Supplier[])}.
+     */
+    @CheckReturnValue(explanation = "should use the returned CompletableFuture; otherwise, prefer simple method `mRunAsync`")
+    public static <T1, T2, T3, T4, T5> CompletableFuture<Tuple5<Try<T1>, Try<T2>, Try<T3>, Try<T4>, Try<T5>>> mSupplySettledTupleAsync(
+            Supplier<? extends T1> supplier1, Supplier<? extends T2> supplier2, Supplier<? extends T3> supplier3,
+            Supplier<? extends T4> supplier4, Supplier<? extends T5> supplier5) {
+        return mSupplySettledTupleAsync(ASYNC_POOL, supplier1, supplier2, supplier3, supplier4, supplier5);
+    }
+
+    /**
+     * Tuple variant of {@link #mSupplySettledAsync(Executor, Supplier[])}.
+     */
+    @CheckReturnValue(explanation = "should use the returned CompletableFuture; otherwise, prefer simple method `mRunAsync`")
+    public static <T1, T2, T3, T4, T5> CompletableFuture<Tuple5<Try<T1>, Try<T2>, Try<T3>, Try<T4>, Try<T5>>> mSupplySettledTupleAsync(
+            Executor executor, Supplier<? extends T1> supplier1, Supplier<? extends T2> supplier2,
+            Supplier<? extends T3> supplier3, Supplier<? extends T4> supplier4, Supplier<? extends T5> supplier5) {
+        requireNonNull(executor, "executor is null");
+        Supplier<?>[] suppliers = requireArrayAndEleNonNull("supplier", supplier1, supplier2, supplier3, supplier4, supplier5);
+
+        return TupleAggregator.allSettledTupleOf(wrapSuppliers0(executor, suppliers));
+    }
+
     // endregion
     ////////////////////////////////////////////////////////////
     // region## allOf* Methods(including mostSuccessResultsOf)
@@ -883,7 +1516,8 @@ public final class CompletableFutureUtils {
      * WITHOUT waiting other incomplete given stages, with a CompletionException holding this exception as its cause.
      * If no stages are provided, returns a CompletableFuture completed with the value empty list.
      * <p>
-     * The list of results is in the <strong>same order</strong> as the input list.
+     * The list of results is in the <strong>same order</strong> as the input list, and is unmodifiable
+     * (copy it for a mutable list, e.g. {@code new ArrayList<>(results)}).
      * <p>
      * This method is the same as {@link #allResultsOf allResultsOf} method except for the fail-fast behavior.
      *
@@ -896,6 +1530,65 @@ public final class CompletableFutureUtils {
         return allResultsOf0(true, requireCfsAndEleNonNull(cfs));
     }
 
+    /**
+     * Collection variant of {@link #allResultsFailFastOf(CompletionStage[])}; the given stages are fed to the
+     * aggregation directly, WITHOUT being copied into an array. The list of results is in the <strong>same
+     * order</strong> as the iteration order of the given collection.
+     * <p>
+     * The given collection must not be modified until this method returns.
+     *
+     * @throws NullPointerException if the cfs param or any of its elements are {@code null}
+     */
+    @Contract(pure = true)
+    public static <T> CompletableFuture<List<T>> allResultsFailFastOf(Collection<? extends CompletionStage<? extends T>> cfs) {
+        return allResultsOf0(true, requireCfsAndEleNonNull(cfs));
+    }
+
+    /**
+     * Same as {@link #allResultsFailFastOf(CompletionStage[])} except for the fail-fast failure: the results that
+     * completed so far are salvaged instead of being dropped. If any of the given stages complete exceptionally,
+     * then the returned CompletableFuture also does so WITHOUT waiting other incomplete given stages, with
+     * a CompletionException holding a {@link PartialResultsException} as its cause; which carries the salvaged
+     * results, the indexes of the failed and unfinished stages, and this exception as its cause.
+     * If no stages are provided, returns a CompletableFuture completed with the value empty list.
+     * <p>
+     * The salvaged results can be merged with the results of re-running only the missing inputs by
+     * {@link #retryFailedAsync(PartialResultsException, Supplier[]) retryFailedAsync}, e.g.:
+     *
+     * <pre>{@code CompletableFuture<List<Row>> cf = exceptionallyCompose(mSupplyFailFastSalvageAsync(calls),
+     *     ex -> unwrapCfException(ex) instanceof PartialResultsException
+     *         ? retryFailedAsync((PartialResultsException) unwrapCfException(ex), calls)
+     *         : failedFuture(ex));
+     * }</pre>
+     *
+     * @throws NullPointerException if the cfs param or any of its elements are {@code null}
+     */
+    @Contract(pure = true)
+    @SafeVarargs
+    public static <T> CompletableFuture<List<T>> allResultsFailFastSalvageOf(CompletionStage<? extends T>... cfs) {
+        return allResultsFailFastSalvageOf0(Arrays.asList(requireCfsAndEleNonNull(cfs)));
+    }
+
+    /**
+     * Collection variant of {@link #allResultsFailFastSalvageOf(CompletionStage[])}; the indexes of
+     * the {@link PartialResultsException} are in the iteration order of the given collection.
+     * <p>
+     * The given collection must not be modified until this method returns.
+     *
+     * @throws NullPointerException if the cfs param or any of its elements are {@code null}
+     */
+    @Contract(pure = true)
+    public static <T> CompletableFuture<List<T>> allResultsFailFastSalvageOf(
+            Collection<? extends CompletionStage<? extends T>> cfs) {
+        return allResultsFailFastSalvageOf0(requireCfsAndEleNonNull(cfs));
+    }
+
+    private static <T> CompletableFuture<List<T>> allResultsFailFastSalvageOf0(
+            Collection<? extends CompletionStage<? extends T>> cfs) {
+        if (cfs.isEmpty()) return completedFuture(ResultList.of());
+        return f_cast(SalvageAggregator.allResultsOf(cfs));
+    }
+
     /**
      * Returns a new CompletableFuture that is completed normally with a list containing the successful results of
      * all given stages when all the given stages complete; The list of results is in the <strong>same order</strong>
@@ -903,7 +1596,8 @@ public final class CompletableFutureUtils {
      * {@code valueIfFailed} (which is indistinguishable from the stage having a successful value of {@code valueIfFailed}).
      * If no stages are provided, returns a CompletableFuture completed with the value empty list.
      * <p>
-     * The list of results is in the <strong>same order</strong> as the input list.
+     * The list of results is in the <strong>same order</strong> as the input list, and is unmodifiable
+     * (copy it for a mutable list, e.g. {@code new ArrayList<>(results)}).
      * <p>
      * This method differs from {@link #allResultsFailFastOf allResultsFailFastOf} method in that it's tolerant
      * of failed stages for any of the items, representing them as {@code valueIfFailed} in the result list.
@@ -920,9 +1614,36 @@ public final class CompletableFutureUtils {
         return allSuccessResultsOf0(valueIfFailed, requireCfsAndEleNonNull(cfs));
     }
 
+    /**
+     * Collection variant of {@link #allSuccessResultsOf(Object, CompletionStage[])}; the given stages are fed to
+     * the aggregation directly, WITHOUT being copied into an array. The list of results is in the <strong>same
+     * order</strong> as the iteration order of the given collection.
+     * <p>
+     * The given collection must not be modified until this method returns.
+     *
+     * @param valueIfFailed the value used as result if the input stage completed exceptionally
+     * @throws NullPointerException if the cfs param or any of its elements is {@code null}
+     */
+    @Contract(pure = true)
+    public static <T> CompletableFuture<List<T>> allSuccessResultsOf(
+            @Nullable T valueIfFailed, Collection<? extends CompletionStage<? extends T>> cfs) {
+        return allSuccessResultsOf0(valueIfFailed, requireCfsAndEleNonNull(cfs));
+    }
+
     private static <T> CompletableFuture<List<T>> allSuccessResultsOf0(
             @Nullable T valueIfFailed, CompletionStage<? extends T>[] cfs) {
-        return allResultsOf0(false, f_convertStageArray0(cfs, s -> s.exceptionally(ex -> valueIfFailed)));
+        return allSuccessResultsOf0(valueIfFailed, Arrays.asList(cfs));
+    }
+
+    private static <T> CompletableFuture<List<T>> allSuccessResultsOf0(
+            @Nullable T valueIfFailed, Collection<? extends CompletionStage<? extends T>> cfs) {
+        final int len = cfs.size();
+        if (len == 0) return completedFuture(ResultList.of());
+        // convert input cf to non-minimal-stage CF instance for SINGLE input in order to
+        // ensure that the returned cf is not minimal-stage instance(UnsupportedOperationException)
+        if (len == 1) return toNonMinCf0(first(cfs)).handle((v, ex) -> ResultList.of(new Object[]{ex == null ? v : valueIfFailed}));
+
+        return f_cast(AllResultsAggregator.allSuccessResultsOf(valueIfFailed, cfs, ResultList::of));
     }
 
     /**
@@ -933,7 +1654,8 @@ public final class CompletableFutureUtils {
      * (which is indistinguishable from the stage having a successful value of {@code valueIfNotSuccess}).
      * If no stages are provided, returns a CompletableFuture completed with the value empty list.
      * <p>
-     * The list of results is in the <strong>same order</strong> as the input list.
+     * The list of results is in the <strong>same order</strong> as the input list, and is unmodifiable
+     * (copy it for a mutable list, e.g. {@code new ArrayList<>(results)}).
      * <p>
      * This method differs from {@link #allResultsFailFastOf allResultsFailFastOf} method in that it's tolerant of
      * failed or incomplete stages for any of the items, representing them as {@code valueIfNotSuccess} in the result list.
@@ -959,7 +1681,8 @@ public final class CompletableFutureUtils {
      * (which is indistinguishable from the stage having a successful value of {@code valueIfNotSuccess}).
      * If no stages are provided, returns a CompletableFuture completed with the value empty list.
      * <p>
-     * The list of results is in the <strong>same order</strong> as the input list.
+     * The list of results is in the <strong>same order</strong> as the input list, and is unmodifiable
+     * (copy it for a mutable list, e.g. {@code new ArrayList<>(results)}).
      * <p>
      * This method differs from {@link #allResultsFailFastOf allResultsFailFastOf} method in that it's tolerant of failed
      * or incomplete stages for any of the items, representing them as {@code valueIfNotSuccess} in the result list.
@@ -983,26 +1706,124 @@ public final class CompletableFutureUtils {
         return mostSuccessResultsOf0(executorWhenTimeout, valueIfNotSuccess, timeout, unit, cfs);
     }
 
+    /**
+     * Collection variant of {@link #mostSuccessResultsOf(Object, long, TimeUnit, CompletionStage[])};
+     * the given stages are fed to the aggregation directly, WITHOUT being copied into an array.
+     * The list of results is in the <strong>same order</strong> as the iteration order of the given collection.
+     * <p>
+     * The given collection must not be modified until this method returns.
+     *
+     * @param valueIfNotSuccess the value used as result if the input stage not completed normally
+     * @param timeout           how long to wait in units of {@code unit}
+     * @param unit              a {@code TimeUnit} determining how to interpret the {@code timeout} parameter
+     * @throws NullPointerException if the cfs param or any of its elements are {@code null}
+     */
+    @Contract(pure = true)
+    public static <T> CompletableFuture<List<T>> mostSuccessResultsOf(
+            @Nullable T valueIfNotSuccess, long timeout, TimeUnit unit,
+            Collection<? extends CompletionStage<? extends T>> cfs) {
+        return mostSuccessResultsOf(ASYNC_POOL, valueIfNotSuccess, timeout, unit, cfs);
+    }
+
+    /**
+     * Collection variant of {@link #mostSuccessResultsOf(Executor, Object, long, TimeUnit, CompletionStage[])};
+     * the given stages are fed to the aggregation directly, WITHOUT being copied into an array.
+     * The list of results is in the <strong>same order</strong> as the iteration order of the given collection.
+     * <p>
+     * The given collection must not be modified until this method returns.
+     *
+     * @param executorWhenTimeout the executor to use for asynchronous execution when timeout
+     * @param valueIfNotSuccess   the value used as result if the input stage not completed normally
+     * @param timeout             how long to wait in units of {@code unit}
+     * @param unit                a {@code TimeUnit} determining how to interpret the {@code timeout} parameter
+     * @throws NullPointerException if the cfs param or any of its elements are {@code null}
+     */
+    @Contract(pure = true)
+    public static <T> CompletableFuture<List<T>> mostSuccessResultsOf(
+            Executor executorWhenTimeout, @Nullable T valueIfNotSuccess, long timeout, TimeUnit unit,
+            Collection<? extends CompletionStage<? extends T>> cfs) {
+        requireNonNull(executorWhenTimeout, "executorWhenTimeout is null");
+        requireNonNull(unit, "unit is null");
+        requireCfsAndEleNonNull(cfs);
+
+        return mostSuccessResultsOf0(executorWhenTimeout, valueIfNotSuccess, timeout, unit, cfs);
+    }
+
+    /**
+     * Returns a new CompletableFuture that is completed normally with a list containing the successful results of
+     * the given stages, each stage within its own timeout; the stage that completes exceptionally or is incomplete
+     * at its timeout contributes its own value if not success. The list of results is in the <strong>same
+     * order</strong> as the input list, and is unmodifiable (copy it for a mutable list,
+     * e.g. {@code new ArrayList<>(results)}). If no stages are provided, returns a CompletableFuture completed
+     * with the value empty list.
+     * <p>
+     * This method differs from {@link #mostSuccessResultsOf(Object, long, TimeUnit, CompletionStage[])
+     * mostSuccessResultsOf} in that the fast inputs do not inherit the timeout of the slowest input, e.g.
+     * a scatter-gather of an in-memory shard with 5ms budget and cold-storage shards with 200ms budget:
+     *
+     * <pre>{@code CompletableFuture<List<Rows>> cf = mostSuccessResultsPerInputOf(
+     *     i -> i == 0 ? 5 : 200, MILLISECONDS, i -> Rows.EMPTY, memoryShard, coldShard1, coldShard2);
+     * }</pre>
+     * <p>
+     * All the timeouts are served by one shared timer chain(at most one scheduled delay task at any time),
+     * instead of a timeout per input like {@link #orTimeout(CompletableFuture, long, TimeUnit) orTimeout}.
+     * The returned CompletableFuture completes when all the given stages are settled, aka at the latest timeout
+     * at most; its completion is triggered via the default executor of this class if triggered by a timeout.
+     *
+     * @param timeoutOfInput           the timeout of the input of the given index, in units of {@code unit}
+     * @param unit                     a {@code TimeUnit} determining how to interpret the timeouts
+     * @param valueIfNotSuccessOfInput the value used as result of the input of the given index
+     *                                 if the input stage not completed normally
+     * @throws NullPointerException if any of the function params, the cfs param or any of its elements are {@code null}
+     */
+    @Contract(pure = true)
+    @SafeVarargs
+    public static <T> CompletableFuture<List<T>> mostSuccessResultsPerInputOf(
+            IntToLongFunction timeoutOfInput, TimeUnit unit, IntFunction<? extends T> valueIfNotSuccessOfInput,
+            CompletionStage<? extends T>... cfs) {
+        return mostSuccessResultsPerInputOf(ASYNC_POOL, timeoutOfInput, unit, valueIfNotSuccessOfInput, cfs);
+    }
+
+    /**
+     * Returns a new CompletableFuture that is completed normally with a list containing the successful results of
+     * the given stages, each stage within its own timeout;
+     * see {@link #mostSuccessResultsPerInputOf(IntToLongFunction, TimeUnit, IntFunction, CompletionStage[])}.
+     *
+     * @param executorWhenTimeout      the executor to use for asynchronous execution when timeout
+     * @param timeoutOfInput           the timeout of the input of the given index, in units of {@code unit}
+     * @param unit                     a {@code TimeUnit} determining how to interpret the timeouts
+     * @param valueIfNotSuccessOfInput the value used as result of the input of the given index
+     *                                 if the input stage not completed normally
+     * @throws NullPointerException if any of the function params, the cfs param or any of its elements are {@code null}
+     */
+    @Contract(pure = true)
+    @SafeVarargs
+    public static <T> CompletableFuture<List<T>> mostSuccessResultsPerInputOf(
+            Executor executorWhenTimeout, IntToLongFunction timeoutOfInput, TimeUnit unit,
+            IntFunction<? extends T> valueIfNotSuccessOfInput, CompletionStage<? extends T>... cfs) {
+        requireNonNull(executorWhenTimeout, "executorWhenTimeout is null");
+        requireNonNull(timeoutOfInput, "timeoutOfInput is null");
+        requireNonNull(unit, "unit is null");
+        requireNonNull(valueIfNotSuccessOfInput, "valueIfNotSuccessOfInput is null");
+        requireCfsAndEleNonNull(cfs);
+
+        if (cfs.length == 0) return completedFuture(ResultList.of());
+        return f_cast(PerInputTimeoutCollector.mostSuccessResultsOf(executorWhenTimeout,
+                timeoutOfInput, unit, valueIfNotSuccessOfInput, Arrays.asList(cfs), ResultList::of));
+    }
+
     private static <T> CompletableFuture<List<T>> mostSuccessResultsOf0(
             Executor executorWhenTimeout, @Nullable T valueIfNotSuccess, long timeout, TimeUnit unit,
             CompletionStage<? extends T>[] cfs) {
-        if (cfs.length == 0) return completedFuture(arrayList());
-        if (cfs.length == 1) {
-            // defensive copy input cf to non-minimal-stage instance in order to
-            // 1. avoid writing it by `cffuCompleteOnTimeout` and is able to read its result(`getSuccessNow`)
-            // 2. ensure that the returned cf is not minimal-stage instance(UnsupportedOperationException)
-            final CompletableFuture<T> f = toNonMinCfCopy0(cfs[0]);
-            return cffuCompleteOnTimeout(f, valueIfNotSuccess, timeout, unit, executorWhenTimeout)
-                    .handle((unused, ex) -> arrayList(getSuccessNow(f, valueIfNotSuccess)));
-        }
+        return mostSuccessResultsOf0(executorWhenTimeout, valueIfNotSuccess, timeout, unit, Arrays.asList(cfs));
+    }
 
-        // 1. MUST be non-minimal-stage CF instances in order to read results(`getSuccessNow`), otherwise UnsupportedOpException.
-        // 2. SHOULD copy input cfs(by calling `exceptionally` method) to avoid memory leaks,
-        //    otherwise all input cfs would be retained until output cf completes.
-        CompletableFuture<T>[] cfArray = mapArray(cfs, CompletableFuture[]::new,
-                s -> LLCF.<T>toNonMinCf0(s).exceptionally(v -> valueIfNotSuccess));
-        return cffuCompleteOnTimeout(CompletableFuture.allOf(cfArray), null, timeout, unit, executorWhenTimeout)
-                .handle((unused, ex) -> arrayList(f_mGetSuccessNow0(valueIfNotSuccess, cfArray)));
+    private static <T> CompletableFuture<List<T>> mostSuccessResultsOf0(
+            Executor executorWhenTimeout, @Nullable T valueIfNotSuccess, long timeout, TimeUnit unit,
+            Collection<? extends CompletionStage<? extends T>> cfs) {
+        if (cfs.isEmpty()) return completedFuture(ResultList.of());
+        return f_cast(MostSuccessCollector.mostSuccessResultsOf(
+                executorWhenTimeout, valueIfNotSuccess, timeout, unit, cfs, ResultList::of));
     }
 
     /**
@@ -1012,7 +1833,8 @@ public final class CompletableFutureUtils {
      * also does so, with a CompletionException holding this exception as its cause.
      * If no stages are provided, returns a CompletableFuture completed with the value empty list.
      * <p>
-     * The list of results is in the <strong>same order</strong> as the input list.
+     * The list of results is in the <strong>same order</strong> as the input list, and is unmodifiable
+     * (copy it for a mutable list, e.g. {@code new ArrayList<>(results)}).
      * <p>
      * Comparing the waiting-all-<strong>complete</strong> behavior of this method, the fail-fast behavior
      * of {@link #allResultsFailFastOf allResultsFailFastOf} method is more responsive to user
@@ -1029,21 +1851,88 @@ public final class CompletableFutureUtils {
         return allResultsOf0(false, requireCfsAndEleNonNull(cfs));
     }
 
-    private static <T> CompletableFuture<List<T>> allResultsOf0(boolean failFast, CompletionStage<? extends T>[] cfs) {
-        final int len = cfs.length;
-        if (len == 0) return completedFuture(arrayList());
-        // convert input cf to non-minimal-stage CF instance for SINGLE input in order to
-        // ensure that the returned cf is not minimal-stage instance(UnsupportedOperationException)
-        if (len == 1) return toNonMinCf0(cfs[0]).thenApply(CommonUtils::arrayList);
-
-        final AtomicReferenceArray<T> results = new AtomicReferenceArray<>(len);
-        final CompletableFuture<Void>[] resultsSetterCfs = createAllResultsSetterCfs(cfs, results);
-
-        final CompletableFuture<Void> resultsSetter;
-        if (failFast) resultsSetter = allFailFastOf0(resultsSetterCfs);
-        else resultsSetter = CompletableFuture.allOf(resultsSetterCfs);
+    /**
+     * Collection variant of {@link #allResultsOf(CompletionStage[])}; the given stages are fed to the aggregation
+     * directly, WITHOUT being copied into an array. The list of results is in the <strong>same order</strong>
+     * as the iteration order of the given collection.
+     * <p>
+     * The given collection must not be modified until this method returns.
+     *
+     * @throws NullPointerException if the cfs param or any of its elements are {@code null}
+     * @see CffuCollectors#allResults()
+     */
+    @Contract(pure = true)
+    public static <T> CompletableFuture<List<T>> allResultsOf(Collection<? extends CompletionStage<? extends T>> cfs) {
+        return allResultsOf0(false, requireCfsAndEleNonNull(cfs));
+    }
+
+    /**
+     * Array variant of {@link #allResultsFailFastOf(CompletionStage[])}; returns the results in the array
+     * provided by the given generator(e.g. {@code String[]::new}) which is written by the aggregation directly,
+     * WITHOUT the result list.
+     *
+     * @param generator a function which produces a new array of the desired type and the provided length
+     * @throws NullPointerException  if the generator, the cfs param or any of its elements are {@code null}
+     * @throws IllegalStateException if the array returned by the generator has a different length
+     *                               from the count of the given stages
+     */
+    @Contract(pure = true)
+    @SafeVarargs
+    public static <T> CompletableFuture<T[]> allResultsFailFastOfArray(
+            IntFunction<T[]> generator, CompletionStage<? extends T>... cfs) {
+        return allResultsOfArray0(true, generator, cfs);
+    }
+
+    /**
+     * Array variant of {@link #allResultsOf(CompletionStage[])}; returns the results in the array
+     * provided by the given generator(e.g. {@code String[]::new}) which is written by the aggregation directly,
+     * WITHOUT the result list.
+     *
+     * @param generator a function which produces a new array of the desired type and the provided length
+     * @throws NullPointerException  if the generator, the cfs param or any of its elements are {@code null}
+     * @throws IllegalStateException if the array returned by the generator has a different length
+     *                               from the count of the given stages
+     */
+    @Contract(pure = true)
+    @SafeVarargs
+    public static <T> CompletableFuture<T[]> allResultsOfArray(
+            IntFunction<T[]> generator, CompletionStage<? extends T>... cfs) {
+        return allResultsOfArray0(false, generator, cfs);
+    }
+
+    private static <T> CompletableFuture<T[]> allResultsOfArray0(
+            boolean failFast, IntFunction<T[]> generator, CompletionStage<? extends T>[] cfs) {
+        requireNonNull(generator, "generator is null");
+        requireCfsAndEleNonNull(cfs);
+
+        final int len = cfs.length;
+        final T[] results = generator.apply(len);
+        if (results.length != len)
+            throw new IllegalStateException("generator returned array of length " + results.length + ", expected " + len);
+        if (len == 0) return completedFuture(results);
+        // convert input cf to non-minimal-stage CF instance for SINGLE input in order to
+        // ensure that the returned cf is not minimal-stage instance(UnsupportedOperationException)
+        if (len == 1) return toNonMinCf0(cfs[0]).thenApply(v -> {
+            results[0] = v;
+            return results;
+        });
+
+        return f_cast(AllResultsAggregator.allResultsOf(failFast, Arrays.asList(cfs), results, s -> s));
+    }
+
+    private static <T> CompletableFuture<List<T>> allResultsOf0(boolean failFast, CompletionStage<? extends T>[] cfs) {
+        return allResultsOf0(failFast, Arrays.asList(cfs));
+    }
+
+    private static <T> CompletableFuture<List<T>> allResultsOf0(
+            boolean failFast, Collection<? extends CompletionStage<? extends T>> cfs) {
+        final int len = cfs.size();
+        if (len == 0) return completedFuture(ResultList.of());
+        // convert input cf to non-minimal-stage CF instance for SINGLE input in order to
+        // ensure that the returned cf is not minimal-stage instance(UnsupportedOperationException)
+        if (len == 1) return toNonMinCf0(first(cfs)).thenApply(v -> ResultList.of(new Object[]{v}));
 
-        return f_cast(resultsSetter.thenApply(unused -> arrayList(results)));
+        return f_cast(AllResultsAggregator.allResultsOf(failFast, cfs, ResultList::of));
     }
 
     /**
@@ -1072,24 +1961,31 @@ public final class CompletableFutureUtils {
         return allFailFastOf0(requireCfsAndEleNonNull(cfs));
     }
 
+    /**
+     * Collection variant of {@link #allFailFastOf(CompletionStage[])}; the given stages are fed to the aggregation
+     * directly, WITHOUT being copied into an array.
+     * <p>
+     * The given collection must not be modified until this method returns.
+     *
+     * @throws NullPointerException if the cfs param or any of its elements are {@code null}
+     */
+    @Contract(pure = true)
+    public static CompletableFuture<Void> allFailFastOf(Collection<? extends CompletionStage<?>> cfs) {
+        return allFailFastOf0(requireCfsAndEleNonNull(cfs));
+    }
+
     private static CompletableFuture<Void> allFailFastOf0(CompletionStage<?>[] cfs) {
-        final int len = cfs.length;
+        return allFailFastOf0(Arrays.asList(cfs));
+    }
+
+    private static CompletableFuture<Void> allFailFastOf0(Collection<? extends CompletionStage<?>> cfs) {
+        final int len = cfs.size();
         if (len == 0) return completedFuture(null);
         // convert input cf to non-minimal-stage CF instance for SINGLE input in order to
         // ensure that the returned cf is not minimal-stage instance(UnsupportedOperationException)
-        if (len == 1) return toNonMinCf0(cfs[0]).thenApply(unused -> null);
-
-        final CompletableFuture<?>[] successOrBeIncomplete = new CompletableFuture[len];
-        // NOTE: fill ONE MORE element of failedOrBeIncomplete LATER
-        @SuppressWarnings("unchecked")
-        final CompletableFuture<Void>[] failedOrBeIncomplete = new CompletableFuture[len + 1];
-        fill0(cfs, successOrBeIncomplete, failedOrBeIncomplete);
-
-        // NOTE: fill the ONE MORE element of failedOrBeIncomplete HERE:
-        //       a cf that is completed normally when all given cfs completed normally, otherwise be incomplete
-        failedOrBeIncomplete[len] = CompletableFuture.allOf(successOrBeIncomplete);
+        if (len == 1) return toNonMinCf0(first(cfs)).thenApply(unused -> null);
 
-        return f_cast(CompletableFuture.anyOf(failedOrBeIncomplete));
+        return SingleWinnerAggregator.allFailFastOf(cfs);
     }
 
     /**
@@ -1125,6 +2021,16 @@ public final class CompletableFutureUtils {
         // convert input cf to non-minimal-stage CF instance for SINGLE input in order to
         // ensure that the returned cf is not minimal-stage instance(UnsupportedOperationException)
         if (cfs.length == 1) return toNonMinCf0(cfs[0]).thenApply(unused -> null);
+        // build the result directly on the calling thread WITHOUT the relay tree of CompletableFuture.allOf,
+        // if all the given stages are already complete
+        if (DoneInputs.scan(Arrays.asList(cfs), DoneInputs.DECIDED_BY_NONE) == DoneInputs.ALL_DONE) {
+            for (CompletionStage<?> cf : cfs) {
+                final Throwable ex = DoneInputs.exceptionOf(f_toCf0(cf));
+                // the exception of the leftmost failed stage, same as CompletableFuture.allOf
+                if (ex != null) return failedFuture(ex);
+            }
+            return completedFuture(null);
+        }
         return CompletableFuture.allOf(f_toCfArray0(cfs));
     }
 
@@ -1133,382 +2039,1733 @@ public final class CompletableFutureUtils {
         return requireArrayAndEleNonNull("cf", stages);
     }
 
-    /**
-     * Returns a cf array whose elements collect the results for <strong>AllResultsOf*</strong> methods.
-     * <p>
-     * Implementation Note: Uses AtomicReferenceArray and CAS operations to prevent memory leaks in `AllResultOf*`
-     * methods. Without this protection, if any inputs complete exceptionally while others are still running,
-     * the results array would unnecessarily retain memory for cf results that will never be used.
-     */
-    @SuppressWarnings("unchecked")
-    private static <T> CompletableFuture<Void>[] createAllResultsSetterCfs(
-            CompletionStage<? extends T>[] stages, AtomicReferenceArray<T> results) {
-        final CompletableFuture<Void>[] resultSetterCfs = new CompletableFuture[stages.length];
-        return fillArray(resultSetterCfs, i -> f_toCf0(stages[i]).<CompletableFuture<Void>>handle((v, ex) -> {
-            if (ex == null) {
-                // atomically store value if slot has not been marked as unneeded with SENTINEL_UNNEEDED
-                results.compareAndSet(i, null, v);
-                return completedFuture(null);
-            } else {
-                // this `if checking` is a simple optimization for benign race condition.
-                // the code logic would still be correct if directly setting SENTINEL_UNNEEDED without checking
-                if (results.get(0) != SENTINEL_UNNEEDED)
-                    // if any stage has failed, all results are unneeded; mark all slots with SENTINEL_UNNEEDED
-                    fillAtomicReferenceArray(results, (T) SENTINEL_UNNEEDED);
-                return failedFuture(ex);
-            }
-        }).thenCompose(x -> x));
+    private static <C extends Collection<? extends CompletionStage<?>>> C requireCfsAndEleNonNull(C stages) {
+        return requireCollectionAndEleNonNull("cf", stages);
     }
 
-    /**
-     * A sentinel object used to mark slots in {@link AtomicReferenceArray} where values no longer need to be written.
-     *
-     * @see #createAllResultsSetterCfs
-     */
-    private static final Object SENTINEL_UNNEEDED = new Object();
-
-    private static <T> void fill0(CompletionStage<? extends T>[] inputs,
-                                  CompletableFuture<? extends T>[] successOrBeIncomplete,
-                                  CompletableFuture<Void>[] failedOrBeIncomplete) {
-        for (int i = 0; i < inputs.length; i++) {
-            final CompletableFuture<T> f = f_toCf0(inputs[i]);
-            successOrBeIncomplete[i] = exceptionallyCompose(f, ex -> new CompletableFuture<>());
-            failedOrBeIncomplete[i] = f.thenCompose(v -> new CompletableFuture<>());
-        }
+    private static <S> S first(Collection<S> stages) {
+        return stages.iterator().next();
     }
 
     // endregion
     ////////////////////////////////////////////////////////////
-    // region## anyOf* Methods
+    // region## Primitive allOf* Methods(int/long/double results without boxing)
     //
-    //    CompletionStage<T>[] -> CompletableFuture<T>
+    //    CompletionStage<T>[] -> CompletableFuture<long[]>
     ////////////////////////////////////////////////////////////
 
     /**
-     * Returns a new CompletableFuture that completed normally when any of the given stages complete normally,
-     * with the same result; Otherwise, when all the given stages complete exceptionally, the returned CompletableFuture
-     * also does so, with a CompletionException holding an exception from any of the given stages as its cause.
-     * If no stages are provided, returns a new CompletableFuture that is already completed exceptionally
-     * with a {@link NoCfsProvidedException}.
+     * Returns a new CompletableFuture that is completed normally with a {@code long[]} containing the results
+     * extracted by the given extractor from the successful results of all given stages when all the given stages
+     * complete normally; If any of the given stages complete exceptionally (or the extractor throws an exception),
+     * then the returned CompletableFuture also does so, WITHOUT waiting other incomplete given stages,
+     * with a CompletionException holding this exception as its cause.
+     * If no stages are provided, returns a CompletableFuture completed with the value empty array.
      * <p>
-     * This method differs from {@link #anyOf anyOf} method in that this method is any-<strong>success</strong>
-     * instead of the any-<strong>complete</strong> behavior of method {@link #anyOf anyOf}.
+     * The array of results is in the <strong>same order</strong> as the input list.
+     * <p>
+     * This method is the primitive-specialized variant of {@link #allResultsFailFastOf allResultsFailFastOf} method,
+     * the results are stored into the returned array directly WITHOUT boxing or growing a list.
+     * The returned array is owned by the caller, and is not shared with any other CompletableFuture.
      *
-     * @throws NullPointerException if the cfs param or any of its elements are {@code null}
+     * @param extractor the function to extract the {@code long} result from the result of input stage
+     * @throws NullPointerException if the extractor, the cfs param or any of its elements are {@code null}
      */
     @Contract(pure = true)
     @SafeVarargs
-    public static <T> CompletableFuture<T> anySuccessOf(CompletionStage<? extends T>... cfs) {
-        return anySuccessOf0(requireCfsAndEleNonNull(cfs));
-    }
-
-    private static <T> CompletableFuture<T> anySuccessOf0(CompletionStage<? extends T>[] cfs) {
-        final int len = cfs.length;
-        if (len == 0) return failedFuture(new NoCfsProvidedException());
-        // defensive copy input cf to non-minimal-stage instance for SINGLE input in order to ensure that
-        // 1. avoid writing the input cf unexpectedly by caller code
-        // 2. the returned cf is not minimal-stage instance(UnsupportedOperationException)
-        if (len == 1) return toNonMinCfCopy0(cfs[0]);
-
-        // NOTE: fill ONE MORE element of successOrBeIncompleteCfs LATER
-        final CompletableFuture<?>[] successOrBeIncomplete = new CompletableFuture[len + 1];
-        @SuppressWarnings("unchecked")
-        final CompletableFuture<Void>[] failedOrBeIncomplete = new CompletableFuture[len];
-        fill0(cfs, successOrBeIncomplete, failedOrBeIncomplete);
-
-        // NOTE: fill the ONE MORE element of successOrBeIncompleteCfs HERE:
-        //       a cf that is completed exceptionally when all given cfs completed exceptionally, otherwise be incomplete
-        successOrBeIncomplete[len] = CompletableFuture.allOf(failedOrBeIncomplete);
+    public static <T> CompletableFuture<long[]> allLongResultsFailFastOf(
+            ToLongFunction<? super T> extractor, CompletionStage<? extends T>... cfs) {
+        requireNonNull(extractor, "extractor is null");
+        requireCfsAndEleNonNull(cfs);
 
-        return f_cast(CompletableFuture.anyOf(successOrBeIncomplete));
+        if (cfs.length == 0) return completedFuture(new long[0]);
+        return PrimitiveResultsAggregator.allResultsOf(true, cfs,
+                PrimitiveResultsAggregator.longSlots(extractor, cfs.length));
     }
 
     /**
-     * Returns a new CompletableFuture that is completed with the same successful result or exception of any of
-     * the given stages when one stage completes. If no stages are provided, returns an incomplete CompletableFuture.
+     * Returns a new CompletableFuture that is completed normally with a {@code long[]} containing the results
+     * extracted by the given extractor from the successful results of all given stages when all the given stages
+     * complete; If any of the given stages complete exceptionally (or the extractor throws an exception),
+     * then the returned CompletableFuture also does so, with a CompletionException holding this exception as its cause.
+     * If no stages are provided, returns a CompletableFuture completed with the value empty array.
      * <p>
-     * Comparing the any-<strong>complete</strong> behavior(the complete one may be failed) of this method,
-     * the any-<strong>success</strong> behavior of method {@link #anySuccessOf anySuccessOf}
-     * is generally more desired in the application.
+     * The array of results is in the <strong>same order</strong> as the input list.
      * <p>
-     * This method is the same as {@link CompletableFuture#anyOf CompletableFuture#anyOf} method,
-     * except that the parameter type is more generic {@link CompletionStage} instead of {@link CompletableFuture}
-     * and the return type is more specific {@code T} instead of {@code Object}.
+     * This method is the primitive-specialized variant of {@link #allResultsOf allResultsOf} method,
+     * the results are stored into the returned array directly WITHOUT boxing or growing a list.
      *
-     * @throws NullPointerException if the cfs param or any of its elements are {@code null}
+     * @param extractor the function to extract the {@code long} result from the result of input stage
+     * @throws NullPointerException if the extractor, the cfs param or any of its elements are {@code null}
      */
     @Contract(pure = true)
     @SafeVarargs
-    public static <T> CompletableFuture<T> anyOf(CompletionStage<? extends T>... cfs) {
+    public static <T> CompletableFuture<long[]> allLongResultsOf(
+            ToLongFunction<? super T> extractor, CompletionStage<? extends T>... cfs) {
+        requireNonNull(extractor, "extractor is null");
         requireCfsAndEleNonNull(cfs);
-        if (cfs.length == 0) return new CompletableFuture<>();
-        // defensive copy input cf to non-minimal-stage instance for SINGLE input in order to ensure that
-        // 1. avoid writing the input cf unexpectedly by caller code
-        // 2. the returned cf is not minimal-stage instance(UnsupportedOperationException)
-        if (cfs.length == 1) return toNonMinCfCopy0(cfs[0]);
-        return f_cast(CompletableFuture.anyOf(f_toCfArray0(cfs)));
-    }
 
-    // endregion
-    ////////////////////////////////////////////////////////////
-    // region## allTupleOf*/mostSuccessTupleOf Methods
-    ////////////////////////////////////////////////////////////
+        if (cfs.length == 0) return completedFuture(new long[0]);
+        return PrimitiveResultsAggregator.allResultsOf(false, cfs,
+                PrimitiveResultsAggregator.longSlots(extractor, cfs.length));
+    }
 
     /**
-     * Tuple variant of {@link #allResultsFailFastOf(CompletionStage[])}.
+     * Returns a new CompletableFuture that is completed normally with a {@code long[]} containing the results
+     * extracted by the given extractor from the successful results of the given stages before the given timeout
+     * (aka as many results as possible in the given time); if any of given stages complete exceptionally
+     * (or the extractor throws an exception) or are incomplete, their corresponding positions will contain
+     * {@code valueIfNotSuccess}. If no stages are provided, returns a CompletableFuture completed with the value
+     * empty array.
+     * <p>
+     * The array of results is in the <strong>same order</strong> as the input list.
+     * <p>
+     * This method is the primitive-specialized variant of {@link #mostSuccessResultsOf mostSuccessResultsOf} method,
+     * the results are stored WITHOUT boxing.
+     *
+     * @param valueIfNotSuccess the value used as result if the input stage not completed normally
+     * @param timeout           how long to wait in units of {@code unit}
+     * @param unit              a {@code TimeUnit} determining how to interpret the {@code timeout} parameter
+     * @param extractor         the function to extract the {@code long} result from the result of input stage
+     * @throws NullPointerException if the extractor, the cfs param or any of its elements are {@code null}
      */
     @Contract(pure = true)
-    public static <T1, T2> CompletableFuture<Tuple2<T1, T2>> allTupleFailFastOf(
-            CompletionStage<? extends T1> cf1, CompletionStage<? extends T2> cf2) {
-        return f_allTupleOf0(true, requireCfsAndEleNonNull(cf1, cf2));
+    @SafeVarargs
+    public static <T> CompletableFuture<long[]> mostSuccessLongResultsOf(
+            long valueIfNotSuccess, long timeout, TimeUnit unit,
+            ToLongFunction<? super T> extractor, CompletionStage<? extends T>... cfs) {
+        return mostSuccessLongResultsOf(ASYNC_POOL, valueIfNotSuccess, timeout, unit, extractor, cfs);
     }
 
     /**
-     * Tuple variant of {@link #allResultsFailFastOf(CompletionStage[])}.
+     * Variant of {@link #mostSuccessLongResultsOf(long, long, TimeUnit, ToLongFunction, CompletionStage[])}
+     * that uses the given executor to complete the returned CompletableFuture when timeout.
+     *
+     * @param executorWhenTimeout the executor to use for asynchronous execution when timeout
+     * @param valueIfNotSuccess   the value used as result if the input stage not completed normally
+     * @param timeout             how long to wait in units of {@code unit}
+     * @param unit                a {@code TimeUnit} determining how to interpret the {@code timeout} parameter
+     * @param extractor           the function to extract the {@code long} result from the result of input stage
+     * @throws NullPointerException if the extractor, the cfs param or any of its elements are {@code null}
      */
     @Contract(pure = true)
-    public static <T1, T2, T3> CompletableFuture<Tuple3<T1, T2, T3>> allTupleFailFastOf(
-            CompletionStage<? extends T1> cf1, CompletionStage<? extends T2> cf2, CompletionStage<? extends T3> cf3) {
-        return f_allTupleOf0(true, requireCfsAndEleNonNull(cf1, cf2, cf3));
+    @SafeVarargs
+    public static <T> CompletableFuture<long[]> mostSuccessLongResultsOf(
+            Executor executorWhenTimeout, long valueIfNotSuccess, long timeout, TimeUnit unit,
+            ToLongFunction<? super T> extractor, CompletionStage<? extends T>... cfs) {
+        requireNonNull(executorWhenTimeout, "executorWhenTimeout is null");
+        requireNonNull(unit, "unit is null");
+        requireNonNull(extractor, "extractor is null");
+        requireCfsAndEleNonNull(cfs);
+
+        if (cfs.length == 0) return completedFuture(new long[0]);
+        return PrimitiveResultsAggregator.mostSuccessResultsOf(executorWhenTimeout, timeout, unit, cfs,
+                PrimitiveResultsAggregator.atomicLongSlots(extractor, valueIfNotSuccess, cfs.length));
     }
 
     /**
-     * Tuple variant of {@link #allResultsFailFastOf(CompletionStage[])}.
+     * The {@code int} variant of {@link #allLongResultsFailFastOf(ToLongFunction, CompletionStage[])}.
      */
     @Contract(pure = true)
-    public static <T1, T2, T3, T4> CompletableFuture<Tuple4<T1, T2, T3, T4>> allTupleFailFastOf(
-            CompletionStage<? extends T1> cf1, CompletionStage<? extends T2> cf2,
-            CompletionStage<? extends T3> cf3, CompletionStage<? extends T4> cf4) {
-        return f_allTupleOf0(true, requireCfsAndEleNonNull(cf1, cf2, cf3, cf4));
+    @SafeVarargs
+    public static <T> CompletableFuture<int[]> allIntResultsFailFastOf(
+            ToIntFunction<? super T> extractor, CompletionStage<? extends T>... cfs) {
+        requireNonNull(extractor, "extractor is null");
+        requireCfsAndEleNonNull(cfs);
+
+        if (cfs.length == 0) return completedFuture(new int[0]);
+        return PrimitiveResultsAggregator.allResultsOf(true, cfs,
+                PrimitiveResultsAggregator.intSlots(extractor, cfs.length));
     }
 
     /**
-     * Tuple variant of {@link #allResultsFailFastOf(CompletionStage[])}.
+     * The {@code int} variant of {@link #allLongResultsOf(ToLongFunction, CompletionStage[])}.
      */
     @Contract(pure = true)
-    public static <T1, T2, T3, T4, T5> CompletableFuture<Tuple5<T1, T2, T3, T4, T5>> allTupleFailFastOf(
-            CompletionStage<? extends T1> cf1, CompletionStage<? extends T2> cf2, CompletionStage<? extends T3> cf3,
-            CompletionStage<? extends T4> cf4, CompletionStage<? extends T5> cf5) {
-        return f_allTupleOf0(true, requireCfsAndEleNonNull(cf1, cf2, cf3, cf4, cf5));
+    @SafeVarargs
+    public static <T> CompletableFuture<int[]> allIntResultsOf(
+            ToIntFunction<? super T> extractor, CompletionStage<? extends T>... cfs) {
+        requireNonNull(extractor, "extractor is null");
+        requireCfsAndEleNonNull(cfs);
+
+        if (cfs.length == 0) return completedFuture(new int[0]);
+        return PrimitiveResultsAggregator.allResultsOf(false, cfs,
+                PrimitiveResultsAggregator.intSlots(extractor, cfs.length));
     }
 
     /**
-     * Tuple variant of {@link #allSuccessResultsOf(Object, CompletionStage[])} with {@code null} valueIfFailed.
-     * <p>
-     * If any of the provided stages fails, its corresponding position will contain {@code null}
-     * (which is indistinguishable from the stage having a successful value of {@code null}).
+     * The {@code int} variant of {@link #mostSuccessLongResultsOf(long, long, TimeUnit, ToLongFunction, CompletionStage[])}.
      */
     @Contract(pure = true)
-    public static <T1, T2> CompletableFuture<Tuple2<T1, T2>> allSuccessTupleOf(
-            CompletionStage<? extends T1> cf1, CompletionStage<? extends T2> cf2) {
-        return f_allSuccessTupleOf0(requireCfsAndEleNonNull(cf1, cf2));
+    @SafeVarargs
+    public static <T> CompletableFuture<int[]> mostSuccessIntResultsOf(
+            int valueIfNotSuccess, long timeout, TimeUnit unit,
+            ToIntFunction<? super T> extractor, CompletionStage<? extends T>... cfs) {
+        return mostSuccessIntResultsOf(ASYNC_POOL, valueIfNotSuccess, timeout, unit, extractor, cfs);
     }
 
     /**
-     * Tuple variant of {@link #allSuccessResultsOf(Object, CompletionStage[])} with {@code null} valueIfFailed.
-     * <p>
-     * If any of the provided stages fails, its corresponding position will contain {@code null}
-     * (which is indistinguishable from the stage having a successful value of {@code null}).
+     * The {@code int} variant of
+     * {@link #mostSuccessLongResultsOf(Executor, long, long, TimeUnit, ToLongFunction, CompletionStage[])}.
      */
     @Contract(pure = true)
-    public static <T1, T2, T3> CompletableFuture<Tuple3<T1, T2, T3>> allSuccessTupleOf(
-            CompletionStage<? extends T1> cf1, CompletionStage<? extends T2> cf2, CompletionStage<? extends T3> cf3) {
-        return f_allSuccessTupleOf0(requireCfsAndEleNonNull(cf1, cf2, cf3));
+    @SafeVarargs
+    public static <T> CompletableFuture<int[]> mostSuccessIntResultsOf(
+            Executor executorWhenTimeout, int valueIfNotSuccess, long timeout, TimeUnit unit,
+            ToIntFunction<? super T> extractor, CompletionStage<? extends T>... cfs) {
+        requireNonNull(executorWhenTimeout, "executorWhenTimeout is null");
+        requireNonNull(unit, "unit is null");
+        requireNonNull(extractor, "extractor is null");
+        requireCfsAndEleNonNull(cfs);
+
+        if (cfs.length == 0) return completedFuture(new int[0]);
+        return PrimitiveResultsAggregator.mostSuccessResultsOf(executorWhenTimeout, timeout, unit, cfs,
+                PrimitiveResultsAggregator.atomicIntSlots(extractor, valueIfNotSuccess, cfs.length));
     }
 
     /**
-     * Tuple variant of {@link #allSuccessResultsOf(Object, CompletionStage[])} with {@code null} valueIfFailed.
-     * <p>
-     * If any of the provided stages fails, its corresponding position will contain {@code null}
-     * (which is indistinguishable from the stage having a successful value of {@code null}).
+     * The {@code double} variant of {@link #allLongResultsFailFastOf(ToLongFunction, CompletionStage[])}.
      */
     @Contract(pure = true)
-    public static <T1, T2, T3, T4> CompletableFuture<Tuple4<T1, T2, T3, T4>> allSuccessTupleOf(
-            CompletionStage<? extends T1> cf1, CompletionStage<? extends T2> cf2,
-            CompletionStage<? extends T3> cf3, CompletionStage<? extends T4> cf4) {
-        return f_allSuccessTupleOf0(requireCfsAndEleNonNull(cf1, cf2, cf3, cf4));
+    @SafeVarargs
+    public static <T> CompletableFuture<double[]> allDoubleResultsFailFastOf(
+            ToDoubleFunction<? super T> extractor, CompletionStage<? extends T>... cfs) {
+        requireNonNull(extractor, "extractor is null");
+        requireCfsAndEleNonNull(cfs);
+
+        if (cfs.length == 0) return completedFuture(new double[0]);
+        return PrimitiveResultsAggregator.allResultsOf(true, cfs,
+                PrimitiveResultsAggregator.doubleSlots(extractor, cfs.length));
     }
 
     /**
-     * Tuple variant of {@link #allSuccessResultsOf(Object, CompletionStage[])} with {@code null} valueIfFailed.
-     * <p>
-     * If any of the provided stages fails, its corresponding position will contain {@code null}
-     * (which is indistinguishable from the stage having a successful value of {@code null}).
+     * The {@code double} variant of {@link #allLongResultsOf(ToLongFunction, CompletionStage[])}.
      */
     @Contract(pure = true)
-    public static <T1, T2, T3, T4, T5> CompletableFuture<Tuple5<T1, T2, T3, T4, T5>> allSuccessTupleOf(
-            CompletionStage<? extends T1> cf1, CompletionStage<? extends T2> cf2, CompletionStage<? extends T3> cf3,
-            CompletionStage<? extends T4> cf4, CompletionStage<? extends T5> cf5) {
-        return f_allSuccessTupleOf0(requireCfsAndEleNonNull(cf1, cf2, cf3, cf4, cf5));
+    @SafeVarargs
+    public static <T> CompletableFuture<double[]> allDoubleResultsOf(
+            ToDoubleFunction<? super T> extractor, CompletionStage<? extends T>... cfs) {
+        requireNonNull(extractor, "extractor is null");
+        requireCfsAndEleNonNull(cfs);
+
+        if (cfs.length == 0) return completedFuture(new double[0]);
+        return PrimitiveResultsAggregator.allResultsOf(false, cfs,
+                PrimitiveResultsAggregator.doubleSlots(extractor, cfs.length));
     }
 
     /**
-     * Tuple variant of {@link #mostSuccessResultsOf(Object, long, TimeUnit, CompletionStage[])}
-     * with {@code null} valueIfNotSuccess.
-     * <p>
-     * If any of the provided stages is not completed normally, its corresponding position will contain {@code null}
-     * (which is indistinguishable from the supplier having a successful value of {@code null}).
+     * The {@code double} variant of {@link #mostSuccessLongResultsOf(long, long, TimeUnit, ToLongFunction, CompletionStage[])}.
      */
     @Contract(pure = true)
-    public static <T1, T2> CompletableFuture<Tuple2<T1, T2>> mostSuccessTupleOf(
-            long timeout, TimeUnit unit, CompletionStage<? extends T1> cf1, CompletionStage<? extends T2> cf2) {
-        return mostSuccessTupleOf(ASYNC_POOL, timeout, unit, cf1, cf2);
+    @SafeVarargs
+    public static <T> CompletableFuture<double[]> mostSuccessDoubleResultsOf(
+            double valueIfNotSuccess, long timeout, TimeUnit unit,
+            ToDoubleFunction<? super T> extractor, CompletionStage<? extends T>... cfs) {
+        return mostSuccessDoubleResultsOf(ASYNC_POOL, valueIfNotSuccess, timeout, unit, extractor, cfs);
     }
 
     /**
-     * Tuple variant of {@link #mostSuccessResultsOf(Executor, Object, long, TimeUnit, CompletionStage[])}
-     * with {@code null} valueIfNotSuccess.
-     * <p>
-     * If any of the provided stages is not completed normally, its corresponding position will contain {@code null}
-     * (which is indistinguishable from the supplier having a successful value of {@code null}).
+     * The {@code double} variant of
+     * {@link #mostSuccessLongResultsOf(Executor, long, long, TimeUnit, ToLongFunction, CompletionStage[])}.
      */
     @Contract(pure = true)
-    public static <T1, T2> CompletableFuture<Tuple2<T1, T2>> mostSuccessTupleOf(
-            Executor executorWhenTimeout, long timeout, TimeUnit unit,
-            CompletionStage<? extends T1> cf1, CompletionStage<? extends T2> cf2) {
+    @SafeVarargs
+    public static <T> CompletableFuture<double[]> mostSuccessDoubleResultsOf(
+            Executor executorWhenTimeout, double valueIfNotSuccess, long timeout, TimeUnit unit,
+            ToDoubleFunction<? super T> extractor, CompletionStage<? extends T>... cfs) {
         requireNonNull(executorWhenTimeout, "executorWhenTimeout is null");
         requireNonNull(unit, "unit is null");
-        CompletionStage<?>[] cfs = requireCfsAndEleNonNull(cf1, cf2);
+        requireNonNull(extractor, "extractor is null");
+        requireCfsAndEleNonNull(cfs);
 
-        return f_mostSuccessTupleOf0(executorWhenTimeout, timeout, unit, cfs);
+        if (cfs.length == 0) return completedFuture(new double[0]);
+        return PrimitiveResultsAggregator.mostSuccessResultsOf(executorWhenTimeout, timeout, unit, cfs,
+                PrimitiveResultsAggregator.atomicDoubleSlots(extractor, valueIfNotSuccess, cfs.length));
     }
 
+    // endregion
+    ////////////////////////////////////////////////////////////
+    // region## Reduce allOf* Methods(fold the results as they arrive, without retaining them)
+    //
+    //    CompletionStage<T>[] -> CompletableFuture<U>
+    ////////////////////////////////////////////////////////////
+
     /**
-     * Tuple variant of {@link #mostSuccessResultsOf(Object, long, TimeUnit, CompletionStage[])}
-     * with {@code null} valueIfNotSuccess.
-     * <p>
-     * If any of the provided stages is not completed normally, its corresponding position will contain {@code null}
-     * (which is indistinguishable from the supplier having a successful value of {@code null}).
+     * Returns a new CompletableFuture that is completed normally with the reduction of the successful results
+     * of all given stages when all the given stages complete normally, using the provided supplier, accumulation
+     * and combining functions; If any of the given stages complete exceptionally, then the returned
+     * CompletableFuture also does so, WITHOUT waiting other incomplete given stages, with a CompletionException
+     * holding this exception as its cause. If no stages are provided, returns a CompletableFuture completed
+     * with a new accumulation of the supplier.
+     * <p>
+     * Each result is folded into a partial accumulation as soon as it arrives, and is NOT retained;
+     * so the memory is proportional to the accumulation instead of the count of the given stages, which is preferred
+     * for huge fan-outs that only need a sum, min/max or merged map, comparing {@link #allResultsFailFastOf} method.
+     * <p>
+     * The results are folded in the <strong>completion order</strong> into several partial accumulations which are
+     * combined by the combiner finally; same as the mutable reduction of {@link java.util.stream.Collector},
+     * each partial accumulation is a new container created by the supplier, and each result is accumulated exactly
+     * once by one thread at a time. So the accumulator and the combiner may mutate and return their first argument,
+     * e.g. merging the results into a map with {@code HashMap::new} as the supplier; and the functions must be
+     * <strong>associative and commutative</strong>. If the accumulator or the combiner throws an exception,
+     * the returned CompletableFuture completes exceptionally with a CompletionException holding this exception
+     * as its cause.
+     *
+     * @param supplier    a function that creates a new empty accumulation, e.g. {@code () -> 0L}
+     *                    or {@code HashMap::new}
+     * @param accumulator an associative, commutative function for incorporating an additional result
+     *                    into an accumulation
+     * @param combiner    an associative, commutative function for combining two accumulations,
+     *                    which must be compatible with the accumulator function
+     * @throws NullPointerException if the supplier, the accumulator, the combiner, the cfs param or any of its
+     *                              elements are {@code null}
      */
     @Contract(pure = true)
-    public static <T1, T2, T3> CompletableFuture<Tuple3<T1, T2, T3>> mostSuccessTupleOf(
-            long timeout, TimeUnit unit,
-            CompletionStage<? extends T1> cf1, CompletionStage<? extends T2> cf2, CompletionStage<? extends T3> cf3) {
-        return mostSuccessTupleOf(ASYNC_POOL, timeout, unit, cf1, cf2, cf3);
+    @SafeVarargs
+    public static <T, U> CompletableFuture<U> allReduceFailFastOf(
+            Supplier<? extends U> supplier, BiFunction<U, ? super T, U> accumulator, BinaryOperator<U> combiner,
+            CompletionStage<? extends T>... cfs) {
+        requireNonNull(supplier, "supplier is null");
+        requireNonNull(accumulator, "accumulator is null");
+        requireNonNull(combiner, "combiner is null");
+        requireCfsAndEleNonNull(cfs);
+
+        if (cfs.length == 0) return completedFuture(supplier.get());
+        return ReduceAggregator.allReduceOf(true, supplier, accumulator, combiner, cfs);
     }
 
     /**
-     * Tuple variant of {@link #mostSuccessResultsOf(Executor, Object, long, TimeUnit, CompletionStage[])}
-     * with {@code null} valueIfNotSuccess.
+     * Returns a new CompletableFuture that is completed normally with the reduction of the successful results
+     * of the given stages when all the given stages complete; the results of the stages that complete exceptionally
+     * are skipped. If no stages are provided, returns a CompletableFuture completed with a new accumulation
+     * of the supplier.
      * <p>
-     * If any of the provided stages is not completed normally, its corresponding position will contain {@code null}
-     * (which is indistinguishable from the supplier having a successful value of {@code null}).
+     * See the {@link #allReduceFailFastOf allReduceFailFastOf} documentation
+     * for the requirements of the reduction functions.
+     *
+     * @param supplier    a function that creates a new empty accumulation
+     * @param accumulator an associative, commutative function for incorporating an additional result
+     *                    into an accumulation
+     * @param combiner    an associative, commutative function for combining two accumulations,
+     *                    which must be compatible with the accumulator function
+     * @throws NullPointerException if the supplier, the accumulator, the combiner, the cfs param or any of its
+     *                              elements are {@code null}
      */
     @Contract(pure = true)
-    public static <T1, T2, T3> CompletableFuture<Tuple3<T1, T2, T3>> mostSuccessTupleOf(
-            Executor executorWhenTimeout, long timeout, TimeUnit unit,
-            CompletionStage<? extends T1> cf1, CompletionStage<? extends T2> cf2, CompletionStage<? extends T3> cf3) {
-        requireNonNull(executorWhenTimeout, "executorWhenTimeout is null");
-        requireNonNull(unit, "unit is null");
-        CompletionStage<?>[] cfs = requireCfsAndEleNonNull(cf1, cf2, cf3);
+    @SafeVarargs
+    public static <T, U> CompletableFuture<U> allSuccessReduceOf(
+            Supplier<? extends U> supplier, BiFunction<U, ? super T, U> accumulator, BinaryOperator<U> combiner,
+            CompletionStage<? extends T>... cfs) {
+        requireNonNull(supplier, "supplier is null");
+        requireNonNull(accumulator, "accumulator is null");
+        requireNonNull(combiner, "combiner is null");
+        requireCfsAndEleNonNull(cfs);
 
-        return f_mostSuccessTupleOf0(executorWhenTimeout, timeout, unit, cfs);
+        if (cfs.length == 0) return completedFuture(supplier.get());
+        return ReduceAggregator.allReduceOf(false, supplier, accumulator, combiner, cfs);
+    }
+
+    /**
+     * Returns a new CompletableFuture that is completed normally with the reduction of the successful results
+     * of the given stages before the given timeout (aka as many results as possible in the given time);
+     * the results of the stages that complete exceptionally or are incomplete are skipped.
+     * If no stages are provided, returns a CompletableFuture completed with a new accumulation of the supplier.
+     * <p>
+     * See the {@link #allReduceFailFastOf allReduceFailFastOf} documentation
+     * for the requirements of the reduction functions.
+     *
+     * @param timeout     how long to wait in units of {@code unit}
+     * @param unit        a {@code TimeUnit} determining how to interpret the {@code timeout} parameter
+     * @param supplier    a function that creates a new empty accumulation
+     * @param accumulator an associative, commutative function for incorporating an additional result
+     *                    into an accumulation
+     * @param combiner    an associative, commutative function for combining two accumulations,
+     *                    which must be compatible with the accumulator function
+     * @throws NullPointerException if the supplier, the accumulator, the combiner, the cfs param or any of its
+     *                              elements are {@code null}
+     */
+    @Contract(pure = true)
+    @SafeVarargs
+    public static <T, U> CompletableFuture<U> mostSuccessReduceOf(
+            long timeout, TimeUnit unit, Supplier<? extends U> supplier, BiFunction<U, ? super T, U> accumulator,
+            BinaryOperator<U> combiner, CompletionStage<? extends T>... cfs) {
+        return mostSuccessReduceOf(ASYNC_POOL, timeout, unit, supplier, accumulator, combiner, cfs);
+    }
+
+    /**
+     * Returns a new CompletableFuture that is completed normally with the reduction of the successful results
+     * of the given stages before the given timeout; see
+     * {@link #mostSuccessReduceOf(long, TimeUnit, Supplier, BiFunction, BinaryOperator, CompletionStage[])}.
+     *
+     * @param executorWhenTimeout the executor to use for asynchronous execution when timeout
+     * @param timeout             how long to wait in units of {@code unit}
+     * @param unit                a {@code TimeUnit} determining how to interpret the {@code timeout} parameter
+     * @param supplier            a function that creates a new empty accumulation
+     * @param accumulator         an associative, commutative function for incorporating an additional result
+     *                            into an accumulation
+     * @param combiner            an associative, commutative function for combining two accumulations,
+     *                            which must be compatible with the accumulator function
+     * @throws NullPointerException if the supplier, the accumulator, the combiner, the cfs param or any of its
+     *                              elements are {@code null}
+     */
+    @Contract(pure = true)
+    @SafeVarargs
+    public static <T, U> CompletableFuture<U> mostSuccessReduceOf(
+            Executor executorWhenTimeout, long timeout, TimeUnit unit,
+            Supplier<? extends U> supplier, BiFunction<U, ? super T, U> accumulator, BinaryOperator<U> combiner,
+            CompletionStage<? extends T>... cfs) {
+        requireNonNull(executorWhenTimeout, "executorWhenTimeout is null");
+        requireNonNull(unit, "unit is null");
+        requireNonNull(supplier, "supplier is null");
+        requireNonNull(accumulator, "accumulator is null");
+        requireNonNull(combiner, "combiner is null");
+        requireCfsAndEleNonNull(cfs);
+
+        if (cfs.length == 0) return completedFuture(supplier.get());
+        return ReduceAggregator.mostSuccessReduceOf(
+                executorWhenTimeout, timeout, unit, supplier, accumulator, combiner, cfs);
+    }
+
+    // endregion
+    ////////////////////////////////////////////////////////////
+    // region## Spilled allOf* Methods(bounded-memory results, spilled to file beyond the heap budget)
+    //
+    //    CompletionStage<T>[] -> CompletableFuture<SpilledResultList<T>>
+    ////////////////////////////////////////////////////////////
+
+    /**
+     * Returns a new CompletableFuture that is completed normally with a {@link SpilledResultList} containing
+     * the successful results of all given stages when all the given stages complete; If any of the given stages
+     * complete exceptionally, then the returned CompletableFuture also does so, with a CompletionException holding
+     * the exception of the leftmost failed stage as its cause. If no stages are provided, returns a CompletableFuture
+     * completed with an empty list.
+     * <p>
+     * Same as {@link #allResultsOf(CompletionStage[]) allResultsOf}, except that the results are bounded-memory:
+     * each result is serialized by the codec of the given {@link SpillOptions} as soon as it arrives, and
+     * the serialized results beyond the heap budget are appended to a spill file; the results are read lazily
+     * by the indexed access of the returned list. So the heap stays flat regardless of the count of the given stages,
+     * which is preferred for massive fan-outs(millions of inputs) with sizable results.
+     * <p>
+     * The returned list owns the spill file, so it should be closed after use, e.g. by try-with-resources;
+     * if the returned CompletableFuture completes exceptionally, the spill file is already deleted.
+     * If the codec throws an exception or the spill file can not be written, the returned CompletableFuture
+     * completes exceptionally with a CompletionException holding this exception as its cause.
+     *
+     * @param spill the spill options: the codec, the heap budget and the directory of the spill file
+     * @throws NullPointerException if the spill param, the cfs param or any of its elements are {@code null}
+     */
+    @Contract(pure = true)
+    @SafeVarargs
+    public static <T> CompletableFuture<SpilledResultList<T>> allResultsSpilledOf(
+            SpillOptions<T> spill, CompletionStage<? extends T>... cfs) {
+        requireNonNull(spill, "spill is null");
+        return SpillingCollector.allResultsOf(spill, Arrays.asList(requireCfsAndEleNonNull(cfs)));
+    }
+
+    /**
+     * Collection variant of {@link #allResultsSpilledOf(SpillOptions, CompletionStage[])}; the given stages are fed
+     * to the aggregation directly, WITHOUT being copied into an array.
+     */
+    @Contract(pure = true)
+    public static <T> CompletableFuture<SpilledResultList<T>> allResultsSpilledOf(
+            SpillOptions<T> spill, Collection<? extends CompletionStage<? extends T>> cfs) {
+        requireNonNull(spill, "spill is null");
+        return SpillingCollector.allResultsOf(spill, requireCfsAndEleNonNull(cfs));
+    }
+
+    /**
+     * Returns a new CompletableFuture that is completed normally with a {@link SpilledResultList} containing
+     * the successful results of all given stages when all the given stages complete; the given valueIfFailed
+     * is the result of the stage that completes exceptionally. If no stages are provided, returns
+     * a CompletableFuture completed with an empty list.
+     * <p>
+     * Bounded-memory variant of {@link #allSuccessResultsOf(Object, CompletionStage[]) allSuccessResultsOf};
+     * see {@link #allResultsSpilledOf(SpillOptions, CompletionStage[])} for the spilling behavior.
+     *
+     * @param spill         the spill options: the codec, the heap budget and the directory of the spill file
+     * @param valueIfFailed the value used as result if the input stage completed exceptionally
+     * @throws NullPointerException if the spill param, the cfs param or any of its elements are {@code null}
+     */
+    @Contract(pure = true)
+    @SafeVarargs
+    public static <T> CompletableFuture<SpilledResultList<T>> allSuccessResultsSpilledOf(
+            SpillOptions<T> spill, @Nullable T valueIfFailed, CompletionStage<? extends T>... cfs) {
+        requireNonNull(spill, "spill is null");
+        return SpillingCollector.allSuccessResultsOf(spill, valueIfFailed, Arrays.asList(requireCfsAndEleNonNull(cfs)));
+    }
+
+    /**
+     * Collection variant of {@link #allSuccessResultsSpilledOf(SpillOptions, Object, CompletionStage[])};
+     * the given stages are fed to the aggregation directly, WITHOUT being copied into an array.
+     */
+    @Contract(pure = true)
+    public static <T> CompletableFuture<SpilledResultList<T>> allSuccessResultsSpilledOf(
+            SpillOptions<T> spill, @Nullable T valueIfFailed, Collection<? extends CompletionStage<? extends T>> cfs) {
+        requireNonNull(spill, "spill is null");
+        return SpillingCollector.allSuccessResultsOf(spill, valueIfFailed, requireCfsAndEleNonNull(cfs));
+    }
+
+    /**
+     * Returns a new CompletableFuture that is completed normally with a {@link SpilledResultList} containing
+     * the successful results of the given stages before the given timeout; the given valueIfNotSuccess is the result
+     * of the stage that completes exceptionally or is incomplete. If no stages are provided, returns
+     * a CompletableFuture completed with an empty list.
+     * <p>
+     * Bounded-memory variant of {@link #mostSuccessResultsOf(Object, long, TimeUnit, CompletionStage[])
+     * mostSuccessResultsOf}; see {@link #allResultsSpilledOf(SpillOptions, CompletionStage[])} for
+     * the spilling behavior.
+     *
+     * @param spill             the spill options: the codec, the heap budget and the directory of the spill file
+     * @param valueIfNotSuccess the value used as result if the input stage is not completed normally
+     * @param timeout           how long to wait in units of {@code unit}
+     * @param unit              a {@code TimeUnit} determining how to interpret the {@code timeout} parameter
+     * @throws NullPointerException if the spill param, the cfs param or any of its elements are {@code null}
+     */
+    @Contract(pure = true)
+    @SafeVarargs
+    public static <T> CompletableFuture<SpilledResultList<T>> mostSuccessResultsSpilledOf(
+            SpillOptions<T> spill, @Nullable T valueIfNotSuccess, long timeout, TimeUnit unit,
+            CompletionStage<? extends T>... cfs) {
+        return mostSuccessResultsSpilledOf(ASYNC_POOL, spill, valueIfNotSuccess, timeout, unit, cfs);
+    }
+
+    /**
+     * Returns a new CompletableFuture that is completed normally with a {@link SpilledResultList} containing
+     * the successful results of the given stages before the given timeout; see
+     * {@link #mostSuccessResultsSpilledOf(SpillOptions, Object, long, TimeUnit, CompletionStage[])}.
+     *
+     * @param executorWhenTimeout the executor to use for asynchronous execution when timeout
+     * @param spill               the spill options: the codec, the heap budget and the directory of the spill file
+     * @param valueIfNotSuccess   the value used as result if the input stage is not completed normally
+     * @param timeout             how long to wait in units of {@code unit}
+     * @param unit                a {@code TimeUnit} determining how to interpret the {@code timeout} parameter
+     * @throws NullPointerException if the spill param, the cfs param or any of its elements are {@code null}
+     */
+    @Contract(pure = true)
+    @SafeVarargs
+    public static <T> CompletableFuture<SpilledResultList<T>> mostSuccessResultsSpilledOf(
+            Executor executorWhenTimeout, SpillOptions<T> spill, @Nullable T valueIfNotSuccess,
+            long timeout, TimeUnit unit, CompletionStage<? extends T>... cfs) {
+        return mostSuccessResultsSpilledOf(executorWhenTimeout, spill, valueIfNotSuccess, timeout, unit,
+                Arrays.asList(requireCfsAndEleNonNull(cfs)));
+    }
+
+    /**
+     * Collection variant of {@link #mostSuccessResultsSpilledOf(SpillOptions, Object, long, TimeUnit, CompletionStage[])};
+     * the given stages are fed to the aggregation directly, WITHOUT being copied into an array.
+     */
+    @Contract(pure = true)
+    public static <T> CompletableFuture<SpilledResultList<T>> mostSuccessResultsSpilledOf(
+            SpillOptions<T> spill, @Nullable T valueIfNotSuccess, long timeout, TimeUnit unit,
+            Collection<? extends CompletionStage<? extends T>> cfs) {
+        return mostSuccessResultsSpilledOf(ASYNC_POOL, spill, valueIfNotSuccess, timeout, unit, cfs);
+    }
+
+    /**
+     * Collection variant of
+     * {@link #mostSuccessResultsSpilledOf(Executor, SpillOptions, Object, long, TimeUnit, CompletionStage[])};
+     * the given stages are fed to the aggregation directly, WITHOUT being copied into an array.
+     */
+    @Contract(pure = true)
+    public static <T> CompletableFuture<SpilledResultList<T>> mostSuccessResultsSpilledOf(
+            Executor executorWhenTimeout, SpillOptions<T> spill, @Nullable T valueIfNotSuccess,
+            long timeout, TimeUnit unit, Collection<? extends CompletionStage<? extends T>> cfs) {
+        requireNonNull(executorWhenTimeout, "executorWhenTimeout is null");
+        requireNonNull(spill, "spill is null");
+        requireNonNull(unit, "unit is null");
+        requireCfsAndEleNonNull(cfs);
+
+        return SpillingCollector.mostSuccessResultsOf(executorWhenTimeout, spill, valueIfNotSuccess, timeout, unit, cfs);
+    }
+
+    // endregion
+    ////////////////////////////////////////////////////////////
+    // region## Keyed allOf* Methods(Map of stages -> Map of results)
+    //
+    //    Map<K, CompletionStage<V>> -> CompletableFuture<Map<K, V>>
+    ////////////////////////////////////////////////////////////
+
+    /**
+     * Returns a new CompletableFuture that is completed normally with a map containing the successful results
+     * of all given stages by the same keys, when all the given stages complete normally; If any of the given stages
+     * complete exceptionally, then the returned CompletableFuture also does so, WITHOUT waiting other incomplete
+     * given stages, with a CompletionException holding this exception as its cause.
+     * If no stages are provided, returns a CompletableFuture completed with the value empty map.
+     * <p>
+     * Each result is written into a pre-sized {@link HashMap} by its key as soon as the stage completes,
+     * WITHOUT converting the given map into arrays and rebuilding the map from a result list.
+     * The returned map is a new {@link HashMap} owned by the caller.
+     * <p>
+     * This method is the same as {@link #allResultsOfMap allResultsOfMap} method except for the fail-fast behavior.
+     *
+     * @throws NullPointerException if the cfs param or any of its values are {@code null}
+     * @see #allResultsFailFastOf(CompletionStage[])
+     */
+    @Contract(pure = true)
+    public static <K, V> CompletableFuture<Map<K, V>> allResultsFailFastOfMap(
+            Map<K, ? extends CompletionStage<? extends V>> cfs) {
+        requireCfsAndValueNonNull(cfs);
+
+        if (cfs.isEmpty()) return completedFuture(new HashMap<>());
+        return KeyedResultsAggregator.allResultsOf(true, cfs);
+    }
+
+    /**
+     * Returns a new CompletableFuture that is completed normally with a map containing the successful results
+     * of all given stages by the same keys, when all the given stages complete; If any of the given stages
+     * complete exceptionally, then the returned CompletableFuture also does so, with a CompletionException holding
+     * the exception of the first failed stage in the iteration order of the given map as its cause.
+     * If no stages are provided, returns a CompletableFuture completed with the value empty map.
+     * <p>
+     * Each result is written into a pre-sized {@link HashMap} by its key as soon as the stage completes.
+     * The returned map is a new {@link HashMap} owned by the caller.
+     *
+     * @throws NullPointerException if the cfs param or any of its values are {@code null}
+     * @see #allResultsOf(CompletionStage[])
+     */
+    @Contract(pure = true)
+    public static <K, V> CompletableFuture<Map<K, V>> allResultsOfMap(
+            Map<K, ? extends CompletionStage<? extends V>> cfs) {
+        requireCfsAndValueNonNull(cfs);
+
+        if (cfs.isEmpty()) return completedFuture(new HashMap<>());
+        return KeyedResultsAggregator.allResultsOf(false, cfs);
+    }
+
+    /**
+     * Returns a new CompletableFuture that is completed normally with the {@link KeyedResults} when all the given
+     * stages complete: the successful results by the same keys, and the keys of the stages that complete
+     * exceptionally as {@link KeyedResults#missingKeys() missingKeys}.
+     * If no stages are provided, returns a CompletableFuture completed with the value empty KeyedResults.
+     * <p>
+     * Each result is written into a pre-sized {@link HashMap} by its key as soon as the stage completes.
+     * The given map must not be modified until this method returns.
+     *
+     * @throws NullPointerException if the cfs param or any of its values are {@code null}
+     * @see #allSuccessResultsOf(Object, CompletionStage[])
+     */
+    @Contract(pure = true)
+    public static <K, V> CompletableFuture<KeyedResults<K, V>> allSuccessResultsOfMap(
+            Map<K, ? extends CompletionStage<? extends V>> cfs) {
+        requireCfsAndValueNonNull(cfs);
+
+        if (cfs.isEmpty()) return completedFuture(new KeyedResults<>(new HashMap<>(), Collections.emptySet()));
+        return KeyedResultsAggregator.allSuccessResultsOf(cfs);
+    }
+
+    /**
+     * Returns a new CompletableFuture that is completed normally with the {@link KeyedResults} of the given stages
+     * before the given timeout (aka as many results as possible in the given time): the successful results
+     * by the same keys, and the keys of the stages that complete exceptionally or are incomplete
+     * as {@link KeyedResults#missingKeys() missingKeys}.
+     * If no stages are provided, returns a CompletableFuture completed with the value empty KeyedResults.
+     * <p>
+     * Each result is written into a pre-sized {@link HashMap} by its key as soon as the stage completes.
+     * The given map must not be modified until this method returns.
+     *
+     * @param timeout how long to wait in units of {@code unit}
+     * @param unit    a {@code TimeUnit} determining how to interpret the {@code timeout} parameter
+     * @throws NullPointerException if the cfs param or any of its values are {@code null}
+     * @see #mostSuccessResultsOf(Object, long, TimeUnit, CompletionStage[])
+     */
+    @Contract(pure = true)
+    public static <K, V> CompletableFuture<KeyedResults<K, V>> mostSuccessResultsOfMap(
+            long timeout, TimeUnit unit, Map<K, ? extends CompletionStage<? extends V>> cfs) {
+        return mostSuccessResultsOfMap(ASYNC_POOL, timeout, unit, cfs);
+    }
+
+    /**
+     * Returns a new CompletableFuture that is completed normally with the {@link KeyedResults} of the given stages
+     * before the given timeout; see {@link #mostSuccessResultsOfMap(long, TimeUnit, Map)}.
+     *
+     * @param executorWhenTimeout the executor to use for asynchronous execution when timeout
+     * @param timeout             how long to wait in units of {@code unit}
+     * @param unit                a {@code TimeUnit} determining how to interpret the {@code timeout} parameter
+     * @throws NullPointerException if the cfs param or any of its values are {@code null}
+     */
+    @Contract(pure = true)
+    public static <K, V> CompletableFuture<KeyedResults<K, V>> mostSuccessResultsOfMap(
+            Executor executorWhenTimeout, long timeout, TimeUnit unit,
+            Map<K, ? extends CompletionStage<? extends V>> cfs) {
+        requireNonNull(executorWhenTimeout, "executorWhenTimeout is null");
+        requireNonNull(unit, "unit is null");
+        requireCfsAndValueNonNull(cfs);
+
+        if (cfs.isEmpty()) return completedFuture(new KeyedResults<>(new HashMap<>(), Collections.emptySet()));
+        return KeyedResultsAggregator.mostSuccessResultsOf(executorWhenTimeout, timeout, unit, cfs);
+    }
+
+    private static void requireCfsAndValueNonNull(Map<?, ? extends CompletionStage<?>> cfs) {
+        requireNonNull(cfs, "cfs is null");
+        for (Map.Entry<?, ? extends CompletionStage<?>> e : cfs.entrySet())
+            requireNonNull(e.getValue(), "cf of key " + e.getKey() + " is null");
+    }
+
+    // endregion
+    ////////////////////////////////////////////////////////////
+    // region## Settled allOf* Methods(materialize the outcome of each stage as Try)
+    //
+    //    CompletionStage<T>[] -> CompletableFuture<List<Try<T>>>
+    ////////////////////////////////////////////////////////////
+
+    /**
+     * Returns a new CompletableFuture that is completed normally with a list containing the settled outcomes
+     * of all given stages when all the given stages complete: the successful result value, or the exception
+     * (unwrapped from {@link CompletionException}) of each stage as {@link Try}.
+     * The returned CompletableFuture never completes exceptionally because of the given stages.
+     * If no stages are provided, returns a CompletableFuture completed with the value empty list.
+     * <p>
+     * The outcome of each stage is recorded directly into its slot by the single completion callback of the stage,
+     * WITHOUT an intermediate {@code handle} stage per input and WITHOUT wrapping or rethrowing the exception;
+     * so the partial-failure results can be assembled without any exception being thrown.
+     * <p>
+     * The list of outcomes is in the <strong>same order</strong> as the given stages, and is unmodifiable
+     * (copy it for a mutable list, e.g. {@code new ArrayList<>(results)}).
+     *
+     * @throws NullPointerException if the cfs param or any of its elements are {@code null}
+     * @see #allResultsOf(CompletionStage[])
+     */
+    @Contract(pure = true)
+    @SafeVarargs
+    public static <T> CompletableFuture<List<Try<T>>> allSettledOf(CompletionStage<? extends T>... cfs) {
+        return allSettledOf0(Arrays.asList(requireCfsAndEleNonNull(cfs)));
+    }
+
+    /**
+     * Collection variant of {@link #allSettledOf(CompletionStage[])}; the given stages are fed to the aggregation
+     * directly, WITHOUT being copied into an array. The list of outcomes is in the <strong>same order</strong>
+     * as the iteration order of the given collection.
+     * <p>
+     * The given collection must not be modified until this method returns.
+     *
+     * @throws NullPointerException if the cfs param or any of its elements are {@code null}
+     */
+    @Contract(pure = true)
+    public static <T> CompletableFuture<List<Try<T>>> allSettledOf(Collection<? extends CompletionStage<? extends T>> cfs) {
+        return allSettledOf0(requireCfsAndEleNonNull(cfs));
+    }
+
+    private static <T> CompletableFuture<List<Try<T>>> allSettledOf0(Collection<? extends CompletionStage<? extends T>> cfs) {
+        if (cfs.isEmpty()) return completedFuture(ResultList.of());
+        return AllResultsAggregator.allSettledOf(cfs, ResultList::of);
+    }
+
+    /**
+     * Tuple variant of {@link #allSettledOf(CompletionStage[])}.
+     */
+    @Contract(pure = true)
+    public static <T1, T2> CompletableFuture<Tuple2<Try<T1>, Try<T2>>> allSettledTupleOf(
+            CompletionStage<? extends T1> cf1, CompletionStage<? extends T2> cf2) {
+        return TupleAggregator.allSettledTupleOf(requireCfsAndEleNonNull(cf1, cf2));
+    }
+
+    /**
+     * Tuple variant of {@link #allSettledOf(CompletionStage[])}.
+     */
+    @Contract(pure = true)
+    public static <T1, T2, T3> CompletableFuture<Tuple3<Try<T1>, Try<T2>, Try<T3>>> allSettledTupleOf(
+            CompletionStage<? extends T1> cf1, CompletionStage<? extends T2> cf2, CompletionStage<? extends T3> cf3) {
+        return TupleAggregator.allSettledTupleOf(requireCfsAndEleNonNull(cf1, cf2, cf3));
+    }
+
+    /**
+     * Tuple variant of {@link #allSettledOf(CompletionStage[])}.
+     */
+    @Contract(pure = true)
+    public static <T1, T2, T3, T4> CompletableFuture<Tuple4<Try<T1>, Try<T2>, Try<T3>, Try<T4>>> allSettledTupleOf(
+            CompletionStage<? extends T1> cf1, CompletionStage<? extends T2> cf2,
+            CompletionStage<? extends T3> cf3, CompletionStage<? extends T4> cf4) {
+        return TupleAggregator.allSettledTupleOf(requireCfsAndEleNonNull(cf1, cf2, cf3, cf4));
+    }
+
+    /**
+     * Tuple variant of {@link #allSettledOf(CompletionStage[])}.
+     */
+    @Contract(pure = true)
+    public static <T1, T2, T3, T4, T5> CompletableFuture<Tuple5<Try<T1>, Try<T2>, Try<T3>, Try<T4>, Try<T5>>> allSettledTupleOf(
+            CompletionStage<? extends T1> cf1, CompletionStage<? extends T2> cf2, CompletionStage<? extends T3> cf3,
+            CompletionStage<? extends T4> cf4, CompletionStage<? extends T5> cf5) {
+        return TupleAggregator.allSettledTupleOf(requireCfsAndEleNonNull(cf1, cf2, cf3, cf4, cf5));
+    }
+
+    /**
+     * Map variant of {@link #allSettledOf(CompletionStage[])}; returns the settled outcomes of the given stages
+     * as {@link Try} by the same keys when all the given stages complete.
+     * If no stages are provided, returns a CompletableFuture completed with the value empty map.
+     * <p>
+     * Each outcome is written into a pre-sized {@link HashMap} by its key as soon as the stage completes.
+     * The returned map is a new {@link HashMap} owned by the caller.
+     *
+     * @throws NullPointerException if the cfs param or any of its values are {@code null}
+     * @see #allResultsOfMap(Map)
+     */
+    @Contract(pure = true)
+    public static <K, V> CompletableFuture<Map<K, Try<V>>> allSettledOfMap(
+            Map<K, ? extends CompletionStage<? extends V>> cfs) {
+        requireCfsAndValueNonNull(cfs);
+
+        if (cfs.isEmpty()) return completedFuture(new HashMap<>());
+        return KeyedResultsAggregator.allSettledOf(cfs);
+    }
+
+    // endregion
+    ////////////////////////////////////////////////////////////
+    // region## anyOf* Methods
+    //
+    //    CompletionStage<T>[] -> CompletableFuture<T>
+    ////////////////////////////////////////////////////////////
+
+    /**
+     * Returns a new CompletableFuture that completed normally when any of the given stages complete normally,
+     * with the same result; Otherwise, when all the given stages complete exceptionally, the returned CompletableFuture
+     * also does so, with a CompletionException holding an exception from any of the given stages as its cause.
+     * If no stages are provided, returns a new CompletableFuture that is already completed exceptionally
+     * with a {@link NoCfsProvidedException}.
+     * <p>
+     * This method differs from {@link #anyOf anyOf} method in that this method is any-<strong>success</strong>
+     * instead of the any-<strong>complete</strong> behavior of method {@link #anyOf anyOf}.
+     *
+     * @throws NullPointerException if the cfs param or any of its elements are {@code null}
+     */
+    @Contract(pure = true)
+    @SafeVarargs
+    public static <T> CompletableFuture<T> anySuccessOf(CompletionStage<? extends T>... cfs) {
+        return anySuccessOf0(requireCfsAndEleNonNull(cfs));
+    }
+
+    /**
+     * Collection variant of {@link #anySuccessOf(CompletionStage[])}; the given stages are fed to the aggregation
+     * directly, WITHOUT being copied into an array.
+     * <p>
+     * The given collection must not be modified until this method returns.
+     *
+     * @throws NullPointerException if the cfs param or any of its elements are {@code null}
+     */
+    @Contract(pure = true)
+    public static <T> CompletableFuture<T> anySuccessOf(Collection<? extends CompletionStage<? extends T>> cfs) {
+        return anySuccessOf0(requireCfsAndEleNonNull(cfs));
+    }
+
+    private static <T> CompletableFuture<T> anySuccessOf0(CompletionStage<? extends T>[] cfs) {
+        return anySuccessOf0(Arrays.asList(cfs));
+    }
+
+    private static <T> CompletableFuture<T> anySuccessOf0(Collection<? extends CompletionStage<? extends T>> cfs) {
+        final int len = cfs.size();
+        if (len == 0) return failedFuture(new NoCfsProvidedException());
+        // defensive copy input cf to non-minimal-stage instance for SINGLE input in order to ensure that
+        // 1. avoid writing the input cf unexpectedly by caller code
+        // 2. the returned cf is not minimal-stage instance(UnsupportedOperationException)
+        if (len == 1) return toNonMinCfCopy0(first(cfs));
+
+        return SingleWinnerAggregator.anySuccessOf(cfs);
+    }
+
+    /**
+     * Returns a new CompletableFuture that is completed with the same successful result or exception of any of
+     * the given stages when one stage completes. If no stages are provided, returns an incomplete CompletableFuture.
+     * <p>
+     * Comparing the any-<strong>complete</strong> behavior(the complete one may be failed) of this method,
+     * the any-<strong>success</strong> behavior of method {@link #anySuccessOf anySuccessOf}
+     * is generally more desired in the application.
+     * <p>
+     * This method is the same as {@link CompletableFuture#anyOf CompletableFuture#anyOf} method,
+     * except that the parameter type is more generic {@link CompletionStage} instead of {@link CompletableFuture}
+     * and the return type is more specific {@code T} instead of {@code Object}.
+     *
+     * @throws NullPointerException if the cfs param or any of its elements are {@code null}
+     */
+    @Contract(pure = true)
+    @SafeVarargs
+    public static <T> CompletableFuture<T> anyOf(CompletionStage<? extends T>... cfs) {
+        requireCfsAndEleNonNull(cfs);
+        if (cfs.length == 0) return new CompletableFuture<>();
+        // defensive copy input cf to non-minimal-stage instance for SINGLE input in order to ensure that
+        // 1. avoid writing the input cf unexpectedly by caller code
+        // 2. the returned cf is not minimal-stage instance(UnsupportedOperationException)
+        if (cfs.length == 1) return toNonMinCfCopy0(cfs[0]);
+        return SingleWinnerAggregator.anyOf(Arrays.asList(cfs));
+    }
+
+    // endregion
+    ////////////////////////////////////////////////////////////
+    // region## kSuccessOf Methods(quorum, the first K successes of N inputs)
+    //
+    //    CompletionStage<T>[] -> CompletableFuture<List<IndexedResult<T>>>
+    ////////////////////////////////////////////////////////////
+
+    /**
+     * Returns a new CompletableFuture that is completed normally with the first {@code k} successful results
+     * of the given stages, in the <strong>order of success</strong>, each as an {@link IndexedResult} holding
+     * the index of the stage; e.g. for quorum reads/writes of replicas.
+     * If more than {@code cfs.length - k} of the given stages complete exceptionally (aka the quorum can no longer
+     * be reached), then the returned CompletableFuture also does so, WITHOUT waiting other incomplete given stages,
+     * with a CompletionException holding the exception that makes the quorum unreachable as its cause.
+     * If {@code k} is {@code 0}, returns a CompletableFuture completed with the value empty list.
+     * <p>
+     * The list of results is unmodifiable (copy it for a mutable list, e.g. {@code new ArrayList<>(results)}).
+     * <p>
+     * This method is the same as {@link #anySuccessOf anySuccessOf} method for {@code k == 1},
+     * except that the returned CompletableFuture contains the index of the successful stage.
+     *
+     * @param k the count of successful results needed, in range {@code [0, cfs.length]}
+     * @throws NullPointerException     if the cfs param or any of its elements are {@code null}
+     * @throws IllegalArgumentException if {@code k} is out of range {@code [0, cfs.length]}
+     */
+    @Contract(pure = true)
+    @SafeVarargs
+    public static <T> CompletableFuture<List<IndexedResult<T>>> kSuccessOf(int k, CompletionStage<? extends T>... cfs) {
+        requireCfsAndEleNonNull(cfs);
+        requireKInRange(k, cfs.length);
+
+        return KSuccessAggregator.kSuccessOf(k, cfs);
+    }
+
+    /**
+     * Returns a new CompletableFuture that is completed normally with the successful results of the given stages,
+     * in the <strong>order of success</strong>, at the earliest of: the {@code k}-th success, all given stages
+     * complete, or the given timeout; aka the deadline variant of {@link #kSuccessOf(int, CompletionStage[])},
+     * which returns whatever has succeeded (maybe less than {@code k} results) when the time runs out,
+     * and never completes exceptionally.
+     *
+     * @param k       the count of successful results needed, in range {@code [0, cfs.length]}
+     * @param timeout how long to wait in units of {@code unit}
+     * @param unit    a {@code TimeUnit} determining how to interpret the {@code timeout} parameter
+     * @throws NullPointerException     if the cfs param or any of its elements are {@code null}
+     * @throws IllegalArgumentException if {@code k} is out of range {@code [0, cfs.length]}
+     */
+    @Contract(pure = true)
+    @SafeVarargs
+    public static <T> CompletableFuture<List<IndexedResult<T>>> kSuccessOf(
+            int k, long timeout, TimeUnit unit, CompletionStage<? extends T>... cfs) {
+        return kSuccessOf(ASYNC_POOL, k, timeout, unit, cfs);
+    }
+
+    /**
+     * Returns a new CompletableFuture that is completed normally with the successful results of the given stages,
+     * in the <strong>order of success</strong>, at the earliest of: the {@code k}-th success, all given stages
+     * complete, or the given timeout; see {@link #kSuccessOf(int, long, TimeUnit, CompletionStage[])}.
+     *
+     * @param executorWhenTimeout the executor to use for asynchronous execution when timeout
+     * @param k                   the count of successful results needed, in range {@code [0, cfs.length]}
+     * @param timeout             how long to wait in units of {@code unit}
+     * @param unit                a {@code TimeUnit} determining how to interpret the {@code timeout} parameter
+     * @throws NullPointerException     if the cfs param or any of its elements are {@code null}
+     * @throws IllegalArgumentException if {@code k} is out of range {@code [0, cfs.length]}
+     */
+    @Contract(pure = true)
+    @SafeVarargs
+    public static <T> CompletableFuture<List<IndexedResult<T>>> kSuccessOf(
+            Executor executorWhenTimeout, int k, long timeout, TimeUnit unit, CompletionStage<? extends T>... cfs) {
+        requireNonNull(executorWhenTimeout, "executorWhenTimeout is null");
+        requireNonNull(unit, "unit is null");
+        requireCfsAndEleNonNull(cfs);
+        requireKInRange(k, cfs.length);
+
+        return KSuccessAggregator.kSuccessOf(executorWhenTimeout, k, timeout, unit, cfs);
+    }
+
+    private static void requireKInRange(int k, int count) {
+        if (k < 0 || k > count)
+            throw new IllegalArgumentException("k(" + k + ") is out of range [0, " + count + "]");
+    }
+
+    // endregion
+    ////////////////////////////////////////////////////////////
+    // region## Streaming Results Methods(emit the result of each input as soon as it completes)
+    //
+    //    CompletionStage<T>[] -> IndexedResult<T> stream
+    ////////////////////////////////////////////////////////////
+
+    /**
+     * Delivers the outcome of each given stage to the given sink as soon as that stage completes
+     * (in <strong>completion order</strong>, like {@link CompletionService}), as an {@link IndexedResult}
+     * holding the index of the stage and its successful result or its exception. So the time to the first result
+     * follows the fastest stage instead of the slowest one as {@link #allResultsOf allResultsOf} method.
+     * <p>
+     * The sink is never called concurrently, but may be called in the completing threads of the given stages
+     * or the calling thread.
+     * <p>
+     * Returns a new CompletableFuture that is completed after the outcomes of all given stages are delivered;
+     * If the sink throws an exception, the delivery of the other outcomes continues, and the returned
+     * CompletableFuture completes exceptionally with a CompletionException holding the first thrown exception
+     * as its cause. If no stages are provided, returns a CompletableFuture completed with the value {@code null}.
+     *
+     * @param sink the consumer of the outcomes of the given stages
+     * @throws NullPointerException if the sink, the cfs param or any of its elements are {@code null}
+     * @see #streamResultsInOrderOf(Consumer, CompletionStage[])
+     * @see #iterateResultsOf(CompletionStage[])
+     * @see ResultPublishers#publishResultsOf(CompletionStage[])
+     */
+    @SafeVarargs
+    public static <T> CompletableFuture<Void> streamResultsOf(
+            Consumer<? super IndexedResult<T>> sink, CompletionStage<? extends T>... cfs) {
+        requireNonNull(sink, "sink is null");
+        return ResultStreamer.streamTo(false, sink, requireCfsAndEleNonNull(cfs));
+    }
+
+    /**
+     * Delivers the outcomes of the given stages to the given sink in the <strong>same order</strong>
+     * as the input stages, as soon as each contiguous prefix of the given stages completes;
+     * e.g. the outcome of the second stage is delivered right after the first stage completes
+     * if the second stage completes earlier.
+     * <p>
+     * Otherwise, this method is the same as {@link #streamResultsOf(Consumer, CompletionStage[])}.
+     *
+     * @param sink the consumer of the outcomes of the given stages
+     * @throws NullPointerException if the sink, the cfs param or any of its elements are {@code null}
+     */
+    @SafeVarargs
+    public static <T> CompletableFuture<Void> streamResultsInOrderOf(
+            Consumer<? super IndexedResult<T>> sink, CompletionStage<? extends T>... cfs) {
+        requireNonNull(sink, "sink is null");
+        return ResultStreamer.streamTo(true, sink, requireCfsAndEleNonNull(cfs));
+    }
+
+    /**
+     * Returns a blocking iterator of the outcomes of the given stages in <strong>completion order</strong>,
+     * like {@link CompletionService#take()}; The {@code next()} method of the returned iterator
+     * waits if necessary for the next completed stage.
+     * <p>
+     * If the current thread is interrupted while waiting in the {@code next()} method, a CompletionException
+     * holding the InterruptedException as its cause is thrown, with the interrupt status restored.
+     * The returned iterator is not thread-safe.
+     *
+     * @throws NullPointerException if the cfs param or any of its elements are {@code null}
+     * @see #streamResultsOf(Consumer, CompletionStage[])
+     */
+    @Contract(pure = true)
+    @SafeVarargs
+    public static <T> Iterator<IndexedResult<T>> iterateResultsOf(CompletionStage<? extends T>... cfs) {
+        return ResultStreamer.iterator(false, requireCfsAndEleNonNull(cfs));
+    }
+
+    /**
+     * Returns a blocking iterator of the outcomes of the given stages in the <strong>same order</strong>
+     * as the input stages, see {@link #streamResultsInOrderOf(Consumer, CompletionStage[])}.
+     * <p>
+     * Otherwise, this method is the same as {@link #iterateResultsOf(CompletionStage[])}.
+     *
+     * @throws NullPointerException if the cfs param or any of its elements are {@code null}
+     */
+    @Contract(pure = true)
+    @SafeVarargs
+    public static <T> Iterator<IndexedResult<T>> iterateResultsInOrderOf(CompletionStage<? extends T>... cfs) {
+        return ResultStreamer.iterator(true, requireCfsAndEleNonNull(cfs));
+    }
+
+    /**
+     * Maps the items of the given source to stages by the given async function with at most {@code window} stages
+     * in flight, and delivers the outcome of each stage to the given sink as soon as that stage completes
+     * (in <strong>completion order</strong>), as an {@link IndexedResult} holding the index of the item
+     * in the source and the successful result or the exception of its stage.
+     * <p>
+     * The items are pulled from the source lazily: a new item is pulled only when the outcome of an in-flight stage
+     * is delivered. So the memory and the executor queue depth stay O(window) however big the source is,
+     * e.g. a database cursor of millions of ids; the suppliers of {@code mSupply*} methods instead
+     * need to be materialized up front, and the results are retained until all inputs complete.
+     * A {@link java.util.Spliterator} or {@link java.util.stream.Stream} source can be adapted by
+     * {@link java.util.Spliterators#iterator(java.util.Spliterator)} or {@link java.util.stream.Stream#iterator()}.
+     * <p>
+     * The source, the function and the sink are never called concurrently, but may be called in the completing
+     * threads of the mapped stages or the calling thread; so the source needs not be thread-safe, and should
+     * not block for long. If the function throws an exception or returns {@code null}, the outcome of the item
+     * is that exception or a NullPointerException.
+     * <p>
+     * Returns a new CompletableFuture that is completed after all items of the source are mapped and their
+     * outcomes are delivered. If the source or the sink throws an exception, the pulling stops, and after
+     * the outcomes of the in-flight stages are delivered, the returned CompletableFuture completes exceptionally
+     * with a CompletionException holding the first thrown exception as its cause. If the returned CompletableFuture
+     * is completed by the caller(e.g. cancelled), the remaining items are not pulled from the source.
+     * <p>
+     * The source may be unbounded in memory, but not in count: since the index of {@link IndexedResult} is an int,
+     * a source with more than {@link Integer#MAX_VALUE} items stops being pulled there, and the returned
+     * CompletableFuture completes exceptionally with an IllegalStateException as above.
+     *
+     * @param source the items to map, at most {@link Integer#MAX_VALUE} items
+     * @param window the max count of the mapped stages in flight
+     * @param fn     the async function to map each item to a stage
+     * @param sink   the consumer of the outcomes of the mapped stages
+     * @throws NullPointerException     if the source, the fn or the sink is {@code null}
+     * @throws IllegalArgumentException if the window is not positive
+     * @see #pipelineInOrderOf(Iterator, int, Function, Consumer)
+     * @see #streamResultsOf(Consumer, CompletionStage[])
+     */
+    public static <T, R> CompletableFuture<Void> pipelineOf(
+            Iterator<? extends T> source, int window,
+            Function<? super T, ? extends CompletionStage<? extends R>> fn, Consumer<? super IndexedResult<R>> sink) {
+        return pipeline0(false, source, window, fn, sink);
+    }
+
+    /**
+     * Maps the items of the given source to stages by the given async function with at most {@code window} stages
+     * in flight, and delivers the outcomes of the stages to the given sink in the <strong>same order</strong>
+     * as the items of the source, as soon as each contiguous prefix of the stages completes.
+     * <p>
+     * A stage is in flight until its outcome is delivered, so a slow stage holds the pulling of the next items
+     * when the window is full, even if the later stages complete.
+     * Otherwise, this method is the same as {@link #pipelineOf(Iterator, int, Function, Consumer)}.
+     *
+     * @param source the items to map, at most {@link Integer#MAX_VALUE} items
+     * @param window the max count of the mapped stages in flight
+     * @param fn     the async function to map each item to a stage
+     * @param sink   the consumer of the outcomes of the mapped stages
+     * @throws NullPointerException     if the source, the fn or the sink is {@code null}
+     * @throws IllegalArgumentException if the window is not positive
+     * @see #streamResultsInOrderOf(Consumer, CompletionStage[])
+     */
+    public static <T, R> CompletableFuture<Void> pipelineInOrderOf(
+            Iterator<? extends T> source, int window,
+            Function<? super T, ? extends CompletionStage<? extends R>> fn, Consumer<? super IndexedResult<R>> sink) {
+        return pipeline0(true, source, window, fn, sink);
+    }
+
+    private static <T, R> CompletableFuture<Void> pipeline0(
+            boolean inputOrder, Iterator<? extends T> source, int window,
+            Function<? super T, ? extends CompletionStage<? extends R>> fn, Consumer<? super IndexedResult<R>> sink) {
+        requireNonNull(source, "source is null");
+        requireNonNull(fn, "fn is null");
+        requireNonNull(sink, "sink is null");
+        if (window <= 0) throw new IllegalArgumentException("window is not positive: " + window);
+        return WindowedPipeline.pipeline(inputOrder, source, window, fn, sink);
+    }
+
+    // endregion
+    ////////////////////////////////////////////////////////////
+    // region## allTupleOf*/mostSuccessTupleOf Methods
+    ////////////////////////////////////////////////////////////
+
+    /**
+     * Tuple variant of {@link #allResultsFailFastOf(CompletionStage[])}.
+     */
+    @Contract(pure = true)
+    public static <T1, T2> CompletableFuture<Tuple2<T1, T2>> allTupleFailFastOf(
+            CompletionStage<? extends T1> cf1, CompletionStage<? extends T2> cf2) {
+        return f_allTupleOf0(true, requireCfsAndEleNonNull(cf1, cf2));
+    }
+
+    /**
+     * Tuple variant of {@link #allResultsFailFastOf(CompletionStage[])}.
+     */
+    @Contract(pure = true)
+    public static <T1, T2, T3> CompletableFuture<Tuple3<T1, T2, T3>> allTupleFailFastOf(
+            CompletionStage<? extends T1> cf1, CompletionStage<? extends T2> cf2, CompletionStage<? extends T3> cf3) {
+        return f_allTupleOf0(true, requireCfsAndEleNonNull(cf1, cf2, cf3));
+    }
+
+    /**
+     * Tuple variant of {@link #allResultsFailFastOf(CompletionStage[])}.
+     */
+    @Contract(pure = true)
+    public static <T1, T2, T3, T4> CompletableFuture<Tuple4<T1, T2, T3, T4>> allTupleFailFastOf(
+            CompletionStage<? extends T1> cf1, CompletionStage<? extends T2> cf2,
+            CompletionStage<? extends T3> cf3, CompletionStage<? extends T4> cf4) {
+        return f_allTupleOf0(true, requireCfsAndEleNonNull(cf1, cf2, cf3, cf4));
+    }
+
+    /**
+     * Tuple variant of {@link #allResultsFailFastOf(CompletionStage[])}.
+     */
+    @Contract(pure = true)
+    public static <T1, T2, T3, T4, T5> CompletableFuture<Tuple5<T1, T2, T3, T4, T5>> allTupleFailFastOf(
+            CompletionStage<? extends T1> cf1, CompletionStage<? extends T2> cf2, CompletionStage<? extends T3> cf3,
+            CompletionStage<? extends T4> cf4, CompletionStage<? extends T5> cf5) {
+        return f_allTupleOf0(true, requireCfsAndEleNonNull(cf1, cf2, cf3, cf4, cf5));
+    }
+
+    /**
+     * Tuple variant of {@link #allSuccessResultsOf(Object, CompletionStage[])} with {@code null} valueIfFailed.
+     * <p>
+     * If any of the provided stages fails, its corresponding position will contain {@code null}
+     * (which is indistinguishable from the stage having a successful value of {@code null}).
+     */
+    @Contract(pure = true)
+    public static <T1, T2> CompletableFuture<Tuple2<T1, T2>> allSuccessTupleOf(
+            CompletionStage<? extends T1> cf1, CompletionStage<? extends T2> cf2) {
+        return f_allSuccessTupleOf0(requireCfsAndEleNonNull(cf1, cf2));
+    }
+
+    /**
+     * Tuple variant of {@link #allSuccessResultsOf(Object, CompletionStage[])} with {@code null} valueIfFailed.
+     * <p>
+     * If any of the provided stages fails, its corresponding position will contain {@code null}
+     * (which is indistinguishable from the stage having a successful value of {@code null}).
+     */
+    @Contract(pure = true)
+    public static <T1, T2, T3> CompletableFuture<Tuple3<T1, T2, T3>> allSuccessTupleOf(
+            CompletionStage<? extends T1> cf1, CompletionStage<? extends T2> cf2, CompletionStage<? extends T3> cf3) {
+        return f_allSuccessTupleOf0(requireCfsAndEleNonNull(cf1, cf2, cf3));
+    }
+
+    /**
+     * Tuple variant of {@link #allSuccessResultsOf(Object, CompletionStage[])} with {@code null} valueIfFailed.
+     * <p>
+     * If any of the provided stages fails, its corresponding position will contain {@code null}
+     * (which is indistinguishable from the stage having a successful value of {@code null}).
+     */
+    @Contract(pure = true)
+    public static <T1, T2, T3, T4> CompletableFuture<Tuple4<T1, T2, T3, T4>> allSuccessTupleOf(
+            CompletionStage<? extends T1> cf1, CompletionStage<? extends T2> cf2,
+            CompletionStage<? extends T3> cf3, CompletionStage<? extends T4> cf4) {
+        return f_allSuccessTupleOf0(requireCfsAndEleNonNull(cf1, cf2, cf3, cf4));
+    }
+
+    /**
+     * Tuple variant of {@link #allSuccessResultsOf(Object, CompletionStage[])} with {@code null} valueIfFailed.
+     * <p>
+     * If any of the provided stages fails, its corresponding position will contain {@code null}
+     * (which is indistinguishable from the stage having a successful value of {@code null}).
+     */
+    @Contract(pure = true)
+    public static <T1, T2, T3, T4, T5> CompletableFuture<Tuple5<T1, T2, T3, T4, T5>> allSuccessTupleOf(
+            CompletionStage<? extends T1> cf1, CompletionStage<? extends T2> cf2, CompletionStage<? extends T3> cf3,
+            CompletionStage<? extends T4> cf4, CompletionStage<? extends T5> cf5) {
+        return f_allSuccessTupleOf0(requireCfsAndEleNonNull(cf1, cf2, cf3, cf4, cf5));
+    }
+
+    /**
+     * Tuple variant of {@link #mostSuccessResultsOf(Object, long, TimeUnit, CompletionStage[])}
+     * with {@code null} valueIfNotSuccess.
+     * <p>
+     * If any of the provided stages is not completed normally, its corresponding position will contain {@code null}
+     * (which is indistinguishable from the supplier having a successful value of {@code null}).
+     */
+    @Contract(pure = true)
+    public static <T1, T2> CompletableFuture<Tuple2<T1, T2>> mostSuccessTupleOf(
+            long timeout, TimeUnit unit, CompletionStage<? extends T1> cf1, CompletionStage<? extends T2> cf2) {
+        return mostSuccessTupleOf(ASYNC_POOL, timeout, unit, cf1, cf2);
+    }
+
+    /**
+     * Tuple variant of {@link #mostSuccessResultsOf(Executor, Object, long, TimeUnit, CompletionStage[])}
+     * with {@code null} valueIfNotSuccess.
+     * <p>
+     * If any of the provided stages is not completed normally, its corresponding position will contain {@code null}
+     * (which is indistinguishable from the supplier having a successful value of {@code null}).
+     */
+    @Contract(pure = true)
+    public static <T1, T2> CompletableFuture<Tuple2<T1, T2>> mostSuccessTupleOf(
+            Executor executorWhenTimeout, long timeout, TimeUnit unit,
+            CompletionStage<? extends T1> cf1, CompletionStage<? extends T2> cf2) {
+        requireNonNull(executorWhenTimeout, "executorWhenTimeout is null");
+        requireNonNull(unit, "unit is null");
+        CompletionStage<?>[] cfs = requireCfsAndEleNonNull(cf1, cf2);
+
+        return f_mostSuccessTupleOf0(executorWhenTimeout, timeout, unit, cfs);
+    }
+
+    /**
+     * Tuple variant of {@link #mostSuccessResultsOf(Object, long, TimeUnit, CompletionStage[])}
+     * with {@code null} valueIfNotSuccess.
+     * <p>
+     * If any of the provided stages is not completed normally, its corresponding position will contain {@code null}
+     * (which is indistinguishable from the supplier having a successful value of {@code null}).
+     */
+    @Contract(pure = true)
+    public static <T1, T2, T3> CompletableFuture<Tuple3<T1, T2, T3>> mostSuccessTupleOf(
+            long timeout, TimeUnit unit,
+            CompletionStage<? extends T1> cf1, CompletionStage<? extends T2> cf2, CompletionStage<? extends T3> cf3) {
+        return mostSuccessTupleOf(ASYNC_POOL, timeout, unit, cf1, cf2, cf3);
+    }
+
+    /**
+     * Tuple variant of {@link #mostSuccessResultsOf(Executor, Object, long, TimeUnit, CompletionStage[])}
+     * with {@code null} valueIfNotSuccess.
+     * <p>
+     * If any of the provided stages is not completed normally, its corresponding position will contain {@code null}
+     * (which is indistinguishable from the supplier having a successful value of {@code null}).
+     */
+    @Contract(pure = true)
+    public static <T1, T2, T3> CompletableFuture<Tuple3<T1, T2, T3>> mostSuccessTupleOf(
+            Executor executorWhenTimeout, long timeout, TimeUnit unit,
+            CompletionStage<? extends T1> cf1, CompletionStage<? extends T2> cf2, CompletionStage<? extends T3> cf3) {
+        requireNonNull(executorWhenTimeout, "executorWhenTimeout is null");
+        requireNonNull(unit, "unit is null");
+        CompletionStage<?>[] cfs = requireCfsAndEleNonNull(cf1, cf2, cf3);
+
+        return f_mostSuccessTupleOf0(executorWhenTimeout, timeout, unit, cfs);
+    }
+
+    /**
+     * Tuple variant of {@link #mostSuccessResultsOf(Object, long, TimeUnit, CompletionStage[])}
+     * with {@code null} valueIfNotSuccess.
+     * <p>
+     * If any of the provided stages is not completed normally, its corresponding position will contain {@code null}
+     * (which is indistinguishable from the supplier having a successful value of {@code null}).
+     */
+    @Contract(pure = true)
+    public static <T1, T2, T3, T4> CompletableFuture<Tuple4<T1, T2, T3, T4>> mostSuccessTupleOf(
+            long timeout, TimeUnit unit,
+            CompletionStage<? extends T1> cf1, CompletionStage<? extends T2> cf2,
+            CompletionStage<? extends T3> cf3, CompletionStage<? extends T4> cf4) {
+        return mostSuccessTupleOf(ASYNC_POOL, timeout, unit, cf1, cf2, cf3, cf4);
+    }
+
+    /**
+     * Tuple variant of {@link #mostSuccessResultsOf(Executor, Object, long, TimeUnit, CompletionStage[])}
+     * with {@code null} valueIfNotSuccess.
+     * <p>
+     * If any of the provided stages is not completed normally, its corresponding position will contain {@code null}
+     * (which is indistinguishable from the supplier having a successful value of {@code null}).
+     */
+    @Contract(pure = true)
+    public static <T1, T2, T3, T4> CompletableFuture<Tuple4<T1, T2, T3, T4>> mostSuccessTupleOf(
+            Executor executorWhenTimeout, long timeout, TimeUnit unit,
+            CompletionStage<? extends T1> cf1, CompletionStage<? extends T2> cf2,
+            CompletionStage<? extends T3> cf3, CompletionStage<? extends T4> cf4) {
+        requireNonNull(executorWhenTimeout, "executorWhenTimeout is null");
+        requireNonNull(unit, "unit is null");
+        CompletionStage<?>[] cfs = requireCfsAndEleNonNull(cf1, cf2, cf3, cf4);
+
+        return f_mostSuccessTupleOf0(executorWhenTimeout, timeout, unit, cfs);
+    }
+
+    /**
+     * Tuple variant of {@link #mostSuccessResultsOf(Object, long, TimeUnit, CompletionStage[])}
+     * with {@code null} valueIfNotSuccess.
+     * <p>
+     * If any of the provided stages is not completed normally, its corresponding position will contain {@code null}
+     * (which is indistinguishable from the supplier having a successful value of {@code null}).
+     */
+    @Contract(pure = true)
+    public static <T1, T2, T3, T4, T5> CompletableFuture<Tuple5<T1, T2, T3, T4, T5>> mostSuccessTupleOf(
+            long timeout, TimeUnit unit,
+            CompletionStage<? extends T1> cf1, CompletionStage<? extends T2> cf2, CompletionStage<? extends T3> cf3,
+            CompletionStage<? extends T4> cf4, CompletionStage<? extends T5> cf5) {
+        return mostSuccessTupleOf(ASYNC_POOL, timeout, unit, cf1, cf2, cf3, cf4, cf5);
+    }
+
+    /**
+     * Tuple variant of {@link #mostSuccessResultsOf(Executor, Object, long, TimeUnit, CompletionStage[])}
+     * with {@code null} valueIfNotSuccess.
+     * <p>
+     * If any of the provided stages is not completed normally, its corresponding position will contain {@code null}
+     * (which is indistinguishable from the supplier having a successful value of {@code null}).
+     */
+    @Contract(pure = true)
+    public static <T1, T2, T3, T4, T5> CompletableFuture<Tuple5<T1, T2, T3, T4, T5>> mostSuccessTupleOf(
+            Executor executorWhenTimeout, long timeout, TimeUnit unit,
+            CompletionStage<? extends T1> cf1, CompletionStage<? extends T2> cf2, CompletionStage<? extends T3> cf3,
+            CompletionStage<? extends T4> cf4, CompletionStage<? extends T5> cf5) {
+        requireNonNull(executorWhenTimeout, "executorWhenTimeout is null");
+        requireNonNull(unit, "unit is null");
+        CompletionStage<?>[] cfs = requireCfsAndEleNonNull(cf1, cf2, cf3, cf4, cf5);
+
+        return f_mostSuccessTupleOf0(executorWhenTimeout, timeout, unit, cfs);
+    }
+
+    /**
+     * Tuple variant of {@link #mostSuccessResultsPerInputOf(IntToLongFunction, TimeUnit, IntFunction, CompletionStage[])}
+     * with {@code null} valueIfNotSuccess; the input of index 0 is {@code cf1}.
+     */
+    @Contract(pure = true)
+    public static <T1, T2> CompletableFuture<Tuple2<T1, T2>> mostSuccessTuplePerInputOf(
+            IntToLongFunction timeoutOfInput, TimeUnit unit,
+            CompletionStage<? extends T1> cf1, CompletionStage<? extends T2> cf2) {
+        return mostSuccessTuplePerInputOf(ASYNC_POOL, timeoutOfInput, unit, cf1, cf2);
+    }
+
+    /**
+     * Tuple variant of {@link #mostSuccessResultsPerInputOf(Executor, IntToLongFunction, TimeUnit, IntFunction, CompletionStage[])}
+     * with {@code null} valueIfNotSuccess; the input of index 0 is {@code cf1}.
+     */
+    @Contract(pure = true)
+    public static <T1, T2> CompletableFuture<Tuple2<T1, T2>> mostSuccessTuplePerInputOf(
+            Executor executorWhenTimeout, IntToLongFunction timeoutOfInput, TimeUnit unit,
+            CompletionStage<? extends T1> cf1, CompletionStage<? extends T2> cf2) {
+        return f_mostSuccessTuplePerInputOf0(executorWhenTimeout, timeoutOfInput, unit, cf1, cf2);
+    }
+
+    /**
+     * Tuple variant of {@link #mostSuccessResultsPerInputOf(IntToLongFunction, TimeUnit, IntFunction, CompletionStage[])}
+     * with {@code null} valueIfNotSuccess; the input of index 0 is {@code cf1}.
+     */
+    @Contract(pure = true)
+    public static <T1, T2, T3> CompletableFuture<Tuple3<T1, T2, T3>> mostSuccessTuplePerInputOf(
+            IntToLongFunction timeoutOfInput, TimeUnit unit,
+            CompletionStage<? extends T1> cf1, CompletionStage<? extends T2> cf2, CompletionStage<? extends T3> cf3) {
+        return mostSuccessTuplePerInputOf(ASYNC_POOL, timeoutOfInput, unit, cf1, cf2, cf3);
+    }
+
+    /**
+     * Tuple variant of {@link #mostSuccessResultsPerInputOf(Executor, IntToLongFunction, TimeUnit, IntFunction, CompletionStage[])}
+     * with {@code null} valueIfNotSuccess; the input of index 0 is {@code cf1}.
+     */
+    @Contract(pure = true)
+    public static <T1, T2, T3> CompletableFuture<Tuple3<T1, T2, T3>> mostSuccessTuplePerInputOf(
+            Executor executorWhenTimeout, IntToLongFunction timeoutOfInput, TimeUnit unit,
+            CompletionStage<? extends T1> cf1, CompletionStage<? extends T2> cf2, CompletionStage<? extends T3> cf3) {
+        return f_mostSuccessTuplePerInputOf0(executorWhenTimeout, timeoutOfInput, unit, cf1, cf2, cf3);
+    }
+
+    /**
+     * Tuple variant of {@link #mostSuccessResultsPerInputOf(IntToLongFunction, TimeUnit, IntFunction, CompletionStage[])}
+     * with {@code null} valueIfNotSuccess; the input of index 0 is {@code cf1}.
+     */
+    @Contract(pure = true)
+    public static <T1, T2, T3, T4> CompletableFuture<Tuple4<T1, T2, T3, T4>> mostSuccessTuplePerInputOf(
+            IntToLongFunction timeoutOfInput, TimeUnit unit,
+            CompletionStage<? extends T1> cf1, CompletionStage<? extends T2> cf2,
+            CompletionStage<? extends T3> cf3, CompletionStage<? extends T4> cf4) {
+        return mostSuccessTuplePerInputOf(ASYNC_POOL, timeoutOfInput, unit, cf1, cf2, cf3, cf4);
+    }
+
+    /**
+     * Tuple variant of {@link #mostSuccessResultsPerInputOf(Executor, IntToLongFunction, TimeUnit, IntFunction, CompletionStage[])}
+     * with {@code null} valueIfNotSuccess; the input of index 0 is {@code cf1}.
+     */
+    @Contract(pure = true)
+    public static <T1, T2, T3, T4> CompletableFuture<Tuple4<T1, T2, T3, T4>> mostSuccessTuplePerInputOf(
+            Executor executorWhenTimeout, IntToLongFunction timeoutOfInput, TimeUnit unit,
+            CompletionStage<? extends T1> cf1, CompletionStage<? extends T2> cf2,
+            CompletionStage<? extends T3> cf3, CompletionStage<? extends T4> cf4) {
+        return f_mostSuccessTuplePerInputOf0(executorWhenTimeout, timeoutOfInput, unit, cf1, cf2, cf3, cf4);
+    }
+
+    /**
+     * Tuple variant of {@link #mostSuccessResultsPerInputOf(IntToLongFunction, TimeUnit, IntFunction, CompletionStage[])}
+     * with {@code null} valueIfNotSuccess; the input of index 0 is {@code cf1}.
+     */
+    @Contract(pure = true)
+    public static <T1, T2, T3, T4, T5> CompletableFuture<Tuple5<T1, T2, T3, T4, T5>> mostSuccessTuplePerInputOf(
+            IntToLongFunction timeoutOfInput, TimeUnit unit,
+            CompletionStage<? extends T1> cf1, CompletionStage<? extends T2> cf2, CompletionStage<? extends T3> cf3,
+            CompletionStage<? extends T4> cf4, CompletionStage<? extends T5> cf5) {
+        return mostSuccessTuplePerInputOf(ASYNC_POOL, timeoutOfInput, unit, cf1, cf2, cf3, cf4, cf5);
+    }
+
+    /**
+     * Tuple variant of {@link #mostSuccessResultsPerInputOf(Executor, IntToLongFunction, TimeUnit, IntFunction, CompletionStage[])}
+     * with {@code null} valueIfNotSuccess; the input of index 0 is {@code cf1}.
+     */
+    @Contract(pure = true)
+    public static <T1, T2, T3, T4, T5> CompletableFuture<Tuple5<T1, T2, T3, T4, T5>> mostSuccessTuplePerInputOf(
+            Executor executorWhenTimeout, IntToLongFunction timeoutOfInput, TimeUnit unit,
+            CompletionStage<? extends T1> cf1, CompletionStage<? extends T2> cf2, CompletionStage<? extends T3> cf3,
+            CompletionStage<? extends T4> cf4, CompletionStage<? extends T5> cf5) {
+        return f_mostSuccessTuplePerInputOf0(executorWhenTimeout, timeoutOfInput, unit, cf1, cf2, cf3, cf4, cf5);
+    }
+
+    private static <T> CompletableFuture<T> f_mostSuccessTuplePerInputOf0(
+            Executor executorWhenTimeout, IntToLongFunction timeoutOfInput, TimeUnit unit, CompletionStage<?>... cfs) {
+        requireNonNull(executorWhenTimeout, "executorWhenTimeout is null");
+        requireNonNull(timeoutOfInput, "timeoutOfInput is null");
+        requireNonNull(unit, "unit is null");
+        requireCfsAndEleNonNull(cfs);
+
+        return PerInputTimeoutCollector.mostSuccessResultsOf(executorWhenTimeout, timeoutOfInput, unit,
+                i -> null, Arrays.asList(cfs), CompletableFutureUtils::f_tupleOf0);
+    }
+
+    /**
+     * Returns the TupleX of the given results, {@code T} is constrained to type TupleX.
+     */
+    @SuppressWarnings("unchecked")
+    private static <T> T f_tupleOf0(Object[] s) {
+        final Object ret;
+        if (s.length == 2) ret = Tuple2.of(s[0], s[1]);
+        else if (s.length == 3) ret = Tuple3.of(s[0], s[1], s[2]);
+        else if (s.length == 4) ret = Tuple4.of(s[0], s[1], s[2], s[3]);
+        else ret = Tuple5.of(s[0], s[1], s[2], s[3], s[4]);
+        return (T) ret;
+    }
+
+    /**
+     * Tuple variant of {@link #allResultsOf(CompletionStage[])}.
+     */
+    @Contract(pure = true)
+    public static <T1, T2> CompletableFuture<Tuple2<T1, T2>> allTupleOf(
+            CompletionStage<? extends T1> cf1, CompletionStage<? extends T2> cf2) {
+        return f_allTupleOf0(false, requireCfsAndEleNonNull(cf1, cf2));
+    }
+
+    /**
+     * Tuple variant of {@link #allResultsOf(CompletionStage[])}.
+     */
+    @Contract(pure = true)
+    public static <T1, T2, T3> CompletableFuture<Tuple3<T1, T2, T3>> allTupleOf(
+            CompletionStage<? extends T1> cf1, CompletionStage<? extends T2> cf2, CompletionStage<? extends T3> cf3) {
+        return f_allTupleOf0(false, requireCfsAndEleNonNull(cf1, cf2, cf3));
+    }
+
+    /**
+     * Tuple variant of {@link #allResultsOf(CompletionStage[])}.
+     */
+    @Contract(pure = true)
+    public static <T1, T2, T3, T4> CompletableFuture<Tuple4<T1, T2, T3, T4>> allTupleOf(
+            CompletionStage<? extends T1> cf1, CompletionStage<? extends T2> cf2,
+            CompletionStage<? extends T3> cf3, CompletionStage<? extends T4> cf4) {
+        return f_allTupleOf0(false, requireCfsAndEleNonNull(cf1, cf2, cf3, cf4));
+    }
+
+    /**
+     * Tuple variant of {@link #allResultsOf(CompletionStage[])}.
+     */
+    @Contract(pure = true)
+    public static <T1, T2, T3, T4, T5> CompletableFuture<Tuple5<T1, T2, T3, T4, T5>> allTupleOf(
+            CompletionStage<? extends T1> cf1, CompletionStage<? extends T2> cf2, CompletionStage<? extends T3> cf3,
+            CompletionStage<? extends T4> cf4, CompletionStage<? extends T5> cf5) {
+        return f_allTupleOf0(false, requireCfsAndEleNonNull(cf1, cf2, cf3, cf4, cf5));
+    }
+
+    // endregion
+    ////////////////////////////////////////////////////////////
+    // region## allCombine*/mostSuccessCombineOf Methods(combine results by FunctionX, without TupleX)
+    ////////////////////////////////////////////////////////////
+
+    /**
+     * Returns a new CompletableFuture that is completed with the result of the given function applied
+     * to the results of all the given stages, with fail-fast support. If any of the given stages complete
+     * exceptionally, then the returned CompletableFuture also does so *without* waiting other incomplete
+     * given stages, with a CompletionException holding this exception as its cause.
+     * If the given function throws an exception, the returned CompletableFuture completes exceptionally
+     * with a CompletionException holding this exception as its cause.
+     * <p>
+     * Same as {@link #allTupleFailFastOf(CompletionStage, CompletionStage)} followed by {@code thenApply}
+     * that unpacks the tuple, but passes the results to the function directly,
+     * WITHOUT constructing the TupleX and the intermediate stage.
+     *
+     * @param fn the function to combine the results of the given stages
+     * @return the new CompletableFuture
+     */
+    @Contract(pure = true)
+    public static <T1, T2, R> CompletableFuture<R> allCombineFailFastOf(
+            CompletionStage<? extends T1> cf1, CompletionStage<? extends T2> cf2,
+            Function2<? super T1, ? super T2, ? extends R> fn) {
+        requireNonNull(fn, "fn is null");
+        return TupleAggregator.allTupleOf(true, requireCfsAndEleNonNull(cf1, cf2), fn);
+    }
+
+    /**
+     * Variant of {@link #allCombineFailFastOf(CompletionStage, CompletionStage, Function2)} for 3 stages.
+     */
+    @Contract(pure = true)
+    public static <T1, T2, T3, R> CompletableFuture<R> allCombineFailFastOf(
+            CompletionStage<? extends T1> cf1, CompletionStage<? extends T2> cf2, CompletionStage<? extends T3> cf3,
+            Function3<? super T1, ? super T2, ? super T3, ? extends R> fn) {
+        requireNonNull(fn, "fn is null");
+        return TupleAggregator.allTupleOf(true, requireCfsAndEleNonNull(cf1, cf2, cf3), fn);
+    }
+
+    /**
+     * Variant of {@link #allCombineFailFastOf(CompletionStage, CompletionStage, Function2)} for 4 stages.
+     */
+    @Contract(pure = true)
+    public static <T1, T2, T3, T4, R> CompletableFuture<R> allCombineFailFastOf(
+            CompletionStage<? extends T1> cf1, CompletionStage<? extends T2> cf2,
+            CompletionStage<? extends T3> cf3, CompletionStage<? extends T4> cf4,
+            Function4<? super T1, ? super T2, ? super T3, ? super T4, ? extends R> fn) {
+        requireNonNull(fn, "fn is null");
+        return TupleAggregator.allTupleOf(true, requireCfsAndEleNonNull(cf1, cf2, cf3, cf4), fn);
+    }
+
+    /**
+     * Variant of {@link #allCombineFailFastOf(CompletionStage, CompletionStage, Function2)} for 5 stages.
+     */
+    @Contract(pure = true)
+    public static <T1, T2, T3, T4, T5, R> CompletableFuture<R> allCombineFailFastOf(
+            CompletionStage<? extends T1> cf1, CompletionStage<? extends T2> cf2, CompletionStage<? extends T3> cf3,
+            CompletionStage<? extends T4> cf4, CompletionStage<? extends T5> cf5,
+            Function5<? super T1, ? super T2, ? super T3, ? super T4, ? super T5, ? extends R> fn) {
+        requireNonNull(fn, "fn is null");
+        return TupleAggregator.allTupleOf(true, requireCfsAndEleNonNull(cf1, cf2, cf3, cf4, cf5), fn);
+    }
+
+    /**
+     * Returns a new CompletableFuture that is completed with the result of the given function applied
+     * to the results of all the given stages when all the given stages complete.
+     * If any of the provided stages fails, its corresponding argument of the function will be {@code null}
+     * (which is indistinguishable from the stage having a successful value of {@code null}).
+     * If the given function throws an exception, the returned CompletableFuture completes exceptionally
+     * with a CompletionException holding this exception as its cause.
+     * <p>
+     * Same as {@link #allSuccessTupleOf(CompletionStage, CompletionStage)} followed by {@code thenApply}
+     * that unpacks the tuple, but passes the results to the function directly,
+     * WITHOUT constructing the TupleX and the intermediate stage.
+     *
+     * @param fn the function to combine the results of the given stages
+     * @return the new CompletableFuture
+     */
+    @Contract(pure = true)
+    public static <T1, T2, R> CompletableFuture<R> allSuccessCombineOf(
+            CompletionStage<? extends T1> cf1, CompletionStage<? extends T2> cf2,
+            Function2<? super T1, ? super T2, ? extends R> fn) {
+        requireNonNull(fn, "fn is null");
+        return TupleAggregator.allSuccessTupleOf(requireCfsAndEleNonNull(cf1, cf2), fn);
+    }
+
+    /**
+     * Variant of {@link #allSuccessCombineOf(CompletionStage, CompletionStage, Function2)} for 3 stages.
+     */
+    @Contract(pure = true)
+    public static <T1, T2, T3, R> CompletableFuture<R> allSuccessCombineOf(
+            CompletionStage<? extends T1> cf1, CompletionStage<? extends T2> cf2, CompletionStage<? extends T3> cf3,
+            Function3<? super T1, ? super T2, ? super T3, ? extends R> fn) {
+        requireNonNull(fn, "fn is null");
+        return TupleAggregator.allSuccessTupleOf(requireCfsAndEleNonNull(cf1, cf2, cf3), fn);
+    }
+
+    /**
+     * Variant of {@link #allSuccessCombineOf(CompletionStage, CompletionStage, Function2)} for 4 stages.
+     */
+    @Contract(pure = true)
+    public static <T1, T2, T3, T4, R> CompletableFuture<R> allSuccessCombineOf(
+            CompletionStage<? extends T1> cf1, CompletionStage<? extends T2> cf2,
+            CompletionStage<? extends T3> cf3, CompletionStage<? extends T4> cf4,
+            Function4<? super T1, ? super T2, ? super T3, ? super T4, ? extends R> fn) {
+        requireNonNull(fn, "fn is null");
+        return TupleAggregator.allSuccessTupleOf(requireCfsAndEleNonNull(cf1, cf2, cf3, cf4), fn);
+    }
+
+    /**
+     * Variant of {@link #allSuccessCombineOf(CompletionStage, CompletionStage, Function2)} for 5 stages.
+     */
+    @Contract(pure = true)
+    public static <T1, T2, T3, T4, T5, R> CompletableFuture<R> allSuccessCombineOf(
+            CompletionStage<? extends T1> cf1, CompletionStage<? extends T2> cf2, CompletionStage<? extends T3> cf3,
+            CompletionStage<? extends T4> cf4, CompletionStage<? extends T5> cf5,
+            Function5<? super T1, ? super T2, ? super T3, ? super T4, ? super T5, ? extends R> fn) {
+        requireNonNull(fn, "fn is null");
+        return TupleAggregator.allSuccessTupleOf(requireCfsAndEleNonNull(cf1, cf2, cf3, cf4, cf5), fn);
     }
 
     /**
-     * Tuple variant of {@link #mostSuccessResultsOf(Object, long, TimeUnit, CompletionStage[])}
-     * with {@code null} valueIfNotSuccess.
+     * Returns a new CompletableFuture that is completed with the result of the given function applied
+     * to the results of the given stages in the given time({@code timeout}, aka as many results as possible
+     * in the given time). If any of the provided stages is not completed normally, its corresponding argument
+     * of the function will be {@code null} (which is indistinguishable from the stage having a successful value
+     * of {@code null}). If the given function throws an exception, the returned CompletableFuture
+     * completes exceptionally with a CompletionException holding this exception as its cause.
      * <p>
-     * If any of the provided stages is not completed normally, its corresponding position will contain {@code null}
-     * (which is indistinguishable from the supplier having a successful value of {@code null}).
+     * Same as {@link #mostSuccessTupleOf(long, TimeUnit, CompletionStage, CompletionStage)} followed by
+     * {@code thenApply} that unpacks the tuple, but passes the results to the function directly,
+     * WITHOUT constructing the TupleX and the intermediate stage.
+     *
+     * @param timeout how long to wait in units of {@code unit}
+     * @param unit    a {@code TimeUnit} determining how to interpret the {@code timeout} parameter
+     * @param fn      the function to combine the results of the given stages
+     * @return the new CompletableFuture
      */
     @Contract(pure = true)
-    public static <T1, T2, T3, T4> CompletableFuture<Tuple4<T1, T2, T3, T4>> mostSuccessTupleOf(
+    public static <T1, T2, R> CompletableFuture<R> mostSuccessCombineOf(
             long timeout, TimeUnit unit,
             CompletionStage<? extends T1> cf1, CompletionStage<? extends T2> cf2,
-            CompletionStage<? extends T3> cf3, CompletionStage<? extends T4> cf4) {
-        return mostSuccessTupleOf(ASYNC_POOL, timeout, unit, cf1, cf2, cf3, cf4);
+            Function2<? super T1, ? super T2, ? extends R> fn) {
+        return mostSuccessCombineOf(ASYNC_POOL, timeout, unit, cf1, cf2, fn);
     }
 
     /**
-     * Tuple variant of {@link #mostSuccessResultsOf(Executor, Object, long, TimeUnit, CompletionStage[])}
-     * with {@code null} valueIfNotSuccess.
-     * <p>
-     * If any of the provided stages is not completed normally, its corresponding position will contain {@code null}
-     * (which is indistinguishable from the supplier having a successful value of {@code null}).
+     * Variant of {@link #mostSuccessCombineOf(long, TimeUnit, CompletionStage, CompletionStage, Function2)}
+     * that uses the given executor to run the combine function when the timeout occurs.
+     *
+     * @param executorWhenTimeout the executor to use for combining the results when the timeout occurs
+     * @param timeout             how long to wait in units of {@code unit}
+     * @param unit                a {@code TimeUnit} determining how to interpret the {@code timeout} parameter
+     * @param fn                  the function to combine the results of the given stages
+     * @return the new CompletableFuture
      */
     @Contract(pure = true)
-    public static <T1, T2, T3, T4> CompletableFuture<Tuple4<T1, T2, T3, T4>> mostSuccessTupleOf(
+    public static <T1, T2, R> CompletableFuture<R> mostSuccessCombineOf(
             Executor executorWhenTimeout, long timeout, TimeUnit unit,
             CompletionStage<? extends T1> cf1, CompletionStage<? extends T2> cf2,
-            CompletionStage<? extends T3> cf3, CompletionStage<? extends T4> cf4) {
+            Function2<? super T1, ? super T2, ? extends R> fn) {
         requireNonNull(executorWhenTimeout, "executorWhenTimeout is null");
         requireNonNull(unit, "unit is null");
-        CompletionStage<?>[] cfs = requireCfsAndEleNonNull(cf1, cf2, cf3, cf4);
+        requireNonNull(fn, "fn is null");
+        CompletionStage<?>[] cfs = requireCfsAndEleNonNull(cf1, cf2);
 
-        return f_mostSuccessTupleOf0(executorWhenTimeout, timeout, unit, cfs);
+        return TupleAggregator.mostSuccessTupleOf(executorWhenTimeout, timeout, unit, cfs, fn);
     }
 
     /**
-     * Tuple variant of {@link #mostSuccessResultsOf(Object, long, TimeUnit, CompletionStage[])}
-     * with {@code null} valueIfNotSuccess.
-     * <p>
-     * If any of the provided stages is not completed normally, its corresponding position will contain {@code null}
-     * (which is indistinguishable from the supplier having a successful value of {@code null}).
+     * Variant of {@link #mostSuccessCombineOf(long, TimeUnit, CompletionStage, CompletionStage, Function2)}
+     * for 3 stages.
      */
     @Contract(pure = true)
-    public static <T1, T2, T3, T4, T5> CompletableFuture<Tuple5<T1, T2, T3, T4, T5>> mostSuccessTupleOf(
+    public static <T1, T2, T3, R> CompletableFuture<R> mostSuccessCombineOf(
             long timeout, TimeUnit unit,
             CompletionStage<? extends T1> cf1, CompletionStage<? extends T2> cf2, CompletionStage<? extends T3> cf3,
-            CompletionStage<? extends T4> cf4, CompletionStage<? extends T5> cf5) {
-        return mostSuccessTupleOf(ASYNC_POOL, timeout, unit, cf1, cf2, cf3, cf4, cf5);
+            Function3<? super T1, ? super T2, ? super T3, ? extends R> fn) {
+        return mostSuccessCombineOf(ASYNC_POOL, timeout, unit, cf1, cf2, cf3, fn);
     }
 
     /**
-     * Tuple variant of {@link #mostSuccessResultsOf(Executor, Object, long, TimeUnit, CompletionStage[])}
-     * with {@code null} valueIfNotSuccess.
-     * <p>
-     * If any of the provided stages is not completed normally, its corresponding position will contain {@code null}
-     * (which is indistinguishable from the supplier having a successful value of {@code null}).
+     * Variant of {@link #mostSuccessCombineOf(Executor, long, TimeUnit, CompletionStage, CompletionStage, Function2)}
+     * for 3 stages.
      */
     @Contract(pure = true)
-    public static <T1, T2, T3, T4, T5> CompletableFuture<Tuple5<T1, T2, T3, T4, T5>> mostSuccessTupleOf(
+    public static <T1, T2, T3, R> CompletableFuture<R> mostSuccessCombineOf(
             Executor executorWhenTimeout, long timeout, TimeUnit unit,
             CompletionStage<? extends T1> cf1, CompletionStage<? extends T2> cf2, CompletionStage<? extends T3> cf3,
-            CompletionStage<? extends T4> cf4, CompletionStage<? extends T5> cf5) {
+            Function3<? super T1, ? super T2, ? super T3, ? extends R> fn) {
         requireNonNull(executorWhenTimeout, "executorWhenTimeout is null");
         requireNonNull(unit, "unit is null");
-        CompletionStage<?>[] cfs = requireCfsAndEleNonNull(cf1, cf2, cf3, cf4, cf5);
+        requireNonNull(fn, "fn is null");
+        CompletionStage<?>[] cfs = requireCfsAndEleNonNull(cf1, cf2, cf3);
 
-        return f_mostSuccessTupleOf0(executorWhenTimeout, timeout, unit, cfs);
+        return TupleAggregator.mostSuccessTupleOf(executorWhenTimeout, timeout, unit, cfs, fn);
     }
 
     /**
-     * Tuple variant of {@link #allResultsOf(CompletionStage[])}.
+     * Variant of {@link #mostSuccessCombineOf(long, TimeUnit, CompletionStage, CompletionStage, Function2)}
+     * for 4 stages.
      */
     @Contract(pure = true)
-    public static <T1, T2> CompletableFuture<Tuple2<T1, T2>> allTupleOf(
-            CompletionStage<? extends T1> cf1, CompletionStage<? extends T2> cf2) {
-        return f_allTupleOf0(false, requireCfsAndEleNonNull(cf1, cf2));
+    public static <T1, T2, T3, T4, R> CompletableFuture<R> mostSuccessCombineOf(
+            long timeout, TimeUnit unit,
+            CompletionStage<? extends T1> cf1, CompletionStage<? extends T2> cf2,
+            CompletionStage<? extends T3> cf3, CompletionStage<? extends T4> cf4,
+            Function4<? super T1, ? super T2, ? super T3, ? super T4, ? extends R> fn) {
+        return mostSuccessCombineOf(ASYNC_POOL, timeout, unit, cf1, cf2, cf3, cf4, fn);
     }
 
     /**
-     * Tuple variant of {@link #allResultsOf(CompletionStage[])}.
+     * Variant of {@link #mostSuccessCombineOf(Executor, long, TimeUnit, CompletionStage, CompletionStage, Function2)}
+     * for 4 stages.
      */
     @Contract(pure = true)
-    public static <T1, T2, T3> CompletableFuture<Tuple3<T1, T2, T3>> allTupleOf(
-            CompletionStage<? extends T1> cf1, CompletionStage<? extends T2> cf2, CompletionStage<? extends T3> cf3) {
-        return f_allTupleOf0(false, requireCfsAndEleNonNull(cf1, cf2, cf3));
+    public static <T1, T2, T3, T4, R> CompletableFuture<R> mostSuccessCombineOf(
+            Executor executorWhenTimeout, long timeout, TimeUnit unit,
+            CompletionStage<? extends T1> cf1, CompletionStage<? extends T2> cf2,
+            CompletionStage<? extends T3> cf3, CompletionStage<? extends T4> cf4,
+            Function4<? super T1, ? super T2, ? super T3, ? super T4, ? extends R> fn) {
+        requireNonNull(executorWhenTimeout, "executorWhenTimeout is null");
+        requireNonNull(unit, "unit is null");
+        requireNonNull(fn, "fn is null");
+        CompletionStage<?>[] cfs = requireCfsAndEleNonNull(cf1, cf2, cf3, cf4);
+
+        return TupleAggregator.mostSuccessTupleOf(executorWhenTimeout, timeout, unit, cfs, fn);
     }
 
     /**
-     * Tuple variant of {@link #allResultsOf(CompletionStage[])}.
+     * Variant of {@link #mostSuccessCombineOf(long, TimeUnit, CompletionStage, CompletionStage, Function2)}
+     * for 5 stages.
      */
     @Contract(pure = true)
-    public static <T1, T2, T3, T4> CompletableFuture<Tuple4<T1, T2, T3, T4>> allTupleOf(
-            CompletionStage<? extends T1> cf1, CompletionStage<? extends T2> cf2,
-            CompletionStage<? extends T3> cf3, CompletionStage<? extends T4> cf4) {
-        return f_allTupleOf0(false, requireCfsAndEleNonNull(cf1, cf2, cf3, cf4));
+    public static <T1, T2, T3, T4, T5, R> CompletableFuture<R> mostSuccessCombineOf(
+            long timeout, TimeUnit unit,
+            CompletionStage<? extends T1> cf1, CompletionStage<? extends T2> cf2, CompletionStage<? extends T3> cf3,
+            CompletionStage<? extends T4> cf4, CompletionStage<? extends T5> cf5,
+            Function5<? super T1, ? super T2, ? super T3, ? super T4, ? super T5, ? extends R> fn) {
+        return mostSuccessCombineOf(ASYNC_POOL, timeout, unit, cf1, cf2, cf3, cf4, cf5, fn);
     }
 
     /**
-     * Tuple variant of {@link #allResultsOf(CompletionStage[])}.
+     * Variant of {@link #mostSuccessCombineOf(Executor, long, TimeUnit, CompletionStage, CompletionStage, Function2)}
+     * for 5 stages.
      */
     @Contract(pure = true)
-    public static <T1, T2, T3, T4, T5> CompletableFuture<Tuple5<T1, T2, T3, T4, T5>> allTupleOf(
+    public static <T1, T2, T3, T4, T5, R> CompletableFuture<R> mostSuccessCombineOf(
+            Executor executorWhenTimeout, long timeout, TimeUnit unit,
             CompletionStage<? extends T1> cf1, CompletionStage<? extends T2> cf2, CompletionStage<? extends T3> cf3,
-            CompletionStage<? extends T4> cf4, CompletionStage<? extends T5> cf5) {
-        return f_allTupleOf0(false, requireCfsAndEleNonNull(cf1, cf2, cf3, cf4, cf5));
+            CompletionStage<? extends T4> cf4, CompletionStage<? extends T5> cf5,
+            Function5<? super T1, ? super T2, ? super T3, ? super T4, ? super T5, ? extends R> fn) {
+        requireNonNull(executorWhenTimeout, "executorWhenTimeout is null");
+        requireNonNull(unit, "unit is null");
+        requireNonNull(fn, "fn is null");
+        CompletionStage<?>[] cfs = requireCfsAndEleNonNull(cf1, cf2, cf3, cf4, cf5);
+
+        return TupleAggregator.mostSuccessTupleOf(executorWhenTimeout, timeout, unit, cfs, fn);
     }
 
     // endregion
@@ -1605,6 +3862,67 @@ public final class CompletableFutureUtils {
         return IS_JAVA9_PLUS ? cfThis.newIncompleteFuture() : new CompletableFuture<>();
     }
 
+    // endregion
+    ////////////////////////////////////////////////////////////
+    // region## Broadcast Methods(dispatch the dependents of a shared stage in parallel chunks)
+    ////////////////////////////////////////////////////////////
+
+    /**
+     * Returns a new incomplete broadcast CompletableFuture, for a shared stage with thousands of dependents,
+     * e.g. a "config loaded" future which every request chain attaches {@code thenApply}/{@code thenCompose} to.
+     * <p>
+     * The dependents of the returned CompletableFuture are registered round-robin to a fixed number of chunks;
+     * when it completes, the completing thread only submits one task per chunk to the given executor, and
+     * the dependents of each chunk run in its task. So the completing thread returns quickly instead of
+     * running all dependents one after another(the stall of {@code CompletableFuture.postComplete}),
+     * and the dependents run on many threads. The count of the pending dependents is still visible
+     * by {@link CompletableFuture#getNumberOfDependents()}.
+     * <p>
+     * The dependents of the same chunk run in the registration order, while there is NO order between the dependents
+     * of different chunks; the dependents registered after completion run as usual. The dependent methods added
+     * after Java 8(e.g. {@code exceptionallyAsync}) are not dispatched in chunks.
+     *
+     * @param executor the executor to run the dependents of the chunks
+     * @param chunks   the count of the chunks, usually the parallelism of the executor
+     * @throws IllegalArgumentException if the chunks is not positive
+     * @see #broadcastOf(Executor, CompletionStage)
+     */
+    @Contract(pure = true)
+    public static <T> CompletableFuture<T> newIncompleteBroadcastFuture(Executor executor, int chunks) {
+        requireNonNull(executor, "executor is null");
+        if (chunks <= 0) throw new IllegalArgumentException("chunks is not positive: " + chunks);
+        return new BroadcastCompletableFuture<>(screenExecutor(executor), chunks);
+    }
+
+    /**
+     * Returns a new broadcast CompletableFuture that is completed with the same result or exception as the given
+     * stage, using the count of available processors as the count of chunks; see
+     * {@link #newIncompleteBroadcastFuture(Executor, int)} for the dispatching of the dependents.
+     *
+     * @param executor the executor to run the dependents of the chunks
+     */
+    @Contract(pure = true)
+    public static <T> CompletableFuture<T> broadcastOf(Executor executor, CompletionStage<? extends T> source) {
+        return broadcastOf(executor, BroadcastCompletableFuture.DEFAULT_CHUNKS, source);
+    }
+
+    /**
+     * Returns a new broadcast CompletableFuture that is completed with the same result or exception as the given
+     * stage; see {@link #newIncompleteBroadcastFuture(Executor, int)} for the dispatching of the dependents.
+     *
+     * @param executor the executor to run the dependents of the chunks
+     * @param chunks   the count of the chunks, usually the parallelism of the executor
+     * @throws IllegalArgumentException if the chunks is not positive
+     */
+    @Contract(pure = true)
+    public static <T> CompletableFuture<T> broadcastOf(
+            Executor executor, int chunks, CompletionStage<? extends T> source) {
+        requireNonNull(source, "source is null");
+        final CompletableFuture<T> ret = newIncompleteBroadcastFuture(executor, chunks);
+        peek0(source, (v, ex) -> completeCf0(ret, v, ex), "CFU#broadcastOf");
+        return ret;
+    }
+
     // endregion
     ////////////////////////////////////////////////////////////
     // region## Delay Execution(backport methods)
@@ -1641,6 +3959,45 @@ public final class CompletableFutureUtils {
                 : new DelayedExecutor(delay, unit, executor);
     }
 
+    // endregion
+    ////////////////////////////////////////////////////////////
+    // region## Virtual Thread Executor
+    ////////////////////////////////////////////////////////////
+
+    /**
+     * Returns an Executor that starts a new virtual thread for each task, without the cap of concurrent tasks.
+     * <p>
+     * Virtual threads are cheap to block, so this executor fits the blocking actions(e.g. JDBC or HTTP I/O)
+     * without sizing a pool of platform threads. Virtual threads are supported since Java 21;
+     * this method looks them up reflectively, so the Java 8 baseline is kept.
+     *
+     * @throws UnsupportedOperationException if virtual threads are not supported(before Java 21)
+     * @see #virtualThreadPerTaskExecutor(int)
+     * @see CffuFactory#virtualThreadBuilder()
+     */
+    @Contract(pure = true)
+    public static Executor virtualThreadPerTaskExecutor() {
+        return virtualThreadPerTaskExecutor(Integer.MAX_VALUE);
+    }
+
+    /**
+     * Returns an Executor that starts a new virtual thread for each task, running at most
+     * {@code maxConcurrentTasks} tasks concurrently; the tasks over the cap park their virtual threads
+     * until a running task completes. The cap protects the downstream resources(e.g. the connection pool
+     * of database) from the unbounded concurrency of virtual threads.
+     *
+     * @param maxConcurrentTasks the max count of tasks running concurrently
+     * @throws IllegalArgumentException      if the maxConcurrentTasks is not positive
+     * @throws UnsupportedOperationException if virtual threads are not supported(before Java 21)
+     * @see CffuFactory#virtualThreadBuilder(int)
+     */
+    @Contract(pure = true)
+    public static Executor virtualThreadPerTaskExecutor(int maxConcurrentTasks) {
+        if (maxConcurrentTasks <= 0)
+            throw new IllegalArgumentException("maxConcurrentTasks is not positive: " + maxConcurrentTasks);
+        return new VirtualThreadPerTaskExecutor(maxConcurrentTasks);
+    }
+
     // endregion
     // endregion
     ////////////////////////////////////////////////////////////////////////////////
@@ -1698,6 +4055,34 @@ public final class CompletableFutureUtils {
         });
     }
 
+    /**
+     * Same as {@link #thenMApplyFailFastAsync(CompletableFuture, Executor, Function[])},
+     * except at most {@code maxConcurrency} actions run at a time.
+     *
+     * @param maxConcurrency the max count of functions running concurrently
+     * @throws IllegalArgumentException if the maxConcurrency is not positive
+     */
+    @CheckReturnValue(explanation = "should use the returned CompletableFuture; otherwise, prefer simple method `thenMAcceptAsync`")
+    @SafeVarargs
+    public static <T, U> CompletableFuture<List<U>> thenMApplyFailFastAsync(
+            CompletableFuture<? extends T> cfThis, Executor executor,
+            int maxConcurrency, Function<? super T, ? extends U>... fns) {
+        requireNonNull(cfThis, "cfThis is null");
+        requireNonNull(executor, "executor is null");
+        requireMaxConcurrency(maxConcurrency);
+        // defensive shallow copy of input array argument by `clone`,
+        //   since it is used asynchronously in `thenCompose` and could be mutated by caller (NOT thread-safe)
+        // this same defensive copying pattern is used in similar methods below.
+        Function<? super T, ? extends U>[] copy = requireArrayAndEleNonNull("fn", fns).clone();
+
+        return cfThis.thenCompose(v -> {
+            CompletableFuture<U>[] inputs = wrapFunctions0(executor, maxConcurrency, v, copy);
+            CompletableFuture<List<U>> ret = allResultsOf0(true, inputs);
+            handleSwallowedExceptions("thenMApplyFailFastAsync", ret, inputs);
+            return ret;
+        });
+    }
+
     /**
      * Shortcut to method {@link #allSuccessResultsOf allSuccessResultsOf}, wraps input functions to CompletableFuture by
      * {@link CompletableFuture#supplyAsync(Supplier)}; The given stage's result is used as the argument of functions.
@@ -1738,6 +4123,30 @@ public final class CompletableFutureUtils {
         });
     }
 
+    /**
+     * Same as {@link #thenMApplyAllSuccessAsync(CompletableFuture, Executor, Object, Function[])},
+     * except at most {@code maxConcurrency} actions run at a time.
+     *
+     * @param maxConcurrency the max count of functions running concurrently
+     * @throws IllegalArgumentException if the maxConcurrency is not positive
+     */
+    @CheckReturnValue(explanation = "should use the returned CompletableFuture; otherwise, prefer simple method `thenMAcceptAsync`")
+    @SafeVarargs
+    public static <T, U> CompletableFuture<List<U>> thenMApplyAllSuccessAsync(
+            CompletableFuture<? extends T> cfThis, Executor executor,
+            @Nullable U valueIfFailed, int maxConcurrency, Function<? super T, ? extends U>... fns) {
+        requireNonNull(cfThis, "cfThis is null");
+        requireNonNull(executor, "executor is null");
+        requireMaxConcurrency(maxConcurrency);
+        Function<? super T, ? extends U>[] copy = requireArrayAndEleNonNull("fn", fns).clone();
+
+        return cfThis.thenCompose(v -> {
+            CompletableFuture<U>[] inputs = wrapFunctions0(executor, maxConcurrency, v, copy);
+            handleAllSwallowedExceptions("thenMApplyAllSuccessAsync", inputs);
+            return allSuccessResultsOf0(valueIfFailed, inputs);
+        });
+    }
+
     /**
      * Shortcut to method {@link #mostSuccessResultsOf(Object, long, TimeUnit, CompletionStage[])
      * mostSuccessResultsOf}, wraps input functions to CompletableFuture by
@@ -1779,6 +4188,31 @@ public final class CompletableFutureUtils {
         });
     }
 
+    /**
+     * Same as {@link #thenMApplyMostSuccessAsync(CompletableFuture, Executor, Object, long, TimeUnit, Function[])},
+     * except at most {@code maxConcurrency} actions run at a time.
+     *
+     * @param maxConcurrency the max count of functions running concurrently
+     * @throws IllegalArgumentException if the maxConcurrency is not positive
+     */
+    @CheckReturnValue(explanation = "should use the returned CompletableFuture; otherwise, prefer simple method `thenMAcceptAsync`")
+    @SafeVarargs
+    public static <T, U> CompletableFuture<List<U>> thenMApplyMostSuccessAsync(
+            CompletableFuture<? extends T> cfThis, Executor executor, @Nullable U valueIfNotSuccess,
+            long timeout, TimeUnit unit, int maxConcurrency, Function<? super T, ? extends U>... fns) {
+        requireNonNull(cfThis, "cfThis is null");
+        requireNonNull(executor, "executor is null");
+        requireMaxConcurrency(maxConcurrency);
+        requireNonNull(unit, "unit is null");
+        Function<? super T, ? extends U>[] copy = requireArrayAndEleNonNull("fn", fns).clone();
+
+        return cfThis.thenCompose(v -> {
+            CompletableFuture<U>[] inputs = wrapFunctions0(executor, maxConcurrency, v, copy);
+            handleAllSwallowedExceptions("thenMApplyMostSuccessAsync", inputs);
+            return mostSuccessResultsOf0(executor, valueIfNotSuccess, timeout, unit, inputs);
+        });
+    }
+
     /**
      * Shortcut to method {@link #allResultsOf allResultsOf}, wraps input functions to CompletableFuture by
      * {@link CompletableFuture#supplyAsync(Supplier)}; The given stage's result is used as the argument of functions.
@@ -1819,6 +4253,31 @@ public final class CompletableFutureUtils {
         });
     }
 
+    /**
+     * Same as {@link #thenMApplyAsync(CompletableFuture, Executor, Function[])},
+     * except at most {@code maxConcurrency} actions run at a time.
+     *
+     * @param maxConcurrency the max count of functions running concurrently
+     * @throws IllegalArgumentException if the maxConcurrency is not positive
+     */
+    @CheckReturnValue(explanation = "should use the returned CompletableFuture; otherwise, prefer simple method `thenMAcceptAsync`")
+    @SafeVarargs
+    public static <T, U> CompletableFuture<List<U>> thenMApplyAsync(
+            CompletableFuture<? extends T> cfThis, Executor executor,
+            int maxConcurrency, Function<? super T, ? extends U>... fns) {
+        requireNonNull(cfThis, "cfThis is null");
+        requireNonNull(executor, "executor is null");
+        requireMaxConcurrency(maxConcurrency);
+        Function<? super T, ? extends U>[] copy = requireArrayAndEleNonNull("fn", fns).clone();
+
+        return cfThis.thenCompose(v -> {
+            CompletableFuture<U>[] inputs = wrapFunctions0(executor, maxConcurrency, v, copy);
+            CompletableFuture<List<U>> ret = allResultsOf0(false, inputs);
+            handleSwallowedExceptions("thenMApplyAsync", ret, inputs);
+            return ret;
+        });
+    }
+
     /**
      * Shortcut to method {@link #anySuccessOf anySuccessOf}, wraps input functions to CompletableFuture by
      * {@link CompletableFuture#supplyAsync(Supplier)}; The given stage's result is used as the argument of functions.
@@ -1859,6 +4318,31 @@ public final class CompletableFutureUtils {
         });
     }
 
+    /**
+     * Same as {@link #thenMApplyAnySuccessAsync(CompletableFuture, Executor, Function[])},
+     * except at most {@code maxConcurrency} actions run at a time.
+     *
+     * @param maxConcurrency the max count of functions running concurrently
+     * @throws IllegalArgumentException if the maxConcurrency is not positive
+     */
+    @CheckReturnValue(explanation = "should use the returned CompletableFuture; otherwise, prefer simple method `thenMAcceptAsync`")
+    @SafeVarargs
+    public static <T, U> CompletableFuture<U> thenMApplyAnySuccessAsync(
+            CompletableFuture<? extends T> cfThis, Executor executor,
+            int maxConcurrency, Function<? super T, ? extends U>... fns) {
+        requireNonNull(cfThis, "cfThis is null");
+        requireNonNull(executor, "executor is null");
+        requireMaxConcurrency(maxConcurrency);
+        Function<? super T, ? extends U>[] copy = requireArrayAndEleNonNull("fn", fns).clone();
+
+        return cfThis.thenCompose(v -> {
+            CompletableFuture<U>[] inputs = wrapFunctions0(executor, maxConcurrency, v, copy);
+            CompletableFuture<U> ret = anySuccessOf0(inputs);
+            handleSwallowedExceptions("thenMApplyAnySuccessAsync", ret, inputs);
+            return ret;
+        });
+    }
+
     /**
      * Shortcut to method {@link #anyOf anyOf}, wraps input functions to CompletableFuture by
      * {@link CompletableFuture#supplyAsync(Supplier)}; The given stage's result is used as the argument of functions.
@@ -1893,7 +4377,32 @@ public final class CompletableFutureUtils {
 
         return cfThis.thenCompose(v -> {
             CompletableFuture<U>[] inputs = wrapFunctions0(executor, v, copy);
-            CompletableFuture<U> ret = f_cast(CompletableFuture.anyOf(inputs));
+            CompletableFuture<U> ret = SingleWinnerAggregator.anyOf(Arrays.asList(inputs));
+            handleSwallowedExceptions("thenMApplyAnyAsync", ret, inputs);
+            return ret;
+        });
+    }
+
+    /**
+     * Same as {@link #thenMApplyAnyAsync(CompletableFuture, Executor, Function[])},
+     * except at most {@code maxConcurrency} actions run at a time.
+     *
+     * @param maxConcurrency the max count of functions running concurrently
+     * @throws IllegalArgumentException if the maxConcurrency is not positive
+     */
+    @CheckReturnValue(explanation = "should use the returned CompletableFuture; otherwise, prefer simple method `thenMAcceptAsync`")
+    @SafeVarargs
+    public static <T, U> CompletableFuture<U> thenMApplyAnyAsync(
+            CompletableFuture<? extends T> cfThis, Executor executor,
+            int maxConcurrency, Function<? super T, ? extends U>... fns) {
+        requireNonNull(cfThis, "cfThis is null");
+        requireNonNull(executor, "executor is null");
+        requireMaxConcurrency(maxConcurrency);
+        Function<? super T, ? extends U>[] copy = requireArrayAndEleNonNull("fn", fns).clone();
+
+        return cfThis.thenCompose(v -> {
+            CompletableFuture<U>[] inputs = wrapFunctions0(executor, maxConcurrency, v, copy);
+            CompletableFuture<U> ret = SingleWinnerAggregator.anyOf(Arrays.asList(inputs));
             handleSwallowedExceptions("thenMApplyAnyAsync", ret, inputs);
             return ret;
         });
@@ -1904,6 +4413,13 @@ public final class CompletableFutureUtils {
         return mapArray(fns, CompletableFuture[]::new, f -> CompletableFuture.supplyAsync(() -> f.apply(v), executor));
     }
 
+    private static <T, U> CompletableFuture<U>[] wrapFunctions0(
+            Executor executor, int maxConcurrency, @Nullable T v, Function<? super T, ? extends U>[] fns) {
+        if (maxConcurrency >= fns.length) return wrapFunctions0(executor, v, fns);
+        return BoundedFanOut.supplyAsync(
+                executor, maxConcurrency, false, mapArray(fns, Supplier[]::new, f -> () -> f.apply(v)));
+    }
+
     /**
      * Shortcut to method {@link #allFailFastOf allFailFastOf}, wraps input functions to CompletableFuture by
      * {@link CompletableFuture#supplyAsync(Supplier)}; The given stage's result is used as the argument of actions.
@@ -2076,7 +4592,7 @@ public final class CompletableFutureUtils {
 
         return cfThis.thenCompose(v -> {
             CompletableFuture<Void>[] inputs = wrapConsumers0(executor, v, copy);
-            CompletableFuture<Void> ret = f_cast(CompletableFuture.anyOf(inputs));
+            CompletableFuture<Void> ret = SingleWinnerAggregator.anyOf(Arrays.asList(inputs));
             handleSwallowedExceptions("thenMAcceptAnyAsync", ret, inputs);
             return ret;
         });
@@ -2206,7 +4722,7 @@ public final class CompletableFutureUtils {
 
         return cfThis.thenCompose(unused -> {
             CompletableFuture<Void>[] inputs = wrapRunnables0(executor, copy);
-            CompletableFuture<Void> ret = f_cast(CompletableFuture.anyOf(inputs));
+            CompletableFuture<Void> ret = SingleWinnerAggregator.anyOf(Arrays.asList(inputs));
             handleSwallowedExceptions("thenMRunAnyAsync", ret, inputs);
             return ret;
         });
@@ -2949,18 +5465,9 @@ public final class CompletableFutureUtils {
      * return cf same as input `cfThis` argument. The runtime type of method {@link #anySuccessOf(CompletionStage[])}
      * return cf is always CompletableFuture, does NOT keep the runtime type of input `cfThis` argument.
      */
-    @SuppressWarnings({"unchecked", "rawtypes"})
     private static <T> CompletableFuture<T> eitherSuccess0(
             CompletableFuture<? extends T> cfThis, CompletionStage<? extends T> other) {
-        CompletableFuture thisSuccessOrBeIncomplete = exceptionallyCompose(cfThis, ex -> new CompletableFuture());
-        CompletionStage otherSuccessOrBeIncomplete = exceptionallyCompose(other, ex -> new CompletableFuture());
-        CompletableFuture cfValue = thisSuccessOrBeIncomplete.applyToEither(otherSuccessOrBeIncomplete, x -> x);
-
-        CompletableFuture thisFailedOrBeIncomplete = cfThis.thenCompose(v -> new CompletableFuture());
-        CompletionStage otherFailedOrBeIncomplete = other.thenCompose(v -> new CompletableFuture());
-        CompletableFuture cfEx = thisFailedOrBeIncomplete.thenCombine(otherFailedOrBeIncomplete, (v1, v2) -> null);
-
-        return cfValue.applyToEither(cfEx, x -> x);
+        return EitherSuccessRace.eitherSuccessOf(cfThis, other);
     }
 
     /**
@@ -3721,6 +6228,9 @@ public final class CompletableFutureUtils {
      *     .orTimeout(timeout, unit)
      *     .join();
      * }</pre>
+     * <p>
+     * On a virtual thread, this method parks the virtual thread with the timeout directly, instead of
+     * scheduling the timeout by the shared delayer thread; the result and the exceptions are the same.
      *
      * @param timeout the maximum time to wait
      * @param unit    the time unit of the timeout argument
@@ -3736,8 +6246,37 @@ public final class CompletableFutureUtils {
     public static <T> T join(CompletableFuture<? extends T> cfThis, long timeout, TimeUnit unit) {
         requireNonNull(cfThis, "cfThis is null");
         requireNonNull(unit, "unit is null");
+        if (cfThis.isDone()) return cfThis.join();
+        // the shared delayer thread is a contention point when a lot of virtual threads wait with timeout
+        if (isVirtualThread(Thread.currentThread())) return timedJoinUninterruptibly(cfThis, timeout, unit);
         // defensive copy input cf to avoid writing it by `orTimeout`
-        return cfThis.isDone() ? cfThis.join() : orTimeout(copy(cfThis), timeout, unit).join();
+        return orTimeout(copy(cfThis), timeout, unit).join();
+    }
+
+    /**
+     * Same as {@code copy(cfThis).orTimeout(timeout, unit).join()}, but waits by the timed
+     * {@link CompletableFuture#get(long, TimeUnit)}; the interruption is deferred until returns, same as join.
+     */
+    @Nullable
+    private static <T> T timedJoinUninterruptibly(CompletableFuture<? extends T> cfThis, long timeout, TimeUnit unit) {
+        boolean interrupted = false;
+        try {
+            final long deadline = System.nanoTime() + unit.toNanos(timeout);
+            for (long remaining = unit.toNanos(timeout); ; remaining = deadline - System.nanoTime()) {
+                try {
+                    return cfThis.get(remaining, TimeUnit.NANOSECONDS);
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                } catch (ExecutionException e) {
+                    // completed exceptionally, throws the same exception as join
+                    return cfThis.join();
+                } catch (TimeoutException e) {
+                    throw new CompletionException(new TimeoutException());
+                }
+            }
+        } finally {
+            if (interrupted) Thread.currentThread().interrupt();
+        }
     }
 
     /**
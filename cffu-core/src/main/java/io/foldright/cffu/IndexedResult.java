@@ -0,0 +1,87 @@
+package io.foldright.cffu;
+
+import edu.umd.cs.findbugs.annotations.Nullable;
+import org.jetbrains.annotations.Contract;
+
+import java.util.Objects;
+import java.util.concurrent.CompletionStage;
+
+
+/**
+ * The outcome of one input stage of the streaming and quorum methods, with the index of the input stage:
+ * the successful result value, or the exception(unwrapped from {@link java.util.concurrent.CompletionException})
+ * if the input stage completed exceptionally.
+ *
+ * @param <T> the result type of the input stage
+ * @see CompletableFutureUtils#streamResultsOf(java.util.function.Consumer, CompletionStage[])
+ * @see CompletableFutureUtils#iterateResultsOf(CompletionStage[])
+ * @see CompletableFutureUtils#kSuccessOf(int, CompletionStage[])
+ */
+public final class IndexedResult<T> {
+    private final int index;
+    @Nullable
+    private final T value;
+    @Nullable
+    private final Throwable exception;
+
+    IndexedResult(int index, @Nullable T value, @Nullable Throwable exception) {
+        this.index = index;
+        this.value = value;
+        this.exception = exception;
+    }
+
+    /**
+     * Returns the index of the input stage in the input arguments.
+     */
+    @Contract(pure = true)
+    public int index() {
+        return index;
+    }
+
+    /**
+     * Returns {@code true} if the input stage completed normally.
+     */
+    @Contract(pure = true)
+    public boolean isSuccess() {
+        return exception == null;
+    }
+
+    /**
+     * Returns the successful result value of the input stage;
+     * {@code null} if the input stage completed exceptionally.
+     */
+    @Contract(pure = true)
+    @Nullable
+    public T value() {
+        return value;
+    }
+
+    /**
+     * Returns the exception of the input stage; {@code null} if the input stage completed normally.
+     */
+    @Contract(pure = true)
+    @Nullable
+    public Throwable exception() {
+        return exception;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        IndexedResult<?> that = (IndexedResult<?>) o;
+        return index == that.index && Objects.equals(value, that.value) && Objects.equals(exception, that.exception);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(index, value, exception);
+    }
+
+    @Override
+    public String toString() {
+        return exception == null
+                ? "IndexedResult(" + index + ", success: " + value + ')'
+                : "IndexedResult(" + index + ", failed: " + exception + ')';
+    }
+}
@@ -0,0 +1,69 @@
+package io.foldright.cffu;
+
+import org.jetbrains.annotations.Contract;
+
+import java.util.Map;
+import java.util.Set;
+
+
+/**
+ * The results of the keyed methods that tolerate the not successful inputs: the successful results by key,
+ * and the keys of the inputs that failed or were incomplete.
+ *
+ * @param <K> the type of keys
+ * @param <V> the result type of the input stages
+ * @see CompletableFutureUtils#allSuccessResultsOfMap(Map)
+ * @see CompletableFutureUtils#mostSuccessResultsOfMap(long, java.util.concurrent.TimeUnit, Map)
+ */
+public final class KeyedResults<K, V> {
+    private final Map<K, V> results;
+    private final Set<K> missingKeys;
+
+    KeyedResults(Map<K, V> results, Set<K> missingKeys) {
+        this.results = results;
+        this.missingKeys = missingKeys;
+    }
+
+    /**
+     * Returns the successful results by key, a new {@link java.util.HashMap} owned by the caller.
+     */
+    @Contract(pure = true)
+    public Map<K, V> results() {
+        return results;
+    }
+
+    /**
+     * Returns the keys of the input stages that completed exceptionally or were incomplete;
+     * these keys are absent in {@link #results()}.
+     */
+    @Contract(pure = true)
+    public Set<K> missingKeys() {
+        return missingKeys;
+    }
+
+    /**
+     * Returns {@code true} if all the input stages completed normally, aka no missing keys.
+     */
+    @Contract(pure = true)
+    public boolean isComplete() {
+        return missingKeys.isEmpty();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        KeyedResults<?, ?> that = (KeyedResults<?, ?>) o;
+        return results.equals(that.results) && missingKeys.equals(that.missingKeys);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * results.hashCode() + missingKeys.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return "KeyedResults(results: " + results + ", missingKeys: " + missingKeys + ')';
+    }
+}
@@ -3,12 +3,17 @@ package io.foldright.cffu;
 import edu.umd.cs.findbugs.annotations.Nullable;
 import org.jetbrains.annotations.Contract;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.util.ArrayList;
 import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
 import java.util.concurrent.Executor;
 import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
 import java.util.function.BiConsumer;
 import java.util.function.BiFunction;
 import java.util.function.Function;
@@ -512,5 +517,97 @@ public final class LLCF {
         }
     }
 
+    /**
+     * The factory of virtual threads(Java 21+), {@code null} if virtual threads are not supported;
+     * looked up reflectively to keep the Java 8 baseline.
+     */
+    @Nullable
+    private static final ThreadFactory VIRTUAL_THREAD_FACTORY;
+
+    @Nullable
+    private static final MethodHandle IS_VIRTUAL;
+
+    static {
+        ThreadFactory factory = null;
+        MethodHandle isVirtual = null;
+        if (IS_JAVA21_PLUS) {
+            try {
+                final Class<?> builderClass = Class.forName("java.lang.Thread$Builder");
+                Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+                builder = builderClass.getMethod("name", String.class, long.class).invoke(builder, "cffu-virtual-", 0L);
+                factory = (ThreadFactory) builderClass.getMethod("factory").invoke(builder);
+                isVirtual = MethodHandles.publicLookup().findVirtual(
+                        Thread.class, "isVirtual", MethodType.methodType(boolean.class));
+            } catch (ReflectiveOperationException | RuntimeException e) {
+                factory = null;
+                isVirtual = null;
+            }
+        }
+        VIRTUAL_THREAD_FACTORY = factory;
+        IS_VIRTUAL = isVirtual;
+    }
+
+    /**
+     * Returns {@code true} if virtual threads are supported(Java 21+).
+     */
+    @Contract(pure = true)
+    static boolean isVirtualThreadSupported() {
+        return VIRTUAL_THREAD_FACTORY != null;
+    }
+
+    /**
+     * Returns {@code true} if the given thread is a virtual thread; always {@code false} before Java 21.
+     */
+    @Contract(pure = true)
+    static boolean isVirtualThread(Thread thread) {
+        if (IS_VIRTUAL == null) return false;
+        try {
+            return (boolean) IS_VIRTUAL.invokeExact(thread);
+        } catch (Throwable e) {
+            throw new IllegalStateException("fail to check virtual thread", e);
+        }
+    }
+
+    /**
+     * Executor that starts a new virtual thread for each task, running at most {@code maxConcurrentTasks}
+     * tasks concurrently; the tasks over the cap wait(parking their virtual threads) for a permit.
+     */
+    static final class VirtualThreadPerTaskExecutor implements Executor {
+        private final ThreadFactory factory;
+        private final int maxConcurrentTasks;
+        @Nullable
+        private final Semaphore permits;
+
+        VirtualThreadPerTaskExecutor(int maxConcurrentTasks) {
+            if (VIRTUAL_THREAD_FACTORY == null)
+                throw new UnsupportedOperationException("virtual threads are not supported, need Java 21+");
+            this.factory = VIRTUAL_THREAD_FACTORY;
+            this.maxConcurrentTasks = maxConcurrentTasks;
+            this.permits = maxConcurrentTasks == Integer.MAX_VALUE ? null : new Semaphore(maxConcurrentTasks);
+        }
+
+        @Override
+        public void execute(Runnable r) {
+            requireNonNull(r);
+            if (permits == null) {
+                factory.newThread(r).start();
+                return;
+            }
+            factory.newThread(() -> {
+                permits.acquireUninterruptibly();
+                try {
+                    r.run();
+                } finally {
+                    permits.release();
+                }
+            }).start();
+        }
+
+        @Override
+        public String toString() {
+            return "VirtualThreadPerTaskExecutor(maxConcurrentTasks: " + maxConcurrentTasks + ')';
+        }
+    }
+
     private LLCF() {}
 }
@@ -0,0 +1,192 @@
+package io.foldright.cffu;
+
+import org.jetbrains.annotations.Contract;
+
+import javax.annotation.concurrent.ThreadSafe;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static java.util.Objects.requireNonNull;
+
+
+/**
+ * An executor decorator that coalesces tiny tasks(e.g. the continuations of {@code *Async} methods doing
+ * sub-microsecond work) into batch tasks on the underlying executor, so the tasks share the queue operations
+ * and the thread wake-ups of the underlying executor instead of paying them per task.
+ * <p>
+ * The submitted tasks are appended to an internal queue, and drained by batch tasks running on the underlying
+ * executor. A task submitted while a batch task is running(e.g. the continuation submitted by a task of the batch)
+ * joins that batch without touching the underlying executor; when a batch task finds more tasks queued behind
+ * the one it takes, it submits one helper batch task, so the queued tasks still spread over the threads of
+ * the underlying executor. At most one helper batch task is waiting in the underlying executor at any time.
+ * <p>
+ * A batch task yields(re-submits itself to the underlying executor) after running {@code maxBatchSize} tasks
+ * or after running for {@code maxBatchTime}; this is the latency cap of the queued tasks, and keeps the batch tasks
+ * fair to the other tasks of the underlying executor. A queued task may still wait for the running task
+ * of its batch; so use this executor only for short non-blocking tasks, and run the blocking or long tasks
+ * with the underlying executor directly.
+ * <p>
+ * To use it for a {@link CffuFactory}, pass it as the default executor: {@code CffuFactory.builder(
+ * MicroBatchingExecutor.of(executor)).build()}. The tasks rejected by the underlying executor
+ * are thrown to the submitter only when no batch task is running; the tasks queued by other submitters
+ * meanwhile are run by the rejected submitter.
+ *
+ * @see CffuFactory#builder(Executor)
+ */
+@ThreadSafe
+public final class MicroBatchingExecutor implements Executor {
+    /**
+     * The default max count of tasks run by one batch task.
+     */
+    public static final int DEFAULT_MAX_BATCH_SIZE = 64;
+    /**
+     * The default max running time of one batch task, in microseconds.
+     */
+    public static final long DEFAULT_MAX_BATCH_TIME_MICROS = 100;
+
+    private final Executor executor;
+    private final int maxBatchSize;
+    private final long maxBatchNanos;
+
+    private final ConcurrentLinkedQueue<Runnable> queue = new ConcurrentLinkedQueue<>();
+    /**
+     * The count of batch tasks submitted to the underlying executor and not exited yet.
+     */
+    private final AtomicInteger batches = new AtomicInteger();
+    /**
+     * Whether a helper batch task is submitted to the underlying executor and not started yet.
+     */
+    private final AtomicBoolean helperPending = new AtomicBoolean();
+
+    private MicroBatchingExecutor(Executor executor, int maxBatchSize, long maxBatchNanos) {
+        this.executor = executor;
+        this.maxBatchSize = maxBatchSize;
+        this.maxBatchNanos = maxBatchNanos;
+    }
+
+    /**
+     * Returns a micro-batching executor of the given executor, with the default batch size
+     * ({@value #DEFAULT_MAX_BATCH_SIZE}) and the default batch time({@value #DEFAULT_MAX_BATCH_TIME_MICROS}µs).
+     */
+    @Contract(pure = true)
+    public static MicroBatchingExecutor of(Executor executor) {
+        return of(executor, DEFAULT_MAX_BATCH_SIZE, DEFAULT_MAX_BATCH_TIME_MICROS, TimeUnit.MICROSECONDS);
+    }
+
+    /**
+     * Returns a micro-batching executor of the given executor.
+     *
+     * @param executor     the underlying executor running the batch tasks
+     * @param maxBatchSize the max count of tasks run by one batch task before it yields
+     * @param maxBatchTime the max running time of one batch task before it yields, in units of {@code unit}
+     * @param unit         a {@code TimeUnit} determining how to interpret the {@code maxBatchTime} parameter
+     * @throws IllegalArgumentException if the maxBatchSize or the maxBatchTime is not positive
+     */
+    @Contract(pure = true)
+    public static MicroBatchingExecutor of(Executor executor, int maxBatchSize, long maxBatchTime, TimeUnit unit) {
+        requireNonNull(executor, "executor is null");
+        requireNonNull(unit, "unit is null");
+        if (maxBatchSize <= 0) throw new IllegalArgumentException("maxBatchSize is not positive: " + maxBatchSize);
+        if (maxBatchTime <= 0) throw new IllegalArgumentException("maxBatchTime is not positive: " + maxBatchTime);
+        return new MicroBatchingExecutor(executor, maxBatchSize, unit.toNanos(maxBatchTime));
+    }
+
+    @Override
+    public void execute(Runnable command) {
+        queue.offer(requireNonNull(command, "command is null"));
+        if (batches.get() != 0 || !batches.compareAndSet(0, 1)) return;
+
+        try {
+            executor.execute(new Batch(false));
+        } catch (Throwable ex) {
+            // remove the rejected task before releasing the batch count, so no new batch task runs it
+            queue.remove(command);
+            batches.decrementAndGet();
+            runStranded();
+            throw ex;
+        }
+    }
+
+    /**
+     * Runs the tasks queued by other submitters during a rejected submission on the current thread: they saw
+     * the batch count of the rejected submission and did not submit a batch task, and the underlying executor
+     * has just rejected one; so they are not stranded in the queue.
+     */
+    private void runStranded() {
+        if (queue.peek() == null || !batches.compareAndSet(0, 1)) return;
+        new Batch(false).run();
+    }
+
+    private final class Batch implements Runnable {
+        private final boolean helper;
+
+        Batch(boolean helper) {
+            this.helper = helper;
+        }
+
+        @Override
+        public void run() {
+            if (helper) helperPending.set(false);
+            long start = System.nanoTime();
+            for (int count = 0; ; ) {
+                final Runnable task = queue.poll();
+                if (task == null) {
+                    batches.decrementAndGet();
+                    // recheck the task enqueued after the poll, whose submitter saw this batch running
+                    if (queue.peek() == null) return;
+                    batches.incrementAndGet();
+                    continue;
+                }
+                if (queue.peek() != null) submitHelper();
+
+                try {
+                    task.run();
+                } catch (Throwable ex) {
+                    // same as the thread pool, the exception of a task does not stop the others
+                    final Thread t = Thread.currentThread();
+                    t.getUncaughtExceptionHandler().uncaughtException(t, ex);
+                }
+
+                if (++count >= maxBatchSize || System.nanoTime() - start >= maxBatchNanos) {
+                    if (queue.peek() != null && resubmit()) return;
+                    count = 0;
+                    start = System.nanoTime();
+                }
+            }
+        }
+
+        /**
+         * Re-submits this batch to the underlying executor; returns {@code false} if rejected,
+         * and then this batch keeps running on the current thread.
+         */
+        private boolean resubmit() {
+            try {
+                executor.execute(new Batch(false));
+                return true;
+            } catch (Throwable ex) {
+                return false;
+            }
+        }
+    }
+
+    private void submitHelper() {
+        if (helperPending.get() || !helperPending.compareAndSet(false, true)) return;
+        batches.incrementAndGet();
+        try {
+            executor.execute(new Batch(true));
+        } catch (Throwable ex) {
+            // the running batch tasks still drain the queue
+            batches.decrementAndGet();
+            helperPending.set(false);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "MicroBatchingExecutor(maxBatchSize: " + maxBatchSize + ", maxBatchNanos: " + maxBatchNanos
+                + "), executor: " + executor;
+    }
+}
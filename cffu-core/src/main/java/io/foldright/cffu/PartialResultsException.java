@@ -0,0 +1,94 @@
+package io.foldright.cffu;
+
+import java.util.Arrays;
+import java.util.List;
+
+
+/**
+ * Exception of the fail-fast salvage methods, carries the results of the inputs that completed normally
+ * before the fail-fast failure, and the indexes of the failed and unfinished inputs; the cause is the exception
+ * (unwrapped from {@link java.util.concurrent.CompletionException}) of the failed input that triggered the fail-fast.
+ * <p>
+ * Pass this exception to {@link CompletableFutureUtils#retryFailedAsync(PartialResultsException, java.util.function.Supplier[])
+ * retryFailedAsync} to re-run only the missing inputs, and merge their results with the salvaged ones.
+ *
+ * @see CompletableFutureUtils#allResultsFailFastSalvageOf(java.util.concurrent.CompletionStage[])
+ * @see CompletableFutureUtils#mSupplyFailFastSalvageAsync(java.util.function.Supplier[])
+ */
+public final class PartialResultsException extends RuntimeException {
+    @java.io.Serial
+    private static final long serialVersionUID = 0xCFF0;
+
+    private final Object[] results;
+    private final boolean[] succeeded;
+    private final int[] failedIndexes;
+    private final int[] unfinishedIndexes;
+
+    PartialResultsException(Throwable cause, Object[] results, boolean[] succeeded,
+                            int[] failedIndexes, int[] unfinishedIndexes) {
+        super(message(results.length, failedIndexes.length, unfinishedIndexes.length), cause);
+        this.results = results;
+        this.succeeded = succeeded;
+        this.failedIndexes = failedIndexes;
+        this.unfinishedIndexes = unfinishedIndexes;
+    }
+
+    private static String message(int size, int failed, int unfinished) {
+        return "fail-fast with " + (size - failed - unfinished) + " of " + size
+                + " inputs succeeded(" + failed + " failed, " + unfinished + " unfinished)";
+    }
+
+    /**
+     * Returns the count of the inputs.
+     */
+    public int size() {
+        return results.length;
+    }
+
+    /**
+     * Returns the salvaged results in the <strong>same order</strong> as the inputs, an unmodifiable list;
+     * the element at the index of a failed or unfinished input is {@code null}, see {@link #isSuccess(int)}.
+     */
+    public List<?> results() {
+        return ResultList.of(results);
+    }
+
+    /**
+     * Returns {@code true} if the input of the given index completed normally before the fail-fast failure.
+     */
+    public boolean isSuccess(int index) {
+        return succeeded[index];
+    }
+
+    /**
+     * Returns the indexes of the inputs that completed exceptionally before the fail-fast failure, in ascending order.
+     */
+    public int[] failedIndexes() {
+        return failedIndexes.clone();
+    }
+
+    /**
+     * Returns the indexes of the inputs that were incomplete at the fail-fast failure, in ascending order.
+     */
+    public int[] unfinishedIndexes() {
+        return unfinishedIndexes.clone();
+    }
+
+    /**
+     * Returns the indexes of the failed and unfinished inputs, aka the inputs to retry, in ascending order.
+     */
+    public int[] missingIndexes() {
+        final int[] ret = Arrays.copyOf(failedIndexes, failedIndexes.length + unfinishedIndexes.length);
+        System.arraycopy(unfinishedIndexes, 0, ret, failedIndexes.length, unfinishedIndexes.length);
+        Arrays.sort(ret);
+        return ret;
+    }
+
+    Object[] results0() {
+        return results;
+    }
+
+    boolean[] succeeded0() {
+        return succeeded;
+    }
+}
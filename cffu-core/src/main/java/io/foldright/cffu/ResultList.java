@@ -0,0 +1,48 @@
+package io.foldright.cffu;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.RandomAccess;
+
+
+/**
+ * The compact unmodifiable list of results returned by the {@code all*ResultsOf} / {@code mostSuccessResultsOf}
+ * methods; wraps the final result array of the aggregation directly, WITHOUT copying it.
+ * <p>
+ * The callers who need a mutable list can copy it, e.g. {@code new ArrayList<>(results)}; or opt in to the
+ * {@link ArrayList} results of a {@link CffuFactory} by {@link CffuFactoryBuilder#mutableResults(boolean)}.
+ *
+ * @param <E> the type of results
+ */
+final class ResultList<E> extends AbstractList<E> implements RandomAccess {
+    private final Object[] elements;
+
+    /**
+     * Returns the list of the given results; the given array must not be modified after this call.
+     */
+    static <E> List<E> of(Object... elements) {
+        return new ResultList<>(elements);
+    }
+
+    private ResultList(Object[] elements) {
+        this.elements = elements;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public E get(int index) {
+        return (E) elements[index];
+    }
+
+    @Override
+    public int size() {
+        return elements.length;
+    }
+
+    @Override
+    public Object[] toArray() {
+        return Arrays.copyOf(elements, elements.length, Object[].class);
+    }
+}
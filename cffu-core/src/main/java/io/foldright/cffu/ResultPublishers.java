@@ -0,0 +1,104 @@
+package io.foldright.cffu;
+
+import org.jetbrains.annotations.Contract;
+
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Flow;
+
+import static io.foldright.cffu.internal.CommonUtils.requireArrayAndEleNonNull;
+import static java.util.Objects.requireNonNull;
+
+
+/**
+ * This class contains the methods that publish the outcomes of the given stages as {@link Flow.Publisher},
+ * the reactive-streams counterparts of the streaming methods
+ * {@link CompletableFutureUtils#streamResultsOf(java.util.function.Consumer, CompletionStage[]) streamResultsOf}.
+ * <p>
+ * <strong>CAUTION:</strong> {@link Flow} is available since Java 9, so this class is only usable in Java 9+;
+ * the other classes of cffu do not depend on this class, and keep working in Java 8.
+ *
+ * @see CompletableFutureUtils#streamResultsOf(java.util.function.Consumer, CompletionStage[])
+ * @see CompletableFutureUtils#iterateResultsOf(CompletionStage[])
+ */
+public final class ResultPublishers {
+    /**
+     * Returns a {@link Flow.Publisher} that emits the outcome of each given stage as soon as that stage completes
+     * (in <strong>completion order</strong>), as an {@link IndexedResult}; then completes after the outcomes of
+     * all given stages are emitted. The emissions are bounded by the demand requested by the subscriber.
+     * <p>
+     * Each subscriber receives all the outcomes of the given stages independently.
+     *
+     * @throws NullPointerException if the cfs param or any of its elements are {@code null}
+     */
+    @Contract(pure = true)
+    @SafeVarargs
+    public static <T> Flow.Publisher<IndexedResult<T>> publishResultsOf(CompletionStage<? extends T>... cfs) {
+        return new ResultPublisher<>(false, requireArrayAndEleNonNull("cf", cfs));
+    }
+
+    /**
+     * Returns a {@link Flow.Publisher} that emits the outcomes of the given stages in the <strong>same order</strong>
+     * as the input stages, as soon as each contiguous prefix of the given stages completes.
+     * <p>
+     * Otherwise, this method is the same as {@link #publishResultsOf(CompletionStage[])}.
+     *
+     * @throws NullPointerException if the cfs param or any of its elements are {@code null}
+     */
+    @Contract(pure = true)
+    @SafeVarargs
+    public static <T> Flow.Publisher<IndexedResult<T>> publishResultsInOrderOf(CompletionStage<? extends T>... cfs) {
+        return new ResultPublisher<>(true, requireArrayAndEleNonNull("cf", cfs));
+    }
+
+    private static final class ResultPublisher<T> implements Flow.Publisher<IndexedResult<T>> {
+        private final boolean inputOrder;
+        private final CompletionStage<? extends T>[] stages;
+
+        ResultPublisher(boolean inputOrder, CompletionStage<? extends T>[] stages) {
+            this.inputOrder = inputOrder;
+            this.stages = stages;
+        }
+
+        @Override
+        public void subscribe(Flow.Subscriber<? super IndexedResult<T>> subscriber) {
+            requireNonNull(subscriber, "subscriber is null");
+            final ResultStreamer<T> streamer = new ResultStreamer<>(inputOrder, stages.length,
+                    new ResultStreamer.Downstream<T>() {
+                        @Override
+                        public void onNext(IndexedResult<T> result) {
+                            subscriber.onNext(result);
+                        }
+
+                        @Override
+                        public void onComplete() {
+                            subscriber.onComplete();
+                        }
+
+                        @Override
+                        public void onError(Throwable ex) {
+                            subscriber.onError(ex);
+                        }
+                    });
+            subscriber.onSubscribe(new Flow.Subscription() {
+                @Override
+                public void request(long n) {
+                    if (n > 0) {
+                        streamer.request(n);
+                        return;
+                    }
+                    // rule 3.9 of reactive-streams specification; signaled by the drain loop of streamer,
+                    // so it is serialized with the other signals(rule 1.3) and never follows onComplete(rule 1.7)
+                    streamer.fail(new IllegalArgumentException("non-positive request: " + n));
+                }
+
+                @Override
+                public void cancel() {
+                    streamer.cancel();
+                }
+            });
+            streamer.subscribe(stages);
+        }
+    }
+
+    private ResultPublishers() {}
+}
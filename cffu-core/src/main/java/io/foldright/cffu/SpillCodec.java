@@ -0,0 +1,28 @@
+package io.foldright.cffu;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+
+/**
+ * The user-supplied serializer of the results spilled to file by the {@code all*ResultsSpilledOf} methods.
+ * <p>
+ * The {@link #read(DataInput)} method must read exactly the bytes written by the {@link #write(Object, DataOutput)}
+ * method; {@code null} results are recorded aside, so the codec never sees {@code null} values.
+ * Both methods may be called concurrently, so the codec must be thread-safe (stateless is preferred).
+ *
+ * @param <T> the type of results
+ * @see SpillOptions
+ */
+public interface SpillCodec<T> {
+    /**
+     * Writes the given non-null result to the given output.
+     */
+    void write(T value, DataOutput out) throws IOException;
+
+    /**
+     * Reads a result written by {@link #write(Object, DataOutput)} from the given input.
+     */
+    T read(DataInput in) throws IOException;
+}
@@ -0,0 +1,77 @@
+package io.foldright.cffu;
+
+import org.jetbrains.annotations.Contract;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import static java.util.Objects.requireNonNull;
+
+
+/**
+ * The options of the bounded-memory result collection of the {@code all*ResultsSpilledOf} methods:
+ * the completed results are serialized by the codec into an in-heap buffer, and the buffer is appended
+ * to a spill file in the given directory once it reaches the heap budget.
+ *
+ * @param <T> the type of results
+ * @see SpilledResultList
+ * @see CompletableFutureUtils#allResultsSpilledOf(SpillOptions, java.util.concurrent.CompletionStage[])
+ */
+public final class SpillOptions<T> {
+    private final SpillCodec<T> codec;
+    private final int heapBudgetBytes;
+    private final Path directory;
+
+    private SpillOptions(SpillCodec<T> codec, int heapBudgetBytes, Path directory) {
+        this.codec = codec;
+        this.heapBudgetBytes = heapBudgetBytes;
+        this.directory = directory;
+    }
+
+    /**
+     * Returns the options spilling to the default temporary-file directory (system property {@code java.io.tmpdir}).
+     *
+     * @param codec           the serializer of the results
+     * @param heapBudgetBytes the bytes of the serialized results buffered in heap before spilling to file;
+     *                        {@code 0} spills each result as soon as it arrives
+     * @throws IllegalArgumentException if the heapBudgetBytes is negative
+     */
+    @Contract(pure = true)
+    public static <T> SpillOptions<T> of(SpillCodec<T> codec, int heapBudgetBytes) {
+        return of(codec, heapBudgetBytes, Paths.get(System.getProperty("java.io.tmpdir")));
+    }
+
+    /**
+     * Returns the options spilling to the given directory.
+     *
+     * @param codec           the serializer of the results
+     * @param heapBudgetBytes the bytes of the serialized results buffered in heap before spilling to file;
+     *                        {@code 0} spills each result as soon as it arrives
+     * @param directory       the directory in which the spill files are created
+     * @throws IllegalArgumentException if the heapBudgetBytes is negative
+     */
+    @Contract(pure = true)
+    public static <T> SpillOptions<T> of(SpillCodec<T> codec, int heapBudgetBytes, Path directory) {
+        requireNonNull(codec, "codec is null");
+        requireNonNull(directory, "directory is null");
+        if (heapBudgetBytes < 0) throw new IllegalArgumentException("heapBudgetBytes is negative: " + heapBudgetBytes);
+        return new SpillOptions<>(codec, heapBudgetBytes, directory);
+    }
+
+    SpillCodec<T> codec() {
+        return codec;
+    }
+
+    int heapBudgetBytes() {
+        return heapBudgetBytes;
+    }
+
+    Path directory() {
+        return directory;
+    }
+
+    @Override
+    public String toString() {
+        return "SpillOptions(heapBudgetBytes: " + heapBudgetBytes + ", directory: " + directory + ')';
+    }
+}
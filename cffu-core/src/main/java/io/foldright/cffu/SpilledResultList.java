@@ -0,0 +1,222 @@
+package io.foldright.cffu;
+
+import edu.umd.cs.findbugs.annotations.Nullable;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.RandomAccess;
+
+import static java.nio.file.StandardOpenOption.DELETE_ON_CLOSE;
+import static java.nio.file.StandardOpenOption.READ;
+import static java.nio.file.StandardOpenOption.WRITE;
+
+
+/**
+ * The unmodifiable list of results returned by the {@code all*ResultsSpilledOf} methods, in the <strong>same
+ * order</strong> as the inputs; the results are kept serialized, in heap up to the budget of {@link SpillOptions}
+ * and in a spill file beyond it, and are deserialized lazily by each {@link #get(int)} call.
+ * <p>
+ * The heap retained per result is only its index entry(12 bytes) instead of the result object,
+ * so the heap stays flat regardless of the count of the inputs. The spill file is created lazily at the first
+ * spill, and is deleted by {@link #close()}; so the list should be closed after use, e.g. by try-with-resources.
+ * Calling {@link #get(int)} after {@link #close()} throws {@link IllegalStateException}.
+ * <p>
+ * The spill file is written by the threads that complete the inputs: the thread whose result fills the buffer
+ * blocks on writing it, outside the lock of this list; meanwhile the heap holds the buffer being written
+ * besides the new one.
+ *
+ * @param <T> the type of results
+ */
+public final class SpilledResultList<T> extends AbstractList<T> implements RandomAccess, Closeable {
+    private static final int NOT_SUCCESS = -1;
+    private static final int NULL_VALUE = -2;
+
+    private final SpillCodec<T> codec;
+    private final int heapBudgetBytes;
+    private final Path directory;
+    @Nullable
+    private final Object valueIfNotSuccess;
+    /**
+     * The offset of the serialized result of each index, in the logical byte sequence of spill file + heap buffer.
+     */
+    private final long[] offsets;
+    /**
+     * The byte length of the serialized result of each index, or {@link #NOT_SUCCESS}/{@link #NULL_VALUE}.
+     */
+    private final int[] lengths;
+
+    // the fields below are guarded by this until sealed; after sealed, they are read-only
+    private byte[] buffer;
+    private int bufferSize;
+    private long spilledBytes;
+    @Nullable
+    private FileChannel channel;
+    /**
+     * The count of the full buffers being written to the spill file outside the lock.
+     */
+    private int pendingWrites;
+    private boolean sealed;
+    private volatile boolean closed;
+
+    SpilledResultList(SpillOptions<T> options, int size, @Nullable Object valueIfNotSuccess) {
+        this.codec = options.codec();
+        this.heapBudgetBytes = options.heapBudgetBytes();
+        this.directory = options.directory();
+        this.valueIfNotSuccess = valueIfNotSuccess;
+        this.offsets = new long[size];
+        this.lengths = new int[size];
+        Arrays.fill(lengths, NOT_SUCCESS);
+        this.buffer = new byte[Math.min(heapBudgetBytes, 8192) + 64];
+    }
+
+    /**
+     * Records the successful result of the given index; the result is serialized outside the lock,
+     * and ignored if this list is already sealed or closed.
+     * <p>
+     * When the buffer reaches the heap budget, it is swapped out under the lock and written to the spill file
+     * outside the lock; so the other completing inputs keep appending into the new buffer instead of waiting
+     * behind the disk I/O, and only the thread that fills the buffer blocks on the write.
+     */
+    void append(int index, @Nullable T value) throws IOException {
+        if (value == null) {
+            synchronized (this) {
+                if (!sealed) lengths[index] = NULL_VALUE;
+            }
+            return;
+        }
+
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream(64);
+        codec.write(value, new DataOutputStream(bytes));
+        final int len = bytes.size();
+        final FileChannel ch;
+        final ByteBuffer full;
+        final long position;
+        synchronized (this) {
+            if (sealed) return;
+            if (bufferSize + len > buffer.length)
+                buffer = Arrays.copyOf(buffer, Math.max(buffer.length << 1, bufferSize + len));
+            final byte[] b = bytes.toByteArray();
+            System.arraycopy(b, 0, buffer, bufferSize, len);
+            offsets[index] = spilledBytes + bufferSize;
+            lengths[index] = len;
+            bufferSize += len;
+            if (bufferSize < heapBudgetBytes) return;
+
+            if (channel == null) {
+                channel = FileChannel.open(Files.createTempFile(directory, "cffu-spill-", ".bin"),
+                        READ, WRITE, DELETE_ON_CLOSE);
+            }
+            // swap out the full buffer, its region of the spill file is reserved by advancing spilledBytes
+            ch = channel;
+            full = ByteBuffer.wrap(buffer, 0, bufferSize);
+            position = spilledBytes;
+            spilledBytes += bufferSize;
+            buffer = new byte[Math.min(heapBudgetBytes, 8192) + 64];
+            bufferSize = 0;
+            pendingWrites++;
+        }
+
+        // the positional writes of the disjoint regions are safe to run concurrently
+        try {
+            while (full.hasRemaining()) ch.write(full, position + full.position());
+        } finally {
+            synchronized (this) {
+                if (--pendingWrites == 0) notifyAll();
+            }
+        }
+    }
+
+    /**
+     * Stops recording results, the list is read-only after this call;
+     * waits for the pending writes of the spill file, so the reads of {@link #get(int)} see the whole file.
+     */
+    synchronized void seal() {
+        sealed = true;
+        boolean interrupted = false;
+        while (pendingWrites > 0) {
+            try {
+                wait();
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        if (interrupted) Thread.currentThread().interrupt();
+        // release the slack of the buffer, the retained heap is at most the budget
+        if (buffer.length > bufferSize) buffer = Arrays.copyOf(buffer, bufferSize);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public T get(int index) {
+        final int len = lengths[index];
+        if (len == NOT_SUCCESS) return (T) valueIfNotSuccess;
+        if (len == NULL_VALUE) return null;
+        if (closed) throw new IllegalStateException("SpilledResultList is closed");
+
+        final long offset = offsets[index];
+        try {
+            final byte[] b;
+            final int from;
+            if (offset >= spilledBytes) {
+                b = buffer;
+                from = (int) (offset - spilledBytes);
+            } else {
+                final ByteBuffer bb = ByteBuffer.allocate(len);
+                while (bb.hasRemaining()) {
+                    if (channel.read(bb, offset + bb.position()) < 0) throw new IOException("unexpected end of spill file");
+                }
+                b = bb.array();
+                from = 0;
+            }
+            return codec.read(new DataInputStream(new ByteArrayInputStream(b, from, len)));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public int size() {
+        return lengths.length;
+    }
+
+    /**
+     * Returns {@code true} if any result was spilled to file, aka the results exceeded the heap budget.
+     */
+    public boolean isSpilled() {
+        return spilledBytes > 0;
+    }
+
+    /**
+     * Releases the heap buffer and deletes the spill file; calling this method more than once has no effect.
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        if (closed) return;
+        closed = true;
+        sealed = true;
+        buffer = new byte[0];
+        if (channel != null) channel.close();
+    }
+
+    /**
+     * Closes this list that is never handed to the caller, ignoring the exception of closing the spill file.
+     */
+    void discard() {
+        try {
+            close();
+        } catch (IOException ignored) {
+            // the file is opened with DELETE_ON_CLOSE, nothing more can be done
+        }
+    }
+}
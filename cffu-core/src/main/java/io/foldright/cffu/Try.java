@@ -0,0 +1,117 @@
+package io.foldright.cffu;
+
+import edu.umd.cs.findbugs.annotations.Nullable;
+import org.jetbrains.annotations.Contract;
+
+import java.util.Objects;
+
+import static java.util.Objects.requireNonNull;
+
+
+/**
+ * The settled outcome of a stage: the successful result value, or the exception(unwrapped from
+ * {@link java.util.concurrent.CompletionException}) if the stage completed exceptionally.
+ * <p>
+ * Returned by the {@code allSettledOf*} / {@code mSupplySettled*Async} methods, which record the outcome of each
+ * input as is; so the partial-failure results can be assembled WITHOUT any exception being thrown or rethrown.
+ *
+ * @param <T> the result type of the stage
+ * @see CompletableFutureUtils#allSettledOf(java.util.concurrent.CompletionStage[])
+ */
+public final class Try<T> {
+    @Nullable
+    private final T value;
+    @Nullable
+    private final Throwable exception;
+
+    private Try(@Nullable T value, @Nullable Throwable exception) {
+        this.value = value;
+        this.exception = exception;
+    }
+
+    /**
+     * Returns a successful Try with the given value.
+     */
+    @Contract(pure = true)
+    public static <T> Try<T> success(@Nullable T value) {
+        return new Try<>(value, null);
+    }
+
+    /**
+     * Returns a failed Try with the given exception.
+     */
+    @Contract(pure = true)
+    public static <T> Try<T> failure(Throwable exception) {
+        requireNonNull(exception, "exception is null");
+        return new Try<>(null, exception);
+    }
+
+    /**
+     * Returns the Try of the given outcome of a stage, as the arguments of {@code whenComplete}/{@code handle};
+     * the exception is unwrapped by {@link CompletableFutureUtils#unwrapCfException(Throwable)}.
+     */
+    static <T> Try<T> of(@Nullable T value, @Nullable Throwable ex) {
+        return ex == null ? new Try<>(value, null) : new Try<>(null, CompletableFutureUtils.unwrapCfException(ex));
+    }
+
+    /**
+     * Returns {@code true} if the stage completed normally.
+     */
+    @Contract(pure = true)
+    public boolean isSuccess() {
+        return exception == null;
+    }
+
+    /**
+     * Returns {@code true} if the stage completed exceptionally.
+     */
+    @Contract(pure = true)
+    public boolean isFailure() {
+        return exception != null;
+    }
+
+    /**
+     * Returns the successful result value; {@code null} if the stage completed exceptionally.
+     */
+    @Contract(pure = true)
+    @Nullable
+    public T value() {
+        return value;
+    }
+
+    /**
+     * Returns the exception; {@code null} if the stage completed normally.
+     */
+    @Contract(pure = true)
+    @Nullable
+    public Throwable exception() {
+        return exception;
+    }
+
+    /**
+     * Returns the successful result value, or the given value if the stage completed exceptionally.
+     */
+    @Contract(pure = true)
+    @Nullable
+    public T valueOr(@Nullable T valueIfFailed) {
+        return exception == null ? value : valueIfFailed;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        Try<?> that = (Try<?>) o;
+        return Objects.equals(value, that.value) && Objects.equals(exception, that.exception);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * Objects.hashCode(value) + Objects.hashCode(exception);
+    }
+
+    @Override
+    public String toString() {
+        return exception == null ? "Try(success: " + value + ')' : "Try(failed: " + exception + ')';
+    }
+}
@@ -2,6 +2,7 @@ package io.foldright.cffu.eh;
 
 import edu.umd.cs.findbugs.annotations.Nullable;
 import io.foldright.cffu.Cffu;
+import io.foldright.cffu.PartialResultsException;
 import io.foldright.cffu.internal.CommonUtils;
 
 import java.util.concurrent.CompletableFuture;
@@ -119,7 +120,9 @@ public final class SwallowedExceptionHandleUtils {
         // whether to swallow exceptions from inputs depends on the output's result,
         // so must check when the output CompletionStage completes.
         peek0(output, (v, outputEx) -> { // outputEx may be null
-            Throwable outputBizEx = unwrapCfException(outputEx);
+            final Throwable unwrapped = unwrapCfException(outputEx);
+            // the exception that triggered the fail-fast salvage is returned as the cause of PartialResultsException
+            Throwable outputBizEx = unwrapped instanceof PartialResultsException ? unwrapped.getCause() : unwrapped;
             for (int i = 0; i < unreferencedInputs.length; i++) {
                 final int idx = i;
                 peek0(unreferencedInputs[i], (v1, ex) -> {
@@ -0,0 +1,22 @@
+package io.foldright.cffu.function;
+
+/**
+ * Represents a function that accepts two arguments and produces a result.
+ * This is the two-arity specialization of {@link java.util.function.Function}.
+ *
+ * @param <T1> the type of the first argument to the function
+ * @param <T2> the type of the second argument to the function
+ * @param <R> the type of the result of the function
+ * @see io.foldright.cffu.tuple.Tuple2
+ */
+@FunctionalInterface
+public interface Function2<T1, T2, R> {
+    /**
+     * Applies this function to the given arguments.
+     *
+     * @param v1 the first function argument
+     * @param v2 the second function argument
+     * @return the function result
+     */
+    R apply(T1 v1, T2 v2);
+}
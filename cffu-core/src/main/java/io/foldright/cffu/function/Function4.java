@@ -0,0 +1,26 @@
+package io.foldright.cffu.function;
+
+/**
+ * Represents a function that accepts four arguments and produces a result.
+ * This is the four-arity specialization of {@link java.util.function.Function}.
+ *
+ * @param <T1> the type of the first argument to the function
+ * @param <T2> the type of the second argument to the function
+ * @param <T3> the type of the third argument to the function
+ * @param <T4> the type of the fourth argument to the function
+ * @param <R> the type of the result of the function
+ * @see io.foldright.cffu.tuple.Tuple4
+ */
+@FunctionalInterface
+public interface Function4<T1, T2, T3, T4, R> {
+    /**
+     * Applies this function to the given arguments.
+     *
+     * @param v1 the first function argument
+     * @param v2 the second function argument
+     * @param v3 the third function argument
+     * @param v4 the fourth function argument
+     * @return the function result
+     */
+    R apply(T1 v1, T2 v2, T3 v3, T4 v4);
+}
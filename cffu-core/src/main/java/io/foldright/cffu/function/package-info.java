@@ -0,0 +1,9 @@
+/**
+ * The multi-arity {@code Function} interfaces for {@code Cffu} use, the counterparts of the {@code Tuple} classes.
+ *
+ * @see io.foldright.cffu.function.Function2
+ * @see io.foldright.cffu.function.Function3
+ * @see io.foldright.cffu.function.Function4
+ * @see io.foldright.cffu.function.Function5
+ */
+package io.foldright.cffu.function;
@@ -2,9 +2,8 @@ package io.foldright.cffu.internal;
 
 import org.jetbrains.annotations.ApiStatus;
 
-import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.Collection;
 import java.util.function.Function;
 import java.util.function.IntFunction;
 
@@ -23,6 +22,13 @@ public final class CommonUtils {
         return array;
     }
 
+    public static <C extends Collection<?>> C requireCollectionAndEleNonNull(String varName, C collection) {
+        requireNonNull(collection, varName + "s is null");
+        int i = 0;
+        for (Object e : collection) requireNonNull(e, varName + (++i) + " is null");
+        return collection;
+    }
+
     /**
      * example code of "map int[] to string[]":
      *
@@ -47,45 +53,5 @@ public final class CommonUtils {
         return Arrays.asList(array).contains(objectToFind);
     }
 
-    /**
-     * Returns normal array list instead of unmodifiable({@link java.util.List#of}) or fixed-size
-     * ({@link Arrays#asList}) list. Safer for application code which may reuse the return list as normal collection.
-     */
-    @SafeVarargs
-    public static <T> ArrayList<T> arrayList(T... elements) {
-        return new ArrayList<>(Arrays.asList(elements));
-    }
-
-    /**
-     * Returns a new {@link ArrayList} with the same elements as the given {@link AtomicReferenceArray}.
-     */
-    public static <E> ArrayList<E> arrayList(AtomicReferenceArray<E> array) {
-        int len = array.length();
-        ArrayList<E> ret = new ArrayList<>(len);
-        for (int i = 0; i < len; i++) ret.add(array.get(i));
-        return ret;
-    }
-
-    /**
-     * Returns a new array with the same elements as the given {@link AtomicReferenceArray}.
-     */
-    public static <E> E[] toArray(AtomicReferenceArray<E> array) {
-        int len = array.length();
-        @SuppressWarnings("unchecked")
-        E[] ret = (E[]) new Object[len];
-        for (int i = 0; i < len; i++) ret[i] = array.get(i);
-        return ret;
-    }
-
-    /**
-     * Fills the given {@link AtomicReferenceArray} with the same elements as the given value.
-     *
-     * @see Arrays#fill(Object[], Object)
-     */
-    public static <E> void fillAtomicReferenceArray(
-            AtomicReferenceArray<? super E> array, E value) {
-        for (int i = 0, len = array.length(); i < len; i++) array.set(i, value);
-    }
-
     private CommonUtils() {}
 }
@@ -7,6 +7,7 @@ module io.foldright.cffu {
     exports io.foldright.cffu;
     exports io.foldright.cffu.eh;
     exports io.foldright.cffu.tuple;
+    exports io.foldright.cffu.function;
     exports io.foldright.cffu.spi;
 
     uses io.foldright.cffu.spi.ExecutorWrapperProvider;
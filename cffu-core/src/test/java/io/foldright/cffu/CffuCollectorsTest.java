@@ -0,0 +1,53 @@
+package io.foldright.cffu;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static io.foldright.cffu.CompletableFutureUtils.failedFuture;
+import static io.foldright.test_utils.TestUtils.incompleteCf;
+import static io.foldright.test_utils.TestingConstants.*;
+import static io.foldright.test_utils.TestingExecutorUtils.testExecutor;
+import static java.util.concurrent.CompletableFuture.completedFuture;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static org.junit.jupiter.api.Assertions.*;
+
+
+class CffuCollectorsTest {
+    @Test
+    void test_allResults() throws Exception {
+        final List<Integer> expected = IntStream.range(0, 1000).boxed().collect(Collectors.toList());
+        assertEquals(expected, expected.stream()
+                .map(CompletableFuture::completedFuture)
+                .collect(CffuCollectors.allResults()).get());
+        // parallel stream keeps the encounter order
+        assertEquals(expected, expected.parallelStream()
+                .map(i -> CompletableFuture.supplyAsync(() -> i, testExecutor))
+                .collect(CffuCollectors.allResultsFailFast()).get());
+
+        assertEquals(Collections.emptyList(), Stream.<CompletableFuture<Integer>>empty()
+                .collect(CffuCollectors.allResults()).get());
+        assertSame(rte, assertThrowsExactly(ExecutionException.class, () -> Stream.of(incompleteCf(), failedFuture(rte))
+                .collect(CffuCollectors.allResultsFailFast()).get()).getCause());
+    }
+
+    @Test
+    void test_successResults() throws Exception {
+        assertEquals(Arrays.asList(n, anotherN), Stream.of(completedFuture(n), failedFuture(rte))
+                .collect(CffuCollectors.allSuccessResults(anotherN)).get());
+        assertEquals(Arrays.asList(n, anotherN), Stream.of(completedFuture(n), incompleteCf())
+                .collect(CffuCollectors.mostSuccessResults(anotherN, SHORT_WAIT_MS, MILLISECONDS)).get());
+        assertEquals(Arrays.asList(n, null), Stream.of(completedFuture(n), incompleteCf())
+                .collect(CffuCollectors.mostSuccessResults(testExecutor, null, SHORT_WAIT_MS, MILLISECONDS)).get());
+
+        assertEquals(n, Stream.of(failedFuture(rte), completedFuture(n))
+                .collect(CffuCollectors.anySuccess()).get());
+    }
+}
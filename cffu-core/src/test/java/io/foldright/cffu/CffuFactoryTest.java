@@ -9,12 +9,21 @@ import io.foldright.test_utils.TestUtils;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.condition.EnabledForJreRange;
 import org.junit.jupiter.api.condition.JRE;
+import org.junit.jupiter.api.io.TempDir;
 
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
 import java.util.function.Supplier;
 
 import static io.foldright.cffu.CompletableFutureUtils.failedFuture;
@@ -47,6 +56,20 @@ class CffuFactoryTest {
         assertFalse(cf.isDone());
     }
 
+    @Test
+    void test_broadcastOf() throws Exception {
+        final Cffu<Integer> broadcast = testCffuFac.newIncompleteBroadcastCffu();
+        final Cffu<Integer> dependent = broadcast.thenApply(v -> v + 1);
+        assertEquals(1, broadcast.getNumberOfDependents());
+        broadcast.complete(n);
+        assertEquals(n + 1, dependent.get());
+        assertSame(testCffuFac, dependent.cffuFactory());
+
+        final Cffu<Integer> cf = testCffuFac.broadcastOf(2, completedFuture(n));
+        assertEquals(n, cf.thenApplyAsync(identity()).get());
+        assertEquals(n, testCffuFac.broadcastOf(completedFuture(n)).get());
+    }
+
     // endregion
     ////////////////////////////////////////////////////////////////////////////////
     // region# Factory Methods
@@ -75,6 +98,123 @@ class CffuFactoryTest {
         }
     }
 
+    @Test
+    void test_maxConcurrency() throws Exception {
+        assertEquals(Integer.MAX_VALUE, testCffuFac.maxConcurrency());
+        final CffuFactory fac = testCffuFac.withMaxConcurrency(2);
+        assertEquals(2, fac.maxConcurrency());
+        assertSame(fac, fac.withMaxConcurrency(2));
+        assertEquals(2, fac.withDefaultExecutor(commonPool()).maxConcurrency());
+        assertEquals(3, CffuFactory.builder(testExecutor).maxConcurrency(3).build().maxConcurrency());
+        assertThrowsExactly(IllegalArgumentException.class, () -> testCffuFac.withMaxConcurrency(0));
+
+        final AtomicInteger running = new AtomicInteger();
+        final AtomicInteger maxRunning = new AtomicInteger();
+        final Supplier<Integer> supplier = () -> {
+            maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+            sleep(1);
+            running.decrementAndGet();
+            return n;
+        };
+        @SuppressWarnings("unchecked")
+        final Supplier<Integer>[] suppliers = new Supplier[20];
+        Arrays.fill(suppliers, supplier);
+
+        assertEquals(Collections.nCopies(20, n), fac.mSupplyAsync(suppliers).get());
+        assertEquals(Collections.nCopies(20, n), fac.mSupplyAllSuccessAsync(anotherN, suppliers).get());
+        assertEquals(Collections.nCopies(20, n), fac.mSupplyFailFastSalvageAsync(suppliers).get());
+        assertEquals(20, fac.mSupplySettledAsync(suppliers).get().size());
+        assertEquals(20, fac.mSupplyKSuccessAsync(20, suppliers).get().size());
+        @SuppressWarnings("unchecked")
+        final Function<Integer, Integer>[] fns = new Function[20];
+        Arrays.fill(fns, (Function<Integer, Integer>) x -> supplier.get() + x);
+        assertEquals(Collections.nCopies(20, anotherN + n), fac.completedFuture(anotherN).thenMApplyFailFastAsync(fns).get());
+        assertTrue(maxRunning.get() <= 2);
+    }
+
+    @Test
+    void test_mutableResults() throws Exception {
+        assertFalse(testCffuFac.mutableResults());
+        assertThrowsExactly(UnsupportedOperationException.class,
+                () -> testCffuFac.allResultsOf(completedFuture(n)).get().add(n));
+
+        final CffuFactory fac = CffuFactory.builder(testExecutor).mutableResults(true).build();
+        assertTrue(fac.mutableResults());
+        assertTrue(fac.withMaxConcurrency(2).withDefaultExecutor(commonPool()).mutableResults());
+
+        final List<Integer> results = fac.allSuccessResultsOf(null, completedFuture(n), failedFuture(rte)).get();
+        results.add(anotherN);
+        assertEquals(Arrays.asList(n, null, anotherN), results);
+        final List<Integer> supplied = fac.mSupplyAsync(() -> n).get();
+        supplied.add(anotherN);
+        assertEquals(Arrays.asList(n, anotherN), supplied);
+        final List<Integer> applied = fac.completedFuture(n).thenMApplyAsync(x -> x + 1).get();
+        applied.set(0, anotherN);
+        assertEquals(Collections.singletonList(anotherN), applied);
+        final List<IndexedResult<Integer>> quorum = fac.kSuccessOf(1, completedFuture(n)).get();
+        quorum.clear();
+        assertTrue(quorum.isEmpty());
+        assertThrowsExactly(UnsupportedOperationException.class,
+                () -> testCffuFac.kSuccessOf(1, completedFuture(n)).get().clear());
+    }
+
+    @Test
+    void test_pipelineOf() throws Exception {
+        final List<Integer> results = new ArrayList<>();
+        final Cffu<Void> pipeline = testCffuFac.pipelineInOrderOf(Arrays.asList(n, anotherN).iterator(), 1,
+                x -> testCffuFac.supplyAsync(() -> x + 1), r -> results.add(r.value()));
+        assertSame(testCffuFac, pipeline.cffuFactory());
+        assertNull(pipeline.get());
+        assertEquals(Arrays.asList(n + 1, anotherN + 1), results);
+
+        final List<Integer> completionOrder = new ArrayList<>();
+        assertNull(testCffuFac.pipelineOf(Arrays.asList(n, anotherN).iterator(), 2,
+                CompletableFuture::completedFuture, r -> completionOrder.add(r.index())).get());
+        assertEquals(Arrays.asList(0, 1), completionOrder);
+    }
+
+    @Test
+    @EnabledForJreRange(min = JRE.JAVA_21)
+    void test_virtualThreadBuilder() throws Exception {
+        final CffuFactory fac = CffuFactory.virtualThreadBuilder(100).build();
+        final Supplier<Boolean> blocking = () -> {
+            sleep(SHORT_WAIT_MS);
+            return LLCF.isVirtualThread(currentThread());
+        };
+        @SuppressWarnings("unchecked")
+        final Supplier<Boolean>[] suppliers = Collections.nCopies(1000, blocking).toArray(new Supplier[0]);
+
+        final long tick = System.currentTimeMillis();
+        assertEquals(Collections.nCopies(1000, true), fac.mSupplyAsync(suppliers).get());
+        // 1000 blocking actions with the cap 100, about 10 rounds of the blocking time
+        assertThat(System.currentTimeMillis() - tick).isLessThan(LONG_WAIT_MS);
+
+        assertTrue(CffuFactory.virtualThreadBuilder().build().supplyAsync(blocking).get());
+    }
+
+    @Test
+    void test_callerParticipates() throws Exception {
+        assertFalse(testCffuFac.callerParticipates());
+        final List<Runnable> parkedTasks = new ArrayList<>();
+        final CffuFactory fac = CffuFactory.builder(parkedTasks::add).callerParticipates(true).build();
+        assertTrue(fac.callerParticipates());
+        assertTrue(fac.withMaxConcurrency(2).callerParticipates());
+
+        final Supplier<Integer> supplier = () -> n;
+        assertEquals(Arrays.asList(n, n), fac.mSupplyAsync(supplier, supplier).getNow(null));
+        assertEquals(Tuple2.of(n, n), fac.mSupplyTupleAsync(supplier, supplier).getNow(null));
+        assertTrue(fac.mRunAsync(() -> {}, () -> {}).isDone());
+        assertEquals(3, parkedTasks.size());
+
+        // the caller-participating executor given to the methods or the builder of CffuFactory
+        parkedTasks.clear();
+        final Executor participating = CompletableFutureUtils.callerParticipating(parkedTasks::add);
+        assertEquals(Arrays.asList(n, n), testCffuFac.mSupplyAsync(participating, supplier, supplier).getNow(null));
+        assertEquals(Arrays.asList(n, n), CffuFactory.builder(participating).build()
+                .mSupplyAsync(supplier, supplier).getNow(null));
+        assertEquals(2, parkedTasks.size());
+    }
+
     @Test
     void test_mSupply() throws Exception {
         final Supplier<Integer> supplier = supplyLater(n);
@@ -318,6 +458,153 @@ class CffuFactoryTest {
         ).get());
     }
 
+    @Test
+    void test_kSuccessOf() throws Exception {
+        final Cffu<List<IndexedResult<Integer>>> quorum = testCffuFac.kSuccessOf(
+                1, new CompletableFuture<Integer>(), testCffuFac.completedFuture(n));
+        assertEquals(Collections.singletonList(new IndexedResult<>(1, n, null)), quorum.get());
+        assertSame(testCffuFac, quorum.cffuFactory());
+
+        assertEquals(Collections.emptyList(), testCffuFac.kSuccessOf(
+                1, SHORT_WAIT_MS, MILLISECONDS, new CompletableFuture<Integer>()).get());
+        assertEquals(Collections.singletonList(new IndexedResult<>(0, n, null)),
+                testCffuFac.mSupplyKSuccessAsync(1, () -> n).get());
+        assertEquals(Collections.singletonList(new IndexedResult<>(0, n, null)),
+                testCffuFac.mSupplyKSuccessAsync(testExecutor, 1, () -> n).get());
+    }
+
+    @Test
+    void test_allOf__collection() throws Exception {
+        final List<Cffu<Integer>> cfs = Arrays.asList(testCffuFac.completedFuture(n), testCffuFac.completedFuture(anotherN));
+        final Cffu<List<Integer>> all = testCffuFac.allResultsFailFastOf(cfs);
+        assertEquals(Arrays.asList(n, anotherN), all.get());
+        assertSame(testCffuFac, all.cffuFactory());
+
+        assertEquals(Arrays.asList(n, anotherN), testCffuFac.allResultsOf(cfs).get());
+        assertNull(testCffuFac.allFailFastOf(cfs).get());
+        assertEquals(n, testCffuFac.anySuccessOf(cfs.subList(0, 1)).get());
+        assertEquals(Arrays.asList(n, null), testCffuFac.allSuccessResultsOf(null,
+                Arrays.asList(completedFuture(n), failedFuture(rte))).get());
+        assertEquals(Arrays.asList(n, null), testCffuFac.mostSuccessResultsOf(null, SHORT_WAIT_MS, MILLISECONDS,
+                Arrays.asList(completedFuture(n), new CompletableFuture<Integer>())).get());
+    }
+
+    @Test
+    void test_allResultsOfArray() throws Exception {
+        final Cffu<Integer[]> all = testCffuFac.allResultsOfArray(Integer[]::new, completedFuture(n), completedFuture(anotherN));
+        assertArrayEquals(new Integer[]{n, anotherN}, all.get());
+        assertSame(testCffuFac, all.cffuFactory());
+        assertArrayEquals(new Integer[]{n}, testCffuFac.allResultsFailFastOfArray(Integer[]::new, completedFuture(n)).get());
+    }
+
+    @Test
+    void test_allPrimitiveResultsOf() throws Exception {
+        final Cffu<long[]> longs = testCffuFac.allLongResultsFailFastOf(
+                Integer::longValue, completedFuture(n), testCffuFac.completedFuture(anotherN));
+        assertArrayEquals(new long[]{n, anotherN}, longs.get());
+        assertSame(testCffuFac, longs.cffuFactory());
+
+        assertArrayEquals(new int[]{n}, testCffuFac.allIntResultsOf(Integer::intValue, completedFuture(n)).get());
+        assertArrayEquals(new double[]{d, -1}, testCffuFac.mostSuccessDoubleResultsOf(-1, SHORT_WAIT_MS, MILLISECONDS,
+                Double::doubleValue, completedFuture(d), new CompletableFuture<Double>()).get());
+    }
+
+    @Test
+    void test_allReduceOf() throws Exception {
+        final Cffu<Integer> sum = testCffuFac.allReduceFailFastOf(
+                () -> 0, (Integer acc, Integer r) -> acc + r, Integer::sum,
+                completedFuture(n), testCffuFac.completedFuture(anotherN));
+        assertEquals(n + anotherN, sum.get());
+        assertSame(testCffuFac, sum.cffuFactory());
+
+        assertEquals(n, testCffuFac.allSuccessReduceOf(() -> 0, (Integer acc, Integer r) -> acc + r, Integer::sum,
+                completedFuture(n), failedFuture(rte)).get());
+        assertEquals(n, testCffuFac.mostSuccessReduceOf(SHORT_WAIT_MS, MILLISECONDS,
+                () -> 0, (Integer acc, Integer r) -> acc + r, Integer::sum,
+                completedFuture(n), new CompletableFuture<Integer>()).get());
+    }
+
+    @Test
+    void test_allResultsSpilledOf(@TempDir Path dir) throws Exception {
+        final SpillOptions<String> spill = SpillOptions.of(new SpillCodec<String>() {
+            @Override
+            public void write(String value, DataOutput out) throws IOException {
+                out.writeUTF(value);
+            }
+
+            @Override
+            public String read(DataInput in) throws IOException {
+                return in.readUTF();
+            }
+        }, 0, dir);
+
+        final Cffu<SpilledResultList<String>> all = testCffuFac.allResultsSpilledOf(spill,
+                completedFuture(s), testCffuFac.completedFuture("S4242"));
+        assertSame(testCffuFac, all.cffuFactory());
+        try (SpilledResultList<String> results = all.get()) {
+            assertTrue(results.isSpilled());
+            assertEquals(Arrays.asList(s, "S4242"), results);
+        }
+
+        assertEquals(Arrays.asList(s, null), testCffuFac.allSuccessResultsSpilledOf(spill, null,
+                completedFuture(s), failedFuture(rte)).get());
+        assertEquals(Arrays.asList(s, ""), testCffuFac.mostSuccessResultsSpilledOf(spill, "", SHORT_WAIT_MS, MILLISECONDS,
+                completedFuture(s), new CompletableFuture<String>()).get());
+        assertEquals(Arrays.asList(s, ""), testCffuFac.mSupplyAllSuccessSpilledAsync(spill, "", () -> s, () -> {
+            throw rte;
+        }).get());
+    }
+
+    @Test
+    void test_allResultsOfMap() throws Exception {
+        final Map<String, CompletableFuture<Integer>> cfs = new HashMap<>();
+        cfs.put("a", completedFuture(n));
+        cfs.put("b", failedFuture(rte));
+        final Cffu<KeyedResults<String, Integer>> cf = testCffuFac.allSuccessResultsOfMap(cfs);
+        assertEquals(Collections.singletonMap("a", n), cf.get().results());
+        assertEquals(Collections.singleton("b"), cf.get().missingKeys());
+        assertSame(testCffuFac, cf.cffuFactory());
+
+        assertSame(rte, assertThrowsExactly(ExecutionException.class, () ->
+                testCffuFac.allResultsFailFastOfMap(cfs).get()).getCause());
+        cfs.put("b", new CompletableFuture<>());
+        assertEquals(Collections.singleton("b"),
+                testCffuFac.mostSuccessResultsOfMap(SHORT_WAIT_MS, MILLISECONDS, cfs).get().missingKeys());
+        cfs.remove("b");
+        assertEquals(Collections.singletonMap("a", n), testCffuFac.allResultsOfMap(cfs).get());
+    }
+
+    @Test
+    void test_allResultsFailFastSalvageOf() throws Exception {
+        final Supplier<Integer> failed = () -> {
+            throw rte;
+        };
+        final PartialResultsException partial = (PartialResultsException) assertThrowsExactly(ExecutionException.class, () ->
+                testCffuFac.mSupplyFailFastSalvageAsync(() -> n, failed).get()).getCause();
+        assertSame(rte, partial.getCause());
+
+        final Cffu<List<Integer>> retried = testCffuFac.retryFailedAsync(partial, () -> n, () -> anotherN);
+        assertEquals(Arrays.asList(n, anotherN), retried.get());
+        assertSame(testCffuFac, retried.cffuFactory());
+        assertEquals(Arrays.asList(n, anotherN),
+                testCffuFac.allResultsFailFastSalvageOf(completedFuture(n), completedFuture(anotherN)).get());
+    }
+
+    @Test
+    void test_allSettledOf() throws Exception {
+        final Cffu<List<Try<Integer>>> cf = testCffuFac.allSettledOf(completedFuture(n), failedFuture(rte));
+        assertEquals(Arrays.asList(Try.success(n), Try.failure(rte)), cf.get());
+        assertSame(testCffuFac, cf.cffuFactory());
+
+        assertEquals(Arrays.asList(Try.success(n), Try.failure(rte)), testCffuFac.mSupplySettledAsync(() -> n, () -> {
+            throw rte;
+        }).get());
+        assertEquals(Tuple2.of(Try.success(n), Try.failure(rte)),
+                testCffuFac.allSettledTupleOf(completedFuture(n), failedFuture(rte)).get());
+        assertEquals(Collections.singletonMap("a", Try.failure(rte)),
+                testCffuFac.allSettledOfMap(Collections.singletonMap("a", failedFuture(rte))).get());
+    }
+
     // endregion
     ////////////////////////////////////////////////////////////////////////////////
     // region## anyOf* Methods
@@ -628,6 +915,23 @@ class CffuFactoryTest {
         ).get());
     }
 
+    @Test
+    void test_mostSuccessResultsPerInputOf() throws Exception {
+        final Cffu<Integer> completed = testCffuFac.completedFuture(n);
+        final Cffu<Integer> failed = testCffuFac.failedFuture(rte);
+        final Cffu<Integer> incomplete = testCffuFac.toCffu(incompleteCf());
+
+        assertEquals(Arrays.asList(n, -1, -2), testCffuFac.mostSuccessResultsPerInputOf(
+                i -> SHORT_WAIT_MS, MILLISECONDS, i -> -i, completed, failed, incomplete
+        ).get());
+        assertEquals(Tuple2.of(null, n), testCffuFac.mostSuccessTuplePerInputOf(
+                i -> SHORT_WAIT_MS, MILLISECONDS, incomplete, completed
+        ).get());
+        assertEquals(Tuple5.of(n, null, null, n, n), testCffuFac.mostSuccessTuplePerInputOf(
+                i -> SHORT_WAIT_MS, MILLISECONDS, completed, failed, incomplete, completed, completed
+        ).get());
+    }
+
     @Test
     void test_allTupleOf() throws Exception {
         assertEquals(Tuple2.of(n, s), testCffuFac.allTupleOf(
@@ -706,6 +1010,20 @@ class CffuFactoryTest {
         ).getCause());
     }
 
+    @Test
+    void test_allCombineOf() throws Exception {
+        final Cffu<String> failFast = testCffuFac.allCombineFailFastOf(
+                completedFuture(n), testCffuFac.completedFuture(s), (v1, v2) -> v1 + v2);
+        assertEquals(n + s, failFast.get());
+        assertSame(testCffuFac, failFast.cffuFactory());
+
+        assertEquals(n + "null", testCffuFac.allSuccessCombineOf(
+                completedFuture(n), failedFuture(rte), (v1, v2) -> v1 + "" + v2).get());
+        assertEquals(n + s + "null", testCffuFac.mostSuccessCombineOf(SHORT_WAIT_MS, MILLISECONDS,
+                completedFuture(n), completedFuture(s), new CompletableFuture<Integer>(), (v1, v2, v3) -> v1 + v2 + v3
+        ).get());
+    }
+
     // endregion
     ////////////////////////////////////////////////////////////////////////////////
     // region## Immediate Value Argument Factory Methods
@@ -6,12 +6,34 @@ import io.foldright.cffu.tuple.Tuple4;
 import io.foldright.cffu.tuple.Tuple5;
 import io.foldright.test_utils.TestUtils;
 import org.junit.jupiter.api.Test;
-
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.condition.EnabledOnOs;
+import org.junit.jupiter.api.condition.JRE;
+import org.junit.jupiter.api.condition.OS;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.lang.ref.WeakReference;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.RandomAccess;
+import java.util.Set;
 import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
@@ -19,6 +41,7 @@ import java.util.function.Function;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 import static io.foldright.cffu.CffuTestHelper.assertIsCfDefaultExecutor;
 import static io.foldright.cffu.CompletableFutureUtils.*;
@@ -133,6 +156,119 @@ class CompletableFutureUtilsTest {
         }
     }
 
+    @Test
+    void test_mSupply_mRun_thenMApply__maxConcurrency() throws Exception {
+        final AtomicInteger running = new AtomicInteger();
+        final AtomicInteger maxRunning = new AtomicInteger();
+        final int count = 50;
+
+        @SuppressWarnings("unchecked")
+        final Supplier<Integer>[] suppliers = new Supplier[count];
+        for (int i = 0; i < count; i++) {
+            final int idx = i;
+            suppliers[i] = () -> {
+                maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                sleep(1);
+                running.decrementAndGet();
+                return idx;
+            };
+        }
+        final List<Integer> expected = IntStream.range(0, count).boxed().collect(Collectors.toList());
+
+        assertEquals(expected, mSupplyFailFastAsync(testExecutor, 3, suppliers).get());
+        assertTrue(maxRunning.get() <= 3);
+        assertEquals(expected, mSupplyAllSuccessAsync(testExecutor, anotherN, 3, suppliers).get());
+        assertEquals(expected, mSupplyMostSuccessAsync(testExecutor, anotherN, LONG_WAIT_MS, MILLISECONDS, 3, suppliers).get());
+        assertEquals(expected, mSupplyAsync(testExecutor, 3, suppliers).get());
+        assertEquals(expected, mSupplyFailFastSalvageAsync(testExecutor, 3, suppliers).get());
+        assertEquals(expected, mSupplySettledAsync(testExecutor, 3, suppliers).get().stream()
+                .map(Try::value).collect(Collectors.toList()));
+        assertEquals(count, mSupplyKSuccessAsync(testExecutor, count, 3, suppliers).get().size());
+        assertTrue(maxRunning.get() <= 3);
+
+        maxRunning.set(0);
+        final Runnable[] actions = new Runnable[count];
+        Arrays.fill(actions, (Runnable) () -> suppliers[0].get());
+        assertNull(mRunFailFastAsync(testExecutor, 2, actions).get());
+        assertNull(mRunAsync(testExecutor, 2, actions).get());
+        assertTrue(maxRunning.get() <= 2);
+
+        maxRunning.set(0);
+        @SuppressWarnings("unchecked")
+        final Function<Integer, Integer>[] fns = new Function[count];
+        Arrays.fill(fns, (Function<Integer, Integer>) x -> suppliers[0].get() + x);
+        final List<Integer> results = Collections.nCopies(count, n);
+        assertEquals(results, thenMApplyFailFastAsync(completedFuture(n), testExecutor, 2, fns).get());
+        assertEquals(results, thenMApplyAllSuccessAsync(completedFuture(n), testExecutor, anotherN, 2, fns).get());
+        assertEquals(results, thenMApplyMostSuccessAsync(
+                completedFuture(n), testExecutor, anotherN, LONG_WAIT_MS, MILLISECONDS, 2, fns).get());
+        assertEquals(results, thenMApplyAsync(completedFuture(n), testExecutor, 2, fns).get());
+        assertTrue(maxRunning.get() <= 2);
+
+        // the any* fan-outs complete without waiting the remaining actions, so run them after the checks of maxRunning
+        assertTrue(expected.contains(mSupplyAnySuccessAsync(testExecutor, 3, suppliers).get()));
+        assertTrue(expected.contains(mSupplyAnyAsync(testExecutor, 3, suppliers).get()));
+        assertNull(mRunAnySuccessAsync(testExecutor, 2, actions).get());
+        assertNull(mRunAnyAsync(testExecutor, 2, actions).get());
+        assertEquals(n, thenMApplyAnySuccessAsync(completedFuture(n), testExecutor, 2, fns).get());
+        assertEquals(n, thenMApplyAnyAsync(completedFuture(n), testExecutor, 2, fns).get());
+
+        // failure of a supplier
+        assertSame(rte, assertThrowsExactly(ExecutionException.class, () -> mSupplyFailFastAsync(
+                testExecutor, 1, () -> n, () -> {
+                    throw rte;
+                }, () -> anotherN).get()).getCause());
+
+        // same-thread executor, the stack does not grow with the count of suppliers
+        final int bigCount = 100_000;
+        @SuppressWarnings("unchecked")
+        final Supplier<Integer>[] bigSuppliers = new Supplier[bigCount];
+        Arrays.fill(bigSuppliers, (Supplier<Integer>) () -> n);
+        assertEquals(Collections.nCopies(bigCount, n), mSupplyAsync(Runnable::run, 2, bigSuppliers).get());
+
+        assertThrowsExactly(IllegalArgumentException.class, () -> mSupplyAsync(testExecutor, 0, suppliers));
+    }
+
+    @Test
+    void test_mSupply_mRun__callerParticipating() throws Exception {
+        // the executor never runs the submitted tasks, so all actions are run by the calling thread
+        final List<Runnable> parkedTasks = new ArrayList<>();
+        final Executor parking = callerParticipating(parkedTasks::add);
+        assertSame(parking, callerParticipating(parking));
+
+        final Thread caller = currentThread();
+        final Supplier<Integer> supplier = () -> {
+            assertSame(caller, currentThread());
+            return n;
+        };
+        final CompletableFuture<List<Integer>> cf = mSupplyAsync(parking, supplier, supplier, supplier);
+        assertEquals(Arrays.asList(n, n, n), cf.getNow(null));
+        assertEquals(2, parkedTasks.size());
+        // the parked tasks find no not-started actions
+        parkedTasks.forEach(Runnable::run);
+
+        assertEquals(Arrays.asList(n, n), mSupplyFailFastAsync(parking, 2, supplier, supplier).getNow(null));
+        assertEquals(Tuple2.of(n, n), mSupplyTupleAsync(parking, supplier, supplier).getNow(null));
+        assertEquals(n, mSupplyAnySuccessAsync(parking, supplier, supplier).getNow(null));
+        final AtomicInteger runCount = new AtomicInteger();
+        assertTrue(mRunAsync(parking, runCount::incrementAndGet, runCount::incrementAndGet).isDone());
+        assertEquals(2, runCount.get());
+        assertSame(rte, assertThrowsExactly(ExecutionException.class, () -> mSupplyFailFastAsync(parking, () -> {
+            throw rte;
+        }).get()).getCause());
+
+        // the actions are shared by the calling thread and the executor
+        final Set<Thread> threads = Collections.synchronizedSet(new HashSet<>());
+        final Supplier<Integer> slow = () -> {
+            threads.add(currentThread());
+            sleep(SHORT_WAIT_MS);
+            return n;
+        };
+        assertEquals(Collections.nCopies(6, n), mSupplyAsync(callerParticipating(testExecutor),
+                slow, slow, slow, slow, slow, slow).get());
+        assertTrue(threads.contains(caller));
+    }
+
     // endregion
     // region## Multi-Actions-Tuple(MTuple*) Methods(create by actions)
 
@@ -542,6 +678,44 @@ class CompletableFutureUtilsTest {
         );
     }
 
+    @Test
+    void test_allOf_methods__many_inputs_completed_concurrently() throws Exception {
+        final int count = 1000;
+        final List<CompletableFuture<Integer>> inputs = IntStream.range(0, count)
+                .mapToObj(i -> new CompletableFuture<Integer>()).collect(Collectors.toList());
+        @SuppressWarnings("unchecked")
+        final CompletableFuture<Integer>[] cfs = inputs.toArray(new CompletableFuture[0]);
+
+        final CompletableFuture<List<Integer>> all = allResultsOf(cfs);
+        final CompletableFuture<List<Integer>> allFailFast = allResultsFailFastOf(cfs);
+        final CompletableFuture<List<Integer>> allSuccess = allSuccessResultsOf(anotherN, cfs);
+
+        // complete the inputs in reverse order by other threads
+        final CompletableFuture<?>[] completers = IntStream.range(0, count).mapToObj(i -> CompletableFuture.runAsync(() -> {
+            final int idx = count - 1 - i;
+            if (idx == count / 2) inputs.get(idx).completeExceptionally(rte);
+            else inputs.get(idx).complete(idx);
+        }, testExecutor)).toArray(CompletableFuture[]::new);
+        CompletableFuture.allOf(completers).get();
+
+        final List<Integer> expected = IntStream.range(0, count)
+                .mapToObj(i -> i == count / 2 ? anotherN : i).collect(Collectors.toList());
+        assertEquals(expected, allSuccess.get());
+        assertSame(rte, assertThrowsExactly(ExecutionException.class, all::get).getCause());
+        assertSame(rte, assertThrowsExactly(ExecutionException.class, allFailFast::get).getCause());
+
+        // fail-fast, WITHOUT waiting other incomplete inputs
+        final CompletableFuture<Integer> incomplete = incompleteCf();
+        final CompletableFuture<Integer> failed = new CompletableFuture<>();
+        final CompletableFuture<List<Integer>> failFast = allResultsFailFastOf(incomplete, completedFuture(n), failed);
+        final CompletableFuture<Tuple2<Integer, Integer>> tupleFailFast = allTupleFailFastOf(incomplete, failed);
+        assertFalse(failFast.isDone());
+        failed.completeExceptionally(rte);
+        assertSame(rte, assertThrowsExactly(ExecutionException.class, failFast::get).getCause());
+        assertSame(rte, assertThrowsExactly(ExecutionException.class, tupleFailFast::get).getCause());
+        assertSame(rte, unwrapCfException(assertThrowsExactly(CompletionException.class, failFast::join)));
+    }
+
     @Test
     void test_mostOf() throws Exception {
         final CompletableFuture<Integer> completed = completedFuture(n);
@@ -584,6 +758,38 @@ class CompletableFutureUtilsTest {
         ).get());
     }
 
+    @Test
+    void test_mostOf__one_callback_per_input() throws Exception {
+        final CompletableFuture<Integer> incomplete1 = incompleteCf();
+        final CompletableFuture<Integer> incomplete2 = incompleteCf();
+        final CompletableFuture<Integer> incomplete3 = incompleteCf();
+
+        final CompletableFuture<List<Integer>> ret = mostSuccessResultsOf(
+                anotherN, LONG_WAIT_MS, MILLISECONDS, incomplete1, incomplete2, incomplete3);
+        final CompletableFuture<Tuple3<Integer, Integer, Integer>> tuple = mostSuccessTupleOf(
+                SHORT_WAIT_MS, MILLISECONDS, incomplete1, incomplete2, incomplete3);
+        // no defensive copies of inputs, only one callback per input for each method
+        assertEquals(2, incomplete1.getNumberOfDependents());
+
+        incomplete1.complete(n);
+        incomplete2.completeExceptionally(rte);
+        assertEquals(Tuple3.of(n, null, null), tuple.get());
+        assertFalse(ret.isDone());
+
+        // the result list is assembled when all inputs complete, before timeout
+        incomplete3.complete(n);
+        assertEquals(Arrays.asList(n, anotherN, n), ret.get(SHORT_WAIT_MS, MILLISECONDS));
+
+        // the input completed after timeout does not change the assembled results
+        final CompletableFuture<Integer> incomplete = incompleteCf();
+        final CompletableFuture<List<Integer>> timeout = mostSuccessResultsOf(
+                anotherN, SHORT_WAIT_MS, MILLISECONDS, completedFuture(n), incomplete);
+        final List<Integer> results = timeout.get();
+        incomplete.complete(n);
+        assertEquals(Arrays.asList(n, anotherN), results);
+        assertEquals(Arrays.asList(n, anotherN), timeout.get());
+    }
+
     @Test
     void test_mostOf_wontModifyInputCf() throws Exception {
         final CompletableFuture<Integer> incomplete = incompleteCf();
@@ -600,6 +806,535 @@ class CompletableFutureUtilsTest {
         assertEquals(CffuState.RUNNING, state(incomplete2));
     }
 
+    @Test
+    void test_allOf_anySuccessOf__sync_fast_path_for_done_inputs() throws Exception {
+        final AtomicInteger callbacks = new AtomicInteger();
+        final CompletableFuture<Integer> done = new CompletableFuture<Integer>() {
+            @Override
+            public CompletableFuture<Integer> whenComplete(BiConsumer<? super Integer, ? super Throwable> action) {
+                callbacks.incrementAndGet();
+                return super.whenComplete(action);
+            }
+        };
+        done.complete(n);
+
+        // all inputs are complete: completed on the calling thread without any callbacks
+        assertEquals(Arrays.asList(n, n), allResultsOf(done, done).getNow(null));
+        assertEquals(Arrays.asList(n, n), allResultsFailFastOf(done, done).getNow(null));
+        assertEquals(Arrays.asList(n, anotherN), allSuccessResultsOf(anotherN, done, failedFuture(rte)).getNow(null));
+        assertEquals(Tuple2.of(n, n), allTupleFailFastOf(done, done).getNow(null));
+        assertEquals(Tuple3.of(n, null, n), mostSuccessTupleOf(LONG_WAIT_MS, MILLISECONDS, done, failedFuture(rte), done)
+                .getNow(null));
+        assertEquals(n, anySuccessOf(failedFuture(rte), done).getNow(null));
+        assertTrue(allFailFastOf(done, done).isDone());
+        assertEquals(0, callbacks.get());
+
+        // the leftmost failure, same as the callback path
+        assertSame(rte, assertThrowsExactly(ExecutionException.class, () ->
+                allResultsOf(done, failedFuture(rte), failedFuture(anotherRte)).get()).getCause());
+        assertSame(rte, assertThrowsExactly(ExecutionException.class, () ->
+                allTupleOf(done, failedFuture(rte), failedFuture(anotherRte)).get()).getCause());
+        assertSame(rte, assertThrowsExactly(ExecutionException.class, () ->
+                anySuccessOf(failedFuture(rte), failedFuture(anotherRte)).get()).getCause());
+        assertSame(rte, assertThrowsExactly(ExecutionException.class, () ->
+                allOf(done, failedFuture(rte), failedFuture(anotherRte)).get()).getCause());
+        assertInstanceOf(CancellationException.class, assertThrowsExactly(ExecutionException.class, () ->
+                allResultsOf(done, cancelledFuture()).get()).getCause());
+        assertTrue(allOf(done, completedFuture(anotherN)).isDone());
+
+        // the outcome is already decided: no callbacks registered to the incomplete inputs
+        final CompletableFuture<Integer> incomplete = incompleteCf();
+        assertSame(rte, assertThrowsExactly(ExecutionException.class, () ->
+                allResultsFailFastOf(incomplete, failedFuture(rte)).get()).getCause());
+        assertSame(rte, assertThrowsExactly(ExecutionException.class, () ->
+                allFailFastOf(incomplete, failedFuture(rte)).get()).getCause());
+        assertSame(rte, assertThrowsExactly(ExecutionException.class, () ->
+                allTupleFailFastOf(incomplete, failedFuture(rte)).get()).getCause());
+        assertEquals(n, anySuccessOf(incomplete, failedFuture(rte), done).get());
+        assertEquals(0, incomplete.getNumberOfDependents());
+        assertEquals(0, callbacks.get());
+
+        // minimal-stage inputs are not read synchronously
+        assertEquals(Arrays.asList(n, n), allResultsOf(done, completedStage(n)).get());
+    }
+
+    @Test
+    void test_allOf_methods__collection() throws Exception {
+        final List<CompletableFuture<Integer>> cfs = Arrays.asList(completedFuture(n), completedFuture(anotherN));
+        assertEquals(Arrays.asList(n, anotherN), allResultsFailFastOf(cfs).get());
+        assertEquals(Arrays.asList(n, anotherN), allResultsOf(cfs).get());
+        assertNull(allFailFastOf(cfs).get());
+        assertEquals(n, anySuccessOf(Arrays.asList(failedFuture(rte), completedFuture(n))).get());
+
+        final List<CompletionStage<Integer>> mixed = Arrays.asList(completedFuture(n), failedFuture(rte), incompleteCf());
+        assertEquals(Arrays.asList(n, anotherN), allSuccessResultsOf(anotherN, mixed.subList(0, 2)).get());
+        assertEquals(Arrays.asList(n, anotherN, anotherN),
+                mostSuccessResultsOf(anotherN, SHORT_WAIT_MS, MILLISECONDS, mixed).get());
+        assertEquals(Arrays.asList(n, null, null),
+                mostSuccessResultsOf(testExecutor, null, SHORT_WAIT_MS, MILLISECONDS, mixed).get());
+
+        // single and empty input
+        assertEquals(Collections.singletonList(n), allResultsOf(Collections.singleton(completedFuture(n))).get());
+        assertEquals(Collections.emptyList(), allResultsFailFastOf(Collections.<CompletableFuture<Integer>>emptyList()).get());
+        assertInstanceOf(NoCfsProvidedException.class, assertThrowsExactly(ExecutionException.class,
+                () -> anySuccessOf(Collections.<CompletableFuture<Integer>>emptySet()).get()).getCause());
+
+        // null check
+        assertEquals("cfs is null", assertThrowsExactly(NullPointerException.class,
+                () -> allResultsOf((List<CompletableFuture<Integer>>) null)).getMessage());
+        assertEquals("cf2 is null", assertThrowsExactly(NullPointerException.class,
+                () -> allFailFastOf(Arrays.asList(completedFuture(n), null))).getMessage());
+    }
+
+    @Test
+    void test_allResultsOf__result_list() throws Exception {
+        final List<Integer> results = allResultsOf(completedFuture(n), completedFuture(anotherN)).get();
+        assertEquals(Arrays.asList(n, anotherN), results);
+        assertInstanceOf(RandomAccess.class, results);
+        assertThrowsExactly(UnsupportedOperationException.class, () -> results.add(n));
+        assertThrowsExactly(UnsupportedOperationException.class, () -> results.set(0, n));
+        assertThrowsExactly(UnsupportedOperationException.class,
+                () -> allResultsFailFastOf(completedFuture(n)).get().add(n));
+    }
+
+    @Test
+    void test_allResultsOfArray() throws Exception {
+        final CompletableFuture<Integer> incomplete = incompleteCf();
+        final CompletableFuture<Integer[]> all = allResultsOfArray(Integer[]::new, incomplete, completedFuture(anotherN));
+        final CompletableFuture<Integer[]> failFast =
+                allResultsFailFastOfArray(Integer[]::new, incomplete, completedFuture(anotherN));
+        assertFalse(all.isDone());
+        incomplete.complete(n);
+        assertArrayEquals(new Integer[]{n, anotherN}, all.get());
+        assertArrayEquals(new Integer[]{n, anotherN}, failFast.get());
+
+        assertArrayEquals(new String[]{s}, allResultsOfArray(String[]::new, completedFuture(s)).get());
+        assertArrayEquals(new String[0], allResultsFailFastOfArray(String[]::new).get());
+
+        // the exception of the leftmost failed input wins, same as allResultsOf
+        final CompletableFuture<Integer> failLater = incompleteCf();
+        final CompletableFuture<Integer[]> failed = allResultsOfArray(Integer[]::new, failLater, failedFuture(anotherRte));
+        failLater.completeExceptionally(rte);
+        assertSame(rte, assertThrowsExactly(ExecutionException.class, failed::get).getCause());
+        assertSame(rte, assertThrowsExactly(ExecutionException.class, () -> allResultsFailFastOfArray(
+                Integer[]::new, incompleteCf(), failedFuture(rte)).get()).getCause());
+
+        assertThrowsExactly(IllegalStateException.class,
+                () -> allResultsOfArray(i -> new Integer[0], completedFuture(n)));
+    }
+
+    @Test
+    void test_allPrimitiveResultsOf() throws Exception {
+        final CompletableFuture<Long> incomplete = incompleteCf();
+        final CompletableFuture<Long> another = incompleteCf();
+        final CompletableFuture<long[]> longs = allLongResultsOf(Long::longValue, incomplete, another);
+        final CompletableFuture<long[]> failFastLongs = allLongResultsFailFastOf(Long::longValue, incomplete, another);
+        // only one callback per input
+        assertEquals(2, incomplete.getNumberOfDependents());
+        another.complete(2L);
+        incomplete.complete(1L);
+        assertArrayEquals(new long[]{1, 2}, longs.get());
+        assertArrayEquals(new long[]{1, 2}, failFastLongs.get());
+
+        assertArrayEquals(new long[0], allLongResultsOf(Long::longValue).get());
+        assertArrayEquals(new int[]{n, anotherN}, allIntResultsFailFastOf(
+                Integer::intValue, completedFuture(n), completedStage(anotherN)).get());
+        assertArrayEquals(new double[]{d, n}, allDoubleResultsOf(
+                Number::doubleValue, completedFuture(d), completedFuture(n)).get());
+
+        // fail-fast
+        assertSame(rte, assertThrowsExactly(ExecutionException.class, () -> allLongResultsFailFastOf(
+                Long::longValue, incompleteCf(), failedFuture(rte)).get()
+        ).getCause());
+        // not fail-fast: the ex of the leftmost failed input wins; the exception of extractor fails the input
+        final CompletableFuture<Integer> failLater = incompleteCf();
+        final CompletableFuture<int[]> ints = allIntResultsOf(
+                Integer::intValue, failLater, failedFuture(anotherRte), completedFuture(null));
+        assertFalse(ints.isDone());
+        failLater.completeExceptionally(rte);
+        assertSame(rte, assertThrowsExactly(ExecutionException.class, ints::get).getCause());
+        assertInstanceOf(NullPointerException.class, assertThrowsExactly(ExecutionException.class,
+                () -> allIntResultsOf(Integer::intValue, completedFuture(n), completedFuture(null)).get()
+        ).getCause());
+
+        // most-success
+        assertArrayEquals(new long[]{1, -1, -1, 4}, mostSuccessLongResultsOf(-1, SHORT_WAIT_MS, MILLISECONDS,
+                Long::longValue, completedFuture(1L), incompleteCf(), failedFuture(rte), completedFuture(4L)).get());
+        assertArrayEquals(new double[]{d, 0.5}, mostSuccessDoubleResultsOf(testExecutor, 0.5, SHORT_WAIT_MS, MILLISECONDS,
+                Double::doubleValue, completedFuture(d), incompleteCf()).get());
+        assertArrayEquals(new int[]{n, 0}, mostSuccessIntResultsOf(0, LONG_WAIT_MS, MILLISECONDS,
+                Integer::intValue, completedFuture(n), failedFuture(rte)).get(SHORT_WAIT_MS, MILLISECONDS));
+    }
+
+    @Test
+    void test_allReduceOf() throws Exception {
+        final int count = 10_000;
+        @SuppressWarnings("unchecked")
+        final CompletableFuture<Integer>[] cfs = new CompletableFuture[count];
+        for (int i = 0; i < count; i++) cfs[i] = new CompletableFuture<>();
+        final CompletableFuture<Long> sum = allReduceFailFastOf(() -> 0L, (acc, r) -> acc + r, Long::sum, cfs);
+        final CompletableFuture<Long> successSum = allSuccessReduceOf(() -> 0L, (acc, r) -> acc + r, Long::sum, cfs);
+        // only one callback per input
+        assertEquals(2, cfs[0].getNumberOfDependents());
+        final List<Integer> order = IntStream.range(0, count).boxed().collect(Collectors.toList());
+        Collections.shuffle(order);
+        order.parallelStream().forEach(i -> cfs[i].complete(i));
+        final long expected = (long) count * (count - 1) / 2;
+        assertEquals(expected, sum.get());
+        assertEquals(expected, successSum.get());
+
+        assertEquals(n, allReduceFailFastOf(() -> n, (Integer acc, Integer r) -> acc + r, Integer::sum).get());
+        assertEquals(n, allSuccessReduceOf(() -> n, (Integer acc, Integer r) -> acc + r, Integer::sum).get());
+
+        // fail-fast
+        assertSame(rte, assertThrowsExactly(ExecutionException.class, () -> allReduceFailFastOf(
+                () -> 0, (Integer acc, Integer r) -> acc + r, Integer::sum, incompleteCf(), failedFuture(rte)).get()
+        ).getCause());
+        // all-success: the failed inputs are skipped
+        assertEquals(n + anotherN, allSuccessReduceOf(() -> 0, (Integer acc, Integer r) -> acc + r, Integer::sum,
+                completedFuture(n), failedFuture(rte), completedFuture(anotherN)).get());
+        // the exception of the accumulator fails the output
+        assertSame(anotherRte, assertThrowsExactly(ExecutionException.class, () -> allSuccessReduceOf(
+                () -> 0, (Integer acc, Integer r) -> {
+                    throw anotherRte;
+                }, Integer::sum, completedFuture(n)).get()
+        ).getCause());
+
+        // most-success
+        assertEquals(n + anotherN, mostSuccessReduceOf(SHORT_WAIT_MS, MILLISECONDS,
+                () -> 0, (Integer acc, Integer r) -> acc + r, Integer::sum,
+                completedFuture(n), incompleteCf(), failedFuture(rte), completedFuture(anotherN)).get());
+        assertEquals(n, mostSuccessReduceOf(testExecutor, LONG_WAIT_MS, MILLISECONDS,
+                () -> 0, (Integer acc, Integer r) -> acc + r, Integer::sum,
+                completedFuture(n), failedFuture(rte)).get(SHORT_WAIT_MS, MILLISECONDS));
+    }
+
+    @Test
+    void test_allReduceOf__mutableContainer() throws Exception {
+        final int count = 10_000;
+        @SuppressWarnings("unchecked")
+        final CompletableFuture<Integer>[] cfs = new CompletableFuture[count];
+        for (int i = 0; i < count; i++) cfs[i] = new CompletableFuture<>();
+        // merge the results into maps, each stripe has its own map
+        final CompletableFuture<Map<Integer, Integer>> merged = allReduceFailFastOf(HashMap::new, (m, r) -> {
+            m.put(r, r);
+            return m;
+        }, (m1, m2) -> {
+            m1.putAll(m2);
+            return m1;
+        }, cfs);
+        final List<Integer> order = IntStream.range(0, count).boxed().collect(Collectors.toList());
+        Collections.shuffle(order);
+        order.parallelStream().forEach(i -> cfs[i].complete(i));
+
+        final Map<Integer, Integer> result = merged.get();
+        assertEquals(count, result.size());
+        for (int i = 0; i < count; i++) assertEquals(i, result.get(i));
+
+        // a new container for the empty inputs
+        assertEquals(new HashMap<>(), allSuccessReduceOf(HashMap::new, (Map<Integer, Integer> m, Integer r) -> m,
+                (m1, m2) -> m1).get());
+    }
+
+    @Test
+    void test_allResultsSpilledOf(@TempDir Path dir) throws Exception {
+        final SpillCodec<Integer> codec = INT_CODEC;
+        // spill every 4 results
+        final SpillOptions<Integer> spill = SpillOptions.of(codec, 16, dir);
+
+        final int count = 1000;
+        final List<CompletableFuture<Integer>> cfs = new ArrayList<>();
+        for (int i = 0; i < count; i++) cfs.add(new CompletableFuture<>());
+        final CompletableFuture<SpilledResultList<Integer>> all = allResultsSpilledOf(spill, cfs);
+        final List<Integer> order = IntStream.range(0, count).boxed().collect(Collectors.toList());
+        Collections.shuffle(order);
+        order.parallelStream().forEach(i -> cfs.get(i).complete(i == 42 ? null : i));
+        try (SpilledResultList<Integer> results = all.get()) {
+            assertTrue(results.isSpilled());
+            assertEquals(count, results.size());
+            for (int i = 0; i < count; i++) assertEquals(i == 42 ? null : i, results.get(i));
+        }
+        // no spill file is left after close
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(dir)) {
+            assertFalse(files.iterator().hasNext());
+        }
+        assertThrowsExactly(IllegalStateException.class, () -> all.get().get(0));
+
+        // spill each result, the buffers are written to the spill file concurrently
+        final List<CompletableFuture<Integer>> eachSpilled = new ArrayList<>();
+        for (int i = 0; i < count; i++) eachSpilled.add(new CompletableFuture<>());
+        final CompletableFuture<SpilledResultList<Integer>> allEachSpilled =
+                allResultsSpilledOf(SpillOptions.of(codec, 0, dir), eachSpilled);
+        order.parallelStream().forEach(i -> eachSpilled.get(i).complete(i));
+        try (SpilledResultList<Integer> results = allEachSpilled.get()) {
+            for (int i = 0; i < count; i++) assertEquals(i, results.get(i));
+        }
+
+        // in heap only
+        try (SpilledResultList<Integer> results = allResultsSpilledOf(SpillOptions.of(codec, 1024, dir),
+                completedFuture(n), completedFuture(anotherN)).get()) {
+            assertFalse(results.isSpilled());
+            assertEquals(Arrays.asList(n, anotherN), results);
+        }
+        assertEquals(0, allResultsSpilledOf(spill).get().size());
+
+        // all-complete: the exception of the leftmost failed input
+        assertSame(rte, assertThrowsExactly(ExecutionException.class, () -> allResultsSpilledOf(spill,
+                completedFuture(n), failedFuture(rte), failedFuture(anotherRte)).get()
+        ).getCause());
+        // all-success
+        assertEquals(Arrays.asList(n, -1, anotherN), allSuccessResultsSpilledOf(spill, -1,
+                completedFuture(n), failedFuture(rte), completedFuture(anotherN)).get());
+        assertEquals(Arrays.asList(n, -1), mSupplyAllSuccessSpilledAsync(spill, -1, () -> n, () -> {
+            throw rte;
+        }).get());
+        // most-success
+        assertEquals(Arrays.asList(n, -1, -1, anotherN), mostSuccessResultsSpilledOf(spill, -1, SHORT_WAIT_MS, MILLISECONDS,
+                completedFuture(n), incompleteCf(), failedFuture(rte), completedFuture(anotherN)).get());
+        assertEquals(Arrays.asList(n, null), mSupplyMostSuccessSpilledAsync(testExecutor, spill, null, SHORT_WAIT_MS, MILLISECONDS,
+                () -> n, () -> {
+                    sleep(MEDIAN_WAIT_MS);
+                    return anotherN;
+                }).get());
+
+        // the exception of the codec fails the output
+        final SpillCodec<Integer> failingCodec = new SpillCodec<Integer>() {
+            @Override
+            public void write(Integer value, DataOutput out) throws IOException {
+                throw new IOException("failing codec");
+            }
+
+            @Override
+            public Integer read(DataInput in) {
+                throw new UnsupportedOperationException();
+            }
+        };
+        assertInstanceOf(IOException.class, assertThrowsExactly(ExecutionException.class, () -> allResultsSpilledOf(
+                SpillOptions.of(failingCodec, 16, dir), completedFuture(n)).get()
+        ).getCause());
+        assertThrowsExactly(IllegalArgumentException.class, () -> SpillOptions.of(codec, -1));
+    }
+
+    @Test
+    @EnabledOnOs(OS.LINUX)
+    void test_allResultsSpilledOf__outputCompletedByCaller(@TempDir Path dir) throws Exception {
+        // spill every 4 results
+        final SpillOptions<Integer> spill = SpillOptions.of(INT_CODEC, 16, dir);
+
+        final CompletableFuture<Integer> pending = incompleteCf();
+        final CompletableFuture<SpilledResultList<Integer>> cancelled = allResultsSpilledOf(spill,
+                completedFuture(1), completedFuture(2), completedFuture(3), completedFuture(4), pending);
+        assertEquals(1, countOpenSpillFiles(dir));
+        // the spill file of the output cancelled before assembling is deleted
+        cancelled.cancel(false);
+        pending.complete(n);
+        assertEquals(0, countOpenSpillFiles(dir));
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(dir)) {
+            assertFalse(files.iterator().hasNext());
+        }
+
+        final CompletableFuture<SpilledResultList<Integer>> timedOut = orTimeout(mostSuccessResultsSpilledOf(spill, -1,
+                LONG_WAIT_MS, MILLISECONDS, completedFuture(1), completedFuture(2), completedFuture(3),
+                completedFuture(4), incompleteCf()), SHORT_WAIT_MS, MILLISECONDS);
+        assertInstanceOf(TimeoutException.class,
+                assertThrowsExactly(ExecutionException.class, timedOut::get).getCause());
+        assertEquals(0, countOpenSpillFiles(dir));
+    }
+
+    private static final SpillCodec<Integer> INT_CODEC = new SpillCodec<Integer>() {
+        @Override
+        public void write(Integer value, DataOutput out) throws IOException {
+            out.writeInt(value);
+        }
+
+        @Override
+        public Integer read(DataInput in) throws IOException {
+            return in.readInt();
+        }
+    };
+
+    /**
+     * Counts the open spill files of the given directory, by the links of the open file descriptors;
+     * the spill file opened with {@code DELETE_ON_CLOSE} is unlinked from the directory right after opened on Linux.
+     */
+    private static long countOpenSpillFiles(Path dir) throws IOException {
+        try (Stream<Path> fds = Files.list(Paths.get("/proc/self/fd"))) {
+            return fds.filter(fd -> {
+                try {
+                    return Files.readSymbolicLink(fd).startsWith(dir);
+                } catch (IOException e) {
+                    // the file descriptor of the listing itself is closed
+                    return false;
+                }
+            }).count();
+        }
+    }
+
+    @Test
+    void test_allResultsOfMap() throws Exception {
+        final Map<String, CompletableFuture<Integer>> cfs = new LinkedHashMap<>();
+        cfs.put("a", completedFuture(n));
+        cfs.put("b", CompletableFuture.supplyAsync(() -> anotherN, testExecutor));
+        cfs.put("c", completedFuture(null));
+        final Map<String, Integer> expected = new HashMap<>();
+        expected.put("a", n);
+        expected.put("b", anotherN);
+        expected.put("c", null);
+        assertEquals(expected, allResultsFailFastOfMap(cfs).get());
+        assertEquals(expected, allResultsOfMap(cfs).get());
+        assertEquals(new KeyedResults<>(expected, Collections.emptySet()), allSuccessResultsOfMap(cfs).get());
+        assertTrue(mostSuccessResultsOfMap(SHORT_WAIT_MS, MILLISECONDS, cfs).get().isComplete());
+
+        assertEquals(Collections.emptyMap(), allResultsOfMap(Collections.emptyMap()).get());
+        assertTrue(allSuccessResultsOfMap(Collections.emptyMap()).get().isComplete());
+
+        final Map<String, CompletableFuture<Integer>> failed = new LinkedHashMap<>();
+        failed.put("a", incompleteCf());
+        failed.put("b", failedFuture(rte));
+        failed.put("c", completedFuture(n));
+        // fail-fast
+        assertSame(rte, assertThrowsExactly(ExecutionException.class, () ->
+                allResultsFailFastOfMap(failed).get()).getCause());
+        // the failed keys are missing
+        failed.put("a", failedFuture(anotherRte));
+        final KeyedResults<String, Integer> successResults = allSuccessResultsOfMap(failed).get();
+        assertEquals(Collections.singletonMap("c", n), successResults.results());
+        assertEquals(new HashSet<>(Arrays.asList("a", "b")), successResults.missingKeys());
+        assertFalse(successResults.isComplete());
+        // the leftmost exception in the encounter order of the map
+        assertSame(anotherRte, assertThrowsExactly(ExecutionException.class, () ->
+                allResultsOfMap(failed).get()).getCause());
+
+        // the failed or incomplete keys are missing
+        failed.put("a", incompleteCf());
+        final KeyedResults<String, Integer> mostResults = mostSuccessResultsOfMap(SHORT_WAIT_MS, MILLISECONDS, failed).get();
+        assertEquals(Collections.singletonMap("c", n), mostResults.results());
+        assertEquals(new HashSet<>(Arrays.asList("a", "b")), mostResults.missingKeys());
+
+        // the modifications of the map after the call do not affect the missing keys
+        final CompletableFuture<Integer> pending = incompleteCf();
+        final Map<String, CompletableFuture<Integer>> modified = new HashMap<>();
+        modified.put("a", pending);
+        modified.put("b", failedFuture(rte));
+        final CompletableFuture<KeyedResults<String, Integer>> modifiedResults = allSuccessResultsOfMap(modified);
+        modified.remove("b");
+        modified.put("d", completedFuture(n));
+        pending.complete(anotherN);
+        assertEquals(Collections.singletonMap("a", anotherN), modifiedResults.get().results());
+        assertEquals(Collections.singleton("b"), modifiedResults.get().missingKeys());
+
+        failed.put("a", null);
+        assertEquals("cf of key a is null", assertThrowsExactly(NullPointerException.class, () ->
+                allResultsOfMap(failed)).getMessage());
+    }
+
+    @Test
+    void test_allResultsFailFastSalvageOf() throws Exception {
+        final CompletableFuture<Integer> unfinished = incompleteCf();
+        final ExecutionException ee = assertThrowsExactly(ExecutionException.class, () -> allResultsFailFastSalvageOf(
+                completedFuture(n), unfinished, failedFuture(rte), completedFuture(null)).get());
+        final PartialResultsException partial = (PartialResultsException) ee.getCause();
+        assertSame(rte, partial.getCause());
+        assertEquals(4, partial.size());
+        assertEquals(Arrays.asList(n, null, null, null), partial.results());
+        assertTrue(partial.isSuccess(0));
+        assertFalse(partial.isSuccess(1));
+        assertTrue(partial.isSuccess(3));
+        assertArrayEquals(new int[]{2}, partial.failedIndexes());
+        assertArrayEquals(new int[]{1}, partial.unfinishedIndexes());
+        assertArrayEquals(new int[]{1, 2}, partial.missingIndexes());
+
+        // re-runs only the missing inputs
+        final AtomicInteger calls = new AtomicInteger();
+        final Supplier<Integer> counted = () -> {
+            calls.incrementAndGet();
+            return anotherN;
+        };
+        assertEquals(Arrays.asList(n, anotherN, anotherN, null), retryFailedAsync(partial, counted, counted, counted, counted).get());
+        assertEquals(2, calls.get());
+
+        // the retried input fails again
+        final PartialResultsException again = (PartialResultsException) assertThrowsExactly(ExecutionException.class, () ->
+                retryFailedAsync(testExecutor, partial, counted, () -> {
+                    throw anotherRte;
+                }, counted, counted).get()).getCause();
+        assertSame(anotherRte, again.getCause());
+        assertArrayEquals(new int[]{1}, again.failedIndexes());
+        // the salvaged results are kept, the retried input of index 2 may be unfinished at the failure
+        assertTrue(again.isSuccess(0));
+        assertTrue(again.isSuccess(3));
+        assertEquals(n, again.results().get(0));
+
+        // the retried suppliers are run by the calling thread of the caller-participating executor
+        final List<Runnable> parkedTasks = new ArrayList<>();
+        assertEquals(Arrays.asList(n, anotherN, anotherN, null), retryFailedAsync(callerParticipating(parkedTasks::add),
+                partial, 1, counted, counted, counted, counted).getNow(null));
+
+        assertThrowsExactly(IllegalArgumentException.class, () -> retryFailedAsync(partial, counted));
+        assertThrowsExactly(IllegalArgumentException.class, () -> retryFailedAsync(testExecutor, partial, 0, counted));
+
+        assertEquals(Arrays.asList(n, anotherN), mSupplyFailFastSalvageAsync(() -> n, () -> anotherN).get());
+        assertEquals(Collections.emptyList(), allResultsFailFastSalvageOf().get());
+    }
+
+    @Test
+    void test_allSettledOf() throws Exception {
+        final CompletableFuture<Integer> failed = CompletableFuture.supplyAsync(() -> {
+            throw rte;
+        }, testExecutor);
+        final List<Try<Integer>> expected = Arrays.asList(Try.success(n), Try.failure(rte), Try.success(null));
+        // the failure of dependent stage is unwrapped from CompletionException
+        assertEquals(expected, allSettledOf(completedFuture(n), failed, completedFuture(null)).get());
+        assertEquals(expected, allSettledOf(Arrays.asList(completedFuture(n), failedFuture(rte), completedFuture(null))).get());
+        assertEquals(expected, mSupplySettledAsync(() -> n, () -> {
+            throw rte;
+        }, () -> null).get());
+        assertEquals(Collections.emptyList(), allSettledOf().get());
+
+        final Try<Integer> success = allSettledOf(completedFuture(n)).get().get(0);
+        assertTrue(success.isSuccess());
+        assertEquals(n, success.valueOr(anotherN));
+        final Try<Integer> failure = allSettledOf(failed).get().get(0);
+        assertTrue(failure.isFailure());
+        assertNull(failure.value());
+        assertSame(rte, failure.exception());
+        assertEquals(anotherN, failure.valueOr(anotherN));
+
+        // the done inputs are read on the calling thread, with the same outcomes as recorded by the callbacks
+        final CompletableFuture<Integer> cancelled = incompleteCf();
+        cancelled.cancel(false);
+        final List<Try<Integer>> done = allSettledOf(completedFuture(n), failed, cancelled).getNow(null);
+        assertEquals(Arrays.asList(Try.success(n), Try.failure(rte)), done.subList(0, 2));
+        assertInstanceOf(CancellationException.class, done.get(2).exception());
+        assertEquals(Tuple2.of(Try.failure(rte), done.get(2)), allSettledTupleOf(failed, cancelled).getNow(null));
+
+        final CompletableFuture<List<Try<Integer>>> incomplete = allSettledOf(completedFuture(n), incompleteCf());
+        Thread.sleep(SHORT_WAIT_MS);
+        assertFalse(incomplete.isDone());
+    }
+
+    @Test
+    void test_allSettledTupleOf_allSettledOfMap() throws Exception {
+        assertEquals(Tuple2.of(Try.success(n), Try.failure(rte)),
+                allSettledTupleOf(completedFuture(n), failedFuture(rte)).get());
+        assertEquals(Tuple3.of(Try.success(n), Try.failure(rte), Try.success(s)),
+                mSupplySettledTupleAsync(() -> n, () -> {
+                    throw rte;
+                }, () -> s).get());
+        assertEquals(Tuple5.of(Try.success(n), Try.success(s), Try.success(d), Try.failure(anotherRte), Try.success(null)),
+                allSettledTupleOf(completedFuture(n), completedFuture(s), CompletableFuture.supplyAsync(() -> d),
+                        failedFuture(anotherRte), completedFuture(null)).get());
+
+        final Map<String, CompletableFuture<Integer>> cfs = new HashMap<>();
+        cfs.put("a", completedFuture(n));
+        cfs.put("b", failedFuture(rte));
+        final Map<String, Try<Integer>> expected = new HashMap<>();
+        expected.put("a", Try.success(n));
+        expected.put("b", Try.failure(rte));
+        assertEquals(expected, allSettledOfMap(cfs).get());
+        assertEquals(Collections.emptyMap(), allSettledOfMap(Collections.emptyMap()).get());
+    }
+
     // endregion
     // region## anyOf* Methods
 
@@ -727,6 +1462,66 @@ class CompletableFutureUtilsTest {
         ).getCause();
     }
 
+    @Test
+    void test_allFailFastOf_anySuccessOf__one_dependent_per_input() throws Exception {
+        final CompletableFuture<Integer> incomplete1 = incompleteCf();
+        final CompletableFuture<Integer> incomplete2 = incompleteCf();
+
+        final CompletableFuture<Void> allFailFast = allFailFastOf(incomplete1, incomplete2);
+        final CompletableFuture<Integer> anySuccess = anySuccessOf(incomplete1, incomplete2);
+        // no placeholder futures, only one callback per input for each combinator
+        assertEquals(2, incomplete1.getNumberOfDependents());
+        assertEquals(2, incomplete2.getNumberOfDependents());
+
+        incomplete2.complete(n);
+        assertEquals(n, anySuccess.get());
+        assertFalse(allFailFast.isDone());
+        incomplete1.complete(anotherN);
+        assertNull(allFailFast.get());
+
+        // the winner is decided by the already completed input, no callbacks to the remaining inputs
+        final CompletableFuture<Integer> incomplete = incompleteCf();
+        assertSame(rte, unwrapCfException(assertThrowsExactly(CompletionException.class, () ->
+                allFailFastOf(failedFuture(rte), incomplete).join())));
+        assertEquals(n, anySuccessOf(completedFuture(n), incomplete).get());
+        assertEquals(0, incomplete.getNumberOfDependents());
+    }
+
+    @Test
+    void test_raceCombinators__incompleteLosersNotRetainOutput() throws Exception {
+        final CompletableFuture<Integer> loser = incompleteCf();
+
+        assertNotRetainedByLosers(() -> anyOf(loser, CompletableFuture.supplyAsync(() -> n)));
+        assertNotRetainedByLosers(() -> anySuccessOf(loser, failedFuture(rte), CompletableFuture.supplyAsync(() -> n)));
+        assertNotRetainedByLosers(() -> applyToEitherSuccess(loser, CompletableFuture.supplyAsync(() -> n), identity()));
+        assertNotRetainedByLosers(() -> mostSuccessResultsOf(anotherN, SHORT_WAIT_MS, MILLISECONDS, loser, completedFuture(n)));
+        // the output is completed by the caller instead of the inputs
+        assertNotRetainedByLosers(() -> {
+            final CompletableFuture<Integer> cf = anyOf(loser, incompleteCf());
+            cf.cancel(false);
+            return cf;
+        });
+
+        assertFalse(loser.isDone());
+    }
+
+    private static void assertNotRetainedByLosers(Supplier<CompletableFuture<?>> combinator) throws Exception {
+        CompletableFuture<?> output = combinator.get();
+        try {
+            output.get();
+        } catch (CancellationException ignored) {
+            // the output cancelled by the caller
+        }
+        final WeakReference<CompletableFuture<?>> ref = new WeakReference<>(output);
+        output = null;
+
+        for (int i = 0; i < 100 && ref.get() != null; i++) {
+            System.gc();
+            sleep(SHORT_WAIT_MS);
+        }
+        assertNull(ref.get());
+    }
+
     @Test
     void test_anyOf__concurrent() throws Exception {
         // incomplete/wait-success then success
@@ -824,6 +1619,259 @@ class CompletableFutureUtilsTest {
         ).get());
     }
 
+    // endregion
+    // region## kSuccessOf Methods
+
+    @Test
+    void test_kSuccessOf() throws Exception {
+        final CompletableFuture<Integer> cf1 = incompleteCf();
+        final CompletableFuture<Integer> cf2 = incompleteCf();
+        final CompletableFuture<Integer> cf3 = incompleteCf();
+        final CompletableFuture<List<IndexedResult<Integer>>> quorum = kSuccessOf(2, cf1, cf2, cf3);
+        assertEquals(1, cf1.getNumberOfDependents());
+
+        cf3.complete(n);
+        cf1.completeExceptionally(rte);
+        assertFalse(quorum.isDone());
+        cf2.complete(anotherN);
+        // in the order of success
+        assertEquals(Arrays.asList(new IndexedResult<>(2, n, null), new IndexedResult<>(1, anotherN, null)),
+                quorum.get());
+
+        // fail fast once the quorum is unreachable
+        final CompletableFuture<Integer> incomplete = incompleteCf();
+        final CompletableFuture<List<IndexedResult<Integer>>> unreachable =
+                kSuccessOf(2, failedFuture(rte), failedFuture(anotherRte), incomplete);
+        assertSame(anotherRte, assertThrowsExactly(ExecutionException.class, unreachable::get).getCause());
+        // no callback is registered to the remaining inputs after the output is decided
+        assertEquals(0, incomplete.getNumberOfDependents());
+
+        assertEquals(Collections.emptyList(), kSuccessOf(0, incomplete).get());
+        assertEquals(Collections.singletonList(new IndexedResult<>(0, n, null)),
+                kSuccessOf(1, completedFuture(n), incomplete).get());
+        assertThrowsExactly(IllegalArgumentException.class, () -> kSuccessOf(2, incomplete));
+        assertThrowsExactly(IllegalArgumentException.class, () -> kSuccessOf(-1, incomplete));
+
+        // deadline: return whatever has succeeded when time runs out, never fail
+        assertEquals(Collections.singletonList(new IndexedResult<>(1, n, null)), kSuccessOf(2,
+                SHORT_WAIT_MS, MILLISECONDS, incomplete, completedFuture(n), failedFuture(rte)).get());
+        assertEquals(Collections.emptyList(), kSuccessOf(testExecutor, 1,
+                LONG_WAIT_MS, MILLISECONDS, failedFuture(rte), failedFuture(anotherRte)).get(SHORT_WAIT_MS, MILLISECONDS));
+        assertEquals(Arrays.asList(new IndexedResult<>(0, n, null), new IndexedResult<>(1, anotherN, null)), kSuccessOf(
+                2, LONG_WAIT_MS, MILLISECONDS, completedFuture(n), completedFuture(anotherN)).get());
+
+        assertEquals(2, mSupplyKSuccessAsync(2, () -> n, () -> {
+            throw rte;
+        }, () -> anotherN).get().size());
+        assertSame(rte, assertThrowsExactly(ExecutionException.class, () -> mSupplyKSuccessAsync(
+                testExecutor, 1, () -> {throw rte;}).get()
+        ).getCause());
+    }
+
+    // endregion
+    // region## Streaming Results Methods
+
+    @Test
+    void test_streamResultsOf() throws Exception {
+        final CompletableFuture<Integer> cf1 = incompleteCf();
+        final CompletableFuture<Integer> cf2 = incompleteCf();
+        final CompletableFuture<Integer> cf3 = incompleteCf();
+
+        final List<IndexedResult<Integer>> completionOrder = new ArrayList<>();
+        final List<IndexedResult<Integer>> inputOrder = new ArrayList<>();
+        final CompletableFuture<Void> streamed = streamResultsOf(completionOrder::add, cf1, cf2, cf3);
+        final CompletableFuture<Void> streamedInOrder = streamResultsInOrderOf(inputOrder::add, cf1, cf2, cf3);
+        // only one callback per input for each method
+        assertEquals(2, cf1.getNumberOfDependents());
+
+        cf3.complete(n);
+        assertEquals(Collections.singletonList(new IndexedResult<>(2, n, null)), completionOrder);
+        assertTrue(inputOrder.isEmpty());
+
+        // the prefix [0, 1] is released as soon as the input 0 completes
+        cf2.completeExceptionally(new CompletionException(rte));
+        assertFalse(streamed.isDone());
+        cf1.complete(anotherN);
+        assertEquals(Arrays.asList(new IndexedResult<>(0, anotherN, null), new IndexedResult<>(1, null, rte),
+                new IndexedResult<>(2, n, null)), inputOrder);
+        assertEquals(Arrays.asList(new IndexedResult<>(2, n, null), new IndexedResult<>(1, null, rte),
+                new IndexedResult<>(0, anotherN, null)), completionOrder);
+        assertNull(streamed.get());
+        assertNull(streamedInOrder.get());
+        assertFalse(inputOrder.get(1).isSuccess());
+
+        assertNull(streamResultsOf(r -> fail()).get());
+
+        // the exception of sink does not stop the delivery
+        final List<Integer> indexes = new ArrayList<>();
+        final CompletableFuture<Void> sinkFailed = streamResultsOf(r -> {
+            indexes.add(r.index());
+            throw anotherRte;
+        }, completedFuture(n), completedFuture(anotherN));
+        assertSame(anotherRte, assertThrowsExactly(ExecutionException.class, sinkFailed::get).getCause());
+        assertEquals(Arrays.asList(0, 1), indexes);
+    }
+
+    @Test
+    void test_iterateResultsOf() throws Exception {
+        final CompletableFuture<Integer> cf1 = incompleteCf();
+        final CompletableFuture<Integer> cf2 = incompleteCf();
+        final Iterator<IndexedResult<Integer>> completionOrder = iterateResultsOf(cf1, cf2);
+        final Iterator<IndexedResult<Integer>> inputOrder = iterateResultsInOrderOf(cf1, cf2);
+
+        testExecutor.execute(() -> {
+            snoreZzz();
+            cf2.complete(anotherN);
+            snoreZzz();
+            cf1.complete(n);
+        });
+        assertTrue(completionOrder.hasNext());
+        assertEquals(new IndexedResult<>(1, anotherN, null), completionOrder.next());
+        assertEquals(new IndexedResult<>(0, n, null), completionOrder.next());
+        assertFalse(completionOrder.hasNext());
+        assertThrowsExactly(NoSuchElementException.class, completionOrder::next);
+
+        assertEquals(new IndexedResult<>(0, n, null), inputOrder.next());
+        assertEquals(new IndexedResult<>(1, anotherN, null), inputOrder.next());
+        assertFalse(inputOrder.hasNext());
+
+        final Iterator<IndexedResult<Integer>> incomplete = iterateResultsOf(incompleteCf());
+        currentThread().interrupt();
+        assertInstanceOf(InterruptedException.class,
+                assertThrowsExactly(CompletionException.class, incomplete::next).getCause());
+        assertTrue(Thread.interrupted());
+    }
+
+    @Test
+    void test_pipelineOf() throws Exception {
+        // completion order, pull the next item as soon as an outcome is delivered
+        final List<CompletableFuture<Integer>> mapped = new ArrayList<>();
+        final List<IndexedResult<Integer>> completionOrder = new ArrayList<>();
+        final CompletableFuture<Void> pipeline = pipelineOf(IntStream.range(0, 5).iterator(), 3, i -> {
+            final CompletableFuture<Integer> cf = incompleteCf();
+            mapped.add(cf);
+            return cf;
+        }, completionOrder::add);
+        assertEquals(3, mapped.size());
+
+        mapped.get(2).complete(n);
+        assertEquals(Collections.singletonList(new IndexedResult<>(2, n, null)), completionOrder);
+        assertEquals(4, mapped.size());
+        mapped.get(0).completeExceptionally(rte);
+        mapped.get(3).complete(anotherN);
+        assertEquals(5, mapped.size());
+        mapped.get(1).complete(n);
+        assertFalse(pipeline.isDone());
+        mapped.get(4).complete(n);
+        assertNull(pipeline.get());
+        assertEquals(Arrays.asList(2, 0, 3, 1, 4),
+                completionOrder.stream().map(IndexedResult::index).collect(Collectors.toList()));
+        assertSame(rte, completionOrder.get(1).exception());
+
+        // source order, a slow head holds the pulling when the window is full
+        mapped.clear();
+        final List<IndexedResult<Integer>> inputOrder = new ArrayList<>();
+        final CompletableFuture<Void> pipelineInOrder = pipelineInOrderOf(IntStream.range(0, 4).iterator(), 2, i -> {
+            final CompletableFuture<Integer> cf = incompleteCf();
+            mapped.add(cf);
+            return cf;
+        }, inputOrder::add);
+        mapped.get(1).complete(anotherN);
+        assertTrue(inputOrder.isEmpty());
+        assertEquals(2, mapped.size());
+        mapped.get(0).complete(n);
+        assertEquals(Arrays.asList(new IndexedResult<>(0, n, null), new IndexedResult<>(1, anotherN, null)), inputOrder);
+        assertEquals(4, mapped.size());
+        mapped.get(3).complete(n);
+        mapped.get(2).complete(n);
+        assertNull(pipelineInOrder.get());
+        assertEquals(Arrays.asList(0, 1, 2, 3), inputOrder.stream().map(IndexedResult::index).collect(Collectors.toList()));
+
+        // async stages, at most window stages in flight
+        final int count = 10_000;
+        final AtomicInteger inFlight = new AtomicInteger();
+        final AtomicInteger maxInFlight = new AtomicInteger();
+        final List<Integer> results = new ArrayList<>();
+        assertNull(pipelineInOrderOf(IntStream.range(0, count).iterator(), 8, i -> {
+            maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            return CompletableFuture.supplyAsync(() -> i, testExecutor);
+        }, r -> {
+            inFlight.decrementAndGet();
+            results.add(r.value());
+        }).get());
+        assertEquals(IntStream.range(0, count).boxed().collect(Collectors.toList()), results);
+        assertTrue(maxInFlight.get() <= 8);
+
+        // completed stages, the stack does not grow with the count of items
+        final AtomicInteger delivered = new AtomicInteger();
+        assertNull(pipelineOf(IntStream.range(0, 100_000).iterator(), 4,
+                CompletableFuture::completedFuture, r -> delivered.incrementAndGet()).get());
+        assertEquals(100_000, delivered.get());
+
+        // the exception of fn is the outcome of the item
+        final List<IndexedResult<Object>> fnFailed = new ArrayList<>();
+        assertNull(pipelineOf(IntStream.range(0, 2).iterator(), 1, i -> {
+            if (i == 0) throw rte;
+            return null;
+        }, fnFailed::add).get());
+        assertSame(rte, fnFailed.get(0).exception());
+        assertInstanceOf(NullPointerException.class, fnFailed.get(1).exception());
+
+        // the exception of source stops the pulling
+        final Iterator<Integer> failedSource = new Iterator<Integer>() {
+            private int i;
+
+            @Override
+            public boolean hasNext() {
+                return true;
+            }
+
+            @Override
+            public Integer next() {
+                if (i == 2) throw anotherRte;
+                return i++;
+            }
+        };
+        final List<Integer> beforeFailure = new ArrayList<>();
+        assertSame(anotherRte, assertThrowsExactly(ExecutionException.class, () -> pipelineOf(
+                failedSource, 4, CompletableFuture::completedFuture, r -> beforeFailure.add(r.value())).get()
+        ).getCause());
+        assertEquals(Arrays.asList(0, 1), beforeFailure);
+
+        // the exception of sink stops the pulling, the in-flight outcomes are still delivered
+        final AtomicInteger pulled = new AtomicInteger();
+        final List<Integer> sunk = new ArrayList<>();
+        final CompletableFuture<Integer> sinkInFlight = incompleteCf();
+        final CompletableFuture<Void> sinkFailed = pipelineInOrderOf(IntStream.range(0, 10).iterator(), 2, i -> {
+            pulled.incrementAndGet();
+            return i == 0 ? completedFuture(i) : sinkInFlight;
+        }, r -> {
+            sunk.add(r.value());
+            if (r.index() == 0) throw anotherRte;
+        });
+        assertEquals(2, pulled.get());
+        assertFalse(sinkFailed.isDone());
+        sinkInFlight.complete(n);
+        assertSame(anotherRte, assertThrowsExactly(ExecutionException.class, sinkFailed::get).getCause());
+        assertEquals(2, pulled.get());
+        assertEquals(Arrays.asList(0, n), sunk);
+
+        // the cancellation by the caller stops the pulling
+        mapped.clear();
+        final CompletableFuture<Void> cancelled = pipelineOf(IntStream.range(0, 10).iterator(), 1, i -> {
+            final CompletableFuture<Integer> cf = incompleteCf();
+            mapped.add(cf);
+            return cf;
+        }, r -> {});
+        cancelled.cancel(false);
+        mapped.get(0).complete(n);
+        assertEquals(1, mapped.size());
+
+        assertThrowsExactly(IllegalArgumentException.class, () ->
+                pipelineOf(Collections.emptyIterator(), 0, CompletableFuture::completedFuture, r -> {}));
+        assertNull(pipelineOf(Collections.emptyIterator(), 1, CompletableFuture::completedFuture, r -> fail()).get());
+    }
+
     // endregion
     // region## allTupleOf*/mostSuccessTupleOf Methods
 
@@ -910,6 +1958,43 @@ class CompletableFutureUtilsTest {
         );
     }
 
+    @Test
+    void test_allTupleOf__each_arity() throws Exception {
+        final CompletableFuture<Integer> cf1 = incompleteCf();
+        final CompletableFuture<String> cf2 = incompleteCf();
+        final CompletableFuture<Double> cf3 = incompleteCf();
+        final CompletableFuture<Integer> cf4 = incompleteCf();
+        final CompletableFuture<Integer> cf5 = incompleteCf();
+
+        final CompletableFuture<Tuple2<Integer, String>> t2 = allTupleFailFastOf(cf1, cf2);
+        final CompletableFuture<Tuple3<Integer, String, Double>> t3 = allTupleOf(cf1, cf2, cf3);
+        final CompletableFuture<Tuple4<Integer, String, Double, Integer>> t4 = allSuccessTupleOf(cf1, cf2, cf3, cf4);
+        final CompletableFuture<Tuple5<Integer, String, Double, Integer, Integer>> t5 =
+                mostSuccessTupleOf(LONG_WAIT_MS, MILLISECONDS, cf1, cf2, cf3, cf4, cf5);
+        // only one callback per input for each method
+        assertEquals(4, cf1.getNumberOfDependents());
+
+        // complete in reverse order
+        cf5.completeExceptionally(anotherRte);
+        cf4.complete(anotherN);
+        cf3.complete(d);
+        cf2.complete(s);
+        assertFalse(t2.isDone());
+        cf1.complete(n);
+
+        assertEquals(Tuple2.of(n, s), t2.get());
+        assertEquals(Tuple3.of(n, s, d), t3.get());
+        assertEquals(Tuple4.of(n, s, d, anotherN), t4.get());
+        assertEquals(Tuple5.of(n, s, d, anotherN, null), t5.get());
+
+        // not fail-fast: the ex of the leftmost failed input wins, even it failed later
+        final CompletableFuture<Integer> failLater = incompleteCf();
+        final CompletableFuture<Tuple3<Integer, Integer, String>> notFailFast =
+                allTupleOf(failLater, failedFuture(anotherRte), cf2);
+        failLater.completeExceptionally(rte);
+        assertSame(rte, assertThrowsExactly(ExecutionException.class, notFailFast::get).getCause());
+    }
+
     @Test
     void test_mostSuccessTupleOf() throws Exception {
         final CompletableFuture<Integer> completed = completedFuture(n);
@@ -971,6 +2056,118 @@ class CompletableFutureUtilsTest {
         ).get());
     }
 
+    // endregion
+    // region## allCombine*/mostSuccessCombineOf Methods
+
+    @Test
+    void test_mostSuccessResultsPerInputOf() throws Exception {
+        final CompletableFuture<Integer> completed = completedFuture(n);
+        final CompletableFuture<Integer> failed = failedFuture(rte);
+        final CompletableFuture<Integer> incomplete = incompleteCf();
+        final CompletableFuture<Integer> slow = CompletableFuture.supplyAsync(() -> {
+            sleep(MEDIAN_WAIT_MS);
+            return anotherN;
+        });
+
+        // the fast input with the short timeout gets its fallback,
+        // the slow input within its longer timeout succeeds
+        final long tick = System.currentTimeMillis();
+        assertEquals(Arrays.asList(n, -1, -2, anotherN), mostSuccessResultsPerInputOf(
+                i -> i == 3 ? LONG_WAIT_MS : SHORT_WAIT_MS, MILLISECONDS, i -> -i,
+                completed, failed, incomplete, slow
+        ).get());
+        // completes when all the inputs settled, before the longest timeout
+        assertTrue(System.currentTimeMillis() - tick < LONG_WAIT_MS);
+
+        assertEquals(Arrays.asList(n, null), mostSuccessResultsPerInputOf(
+                testExecutor, i -> SHORT_WAIT_MS, MILLISECONDS, i -> null, completed, incomplete
+        ).get());
+        assertEquals(Collections.emptyList(), mostSuccessResultsPerInputOf(
+                i -> SHORT_WAIT_MS, MILLISECONDS, i -> null
+        ).get());
+
+        // the exception of the fallback fails the output
+        assertSame(anotherRte, assertThrowsExactly(ExecutionException.class, () -> mostSuccessResultsPerInputOf(
+                i -> SHORT_WAIT_MS, MILLISECONDS, i -> {
+                    throw anotherRte;
+                }, completed, failed
+        ).get()).getCause());
+
+        assertEquals(Tuple2.of(n, null), mostSuccessTuplePerInputOf(
+                i -> SHORT_WAIT_MS, MILLISECONDS, completed, incomplete
+        ).get());
+        assertEquals(Tuple3.of(null, n, anotherN), mostSuccessTuplePerInputOf(
+                i -> i == 2 ? LONG_WAIT_MS : SHORT_WAIT_MS, MILLISECONDS, failed, completed, slow
+        ).get());
+        assertEquals(Tuple4.of(n, null, null, anotherN), mostSuccessTuplePerInputOf(
+                testExecutor, i -> SHORT_WAIT_MS, MILLISECONDS, completed, failed, incomplete, slow
+        ).get());
+        assertEquals(Tuple5.of(n, n, null, null, anotherN), mostSuccessTuplePerInputOf(
+                testExecutor, i -> SHORT_WAIT_MS, MILLISECONDS, completed, completed, failed, incomplete, slow
+        ).get());
+    }
+
+    @Test
+    void test_mostSuccess__rejectedExecutorWhenTimeout() throws Exception {
+        final ExecutorService shutdown = Executors.newSingleThreadExecutor();
+        shutdown.shutdown();
+        final CompletableFuture<Integer> incomplete = incompleteCf();
+
+        // the output fails with the rejection, instead of never completing
+        assertInstanceOf(RejectedExecutionException.class, assertThrowsExactly(ExecutionException.class,
+                () -> mostSuccessResultsOf(shutdown, null, SHORT_WAIT_MS, MILLISECONDS, incomplete)
+                        .get(LONG_WAIT_MS, MILLISECONDS)).getCause());
+        assertInstanceOf(RejectedExecutionException.class, assertThrowsExactly(ExecutionException.class,
+                () -> mostSuccessResultsPerInputOf(shutdown, i -> SHORT_WAIT_MS, MILLISECONDS, i -> null, incomplete)
+                        .get(LONG_WAIT_MS, MILLISECONDS)).getCause());
+        assertInstanceOf(RejectedExecutionException.class, assertThrowsExactly(ExecutionException.class,
+                () -> kSuccessOf(shutdown, 1, SHORT_WAIT_MS, MILLISECONDS, incomplete)
+                        .get(LONG_WAIT_MS, MILLISECONDS)).getCause());
+        assertInstanceOf(RejectedExecutionException.class, assertThrowsExactly(ExecutionException.class,
+                () -> mostSuccessResultsOfMap(shutdown, SHORT_WAIT_MS, MILLISECONDS,
+                        Collections.singletonMap(s, incomplete)).get(LONG_WAIT_MS, MILLISECONDS)).getCause());
+    }
+
+    @Test
+    void test_allCombineOf() throws Exception {
+        final CompletableFuture<Integer> cf1 = incompleteCf();
+        final CompletableFuture<String> cf2 = incompleteCf();
+
+        final CompletableFuture<String> failFast = allCombineFailFastOf(cf1, cf2, (v1, v2) -> v1 + v2);
+        final CompletableFuture<String> allSuccess = allSuccessCombineOf(cf1, cf2, (v1, v2) -> v1 + v2);
+        // only one callback per input, no TupleX stage in between
+        assertEquals(2, cf1.getNumberOfDependents());
+        cf2.complete(s);
+        assertFalse(failFast.isDone());
+        cf1.complete(n);
+        assertEquals(n + s, failFast.get());
+        assertEquals(n + s, allSuccess.get());
+
+        assertEquals(n + s + d, allCombineFailFastOf(completedFuture(n), completedStage(s), completedFuture(d),
+                (v1, v2, v3) -> v1 + v2 + v3).get());
+        assertEquals(n + anotherN + nnn + "", allCombineFailFastOf(completedFuture(n), completedFuture(anotherN),
+                completedFuture(nnn), completedFuture(""), (v1, v2, v3, v4) -> v1 + v2 + v3 + v4).get());
+        assertEquals("null" + n + "nullnullnull", allSuccessCombineOf(failedFuture(rte), completedFuture(n),
+                failedFuture(anotherRte), cancelledFuture(), failedFuture(rte),
+                (v1, v2, v3, v4, v5) -> "" + v1 + v2 + v3 + v4 + v5).get());
+
+        // fail-fast, the function is not called
+        final CompletableFuture<Integer> incomplete = incompleteCf();
+        assertSame(rte, assertThrowsExactly(ExecutionException.class, () -> allCombineFailFastOf(
+                incomplete, failedFuture(rte), (v1, v2) -> fail()).get()
+        ).getCause());
+
+        // exception thrown by the function
+        assertSame(anotherRte, assertThrowsExactly(ExecutionException.class, () -> allSuccessCombineOf(
+                completedFuture(n), completedFuture(s), (v1, v2) -> {throw anotherRte;}).get()
+        ).getCause());
+
+        assertEquals(n + "null", mostSuccessCombineOf(SHORT_WAIT_MS, MILLISECONDS,
+                completedFuture(n), incomplete, (v1, v2) -> v1 + "" + v2).get());
+        assertEquals(s + "null" + n, mostSuccessCombineOf(testExecutor, SHORT_WAIT_MS, MILLISECONDS,
+                completedFuture(s), failedFuture(rte), completedFuture(n), (v1, v2, v3) -> v1 + v2 + v3).get());
+    }
+
     // endregion
     // region## Immediate Value Argument Factory Methods(backport methods)
 
@@ -1006,6 +2203,59 @@ class CompletableFutureUtilsTest {
     }
 
     // endregion
+    // region## Virtual Thread Executor
+
+    @Test
+    @EnabledForJreRange(min = JRE.JAVA_21)
+    void test_virtualThreadPerTaskExecutor() throws Exception {
+        final Executor executor = virtualThreadPerTaskExecutor(2);
+        final AtomicInteger running = new AtomicInteger();
+        final AtomicInteger maxRunning = new AtomicInteger();
+        final Supplier<Boolean> supplier = () -> {
+            maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+            sleep(10);
+            running.decrementAndGet();
+            return LLCF.isVirtualThread(currentThread());
+        };
+        final List<Supplier<Boolean>> suppliers = Collections.nCopies(20, supplier);
+        @SuppressWarnings("unchecked")
+        final Supplier<Boolean>[] array = suppliers.toArray(new Supplier[0]);
+
+        assertEquals(Collections.nCopies(20, true), mSupplyAsync(executor, array).get());
+        assertEquals(2, maxRunning.get());
+
+        assertThrowsExactly(IllegalArgumentException.class, () -> virtualThreadPerTaskExecutor(0));
+    }
+
+    @Test
+    @EnabledForJreRange(min = JRE.JAVA_21)
+    void test_join_timeout__onVirtualThread() throws Exception {
+        CompletableFuture.runAsync(() -> {
+            assertTrue(LLCF.isVirtualThread(currentThread()));
+
+            final CompletionException timeout = assertThrowsExactly(CompletionException.class,
+                    () -> join(incompleteCf(), 1, MILLISECONDS));
+            assertInstanceOf(TimeoutException.class, timeout.getCause());
+
+            final CompletableFuture<Integer> failed = new CompletableFuture<>();
+            testExecutor.execute(() -> {
+                sleep(10);
+                failed.completeExceptionally(rte);
+            });
+            assertSame(rte, assertThrowsExactly(CompletionException.class,
+                    () -> join(failed, LONG_WAIT_MS, MILLISECONDS)).getCause());
+
+            // the interruption is deferred until returns, same as join
+            final CompletableFuture<Integer> cf = CompletableFuture.supplyAsync(() -> {
+                sleep(10);
+                return n;
+            }, testExecutor);
+            currentThread().interrupt();
+            assertEquals(n, join(cf, LONG_WAIT_MS, MILLISECONDS));
+            assertTrue(Thread.interrupted());
+        }, virtualThreadPerTaskExecutor()).get();
+    }
+
     // endregion
     // region# CF Instance Methods(including new enhanced + backport methods)
 
@@ -1386,6 +2636,41 @@ class CompletableFutureUtilsTest {
         ).getCause());
     }
 
+    @Test
+    void test_either_success__race() throws Exception {
+        // both failed, the ex of cfThis wins even cfThis failed later
+        final CompletableFuture<Integer> cfThis = incompleteCf();
+        final CompletableFuture<Integer> other = incompleteCf();
+        final CompletableFuture<Integer> ret = applyToEitherSuccess(cfThis, other, identity());
+        // one callback per side
+        assertEquals(1, cfThis.getNumberOfDependents());
+        assertEquals(1, other.getNumberOfDependents());
+
+        other.completeExceptionally(anotherRte);
+        assertFalse(ret.isDone());
+        cfThis.completeExceptionally(rte);
+        assertSame(rte, assertThrowsExactly(ExecutionException.class, ret::get).getCause());
+
+        // first success wins, even the other side failed before
+        final CompletableFuture<Integer> cfThis2 = incompleteCf();
+        final CompletableFuture<Integer> other2 = incompleteCf();
+        final CompletableFuture<Integer> ret2 = applyToEitherSuccess(cfThis2, other2, identity());
+        cfThis2.completeExceptionally(rte);
+        other2.complete(n);
+        assertEquals(n, ret2.get());
+
+        // no callback to the other side if cfThis already succeeded
+        final CompletableFuture<Integer> other3 = incompleteCf();
+        assertEquals(n, applyToEitherSuccess(completedFuture(n), other3, identity()).get());
+        assertEquals(0, other3.getNumberOfDependents());
+
+        // keep the runtime type(minimal-stage) of cfThis
+        final CompletableFuture<Integer> minStage = (CompletableFuture<Integer>) completedStage(n);
+        final CompletableFuture<Integer> ret3 = applyToEitherSuccess(minStage, failedFuture(rte), identity());
+        assertTrue(LLCF.isMinStageCf(ret3));
+        assertEquals(n, ret3.toCompletableFuture().get());
+    }
+
     // endregion
     // region## Error Handling Methods of CompletionStage
 
@@ -1941,6 +3226,50 @@ class CompletableFutureUtilsTest {
         assertFalse(cf.isDone());
     }
 
+    @Test
+    void test_broadcastOf() throws Exception {
+        final int count = 5000;
+        final Thread completing = currentThread();
+        final CompletableFuture<Integer> source = incompleteCf();
+        final CompletableFuture<Integer> broadcast = broadcastOf(testExecutor, 4, source);
+
+        final Set<Thread> threads = ConcurrentHashMap.newKeySet();
+        final List<CompletableFuture<Integer>> dependents = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            final int delta = i;
+            dependents.add(broadcast.thenApply(v -> {
+                threads.add(currentThread());
+                return v + delta;
+            }));
+        }
+        assertEquals(count, broadcast.getNumberOfDependents());
+
+        source.complete(n);
+        for (int i = 0; i < count; i++) assertEquals(n + i, dependents.get(i).get());
+        assertFalse(threads.contains(completing));
+        assertEquals(0, broadcast.getNumberOfDependents());
+        // the dependent registered after completion runs as usual
+        assertEquals(n, broadcast.thenApply(identity()).get());
+        assertEquals(n, broadcast.get());
+
+        final CompletableFuture<Integer> failed = newIncompleteBroadcastFuture(testExecutor, 2);
+        final CompletableFuture<Integer> dependent = failed.thenApply(v -> v + 1);
+        final CompletableFuture<Integer> recovered = failed.exceptionally(ex -> anotherN);
+        failed.completeExceptionally(rte);
+        assertSame(rte, assertThrowsExactly(ExecutionException.class, dependent::get).getCause());
+        assertEquals(anotherN, recovered.get());
+
+        // the dependent registered after completion does not wait the dispatch of the chunks
+        final List<Runnable> parkedTasks = new ArrayList<>();
+        final CompletableFuture<Integer> parked = newIncompleteBroadcastFuture(parkedTasks::add, 2);
+        parked.complete(n);
+        assertEquals(2, parkedTasks.size());
+        assertEquals(n + 1, parked.thenApply(v -> v + 1).getNow(null));
+        assertEquals(0, parked.getNumberOfDependents());
+
+        assertThrowsExactly(IllegalArgumentException.class, () -> newIncompleteBroadcastFuture(testExecutor, 0));
+    }
+
     @Test
     void test_defaultExecutor() {
         assertIsCfDefaultExecutor(defaultExecutor(completedFuture(null)));
@@ -0,0 +1,125 @@
+package io.foldright.cffu;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static io.foldright.test_utils.TestUtils.*;
+import static io.foldright.test_utils.TestingConstants.*;
+import static io.foldright.test_utils.TestingExecutorUtils.testExecutor;
+import static org.junit.jupiter.api.Assertions.*;
+
+
+class MicroBatchingExecutorTest {
+    @Test
+    void test_batching() {
+        final List<Runnable> parkedTasks = new ArrayList<>();
+        final MicroBatchingExecutor executor = MicroBatchingExecutor.of(parkedTasks::add, 2, 1, TimeUnit.SECONDS);
+
+        final List<Integer> ran = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            final int index = i;
+            executor.execute(() -> ran.add(index));
+        }
+        // only one batch task for all the tasks submitted before it runs
+        assertEquals(1, parkedTasks.size());
+
+        // the batch task submits one helper batch task, and yields after 2 tasks
+        parkedTasks.remove(0).run();
+        assertEquals(Arrays.asList(0, 1), ran);
+        assertEquals(2, parkedTasks.size());
+
+        while (!parkedTasks.isEmpty()) parkedTasks.remove(0).run();
+        assertEquals(Arrays.asList(0, 1, 2, 3, 4), ran);
+
+        // the task submitted by the running task joins the running batch
+        executor.execute(() -> executor.execute(() -> ran.add(n)));
+        assertEquals(1, parkedTasks.size());
+        parkedTasks.remove(0).run();
+        assertEquals(n, ran.get(ran.size() - 1));
+        assertTrue(parkedTasks.isEmpty());
+    }
+
+    @Test
+    void test_continuationsChain() throws Exception {
+        final AtomicInteger submissions = new AtomicInteger();
+        final Executor counting = command -> {
+            submissions.incrementAndGet();
+            testExecutor.execute(command);
+        };
+        final CffuFactory fac = CffuFactory.builder(
+                MicroBatchingExecutor.of(counting, Integer.MAX_VALUE, 1, TimeUnit.MINUTES)).build();
+
+        final Cffu<Integer> head = fac.newIncompleteCffu();
+        Cffu<Integer> cf = head;
+        for (int i = 0; i < 1000; i++) cf = cf.thenApplyAsync(x -> x + 1);
+        head.complete(0);
+
+        assertEquals(1000, cf.get());
+        assertTrue(submissions.get() < 10, "submissions: " + submissions.get());
+    }
+
+    @Test
+    void test_slowTasksStillRunConcurrently() {
+        final MicroBatchingExecutor executor = MicroBatchingExecutor.of(testExecutor);
+        final AtomicInteger running = new AtomicInteger();
+        final AtomicInteger maxRunning = new AtomicInteger();
+        final List<CompletableFuture<Void>> cfs = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            cfs.add(CompletableFuture.runAsync(() -> {
+                maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                sleep(SHORT_WAIT_MS);
+                running.decrementAndGet();
+            }, executor));
+        }
+        CompletableFuture.allOf(cfs.toArray(new CompletableFuture[0])).join();
+
+        assertTrue(maxRunning.get() > 1, "maxRunning: " + maxRunning.get());
+    }
+
+    @Test
+    void test_rejected() {
+        final AtomicInteger accepted = new AtomicInteger();
+        final Executor rejecting = command -> {
+            if (accepted.get() == 0) throw new RejectedExecutionException("rejected");
+            accepted.incrementAndGet();
+        };
+        final MicroBatchingExecutor executor = MicroBatchingExecutor.of(rejecting);
+
+        assertThrowsExactly(RejectedExecutionException.class, () -> executor.execute(() -> {}));
+        accepted.set(1);
+        executor.execute(() -> {});
+        assertEquals(2, accepted.get());
+
+        // the tasks queued by the other submitters during the rejected submission are not stranded
+        final List<Integer> ran = new ArrayList<>();
+        final AtomicReference<MicroBatchingExecutor> racing = new AtomicReference<>();
+        final AtomicInteger rejected = new AtomicInteger();
+        racing.set(MicroBatchingExecutor.of(command -> {
+            if (rejected.getAndIncrement() == 0) {
+                // the other submitters see the batch count of the rejected submission, and only queue their tasks
+                racing.get().execute(() -> ran.add(n));
+                racing.get().execute(() -> ran.add(anotherN));
+            }
+            throw new RejectedExecutionException("rejected");
+        }));
+        assertThrowsExactly(RejectedExecutionException.class, () -> racing.get().execute(() -> ran.add(0)));
+        assertEquals(Arrays.asList(n, anotherN), ran);
+    }
+
+    @Test
+    void test_of__illegalArgs() {
+        assertThrowsExactly(IllegalArgumentException.class,
+                () -> MicroBatchingExecutor.of(testExecutor, 0, 1, TimeUnit.SECONDS));
+        assertThrowsExactly(IllegalArgumentException.class,
+                () -> MicroBatchingExecutor.of(testExecutor, 1, 0, TimeUnit.SECONDS));
+    }
+}
@@ -0,0 +1,175 @@
+package io.foldright.cffu;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.condition.JRE;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static io.foldright.cffu.CompletableFutureUtils.failedFuture;
+import static io.foldright.test_utils.TestingConstants.*;
+import static java.util.concurrent.CompletableFuture.completedFuture;
+import static org.junit.jupiter.api.Assertions.*;
+
+
+@EnabledForJreRange(min = JRE.JAVA_9)
+class ResultPublishersTest {
+    @Test
+    void test_publishResultsOf() {
+        final CompletableFuture<Integer> cf1 = new CompletableFuture<>();
+        final CompletableFuture<Integer> cf2 = new CompletableFuture<>();
+        final RecordingSubscriber<Integer> subscriber = new RecordingSubscriber<>();
+        ResultPublishers.publishResultsOf(cf1, cf2, completedFuture(anotherN)).subscribe(subscriber);
+
+        // no emission without demand
+        assertTrue(subscriber.results.isEmpty());
+        subscriber.subscription.request(1);
+        assertEquals(Collections.singletonList(new IndexedResult<>(2, anotherN, null)), subscriber.results);
+
+        cf2.complete(n);
+        cf1.completeExceptionally(rte);
+        assertEquals(1, subscriber.results.size());
+        assertFalse(subscriber.completed);
+
+        subscriber.subscription.request(Long.MAX_VALUE);
+        assertEquals(Arrays.asList(new IndexedResult<>(2, anotherN, null), new IndexedResult<>(1, n, null),
+                new IndexedResult<>(0, null, rte)), subscriber.results);
+        assertTrue(subscriber.completed);
+    }
+
+    @Test
+    void test_publishResultsInOrderOf() {
+        final CompletableFuture<Integer> cf1 = new CompletableFuture<>();
+        final RecordingSubscriber<Integer> subscriber = new RecordingSubscriber<>();
+        ResultPublishers.publishResultsInOrderOf(cf1, completedFuture(n), failedFuture(rte)).subscribe(subscriber);
+        subscriber.subscription.request(Long.MAX_VALUE);
+        assertTrue(subscriber.results.isEmpty());
+
+        cf1.complete(anotherN);
+        assertEquals(Arrays.asList(new IndexedResult<>(0, anotherN, null), new IndexedResult<>(1, n, null),
+                new IndexedResult<>(2, null, rte)), subscriber.results);
+        assertTrue(subscriber.completed);
+
+        // cancel
+        final CompletableFuture<Integer> incomplete = new CompletableFuture<>();
+        final RecordingSubscriber<Integer> cancelled = new RecordingSubscriber<>();
+        ResultPublishers.publishResultsInOrderOf(incomplete).subscribe(cancelled);
+        cancelled.subscription.request(1);
+        cancelled.subscription.cancel();
+        incomplete.complete(n);
+        assertTrue(cancelled.results.isEmpty());
+        assertFalse(cancelled.completed);
+
+        // non-positive request
+        final RecordingSubscriber<Integer> illegal = new RecordingSubscriber<>();
+        ResultPublishers.publishResultsOf(completedFuture(n)).subscribe(illegal);
+        illegal.subscription.request(0);
+        assertInstanceOf(IllegalArgumentException.class, illegal.error);
+        assertTrue(illegal.results.isEmpty());
+
+        // no stages
+        final RecordingSubscriber<Integer> empty = new RecordingSubscriber<>();
+        ResultPublishers.<Integer>publishResultsOf().subscribe(empty);
+        assertTrue(empty.completed);
+    }
+
+    @Test
+    void test_publishResultsOf__nonPositiveRequest() throws Exception {
+        // after onComplete, no error is signaled
+        final RecordingSubscriber<Integer> completed = new RecordingSubscriber<>();
+        ResultPublishers.publishResultsOf(completedFuture(n)).subscribe(completed);
+        completed.subscription.request(Long.MAX_VALUE);
+        completed.subscription.request(0);
+        assertTrue(completed.completed);
+        assertNull(completed.error);
+        assertFalse(completed.violated);
+
+        // requested in onNext, the error does not overlap the running onNext
+        final RecordingSubscriber<Integer> reentrant = new RecordingSubscriber<Integer>() {
+            @Override
+            public void onNext(IndexedResult<Integer> item) {
+                super.onNext(item);
+                subscription.request(-1);
+            }
+        };
+        ResultPublishers.publishResultsOf(completedFuture(n), completedFuture(anotherN)).subscribe(reentrant);
+        reentrant.subscription.request(Long.MAX_VALUE);
+        assertEquals(1, reentrant.results.size());
+        assertInstanceOf(IllegalArgumentException.class, reentrant.error);
+        assertFalse(reentrant.completed);
+        assertFalse(reentrant.violated);
+
+        // requested while the items are still arriving from other threads
+        final ExecutorService pool = Executors.newFixedThreadPool(4);
+        try {
+            for (int round = 0; round < 100; round++) {
+                final List<CompletableFuture<Integer>> cfs = new ArrayList<>();
+                for (int i = 0; i < 100; i++) cfs.add(CompletableFuture.supplyAsync(() -> n, pool));
+                final RecordingSubscriber<Integer> racing = new RecordingSubscriber<>();
+                ResultPublishers.publishResultsOf(cfs.toArray(new CompletableFuture[0])).subscribe(racing);
+                racing.subscription.request(Long.MAX_VALUE);
+                racing.subscription.request(0);
+                CompletableFuture.allOf(cfs.toArray(new CompletableFuture[0])).get();
+
+                assertFalse(racing.violated);
+                assertTrue(racing.completed ^ racing.error != null);
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    private static class RecordingSubscriber<T> implements Flow.Subscriber<IndexedResult<T>> {
+        final List<IndexedResult<T>> results = new ArrayList<>();
+        final AtomicBoolean signaling = new AtomicBoolean();
+        Flow.Subscription subscription;
+        volatile boolean completed;
+        volatile Throwable error;
+        /**
+         * Whether a signal overlaps another one, or follows the terminal signal.
+         */
+        volatile boolean violated;
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+        }
+
+        @Override
+        public void onNext(IndexedResult<T> item) {
+            enter();
+            results.add(item);
+            exit();
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            enter();
+            error = throwable;
+            exit();
+        }
+
+        @Override
+        public void onComplete() {
+            enter();
+            completed = true;
+            exit();
+        }
+
+        private void enter() {
+            if (completed || error != null || !signaling.compareAndSet(false, true)) violated = true;
+        }
+
+        private void exit() {
+            signaling.set(false);
+        }
+    }
+}
@@ -3,6 +3,8 @@ package io.foldright.cffu.kotlin
 import io.foldright.cffu.Cffu
 import io.foldright.cffu.CffuFactory
 import io.foldright.cffu.CffuFactoryBuilder
+import io.foldright.cffu.KeyedResults
+import io.foldright.cffu.Try
 import java.util.concurrent.CompletableFuture
 import java.util.concurrent.CompletionStage
 import java.util.concurrent.Executor
@@ -378,7 +380,7 @@ private fun Array<out Cffu<*>>.resolveFac(cffuFactory: CffuFactory): CffuFactory
  * @see CffuFactory.allResultsFailFastOf
  */
 fun <T> Collection<Cffu<out T>>.allResultsFailFastOfCffu(cffuFactory: CffuFactory = ABSENT): Cffu<List<T>> =
-    resolveFac(cffuFactory).allResultsFailFastOf(*toTypedArray())
+    resolveFac(cffuFactory).allResultsFailFastOf(this)
 
 /**
  * Returns a new Cffu with the results in the **same order** of the given Cffus arguments,
@@ -416,7 +418,7 @@ fun <T> Array<out Cffu<out T>>.allResultsFailFastOfCffu(cffuFactory: CffuFactory
  */
 @JvmName("allResultsFailFastOfCffuCs")
 fun <T> Collection<CompletionStage<out T>>.allResultsFailFastOfCffu(cffuFactory: CffuFactory): Cffu<List<T>> =
-    cffuFactory.allResultsFailFastOf(*toTypedArray())
+    cffuFactory.allResultsFailFastOf(this)
 
 /**
  * Returns a new Cffu with the results in the **same order** of the given stages arguments,
@@ -454,7 +456,7 @@ fun <T> Array<out CompletionStage<out T>>.allResultsFailFastOfCffu(cffuFactory:
  */
 fun <T> Collection<Cffu<out T>>.allSuccessResultsOfCffu(
     valueIfFailed: T, cffuFactory: CffuFactory = ABSENT
-): Cffu<List<T>> = resolveFac(cffuFactory).allSuccessResultsOf(valueIfFailed, *toTypedArray())
+): Cffu<List<T>> = resolveFac(cffuFactory).allSuccessResultsOf(valueIfFailed, this)
 
 /**
  * Returns a new Cffu that is successful with the results in the **same order**
@@ -494,7 +496,7 @@ fun <T> Array<out Cffu<out T>>.allSuccessResultsOfCffu(
 @JvmName("allSuccessResultsOfCffuCs")
 fun <T> Collection<CompletionStage<out T>>.allSuccessResultsOfCffu(
     valueIfFailed: T, cffuFactory: CffuFactory
-): Cffu<List<T>> = cffuFactory.allSuccessResultsOf(valueIfFailed, *toTypedArray())
+): Cffu<List<T>> = cffuFactory.allSuccessResultsOf(valueIfFailed, this)
 
 /**
  * Returns a new Cffu that is successful with the results in the **same order**
@@ -531,7 +533,7 @@ fun <T> Array<out CompletionStage<out T>>.allSuccessResultsOfCffu(
  */
 fun <T> Collection<Cffu<out T>>.mostSuccessResultsOfCffu(
     valueIfNotSuccess: T, timeout: Long, unit: TimeUnit, cffuFactory: CffuFactory = ABSENT
-): Cffu<List<T>> = resolveFac(cffuFactory).mostSuccessResultsOf(valueIfNotSuccess, timeout, unit, *toTypedArray())
+): Cffu<List<T>> = resolveFac(cffuFactory).mostSuccessResultsOf(valueIfNotSuccess, timeout, unit, this)
 
 /**
  * Returns a new Cffu with the most results in the **same order** of
@@ -568,7 +570,7 @@ fun <T> Array<out Cffu<out T>>.mostSuccessResultsOfCffu(
 @JvmName("mostSuccessResultsOfCffuCs")
 fun <T> Collection<CompletionStage<out T>>.mostSuccessResultsOfCffu(
     valueIfNotSuccess: T, timeout: Long, unit: TimeUnit, cffuFactory: CffuFactory
-): Cffu<List<T>> = cffuFactory.mostSuccessResultsOf(valueIfNotSuccess, timeout, unit, *toTypedArray())
+): Cffu<List<T>> = cffuFactory.mostSuccessResultsOf(valueIfNotSuccess, timeout, unit, this)
 
 /**
  * Returns a new Cffu with the most results in the **same order** of
@@ -605,7 +607,7 @@ fun <T> Array<out CompletionStage<out T>>.mostSuccessResultsOfCffu(
  * @see CffuFactory.allResultsOf
  */
 fun <T> Collection<Cffu<out T>>.allResultsOfCffu(cffuFactory: CffuFactory = ABSENT): Cffu<List<T>> =
-    resolveFac(cffuFactory).allResultsOf(*toTypedArray())
+    resolveFac(cffuFactory).allResultsOf(this)
 
 /**
  * Returns a new Cffu with the results in the **same order** of the given Cffus arguments,
@@ -641,7 +643,7 @@ fun <T> Array<out Cffu<out T>>.allResultsOfCffu(cffuFactory: CffuFactory = ABSEN
  */
 @JvmName("allResultsOfCffuCs")
 fun <T> Collection<CompletionStage<out T>>.allResultsOfCffu(cffuFactory: CffuFactory): Cffu<List<T>> =
-    cffuFactory.allResultsOf(*toTypedArray())
+    cffuFactory.allResultsOf(this)
 
 /**
  * Returns a new Cffu with the results in the **same order** of the given stages arguments,
@@ -659,6 +661,32 @@ fun <T> Collection<CompletionStage<out T>>.allResultsOfCffu(cffuFactory: CffuFac
 fun <T> Array<out CompletionStage<out T>>.allResultsOfCffu(cffuFactory: CffuFactory): Cffu<List<T>> =
     cffuFactory.allResultsOf(*this)
 
+/**
+ * Returns a new Cffu with the settled outcomes(as [Try]) in the **same order** of all the given stages arguments,
+ * the returned new Cffu is completed when all the given stages complete,
+ * and never completes exceptionally because of the given stages.
+ * If no stages are provided, returns a Cffu completed with the value empty list.
+ *
+ * This method is the same as [CffuFactory.allSettledOf], providing this method is convenient for method chaining.
+ *
+ * @see allResultsOfCffu
+ */
+fun <T> Collection<CompletionStage<out T>>.allSettledOfCffu(cffuFactory: CffuFactory): Cffu<List<Try<T>>> =
+    cffuFactory.allSettledOf(this)
+
+/**
+ * Returns a new Cffu with the settled outcomes(as [Try]) in the **same order** of all the given stages arguments,
+ * the returned new Cffu is completed when all the given stages complete,
+ * and never completes exceptionally because of the given stages.
+ * If no stages are provided, returns a Cffu completed with the value empty list.
+ *
+ * This method is the same as [CffuFactory.allSettledOf], providing this method is convenient for method chaining.
+ *
+ * @see allResultsOfCffu
+ */
+fun <T> Array<out CompletionStage<out T>>.allSettledOfCffu(cffuFactory: CffuFactory): Cffu<List<Try<T>>> =
+    cffuFactory.allSettledOf(*this)
+
 /**
  * Returns a new Cffu that is successful when all the given Cffus success,
  * the results(`Cffu<Void>`) of the given Cffus are not reflected in the returned Cffu,
@@ -677,7 +705,7 @@ fun <T> Array<out CompletionStage<out T>>.allResultsOfCffu(cffuFactory: CffuFact
  * @see CffuFactory.allFailFastOf
  */
 fun Collection<Cffu<*>>.allFailFastOfCffu(cffuFactory: CffuFactory = ABSENT): Cffu<Void> =
-    resolveFac(cffuFactory).allFailFastOf(*toTypedArray())
+    resolveFac(cffuFactory).allFailFastOf(this)
 
 /**
  * Returns a new Cffu that is successful when all the given Cffus success,
@@ -715,7 +743,7 @@ fun Array<out Cffu<*>>.allFailFastOfCffu(cffuFactory: CffuFactory = ABSENT): Cff
  */
 @JvmName("allFailFastOfCffuCs")
 fun Collection<CompletionStage<*>>.allFailFastOfCffu(cffuFactory: CffuFactory): Cffu<Void> =
-    cffuFactory.allFailFastOf(*toTypedArray())
+    cffuFactory.allFailFastOf(this)
 
 /**
  * Returns a new Cffu that is successful when all the given stages success,
@@ -806,6 +834,69 @@ fun Array<out CompletionStage<*>>.allOfCffu(cffuFactory: CffuFactory): Cffu<Void
     cffuFactory.allOf(*this)
 
 // endregion
+////////////////////////////////////////////////////////////////////////////////
+// region# Keyed allOf* Methods for Map
+////////////////////////////////////////////////////////////////////////////////
+
+/**
+ * Returns a new Cffu with the results of all the given stages by the same keys,
+ * the new Cffu success when all the given stages success.
+ * If any of the given stages complete exceptionally, then the returned Cffu
+ * also does so *without* waiting other incomplete given stages,
+ * with a CompletionException holding this exception as its cause.
+ * If no stages are provided, returns a Cffu completed with the value empty map.
+ *
+ * This method is the same as [CffuFactory.allResultsFailFastOfMap], providing this method is convenient for method chaining.
+ */
+fun <K, V> Map<K, CompletionStage<out V>>.allResultsFailFastOfMapCffu(cffuFactory: CffuFactory): Cffu<Map<K, V>> =
+    cffuFactory.allResultsFailFastOfMap(this)
+
+/**
+ * Returns a new Cffu with the results of all the given stages by the same keys,
+ * the new Cffu success when all the given stages success.
+ * If any of the given stages complete exceptionally, then the returned Cffu
+ * also does so, with a CompletionException holding this exception as its cause.
+ * If no stages are provided, returns a Cffu completed with the value empty map.
+ *
+ * This method is the same as [CffuFactory.allResultsOfMap], providing this method is convenient for method chaining.
+ */
+fun <K, V> Map<K, CompletionStage<out V>>.allResultsOfMapCffu(cffuFactory: CffuFactory): Cffu<Map<K, V>> =
+    cffuFactory.allResultsOfMap(this)
+
+/**
+ * Returns a new Cffu with the [KeyedResults] of the given stages when all the given stages completed:
+ * the successful results by the same keys, and the keys of the failed stages as [KeyedResults.missingKeys].
+ *
+ * This method is the same as [CffuFactory.allSuccessResultsOfMap], providing this method is convenient for method chaining.
+ */
+fun <K, V> Map<K, CompletionStage<out V>>.allSuccessResultsOfMapCffu(cffuFactory: CffuFactory): Cffu<KeyedResults<K, V>> =
+    cffuFactory.allSuccessResultsOfMap(this)
+
+/**
+ * Returns a new Cffu with the [KeyedResults] of the given stages in the given time
+ * (`timeout`, aka as many results as possible in the given time): the successful results by the same keys,
+ * and the keys of the stages not completed normally(fails or incomplete) as [KeyedResults.missingKeys].
+ *
+ * This method is the same as [CffuFactory.mostSuccessResultsOfMap], providing this method is convenient for method chaining.
+ *
+ * @param timeout how long to wait in units of `unit`
+ * @param unit a `TimeUnit` determining how to interpret the `timeout` parameter
+ */
+fun <K, V> Map<K, CompletionStage<out V>>.mostSuccessResultsOfMapCffu(
+    cffuFactory: CffuFactory, timeout: Long, unit: TimeUnit
+): Cffu<KeyedResults<K, V>> = cffuFactory.mostSuccessResultsOfMap(timeout, unit, this)
+
+/**
+ * Returns a new Cffu with the settled outcomes(as [Try]) of the given stages by the same keys,
+ * the returned new Cffu is completed when all the given stages complete,
+ * and never completes exceptionally because of the given stages.
+ * If no stages are provided, returns a Cffu completed with the value empty map.
+ *
+ * This method is the same as [CffuFactory.allSettledOfMap], providing this method is convenient for method chaining.
+ */
+fun <K, V> Map<K, CompletionStage<out V>>.allSettledOfMapCffu(cffuFactory: CffuFactory): Cffu<Map<K, Try<V>>> =
+    cffuFactory.allSettledOfMap(this)
+
 ////////////////////////////////////////////////////////////////////////////////
 // region# anyOf* methods for Collection/Array
 ////////////////////////////////////////////////////////////////////////////////
@@ -827,7 +918,7 @@ fun Array<out CompletionStage<*>>.allOfCffu(cffuFactory: CffuFactory): Cffu<Void
  * @see CffuFactory.anySuccessOf
  */
 fun <T> Collection<Cffu<out T>>.anySuccessOfCffu(cffuFactory: CffuFactory = ABSENT): Cffu<T> =
-    resolveFac(cffuFactory).anySuccessOf(*toTypedArray())
+    resolveFac(cffuFactory).anySuccessOf(this)
 
 /**
  * Returns a new Cffu that is successful when any of the given Cffus success,
@@ -863,7 +954,7 @@ fun <T> Array<out Cffu<out T>>.anySuccessOfCffu(cffuFactory: CffuFactory = ABSEN
  */
 @JvmName("anySuccessOfCffuCs")
 fun <T> Collection<CompletionStage<out T>>.anySuccessOfCffu(cffuFactory: CffuFactory): Cffu<T> =
-    cffuFactory.anySuccessOf(*toTypedArray())
+    cffuFactory.anySuccessOf(this)
 
 /**
  * Returns a new Cffu that is successful when any of the given stages success,
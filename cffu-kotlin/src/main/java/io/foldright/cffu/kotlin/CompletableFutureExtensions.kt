@@ -6,6 +6,12 @@ import com.google.common.util.concurrent.Futures
 import io.foldright.cffu.Cffu
 import io.foldright.cffu.CffuState
 import io.foldright.cffu.CompletableFutureUtils
+import io.foldright.cffu.KeyedResults
+import io.foldright.cffu.Try
+import io.foldright.cffu.function.Function2
+import io.foldright.cffu.function.Function3
+import io.foldright.cffu.function.Function4
+import io.foldright.cffu.function.Function5
 import io.foldright.cffu.tuple.Tuple2
 import io.foldright.cffu.tuple.Tuple3
 import io.foldright.cffu.tuple.Tuple4
@@ -342,7 +348,7 @@ fun Array<out Runnable>.mRunAnyAsyncCompletableFuture(executor: Executor = ASYNC
  * @see allFailFastOfCompletableFuture
  */
 fun <T> Collection<CompletionStage<out T>>.allResultsFailFastOfCompletableFuture(): CompletableFuture<List<T>> =
-    CompletableFutureUtils.allResultsFailFastOf(*toTypedArray())
+    CompletableFutureUtils.allResultsFailFastOf(this)
 
 /**
  * Returns a new CompletableFuture with the results in the **same order** of all the given CompletableFutures arguments,
@@ -376,7 +382,7 @@ fun <T> Array<out CompletionStage<out T>>.allResultsFailFastOfCompletableFuture(
  * @see Futures.successfulAsList
  */
 fun <T> Collection<CompletionStage<out T>>.allSuccessResultsOfCompletableFuture(valueIfFailed: T): CompletableFuture<List<T>> =
-    CompletableFutureUtils.allSuccessResultsOf(valueIfFailed, *toTypedArray())
+    CompletableFutureUtils.allSuccessResultsOf(valueIfFailed, this)
 
 /**
  * Returns a new CompletableFuture that is successful with the results in the **same order**
@@ -409,7 +415,7 @@ fun <T> Array<out CompletionStage<out T>>.allSuccessResultsOfCompletableFuture(v
 fun <T> Collection<CompletionStage<out T>>.mostSuccessResultsOfCompletableFuture(
     valueIfNotSuccess: T, timeout: Long, unit: TimeUnit
 ): CompletableFuture<List<T>> =
-    CompletableFutureUtils.mostSuccessResultsOf(valueIfNotSuccess, timeout, unit, *toTypedArray())
+    CompletableFutureUtils.mostSuccessResultsOf(valueIfNotSuccess, timeout, unit, this)
 
 /**
  * Returns a new CompletableFuture with the most results in the **same order** of the given stages arguments
@@ -444,7 +450,7 @@ fun <T> Array<out CompletionStage<out T>>.mostSuccessResultsOfCompletableFuture(
 fun <T> Collection<CompletionStage<out T>>.mostSuccessResultsOfCompletableFuture(
     valueIfNotSuccess: T, executorWhenTimeout: Executor, timeout: Long, unit: TimeUnit
 ): CompletableFuture<List<T>> =
-    CompletableFutureUtils.mostSuccessResultsOf(executorWhenTimeout, valueIfNotSuccess, timeout, unit, *toTypedArray())
+    CompletableFutureUtils.mostSuccessResultsOf(executorWhenTimeout, valueIfNotSuccess, timeout, unit, this)
 
 /**
  * Returns a new CompletableFuture with the most results in the **same order** of the given stages arguments
@@ -479,7 +485,7 @@ fun <T> Array<out CompletionStage<out T>>.mostSuccessResultsOfCompletableFuture(
  * @see allOfCompletableFuture
  */
 fun <T> Collection<CompletionStage<out T>>.allResultsOfCompletableFuture(): CompletableFuture<List<T>> =
-    CompletableFutureUtils.allResultsOf(*toTypedArray())
+    CompletableFutureUtils.allResultsOf(this)
 
 /**
  * Returns a new CompletableFuture with the results in the **same order** of all the given CompletableFutures arguments,
@@ -498,6 +504,34 @@ fun <T> Collection<CompletionStage<out T>>.allResultsOfCompletableFuture(): Comp
 fun <T> Array<out CompletionStage<out T>>.allResultsOfCompletableFuture(): CompletableFuture<List<T>> =
     CompletableFutureUtils.allResultsOf(*this)
 
+/**
+ * Returns a new CompletableFuture with the settled outcomes(as [Try]) in the **same order** of all the given
+ * CompletableFutures arguments, the returned new CompletableFuture is completed when all the given CompletableFutures
+ * complete, and never completes exceptionally because of the given CompletableFutures.
+ * If no CompletableFutures are provided, returns a CompletableFuture completed with the value empty list.
+ *
+ * This method is the same as [CompletableFutureUtils.allSettledOf],
+ * providing this method is convenient for method chaining.
+ *
+ * @see allResultsOfCompletableFuture
+ */
+fun <T> Collection<CompletionStage<out T>>.allSettledOfCompletableFuture(): CompletableFuture<List<Try<T>>> =
+    CompletableFutureUtils.allSettledOf(this)
+
+/**
+ * Returns a new CompletableFuture with the settled outcomes(as [Try]) in the **same order** of all the given
+ * CompletableFutures arguments, the returned new CompletableFuture is completed when all the given CompletableFutures
+ * complete, and never completes exceptionally because of the given CompletableFutures.
+ * If no CompletableFutures are provided, returns a CompletableFuture completed with the value empty list.
+ *
+ * This method is the same as [CompletableFutureUtils.allSettledOf],
+ * providing this method is convenient for method chaining.
+ *
+ * @see allResultsOfCompletableFuture
+ */
+fun <T> Array<out CompletionStage<out T>>.allSettledOfCompletableFuture(): CompletableFuture<List<Try<T>>> =
+    CompletableFutureUtils.allSettledOf(*this)
+
 /**
  * Returns a new CompletableFuture that is successful when all the given CompletableFutures success,
  * the results(`CompletableFuture<Void>`) of the given CompletableFutures are not reflected
@@ -515,7 +549,7 @@ fun <T> Array<out CompletionStage<out T>>.allResultsOfCompletableFuture(): Compl
  * @see allResultsFailFastOfCompletableFuture
  */
 fun Collection<CompletionStage<*>>.allFailFastOfCompletableFuture(): CompletableFuture<Void> =
-    CompletableFutureUtils.allFailFastOf(*toTypedArray())
+    CompletableFutureUtils.allFailFastOf(this)
 
 /**
  * Returns a new CompletableFuture that is successful when all the given CompletableFutures success,
@@ -571,6 +605,92 @@ fun Array<out CompletionStage<*>>.allOfCompletableFuture(): CompletableFuture<Vo
     CompletableFutureUtils.allOf(*this)
 
 // endregion
+////////////////////////////////////////////////////////////
+// region## Keyed allOf* Methods for Map
+////////////////////////////////////////////////////////////
+
+/**
+ * Returns a new CompletableFuture with the results of all the given stages by the same keys,
+ * the new CompletableFuture success when all the given stages success.
+ * If any of the given stages complete exceptionally, then the returned CompletableFuture
+ * also does so *without* waiting other incomplete given stages,
+ * with a CompletionException holding this exception as its cause.
+ * If no stages are provided, returns a CompletableFuture completed with the value empty map.
+ *
+ * This method is the same as [CompletableFutureUtils.allResultsFailFastOfMap],
+ * providing this method is convenient for method chaining.
+ */
+fun <K, V> Map<K, CompletionStage<out V>>.allResultsFailFastOfMapCompletableFuture(): CompletableFuture<Map<K, V>> =
+    CompletableFutureUtils.allResultsFailFastOfMap(this)
+
+/**
+ * Returns a new CompletableFuture with the results of all the given stages by the same keys,
+ * the new CompletableFuture success when all the given stages success.
+ * If any of the given stages complete exceptionally, then the returned CompletableFuture
+ * also does so, with a CompletionException holding this exception as its cause.
+ * If no stages are provided, returns a CompletableFuture completed with the value empty map.
+ *
+ * This method is the same as [CompletableFutureUtils.allResultsOfMap],
+ * providing this method is convenient for method chaining.
+ */
+fun <K, V> Map<K, CompletionStage<out V>>.allResultsOfMapCompletableFuture(): CompletableFuture<Map<K, V>> =
+    CompletableFutureUtils.allResultsOfMap(this)
+
+/**
+ * Returns a new CompletableFuture with the [KeyedResults] of the given stages when all the given stages completed:
+ * the successful results by the same keys, and the keys of the failed stages as [KeyedResults.missingKeys].
+ *
+ * This method is the same as [CompletableFutureUtils.allSuccessResultsOfMap],
+ * providing this method is convenient for method chaining.
+ */
+fun <K, V> Map<K, CompletionStage<out V>>.allSuccessResultsOfMapCompletableFuture(): CompletableFuture<KeyedResults<K, V>> =
+    CompletableFutureUtils.allSuccessResultsOfMap(this)
+
+/**
+ * Returns a new CompletableFuture with the [KeyedResults] of the given stages in the given time
+ * (`timeout`, aka as many results as possible in the given time): the successful results by the same keys,
+ * and the keys of the stages not completed normally(fails or incomplete) as [KeyedResults.missingKeys].
+ *
+ * This method is the same as [CompletableFutureUtils.mostSuccessResultsOfMap],
+ * providing this method is convenient for method chaining.
+ *
+ * @param timeout how long to wait in units of `unit`
+ * @param unit a `TimeUnit` determining how to interpret the `timeout` parameter
+ */
+fun <K, V> Map<K, CompletionStage<out V>>.mostSuccessResultsOfMapCompletableFuture(
+    timeout: Long, unit: TimeUnit
+): CompletableFuture<KeyedResults<K, V>> =
+    CompletableFutureUtils.mostSuccessResultsOfMap(timeout, unit, this)
+
+/**
+ * Returns a new CompletableFuture with the [KeyedResults] of the given stages in the given time
+ * (`timeout`, aka as many results as possible in the given time): the successful results by the same keys,
+ * and the keys of the stages not completed normally(fails or incomplete) as [KeyedResults.missingKeys].
+ *
+ * This method is the same as [CompletableFutureUtils.mostSuccessResultsOfMap],
+ * providing this method is convenient for method chaining.
+ *
+ * @param executorWhenTimeout the async executor when triggered by timeout
+ * @param timeout how long to wait in units of `unit`
+ * @param unit a `TimeUnit` determining how to interpret the `timeout` parameter
+ */
+fun <K, V> Map<K, CompletionStage<out V>>.mostSuccessResultsOfMapCompletableFuture(
+    executorWhenTimeout: Executor, timeout: Long, unit: TimeUnit
+): CompletableFuture<KeyedResults<K, V>> =
+    CompletableFutureUtils.mostSuccessResultsOfMap(executorWhenTimeout, timeout, unit, this)
+
+/**
+ * Returns a new CompletableFuture with the settled outcomes(as [Try]) of the given stages by the same keys,
+ * the returned new CompletableFuture is completed when all the given stages complete,
+ * and never completes exceptionally because of the given stages.
+ * If no stages are provided, returns a CompletableFuture completed with the value empty map.
+ *
+ * This method is the same as [CompletableFutureUtils.allSettledOfMap],
+ * providing this method is convenient for method chaining.
+ */
+fun <K, V> Map<K, CompletionStage<out V>>.allSettledOfMapCompletableFuture(): CompletableFuture<Map<K, Try<V>>> =
+    CompletableFutureUtils.allSettledOfMap(this)
+
 ////////////////////////////////////////////////////////////
 // region## anyOf* methods for Collection/Array
 ////////////////////////////////////////////////////////////
@@ -589,7 +709,7 @@ fun Array<out CompletionStage<*>>.allOfCompletableFuture(): CompletableFuture<Vo
  * @see anyOfCompletableFuture
  */
 fun <T> Collection<CompletionStage<out T>>.anySuccessOfCompletableFuture(): CompletableFuture<T> =
-    CompletableFutureUtils.anySuccessOf(*toTypedArray())
+    CompletableFutureUtils.anySuccessOf(this)
 
 /**
  * Returns a new CompletableFuture that is successful when any of the given CompletableFutures success,
@@ -634,6 +754,187 @@ fun <T> Collection<CompletionStage<out T>>.anyOfCompletableFuture(): Completable
 fun <T> Array<out CompletionStage<out T>>.anyOfCompletableFuture(): CompletableFuture<T> =
     CompletableFutureUtils.anyOf(*this)
 
+// endregion
+////////////////////////////////////////////////////////////
+// region## allCombine* Methods(fixed-arity input, combine results by FunctionX without TupleX)
+////////////////////////////////////////////////////////////
+
+/**
+ * Returns a new CompletableFuture that is completed with the result of the given function applied to
+ * the results of this and the other given stages, with fail-fast support.
+ *
+ * This method is the same as [CompletableFutureUtils.allCombineFailFastOf],
+ * providing this method is convenient for method chaining.
+ *
+ * @param fn the function to combine the results of the given stages
+ */
+fun <T1, T2, R> CompletionStage<out T1>.allCombineFailFastOfCompletableFuture(
+    cf2: CompletionStage<out T2>, fn: Function2<in T1, in T2, out R>
+): CompletableFuture<R> = CompletableFutureUtils.allCombineFailFastOf(this, cf2, fn)
+
+/**
+ * Returns a new CompletableFuture that is completed with the result of the given function applied to
+ * the results of this and the other given stages, with fail-fast support.
+ *
+ * This method is the same as [CompletableFutureUtils.allCombineFailFastOf],
+ * providing this method is convenient for method chaining.
+ *
+ * @param fn the function to combine the results of the given stages
+ */
+fun <T1, T2, T3, R> CompletionStage<out T1>.allCombineFailFastOfCompletableFuture(
+    cf2: CompletionStage<out T2>, cf3: CompletionStage<out T3>, fn: Function3<in T1, in T2, in T3, out R>
+): CompletableFuture<R> = CompletableFutureUtils.allCombineFailFastOf(this, cf2, cf3, fn)
+
+/**
+ * Returns a new CompletableFuture that is completed with the result of the given function applied to
+ * the results of this and the other given stages, with fail-fast support.
+ *
+ * This method is the same as [CompletableFutureUtils.allCombineFailFastOf],
+ * providing this method is convenient for method chaining.
+ *
+ * @param fn the function to combine the results of the given stages
+ */
+fun <T1, T2, T3, T4, R> CompletionStage<out T1>.allCombineFailFastOfCompletableFuture(
+    cf2: CompletionStage<out T2>, cf3: CompletionStage<out T3>, cf4: CompletionStage<out T4>, fn: Function4<in T1, in T2, in T3, in T4, out R>
+): CompletableFuture<R> = CompletableFutureUtils.allCombineFailFastOf(this, cf2, cf3, cf4, fn)
+
+/**
+ * Returns a new CompletableFuture that is completed with the result of the given function applied to
+ * the results of this and the other given stages, with fail-fast support.
+ *
+ * This method is the same as [CompletableFutureUtils.allCombineFailFastOf],
+ * providing this method is convenient for method chaining.
+ *
+ * @param fn the function to combine the results of the given stages
+ */
+fun <T1, T2, T3, T4, T5, R> CompletionStage<out T1>.allCombineFailFastOfCompletableFuture(
+    cf2: CompletionStage<out T2>, cf3: CompletionStage<out T3>, cf4: CompletionStage<out T4>, cf5: CompletionStage<out T5>, fn: Function5<in T1, in T2, in T3, in T4, in T5, out R>
+): CompletableFuture<R> = CompletableFutureUtils.allCombineFailFastOf(this, cf2, cf3, cf4, cf5, fn)
+
+/**
+ * Returns a new CompletableFuture that is completed with the result of the given function applied to
+ * the results of this and the other given stages when all of them complete.
+ * If any of the provided stages fails, its corresponding argument of the function will be `null`.
+ *
+ * This method is the same as [CompletableFutureUtils.allSuccessCombineOf],
+ * providing this method is convenient for method chaining.
+ *
+ * @param fn the function to combine the results of the given stages
+ */
+fun <T1, T2, R> CompletionStage<out T1>.allSuccessCombineOfCompletableFuture(
+    cf2: CompletionStage<out T2>, fn: Function2<in T1, in T2, out R>
+): CompletableFuture<R> = CompletableFutureUtils.allSuccessCombineOf(this, cf2, fn)
+
+/**
+ * Returns a new CompletableFuture that is completed with the result of the given function applied to
+ * the results of this and the other given stages when all of them complete.
+ * If any of the provided stages fails, its corresponding argument of the function will be `null`.
+ *
+ * This method is the same as [CompletableFutureUtils.allSuccessCombineOf],
+ * providing this method is convenient for method chaining.
+ *
+ * @param fn the function to combine the results of the given stages
+ */
+fun <T1, T2, T3, R> CompletionStage<out T1>.allSuccessCombineOfCompletableFuture(
+    cf2: CompletionStage<out T2>, cf3: CompletionStage<out T3>, fn: Function3<in T1, in T2, in T3, out R>
+): CompletableFuture<R> = CompletableFutureUtils.allSuccessCombineOf(this, cf2, cf3, fn)
+
+/**
+ * Returns a new CompletableFuture that is completed with the result of the given function applied to
+ * the results of this and the other given stages when all of them complete.
+ * If any of the provided stages fails, its corresponding argument of the function will be `null`.
+ *
+ * This method is the same as [CompletableFutureUtils.allSuccessCombineOf],
+ * providing this method is convenient for method chaining.
+ *
+ * @param fn the function to combine the results of the given stages
+ */
+fun <T1, T2, T3, T4, R> CompletionStage<out T1>.allSuccessCombineOfCompletableFuture(
+    cf2: CompletionStage<out T2>, cf3: CompletionStage<out T3>, cf4: CompletionStage<out T4>, fn: Function4<in T1, in T2, in T3, in T4, out R>
+): CompletableFuture<R> = CompletableFutureUtils.allSuccessCombineOf(this, cf2, cf3, cf4, fn)
+
+/**
+ * Returns a new CompletableFuture that is completed with the result of the given function applied to
+ * the results of this and the other given stages when all of them complete.
+ * If any of the provided stages fails, its corresponding argument of the function will be `null`.
+ *
+ * This method is the same as [CompletableFutureUtils.allSuccessCombineOf],
+ * providing this method is convenient for method chaining.
+ *
+ * @param fn the function to combine the results of the given stages
+ */
+fun <T1, T2, T3, T4, T5, R> CompletionStage<out T1>.allSuccessCombineOfCompletableFuture(
+    cf2: CompletionStage<out T2>, cf3: CompletionStage<out T3>, cf4: CompletionStage<out T4>, cf5: CompletionStage<out T5>, fn: Function5<in T1, in T2, in T3, in T4, in T5, out R>
+): CompletableFuture<R> = CompletableFutureUtils.allSuccessCombineOf(this, cf2, cf3, cf4, cf5, fn)
+
+/**
+ * Returns a new CompletableFuture that is completed with the result of the given function applied to
+ * the results of this and the other given stages in the given time(`timeout`).
+ * If any of the provided stages is not completed normally in given time,
+ * its corresponding argument of the function will be `null`.
+ *
+ * This method is the same as [CompletableFutureUtils.mostSuccessCombineOf],
+ * providing this method is convenient for method chaining.
+ *
+ * @param timeout how long to wait in units of `unit`
+ * @param unit a `TimeUnit` determining how to interpret the `timeout` parameter
+ * @param fn the function to combine the results of the given stages
+ */
+fun <T1, T2, R> CompletionStage<out T1>.mostSuccessCombineOfCompletableFuture(
+    timeout: Long, unit: TimeUnit, cf2: CompletionStage<out T2>, fn: Function2<in T1, in T2, out R>
+): CompletableFuture<R> = CompletableFutureUtils.mostSuccessCombineOf(timeout, unit, this, cf2, fn)
+
+/**
+ * Returns a new CompletableFuture that is completed with the result of the given function applied to
+ * the results of this and the other given stages in the given time(`timeout`).
+ * If any of the provided stages is not completed normally in given time,
+ * its corresponding argument of the function will be `null`.
+ *
+ * This method is the same as [CompletableFutureUtils.mostSuccessCombineOf],
+ * providing this method is convenient for method chaining.
+ *
+ * @param timeout how long to wait in units of `unit`
+ * @param unit a `TimeUnit` determining how to interpret the `timeout` parameter
+ * @param fn the function to combine the results of the given stages
+ */
+fun <T1, T2, T3, R> CompletionStage<out T1>.mostSuccessCombineOfCompletableFuture(
+    timeout: Long, unit: TimeUnit, cf2: CompletionStage<out T2>, cf3: CompletionStage<out T3>, fn: Function3<in T1, in T2, in T3, out R>
+): CompletableFuture<R> = CompletableFutureUtils.mostSuccessCombineOf(timeout, unit, this, cf2, cf3, fn)
+
+/**
+ * Returns a new CompletableFuture that is completed with the result of the given function applied to
+ * the results of this and the other given stages in the given time(`timeout`).
+ * If any of the provided stages is not completed normally in given time,
+ * its corresponding argument of the function will be `null`.
+ *
+ * This method is the same as [CompletableFutureUtils.mostSuccessCombineOf],
+ * providing this method is convenient for method chaining.
+ *
+ * @param timeout how long to wait in units of `unit`
+ * @param unit a `TimeUnit` determining how to interpret the `timeout` parameter
+ * @param fn the function to combine the results of the given stages
+ */
+fun <T1, T2, T3, T4, R> CompletionStage<out T1>.mostSuccessCombineOfCompletableFuture(
+    timeout: Long, unit: TimeUnit, cf2: CompletionStage<out T2>, cf3: CompletionStage<out T3>, cf4: CompletionStage<out T4>, fn: Function4<in T1, in T2, in T3, in T4, out R>
+): CompletableFuture<R> = CompletableFutureUtils.mostSuccessCombineOf(timeout, unit, this, cf2, cf3, cf4, fn)
+
+/**
+ * Returns a new CompletableFuture that is completed with the result of the given function applied to
+ * the results of this and the other given stages in the given time(`timeout`).
+ * If any of the provided stages is not completed normally in given time,
+ * its corresponding argument of the function will be `null`.
+ *
+ * This method is the same as [CompletableFutureUtils.mostSuccessCombineOf],
+ * providing this method is convenient for method chaining.
+ *
+ * @param timeout how long to wait in units of `unit`
+ * @param unit a `TimeUnit` determining how to interpret the `timeout` parameter
+ * @param fn the function to combine the results of the given stages
+ */
+fun <T1, T2, T3, T4, T5, R> CompletionStage<out T1>.mostSuccessCombineOfCompletableFuture(
+    timeout: Long, unit: TimeUnit, cf2: CompletionStage<out T2>, cf3: CompletionStage<out T3>, cf4: CompletionStage<out T4>, cf5: CompletionStage<out T5>, fn: Function5<in T1, in T2, in T3, in T4, in T5, out R>
+): CompletableFuture<R> = CompletableFutureUtils.mostSuccessCombineOf(timeout, unit, this, cf2, cf3, cf4, cf5, fn)
+
 // endregion
 // endregion
 ////////////////////////////////////////////////////////////////////////////////
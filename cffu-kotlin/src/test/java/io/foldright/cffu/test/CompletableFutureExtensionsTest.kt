@@ -237,6 +237,17 @@ class CompletableFutureExtensionsTest : FunSpec({
             .await() shouldBe listOf(null, n)
     }
 
+    test("allCombine*") {
+        completedFuture(n).allCombineFailFastOfCompletableFuture(completedFuture(s)) { v1, v2 -> "$v1$v2" }
+            .await() shouldBe "$n$s"
+        completedFuture(n).allSuccessCombineOfCompletableFuture(
+            CompletableFutureUtils.failedFuture<String>(rte), completedFuture(d)
+        ) { v1, v2, v3 -> "$v1$v2$v3" }.await() shouldBe "${n}null$d"
+        completedFuture(n).mostSuccessCombineOfCompletableFuture(
+            10, TimeUnit.MILLISECONDS, CompletableFuture<String>(), completedFuture(s), completedFuture(anotherN)
+        ) { v1, v2, v3, v4 -> "$v1$v2$v3$v4" }.await() shouldBe "${n}null$s$anotherN"
+    }
+
     test("anyOf*") {
         listOf(
             CompletableFuture(),
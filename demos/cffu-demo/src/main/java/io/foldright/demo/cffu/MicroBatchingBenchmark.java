@@ -0,0 +1,83 @@
+package io.foldright.demo.cffu;
+
+import io.foldright.cffu.Cffu;
+import io.foldright.cffu.CffuFactory;
+import io.foldright.cffu.MicroBatchingExecutor;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+
+
+/**
+ * A rough benchmark of {@link MicroBatchingExecutor} against the plain {@link ForkJoinPool} and the plain
+ * {@link java.util.concurrent.ThreadPoolExecutor}, shows where the micro-batching breaks even
+ * as the work per continuation grows.
+ * <p>
+ * Each round runs chains of {@code *Async} continuations(each chain is sequential, the chains run concurrently),
+ * with the given busy-spinning work per continuation; prints the nanoseconds per continuation of both executors.
+ * For a reliable measurement, use a harness like JMH; this benchmark only shows the trend.
+ */
+public class MicroBatchingBenchmark {
+    private static final int CHAINS = 64;
+    private static final int CHAIN_LENGTH = 2_000;
+    private static final int ROUNDS = 5;
+
+    public static void main(String[] args) {
+        final int threads = Math.max(2, Runtime.getRuntime().availableProcessors());
+        // a dedicated pool, the common pool is replaced by a thread-per-task executor when its parallelism is 1
+        benchmark("ForkJoinPool", new ForkJoinPool(threads));
+        benchmark("ThreadPoolExecutor", Executors.newFixedThreadPool(threads));
+    }
+
+    private static void benchmark(String name, ExecutorService pool) {
+        final CffuFactory plainFac = CffuFactory.builder(pool).build();
+        final CffuFactory batchingFac = CffuFactory.builder(MicroBatchingExecutor.of(pool)).build();
+
+        System.out.println(name + ":");
+        System.out.printf("%12s %16s %18s%n", "work(ns)", "plain(ns/task)", "batching(ns/task)");
+        for (long workNanos : new long[]{0, 100, 1_000, 10_000, 100_000}) {
+            // warm up
+            runChains(plainFac, workNanos / 10);
+            runChains(batchingFac, workNanos / 10);
+
+            long plain = Long.MAX_VALUE, batching = Long.MAX_VALUE;
+            for (int i = 0; i < ROUNDS; i++) {
+                plain = Math.min(plain, runChains(plainFac, workNanos));
+                batching = Math.min(batching, runChains(batchingFac, workNanos));
+            }
+            System.out.printf("%12d %16d %18d%n", workNanos, plain, batching);
+        }
+        pool.shutdown();
+    }
+
+    /**
+     * Returns the elapsed nanoseconds per continuation.
+     */
+    private static long runChains(CffuFactory fac, long workNanos) {
+        final int chainLength = workNanos >= 10_000 ? CHAIN_LENGTH / 20 : CHAIN_LENGTH;
+        final long start = System.nanoTime();
+
+        final List<Cffu<Long>> chains = new ArrayList<>(CHAINS);
+        for (int i = 0; i < CHAINS; i++) {
+            Cffu<Long> cf = fac.completedFuture(0L);
+            for (int j = 0; j < chainLength; j++) cf = cf.thenApplyAsync(x -> x + spin(workNanos));
+            chains.add(cf);
+        }
+        long sum = 0;
+        for (Cffu<Long> cf : chains) sum += cf.join();
+        if (sum < 0) throw new AssertionError();
+
+        return (System.nanoTime() - start) / ((long) CHAINS * chainLength);
+    }
+
+    private static long spin(long nanos) {
+        if (nanos == 0) return 1;
+        final long deadline = System.nanoTime() + nanos;
+        long count = 0;
+        while (System.nanoTime() < deadline) count++;
+        return count > 0 ? 1 : 0;
+    }
+}